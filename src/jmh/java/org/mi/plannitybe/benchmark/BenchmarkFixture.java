@@ -0,0 +1,203 @@
+package org.mi.plannitybe.benchmark;
+
+import org.mi.plannitybe.PlannityBeApplication;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.entity.Event;
+import org.mi.plannitybe.schedule.entity.EventList;
+import org.mi.plannitybe.schedule.entity.Task;
+import org.mi.plannitybe.schedule.entity.TaskList;
+import org.mi.plannitybe.schedule.repository.EventListRepository;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.schedule.repository.TaskListRepository;
+import org.mi.plannitybe.schedule.repository.TaskRepository;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+import org.mi.plannitybe.user.entity.User;
+import org.mi.plannitybe.user.repository.UserRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * DB를 사용하는 JMH 벤치마크용 fixture
+ * <p>
+ * 통합 테스트(BaseIntegrationTest)와 같이 애플리케이션 전체 컨텍스트를 띄우되 H2 in-memory DB를 사용하고,
+ * 테스트의 UserSetUp으로 사용자를 저장한 뒤 일정/할일 데이터를 만든다.
+ */
+public class BenchmarkFixture implements AutoCloseable {
+
+    public static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final String SECRET_KEY = "YmVuY2htYXJrLXNlY3JldC1rZXktYmVuY2htYXJrLXNlY3JldC1rZXk=";
+    private static final int SAVE_CHUNK_SIZE = 1_000;
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkFixture(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * H2 in-memory DB로 애플리케이션 컨텍스트 시작
+     *
+     * @param properties 추가로 지정할 설정 (예: "calendar.cache.enabled=false")
+     */
+    public static BenchmarkFixture start(String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+                "spring.main.web-application-type=none",
+                "spring.main.banner-mode=off",
+                "server.port=0",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create",
+                "spring.jpa.generate-ddl=true",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "logging.level.org.hibernate=WARN",
+                "jwt.secret-key=" + SECRET_KEY));
+        args.addAll(List.of(properties));
+
+        // 명령행 인자로 전달하여 application.properties의 환경변수 설정보다 우선 적용
+        String[] commandLineArgs = args.stream().map(arg -> "--" + arg).toArray(String[]::new);
+        return new BenchmarkFixture(SpringApplication.run(PlannityBeApplication.class, commandLineArgs));
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * 일정 eventCount개와 할일 taskCount개를 가진 사용자 저장
+     * <p>
+     * 일정은 1년 범위에 무작위로 분포하며 대부분 4시간 이내, 50개 중 1개는 최대 120일에 걸친 일정이다.
+     * 할일은 상태를 순서대로 돌아가며 지정하고, 모두 첫 번째 일정에 연결한다.
+     */
+    public BenchmarkUser saveUserWithEvents(int eventCount, int taskCount, long seed) {
+        UserRepository userRepository = getBean(UserRepository.class);
+        EventListRepository eventListRepository = getBean(EventListRepository.class);
+        TaskListRepository taskListRepository = getBean(TaskListRepository.class);
+        TaskRepository taskRepository = getBean(TaskRepository.class);
+        EventRepository eventRepository = getBean(EventRepository.class);
+
+        String userId = getBean(UserSetUp.class).saveUser(UUID.randomUUID() + "@benchmark.com", "pwd123!");
+        User user = userRepository.findById(userId).orElseThrow();
+        EventList eventList = eventListRepository.save(EventList.builder()
+                .user(user)
+                .name("benchmark")
+                .isDefault(false)
+                .build());
+        TaskList taskList = taskListRepository.save(TaskList.builder()
+                .user(user)
+                .name("benchmark")
+                .isDefault(false)
+                .build());
+
+        TaskStatusType[] statuses = TaskStatusType.values();
+        List<Task> tasks = taskRepository.saveAll(IntStream.range(0, taskCount)
+                .mapToObj(i -> Task.builder()
+                        .taskList(taskList)
+                        .title("benchmark " + i)
+                        .status(statuses[i % statuses.length])
+                        .isAllDay(false)
+                        .build())
+                .toList());
+
+        Random random = new Random(seed);
+        List<Long> eventIds = new ArrayList<>();
+        List<Event> chunk = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            LocalDateTime startDate = BASE_DATE.plusHours(random.nextInt(24 * 365));
+            long durationHours = i % 50 == 49 ? random.nextInt(24 * 120) : random.nextInt(4);
+            Event event = Event.builder()
+                    .eventList(eventList)
+                    .title("benchmark " + i)
+                    .startDate(startDate)
+                    .endDate(startDate.plusHours(durationHours))
+                    .isAllDay(false)
+                    .description("")
+                    .build();
+            if (i == 0) {
+                tasks.forEach(event::addTask);
+            }
+            chunk.add(event);
+
+            if (chunk.size() == SAVE_CHUNK_SIZE || i == eventCount - 1) {
+                eventRepository.saveAll(chunk).forEach(saved -> eventIds.add(saved.getId()));
+                chunk.clear();
+            }
+        }
+
+        return new BenchmarkUser(userId, eventList.getId(), eventIds, tasks.stream().map(Task::getId).toList());
+    }
+
+    /**
+     * 할일 taskCount개가 depth 단계의 계층을 이루는 할일리스트를 가진 사용자 저장
+     * <p>
+     * i번째 할일의 깊이는 i % depth이며, 최상위가 아닌 할일은 바로 윗 단계의 이미 저장된 할일 중 무작위로 상위 작업을 지정한다.
+     */
+    public BenchmarkTaskTree saveUserWithTaskTree(int taskCount, int depth, long seed) {
+        UserRepository userRepository = getBean(UserRepository.class);
+        TaskListRepository taskListRepository = getBean(TaskListRepository.class);
+        TaskRepository taskRepository = getBean(TaskRepository.class);
+
+        String userId = getBean(UserSetUp.class).saveUser(UUID.randomUUID() + "@benchmark.com", "pwd123!");
+        User user = userRepository.findById(userId).orElseThrow();
+        TaskList taskList = taskListRepository.save(TaskList.builder()
+                .user(user)
+                .name("benchmark")
+                .isDefault(false)
+                .build());
+
+        Random random = new Random(seed);
+        TaskStatusType[] statuses = TaskStatusType.values();
+        List<List<Task>> levels = new ArrayList<>();
+        for (int level = 0; level < depth; level++) {
+            levels.add(new ArrayList<>());
+        }
+
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            int level = i % depth;
+            List<Task> parents = level == 0 ? List.of() : levels.get(level - 1);
+            Task task = taskRepository.save(Task.builder()
+                    .taskList(taskList)
+                    .title("benchmark " + i)
+                    .mainTask(parents.isEmpty() ? null : parents.get(random.nextInt(parents.size())))
+                    .status(statuses[i % statuses.length])
+                    .isAllDay(false)
+                    .build());
+            levels.get(level).add(task);
+            taskIds.add(task.getId());
+        }
+
+        return new BenchmarkTaskTree(userId, taskList.getId(), taskIds);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    /**
+     * fixture로 저장한 사용자 데이터
+     *
+     * @param eventIds 저장 순서대로의 일정 ID (첫 번째 일정에 모든 할일이 연결됨)
+     */
+    public record BenchmarkUser(String userId, Long eventListId, List<Long> eventIds, List<Long> taskIds) {
+    }
+
+    /**
+     * fixture로 저장한 할일 계층 데이터
+     *
+     * @param taskIds 저장 순서대로의 할일 ID (상위 작업이 하위 작업보다 먼저 저장됨)
+     */
+    public record BenchmarkTaskTree(String userId, Long taskListId, List<Long> taskIds) {
+    }
+}
@@ -0,0 +1,38 @@
+package org.mi.plannitybe.benchmark;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더 조회 벤치마크용 월 단위 조회 범위
+ * <p>
+ * 매 호출마다 다음 달 범위를 반환하여 같은 범위만 반복 조회하지 않도록 한다. (단일 스레드 벤치마크용)
+ */
+public class MonthWindows {
+
+    private final LocalDateTime[] froms;
+    private final LocalDateTime[] tos;
+    private int next;
+
+    public MonthWindows(LocalDateTime firstMonth, int months) {
+        froms = new LocalDateTime[months];
+        tos = new LocalDateTime[months];
+        for (int i = 0; i < months; i++) {
+            froms[i] = firstMonth.plusMonths(i);
+            tos[i] = firstMonth.plusMonths(i + 1).minusSeconds(1);
+        }
+    }
+
+    // 다음 조회 범위로 이동 후 인덱스 반환 (from(i), to(i)로 범위 조회)
+    public int next() {
+        next = (next + 1) % froms.length;
+        return next;
+    }
+
+    public LocalDateTime from(int index) {
+        return froms[index];
+    }
+
+    public LocalDateTime to(int index) {
+        return tos[index];
+    }
+}
@@ -0,0 +1,82 @@
+package org.mi.plannitybe.common.converter;
+
+import org.mi.plannitybe.schedule.converter.TaskStatusConverter;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CodeConverter의 코드 <-> enum 변환 비용 측정 (TaskStatusConverter 기준)
+ * <p>
+ * code: enum 선언 순서상 처음(NOT_STARTED)과 마지막(CANCELED) 코드로 탐색 위치에 따른 차이 확인
+ * convertRows / legacyConvertRows: 무작위 상태 코드 10,000행 변환의 행당 비용 (현재 방식 / 변경 전 enum 상수 탐색 방식)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CodeConverterBenchmark {
+
+    private static final int ROW_COUNT = 10_000;
+
+    @Param({"NOT_STARTED", "CANCELED"})
+    private String code;
+
+    private TaskStatusConverter converter;
+    private TaskStatusType status;
+    private String[] rowCodes;
+
+    @Setup
+    public void setUp() {
+        converter = new TaskStatusConverter();
+        status = TaskStatusType.valueOf(code);
+
+        Random random = new Random(42);
+        TaskStatusType[] statuses = TaskStatusType.values();
+        rowCodes = new String[ROW_COUNT];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rowCodes[i] = statuses[random.nextInt(statuses.length)].getCode();
+        }
+    }
+
+    @Benchmark
+    public TaskStatusType convertToEntityAttribute() {
+        return converter.convertToEntityAttribute(code);
+    }
+
+    @Benchmark
+    public String convertToDatabaseColumn() {
+        return converter.convertToDatabaseColumn(status);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public int convertRows() {
+        int completed = 0;
+        for (String rowCode : rowCodes) {
+            if (converter.convertToEntityAttribute(rowCode) == TaskStatusType.COMPLETED) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public int legacyConvertRows() {
+        int completed = 0;
+        for (String rowCode : rowCodes) {
+            TaskStatusType converted = Arrays.stream(TaskStatusType.class.getEnumConstants())
+                    .filter(e -> e.getCode().equals(rowCode))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Unknown code value: " + rowCode + " for enum " + TaskStatusType.class.getSimpleName()));
+            if (converted == TaskStatusType.COMPLETED) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+}
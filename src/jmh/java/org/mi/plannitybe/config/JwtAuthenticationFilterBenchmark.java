@@ -0,0 +1,114 @@
+package org.mi.plannitybe.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.mi.plannitybe.user.dto.CustomUserDetails;
+import org.mi.plannitybe.user.type.UserRoleType;
+import org.mi.plannitybe.user.type.UserStatusType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청 인증 비용 측정
+ * <p>
+ * legacyValidateThenGetAuthentication: 변경 전 동작 (요청마다 JwtParser를 두 번 생성하고 토큰을 두 번 파싱/서명 검증)
+ * authenticate: JwtTokenProvider.authenticate (JwtParser 재사용, 한 번만 파싱/서명 검증)
+ * cachedAuthenticate: VerifiedTokenCache 적중 시 (digest 계산 후 캐시된 인증 정보 반환)
+ * filter: 실제 JwtAuthenticationFilter 전체 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET_KEY =
+            Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+    private Key key;
+    private String accessToken;
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private MockHttpServletRequest request;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider,
+                new VerifiedTokenCache(false, 0, Duration.ZERO), (req, res, ex) -> {});
+
+        CustomUserDetails userDetails = CustomUserDetails.builder()
+                .id("user123")
+                .email("bench@test.com")
+                .role(UserRoleType.ROLE_USER)
+                .status(UserStatusType.ACTIVE)
+                .build();
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        accessToken = jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(userDetails, "", authorities)).getAccessToken();
+
+        verifiedTokenCache = new VerifiedTokenCache(true, 10_000, Duration.ofMinutes(15));
+        verifiedTokenCache.authenticate(accessToken, jwtTokenProvider::verify);
+
+        request = new MockHttpServletRequest("GET", "/events");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        filterChain = (req, res) -> {};
+    }
+
+    @Benchmark
+    public Authentication legacyValidateThenGetAuthentication() {
+        // validateToken - parser 생성 후 검증
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
+
+        // getAuthentication - parser 다시 생성 후 파싱
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+        Collection<? extends GrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+        CustomUserDetails principal = CustomUserDetails.builder()
+                .id(claims.get("userId", String.class))
+                .email(claims.getSubject())
+                .password("")
+                .role(UserRoleType.valueOf(claims.get("auth", String.class)))
+                .status(UserStatusType.valueOf(claims.get("status", String.class)))
+                .build();
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return jwtTokenProvider.authenticate(accessToken);
+    }
+
+    @Benchmark
+    public Authentication cachedAuthenticate() {
+        return verifiedTokenCache.authenticate(accessToken, jwtTokenProvider::verify);
+    }
+
+    @Benchmark
+    public Authentication filter() throws Exception {
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,70 @@
+package org.mi.plannitybe.config;
+
+import org.mi.plannitybe.common.JwtToken;
+import org.mi.plannitybe.user.dto.CustomUserDetails;
+import org.mi.plannitybe.user.type.UserRoleType;
+import org.mi.plannitybe.user.type.UserStatusType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 토큰 발급/검증 비용 측정
+ * <p>
+ * generateToken: 로그인 시 액세스/리프레시 토큰 발급
+ * validateToken: 서명 및 유효기간 검증
+ * getAuthentication: 클레임 파싱 후 Authentication 생성
+ * authenticate: 요청 인증용 (한 번 파싱으로 검증 + Authentication 생성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET_KEY =
+            Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Authentication loginAuthentication;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY);
+
+        CustomUserDetails userDetails = CustomUserDetails.builder()
+                .id("user123")
+                .email("bench@test.com")
+                .role(UserRoleType.ROLE_USER)
+                .status(UserStatusType.ACTIVE)
+                .build();
+        loginAuthentication = new UsernamePasswordAuthenticationToken(
+                userDetails, "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        accessToken = jwtTokenProvider.generateToken(loginAuthentication).getAccessToken();
+    }
+
+    @Benchmark
+    public JwtToken generateToken() {
+        return jwtTokenProvider.generateToken(loginAuthentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return jwtTokenProvider.authenticate(accessToken);
+    }
+}
@@ -0,0 +1,46 @@
+package org.mi.plannitybe.schedule.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventDateTime 생성 및 검증 비용 측정
+ * <p>
+ * fromJson: 검증 없이 생성 (기준값)
+ * of / ofAllDay: 생성 후 날짜 조합, 종일일정 조건 검증
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventDateTimeBenchmark {
+
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private LocalDateTime allDayStartDate;
+    private LocalDateTime allDayEndDate;
+
+    @Setup
+    public void setUp() {
+        startDate = LocalDateTime.of(2024, 4, 15, 10, 0);
+        endDate = LocalDateTime.of(2024, 4, 15, 12, 0);
+        allDayStartDate = LocalDateTime.of(2024, 4, 15, 0, 0);
+        allDayEndDate = LocalDateTime.of(2024, 4, 17, 0, 0);
+    }
+
+    @Benchmark
+    public EventDateTime fromJson() {
+        return EventDateTime.fromJson(startDate, endDate, false);
+    }
+
+    @Benchmark
+    public EventDateTime of() {
+        return EventDateTime.of(startDate, endDate, false);
+    }
+
+    @Benchmark
+    public EventDateTime ofAllDay() {
+        return EventDateTime.of(allDayStartDate, allDayEndDate, true);
+    }
+}
@@ -0,0 +1,65 @@
+package org.mi.plannitybe.schedule.dto;
+
+import org.mi.plannitybe.schedule.domain.EventDateTime;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캘린더 조회 결과 10k행을 EventCalendarResponse로 만드는 비용 측정 (DB 조회 비용 제외)
+ * <p>
+ * 행의 10%는 종일일정이다.
+ * <p>
+ * validatedProjection: 변경 전 동작 재현 (행마다 EventDateTime.of로 날짜 조합, 종일일정 조건 검증 후 응답 생성)
+ *                      - 응답 안의 EventDateTime 생성이 한 번 더 포함되므로 변경 전보다 약간 큰 값
+ * trustedProjection: EventCalendarResponse 생성자 (EventDateTime.ofTrusted, 검증 생략)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventCalendarProjectionBenchmark {
+
+    @Param({"10000"})
+    private int rowCount;
+
+    private LocalDateTime[] startDates;
+    private LocalDateTime[] endDates;
+    private boolean[] allDays;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        startDates = new LocalDateTime[rowCount];
+        endDates = new LocalDateTime[rowCount];
+        allDays = new boolean[rowCount];
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < rowCount; i++) {
+            allDays[i] = i % 10 == 0;
+            if (allDays[i]) {
+                startDates[i] = base.plusDays(random.nextInt(365));
+                endDates[i] = startDates[i].plusDays(1 + random.nextInt(3));
+            } else {
+                startDates[i] = base.plusMinutes(random.nextInt(365 * 24 * 60));
+                endDates[i] = startDates[i].plusMinutes(random.nextInt(240));
+            }
+        }
+    }
+
+    @Benchmark
+    public void validatedProjection(Blackhole blackhole) {
+        for (int i = 0; i < rowCount; i++) {
+            blackhole.consume(EventDateTime.of(startDates[i], endDates[i], allDays[i]));
+            blackhole.consume(new EventCalendarResponse((long) i, 1L, "event", startDates[i], endDates[i], allDays[i]));
+        }
+    }
+
+    @Benchmark
+    public void trustedProjection(Blackhole blackhole) {
+        for (int i = 0; i < rowCount; i++) {
+            blackhole.consume(new EventCalendarResponse((long) i, 1L, "event", startDates[i], endDates[i], allDays[i]));
+        }
+    }
+}
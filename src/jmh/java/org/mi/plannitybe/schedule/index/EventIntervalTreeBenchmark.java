@@ -0,0 +1,98 @@
+package org.mi.plannitybe.schedule.index;
+
+import org.mi.plannitybe.benchmark.BenchmarkFixture;
+import org.mi.plannitybe.benchmark.BenchmarkFixture.BenchmarkUser;
+import org.mi.plannitybe.benchmark.MonthWindows;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캘린더 월 단위 조회 - interval tree 인덱스와 SQL 조회 비교 (H2 in-memory DB)
+ * <p>
+ * sql: EventRepository.findEventsByUserIdAndDateRange (idx_event_user_start 사용)
+ * intervalTree: 미리 만든 EventIntervalTree.query
+ * intervalIndex: CalendarEventIntervalIndex.findEvents (사용자 트리 캐시 조회 포함)
+ * buildTree: 사용자 전체 일정으로 트리를 새로 만드는 비용 (첫 조회, 캐시 만료 시)
+ * upsert, remove: 일정 수정/삭제 한 건을 트리에 반영하는 비용 (copy-on-write로 O(n))
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventIntervalTreeBenchmark {
+
+    @Param({"1000", "10000"})
+    private int eventCount;
+
+    private BenchmarkFixture fixture;
+    private EventRepository eventRepository;
+    private CalendarEventIntervalIndex calendarEventIntervalIndex;
+    private BenchmarkUser user;
+    private List<EventCalendarResponse> calendarEvents;
+    private EventIntervalTree tree;
+    private MonthWindows monthWindows;
+    private int writeIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = BenchmarkFixture.start("calendar.interval-index.enabled=true");
+        eventRepository = fixture.getBean(EventRepository.class);
+        calendarEventIntervalIndex = fixture.getBean(CalendarEventIntervalIndex.class);
+        user = fixture.saveUserWithEvents(eventCount, 0, 42);
+
+        calendarEvents = eventRepository.findCalendarEventsByUserId(user.userId());
+        tree = EventIntervalTree.of(calendarEvents);
+        monthWindows = new MonthWindows(BenchmarkFixture.BASE_DATE, 12);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public List<EventCalendarResponse> sql() {
+        int month = monthWindows.next();
+        return eventRepository.findEventsByUserIdAndDateRange(user.userId(), monthWindows.from(month), monthWindows.to(month));
+    }
+
+    @Benchmark
+    public List<EventCalendarResponse> intervalTree() {
+        int month = monthWindows.next();
+        return tree.query(monthWindows.from(month), monthWindows.to(month));
+    }
+
+    @Benchmark
+    public List<EventCalendarResponse> intervalIndex() {
+        int month = monthWindows.next();
+        return calendarEventIntervalIndex.findEvents(user.userId(), monthWindows.from(month), monthWindows.to(month))
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public EventIntervalTree buildTree() {
+        return EventIntervalTree.of(calendarEvents);
+    }
+
+    // 기존 일정의 날짜를 하루 뒤로 옮긴 수정 (배열 내 위치 이동 포함), 기준 트리는 그대로 두어 매번 같은 크기로 측정
+    @Benchmark
+    public EventIntervalTree upsert() {
+        EventCalendarResponse event = nextEvent();
+        return tree.upsert(new EventCalendarResponse(event.getEventId(), event.getEventListId(), event.getTitle(),
+                event.getEventDateTime().getStartDate().plusDays(1), event.getEventDateTime().getEndDate().plusDays(1),
+                event.getEventDateTime().getIsAllDay()));
+    }
+
+    @Benchmark
+    public EventIntervalTree remove() {
+        return tree.remove(nextEvent().getEventId());
+    }
+
+    private EventCalendarResponse nextEvent() {
+        writeIndex = (writeIndex + 1) % calendarEvents.size();
+        return calendarEvents.get(writeIndex);
+    }
+}
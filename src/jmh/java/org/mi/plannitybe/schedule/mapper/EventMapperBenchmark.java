@@ -0,0 +1,69 @@
+package org.mi.plannitybe.schedule.mapper;
+
+import org.mi.plannitybe.schedule.domain.EventDateTime;
+import org.mi.plannitybe.schedule.dto.CreateEventRequest;
+import org.mi.plannitybe.schedule.dto.EventResponse;
+import org.mi.plannitybe.schedule.entity.Event;
+import org.mi.plannitybe.schedule.entity.EventList;
+import org.mi.plannitybe.schedule.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventMapper 변환 비용 측정 (DB 없이 메모리상의 entity 사용)
+ * <p>
+ * toResponse: 연결된 할일 수에 따른 응답 변환 비용 (getEventDateTime 검증 포함)
+ * toEntity: 생성 요청을 entity로 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventMapperBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int taskCount;
+
+    private EventList eventList;
+    private Event event;
+    private CreateEventRequest createEventRequest;
+
+    @Setup
+    public void setUp() {
+        eventList = EventList.builder()
+                .name("benchmark")
+                .isDefault(false)
+                .build();
+        eventList.setId(1L);
+
+        event = Event.builder()
+                .eventList(eventList)
+                .title("benchmark")
+                .startDate(LocalDateTime.of(2024, 4, 15, 10, 0))
+                .endDate(LocalDateTime.of(2024, 4, 15, 12, 0))
+                .isAllDay(false)
+                .description("benchmark")
+                .build();
+        for (long id = 1; id <= taskCount; id++) {
+            Task task = Task.builder().title("benchmark").isAllDay(false).build();
+            task.setId(id);
+            event.addTask(task);
+        }
+
+        createEventRequest = new CreateEventRequest(1L, "benchmark",
+                EventDateTime.of(LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 15, 12, 0), false),
+                "benchmark", List.of());
+    }
+
+    @Benchmark
+    public EventResponse toResponse() {
+        return EventMapper.toResponse(event);
+    }
+
+    @Benchmark
+    public Event toEntity() {
+        return EventMapper.toEntity(createEventRequest, eventList);
+    }
+}
@@ -0,0 +1,109 @@
+package org.mi.plannitybe.schedule.recurrence;
+
+import org.mi.plannitybe.benchmark.MonthWindows;
+import org.mi.plannitybe.schedule.domain.RecurrenceRule;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.dto.RecurringEventRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반복 일정 10k개를 월 단위 조회 범위로 펼치는 비용 측정
+ * <p>
+ * 반복 일정은 2015 ~ 2016년에 시작하며 종료 조건이 없다. 조회 범위는 2025년의 각 월이다.
+ * <p>
+ * expandMonth: EventService와 동일 (요청마다 규칙 파싱 후 조회 범위가 포함된 주기부터 계산)
+ * expandMonthParsed: 파싱된 규칙 재사용 (파싱 비용 제외)
+ * expandMonthFromSeriesStart: 반복 시작부터 모든 발생 일정을 계산하며 조회 범위까지 이동 (건너뛰기 없는 경우 비교용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecurringEventExpanderBenchmark {
+
+    private static final String[] RULES = {
+            "FREQ=DAILY",
+            "FREQ=WEEKLY;BYDAY=MO,WE,FR",
+            "FREQ=WEEKLY;INTERVAL=2",
+            "FREQ=MONTHLY;BYDAY=2TU",
+            "FREQ=MONTHLY;BYMONTHDAY=15,-1",
+            "FREQ=YEARLY"
+    };
+
+    @Param({"10000"})
+    private int seriesCount;
+
+    private List<RecurringEventRow> series;
+    private List<RecurrenceRule> rules;
+    private MonthWindows monthWindows;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        series = new ArrayList<>(seriesCount);
+        rules = new ArrayList<>(seriesCount);
+        LocalDateTime base = LocalDateTime.of(2015, 1, 1, 9, 0);
+        for (int i = 0; i < seriesCount; i++) {
+            LocalDateTime startDate = base.plusDays(random.nextInt(730)).plusHours(random.nextInt(10));
+            String rule = RULES[i % RULES.length];
+            series.add(new RecurringEventRow((long) i + 1, 1L, "series" + i,
+                    startDate, startDate.plusHours(1), false, rule, base));
+            rules.add(RecurrenceRule.parse(rule));
+        }
+        monthWindows = new MonthWindows(LocalDateTime.of(2025, 1, 1, 0, 0), 12);
+    }
+
+    @Benchmark
+    public List<EventCalendarResponse> expandMonth() {
+        int month = monthWindows.next();
+        List<EventCalendarResponse> occurrences = new ArrayList<>();
+        for (RecurringEventRow row : series) {
+            RecurringEventExpander.expand(row, RecurrenceRule.parse(row.recurrenceRule()), Set.of(),
+                    monthWindows.from(month), monthWindows.to(month), occurrences);
+        }
+        return occurrences;
+    }
+
+    @Benchmark
+    public List<EventCalendarResponse> expandMonthParsed() {
+        int month = monthWindows.next();
+        List<EventCalendarResponse> occurrences = new ArrayList<>();
+        for (int i = 0; i < series.size(); i++) {
+            RecurringEventExpander.expand(series.get(i), rules.get(i), Set.of(),
+                    monthWindows.from(month), monthWindows.to(month), occurrences);
+        }
+        return occurrences;
+    }
+
+    @Benchmark
+    public List<EventCalendarResponse> expandMonthFromSeriesStart() {
+        int month = monthWindows.next();
+        LocalDateTime from = monthWindows.from(month);
+        LocalDateTime to = monthWindows.to(month);
+        List<EventCalendarResponse> occurrences = new ArrayList<>();
+        for (int i = 0; i < series.size(); i++) {
+            RecurringEventRow row = series.get(i);
+            Duration duration = Duration.between(row.startDate(), row.endDate());
+            Iterator<LocalDateTime> starts = rules.get(i).occurrences(row.startDate(), row.startDate());
+            while (starts.hasNext()) {
+                LocalDateTime start = starts.next();
+                if (start.isAfter(to)) {
+                    break;
+                }
+                if (!start.plus(duration).isBefore(from)) {
+                    occurrences.add(new EventCalendarResponse(row.eventId(), row.eventListId(), row.title(),
+                            start, start.plus(duration), row.isAllDay(), true));
+                }
+            }
+        }
+        return occurrences;
+    }
+}
@@ -0,0 +1,43 @@
+package org.mi.plannitybe.schedule.repository;
+
+import org.mi.plannitybe.benchmark.BenchmarkFixture;
+import org.mi.plannitybe.schedule.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task 10,000행 조회 시 행당 비용 측정 (H2 in-memory DB)
+ * <p>
+ * 엔티티 생성 시 status 컬럼마다 TaskStatusConverter.convertToEntityAttribute가 호출되므로
+ * CodeConverter 변경 전후 결과를 비교하여 행당 변환 비용 차이를 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskLoadBenchmark {
+
+    private static final int TASK_COUNT = 10_000;
+
+    private BenchmarkFixture fixture;
+    private TaskRepository taskRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = BenchmarkFixture.start();
+        taskRepository = fixture.getBean(TaskRepository.class);
+        fixture.saveUserWithEvents(0, TASK_COUNT, 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASK_COUNT)
+    public List<Task> findAll() {
+        return taskRepository.findAll();
+    }
+}
@@ -0,0 +1,58 @@
+package org.mi.plannitybe.schedule.service;
+
+import org.mi.plannitybe.benchmark.BenchmarkFixture;
+import org.mi.plannitybe.benchmark.BenchmarkFixture.BenchmarkUser;
+import org.mi.plannitybe.schedule.domain.EventDateTime;
+import org.mi.plannitybe.schedule.dto.CreateEventRequest;
+import org.mi.plannitybe.schedule.dto.EventBatchCreateRequest;
+import org.mi.plannitybe.schedule.dto.EventBatchCreateResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 일괄 생성 측정 (H2 in-memory DB)
+ * <p>
+ * 최대 요청 크기(10,000개)의 일정 생성 1회 소요 시간 - 10회 합계가 100,000개 가져오기 시간
+ * 일정 10개 중 1개에 할일 2개를 연결한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class EventBatchServiceBenchmark {
+
+    private BenchmarkFixture fixture;
+    private EventBatchService eventBatchService;
+    private BenchmarkUser user;
+    private List<CreateEventRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = BenchmarkFixture.start();
+        eventBatchService = fixture.getBean(EventBatchService.class);
+        user = fixture.saveUserWithEvents(0, 2, 42);
+
+        requests = new ArrayList<>();
+        LocalDateTime startDate = BenchmarkFixture.BASE_DATE;
+        for (int i = 0; i < EventBatchCreateRequest.MAX_EVENTS; i++) {
+            requests.add(new CreateEventRequest(user.eventListId(), "batch " + i,
+                    EventDateTime.of(startDate.plusHours(i), startDate.plusHours(i + 1), false),
+                    "", i % 10 == 0 ? user.taskIds() : List.of()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public EventBatchCreateResponse createEvents() {
+        return eventBatchService.createEvents(requests, user.userId());
+    }
+}
@@ -0,0 +1,77 @@
+package org.mi.plannitybe.schedule.service;
+
+import org.mi.plannitybe.benchmark.BenchmarkFixture;
+import org.mi.plannitybe.benchmark.BenchmarkFixture.BenchmarkUser;
+import org.mi.plannitybe.benchmark.MonthWindows;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.dto.EventResponse;
+import org.mi.plannitybe.schedule.dto.UpdateEventRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventService 주요 경로 측정 (H2 in-memory DB)
+ * <p>
+ * getEvent: 일정 단건 조회 (eventList, eventTask 함께 조회 후 응답 변환)
+ * getEventsForCalendar: 월 단위 캘린더 조회 - 캐시/인덱스를 끄고 DB 조회 경로 측정
+ * updateEvent: 연결된 할일 목록을 두 가지 구성으로 번갈아 변경
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventServiceBenchmark {
+
+    @Param({"1000"})
+    private int eventCount;
+
+    @Param({"10"})
+    private int taskCount;
+
+    private BenchmarkFixture fixture;
+    private EventService eventService;
+    private BenchmarkUser user;
+    private Long eventId;
+    private MonthWindows monthWindows;
+    private UpdateEventRequest[] updateRequests;
+    private int nextUpdate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = BenchmarkFixture.start("calendar.cache.enabled=false", "calendar.interval-index.enabled=false");
+        eventService = fixture.getBean(EventService.class);
+        user = fixture.saveUserWithEvents(eventCount, taskCount, 42);
+        eventId = user.eventIds().get(0);
+        monthWindows = new MonthWindows(BenchmarkFixture.BASE_DATE, 12);
+
+        // 할일 앞쪽 절반 / 뒤쪽 절반을 번갈아 연결
+        List<Long> taskIds = user.taskIds();
+        updateRequests = new UpdateEventRequest[]{
+                new UpdateEventRequest(null, null, null, null, taskIds.subList(0, taskIds.size() / 2)),
+                new UpdateEventRequest(null, null, null, null, taskIds.subList(taskIds.size() / 2, taskIds.size()))
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public EventResponse getEvent() {
+        return eventService.getEvent(eventId, user.userId());
+    }
+
+    @Benchmark
+    public List<EventCalendarResponse> getEventsForCalendar() {
+        int month = monthWindows.next();
+        return eventService.getEventsForCalendar(monthWindows.from(month), monthWindows.to(month), user.userId());
+    }
+
+    @Benchmark
+    public EventResponse updateEvent() {
+        nextUpdate = (nextUpdate + 1) % updateRequests.length;
+        return eventService.updateEvent(eventId, updateRequests[nextUpdate], user.userId());
+    }
+}
@@ -0,0 +1,91 @@
+package org.mi.plannitybe.schedule.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mi.plannitybe.benchmark.BenchmarkFixture;
+import org.mi.plannitybe.benchmark.BenchmarkFixture.BenchmarkUser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 50k개 일정 범위의 캘린더 JSON 응답 생성 비용 측정 (H2 in-memory DB)
+ * <p>
+ * 조회 범위는 fixture 일정 전체(1년)이며, 응답 본문은 버리는 OutputStream에 출력한다.
+ * HeapUsage.peakHeapBytes는 iteration 동안 heap 메모리 풀별 최대 사용량의 합이다 (-prof gc의 할당량과 함께 비교).
+ * <p>
+ * listThenSerialize: 변경 전 GET /events (일정 목록을 모두 만든 뒤 ObjectMapper로 한 번에 직렬화)
+ * stream: GET /events/stream (DB에서 읽는 즉시 JsonGenerator로 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EventStreamServiceBenchmark {
+
+    private static final LocalDateTime FROM = BenchmarkFixture.BASE_DATE;
+    private static final LocalDateTime TO = BenchmarkFixture.BASE_DATE.plusYears(1);
+
+    @Param({"50000"})
+    private int eventCount;
+
+    private BenchmarkFixture fixture;
+    private EventService eventService;
+    private EventStreamService eventStreamService;
+    private ObjectMapper objectMapper;
+    private BenchmarkUser user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = BenchmarkFixture.start("calendar.cache.enabled=false", "calendar.interval-index.enabled=false");
+        eventService = fixture.getBean(EventService.class);
+        eventStreamService = fixture.getBean(EventStreamService.class);
+        objectMapper = fixture.getBean(ObjectMapper.class);
+        user = fixture.saveUserWithEvents(eventCount, 0, 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public void listThenSerialize(HeapUsage heapUsage) throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), eventService.getEventsForCalendar(FROM, TO, user.userId()));
+    }
+
+    @Benchmark
+    public void stream(HeapUsage heapUsage) throws IOException {
+        eventStreamService.writeEventsForCalendar(FROM, TO, user.userId(), OutputStream.nullOutputStream());
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+
+        public long peakHeapBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    pool.resetPeakUsage();
+                }
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void record() {
+            peakHeapBytes = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    peakHeapBytes += pool.getPeakUsage().getUsed();
+                }
+            }
+        }
+    }
+}
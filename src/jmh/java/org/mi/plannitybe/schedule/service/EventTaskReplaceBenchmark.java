@@ -0,0 +1,84 @@
+package org.mi.plannitybe.schedule.service;
+
+import org.mi.plannitybe.benchmark.BenchmarkFixture;
+import org.mi.plannitybe.benchmark.BenchmarkFixture.BenchmarkUser;
+import org.mi.plannitybe.schedule.dto.EventResponse;
+import org.mi.plannitybe.schedule.dto.UpdateEventRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할일 500개가 연결된 일정의 할일 연결 교체(updateEvent) 비용 측정 (H2 in-memory DB)
+ * <p>
+ * 할일 1000개 중 500개씩 연결하며, 매 호출마다 두 구성을 번갈아 요청한다.
+ * <p>
+ * replaceAll: 겹치지 않는 두 구성 - 호출마다 연결 500개 삭제, 500개 추가
+ * replaceHalf: 절반이 겹치는 두 구성 - 호출마다 연결 250개 삭제, 250개 추가
+ * unchanged: 같은 구성 재요청 - 변경할 연결 없음 (검증 및 비교 비용만 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EventTaskReplaceBenchmark {
+
+    @Param({"500"})
+    private int linkedTaskCount;
+
+    private BenchmarkFixture fixture;
+    private EventService eventService;
+    private BenchmarkUser user;
+    private Long eventId;
+    private UpdateEventRequest[] replaceAllRequests;
+    private UpdateEventRequest[] replaceHalfRequests;
+    private int nextUpdate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = BenchmarkFixture.start("calendar.cache.enabled=false", "calendar.interval-index.enabled=false");
+        eventService = fixture.getBean(EventService.class);
+        user = fixture.saveUserWithEvents(1, linkedTaskCount * 2, 42);
+        eventId = user.eventIds().get(0);
+
+        List<Long> taskIds = user.taskIds();
+        int half = linkedTaskCount / 2;
+        replaceAllRequests = new UpdateEventRequest[]{
+                taskRequest(taskIds.subList(0, linkedTaskCount)),
+                taskRequest(taskIds.subList(linkedTaskCount, linkedTaskCount * 2))
+        };
+        replaceHalfRequests = new UpdateEventRequest[]{
+                taskRequest(taskIds.subList(0, linkedTaskCount)),
+                taskRequest(taskIds.subList(half, half + linkedTaskCount))
+        };
+
+        // fixture는 모든 할일을 연결하므로 첫 번째 구성(500개)으로 시작
+        eventService.updateEvent(eventId, replaceAllRequests[0], user.userId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public EventResponse replaceAll() {
+        nextUpdate = (nextUpdate + 1) % replaceAllRequests.length;
+        return eventService.updateEvent(eventId, replaceAllRequests[nextUpdate], user.userId());
+    }
+
+    @Benchmark
+    public EventResponse replaceHalf() {
+        nextUpdate = (nextUpdate + 1) % replaceHalfRequests.length;
+        return eventService.updateEvent(eventId, replaceHalfRequests[nextUpdate], user.userId());
+    }
+
+    @Benchmark
+    public EventResponse unchanged() {
+        return eventService.updateEvent(eventId, replaceAllRequests[0], user.userId());
+    }
+
+    private static UpdateEventRequest taskRequest(List<Long> taskIds) {
+        return new UpdateEventRequest(null, null, null, null, taskIds);
+    }
+}
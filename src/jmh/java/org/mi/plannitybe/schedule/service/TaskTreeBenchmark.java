@@ -0,0 +1,98 @@
+package org.mi.plannitybe.schedule.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.mi.plannitybe.benchmark.BenchmarkFixture;
+import org.mi.plannitybe.benchmark.BenchmarkFixture.BenchmarkTaskTree;
+import org.mi.plannitybe.schedule.dto.TaskListTreeResponse;
+import org.mi.plannitybe.schedule.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할일 10,000개, 깊이 6의 할일리스트 계층 조회 비용 측정 (H2 in-memory DB)
+ * <p>
+ * getTaskTree: TaskService와 동일 (할일리스트의 전체 작업을 한 번의 쿼리로 조회 후 메모리에서 트리 조립)
+ * loadLevelByLevel: 단계별로 상위 작업 id 목록의 하위 작업 조회 (깊이만큼 쿼리 실행, 비교용)
+ * loadPerTask: 작업마다 하위 작업 조회 (작업 수만큼 쿼리 실행, 지연 로딩으로 트리를 순회하는 경우 비교용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskTreeBenchmark {
+
+    @Param({"10000"})
+    private int taskCount;
+
+    @Param({"6"})
+    private int depth;
+
+    private BenchmarkFixture fixture;
+    private TaskService taskService;
+    private EntityManagerFactory entityManagerFactory;
+    private BenchmarkTaskTree taskTree;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = BenchmarkFixture.start();
+        taskService = fixture.getBean(TaskService.class);
+        entityManagerFactory = fixture.getBean(EntityManagerFactory.class);
+        taskTree = fixture.saveUserWithTaskTree(taskCount, depth, 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public TaskListTreeResponse getTaskTree() {
+        return taskService.getTaskTree(taskTree.taskListId(), taskTree.userId());
+    }
+
+    @Benchmark
+    public int loadLevelByLevel() {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            List<Task> level = findRoots(entityManager);
+            int count = 0;
+            while (!level.isEmpty()) {
+                count += level.size();
+                level = entityManager.createQuery("SELECT t FROM Task t WHERE t.mainTask IN :mainTasks", Task.class)
+                        .setParameter("mainTasks", level)
+                        .getResultList();
+            }
+            return count;
+        }
+    }
+
+    @Benchmark
+    public int loadPerTask() {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            int count = 0;
+            for (Task root : findRoots(entityManager)) {
+                count += countSubtree(entityManager, root);
+            }
+            return count;
+        }
+    }
+
+    private List<Task> findRoots(EntityManager entityManager) {
+        return entityManager.createQuery(
+                        "SELECT t FROM Task t WHERE t.taskList.id = :taskListId AND t.mainTask IS NULL", Task.class)
+                .setParameter("taskListId", taskTree.taskListId())
+                .getResultList();
+    }
+
+    private int countSubtree(EntityManager entityManager, Task task) {
+        int count = 1;
+        List<Task> subTasks = entityManager.createQuery("SELECT t FROM Task t WHERE t.mainTask = :mainTask", Task.class)
+                .setParameter("mainTask", task)
+                .getResultList();
+        for (Task subTask : subTasks) {
+            count += countSubtree(entityManager, subTask);
+        }
+        return count;
+    }
+}
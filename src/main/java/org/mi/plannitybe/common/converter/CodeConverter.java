@@ -2,7 +2,8 @@ package org.mi.plannitybe.common.converter;
 
 import jakarta.persistence.AttributeConverter;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -13,6 +14,7 @@ public abstract class CodeConverter<E extends Enum<E> & CodeEnum> implements Att
     private final Class<E> enumClass;
     private final Function<E, String> codeGetter;
     private final boolean nullable;
+    private final Map<String, E> enumsByCode;  // 코드 값 -> enum (조회 시 enum 상수 탐색 없이 사용)
 
     /**
      * enum 필드를 데이터베이스 컬럼으로 변환하는 컨버터 생성자
@@ -25,6 +27,13 @@ public abstract class CodeConverter<E extends Enum<E> & CodeEnum> implements Att
         this.enumClass = enumClass;
         this.codeGetter = codeGetter;
         this.nullable = nullable;
+
+        // 같은 코드 값이 여러 개인 경우 선언 순서상 첫 번째 enum 사용
+        Map<String, E> enumsByCode = new HashMap<>();
+        for (E e : enumClass.getEnumConstants()) {
+            enumsByCode.putIfAbsent(codeGetter.apply(e), e);
+        }
+        this.enumsByCode = Map.copyOf(enumsByCode);
     }
 
     @Override
@@ -47,10 +56,11 @@ public abstract class CodeConverter<E extends Enum<E> & CodeEnum> implements Att
             return null;
         }
 
-        return Arrays.stream(enumClass.getEnumConstants())
-                .filter(e -> codeGetter.apply(e).equals(dbData))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Unknown code value: " + dbData + " for enum " + enumClass.getSimpleName()));
+        E attribute = enumsByCode.get(dbData);
+        if (attribute == null) {
+            throw new IllegalArgumentException(
+                    "Unknown code value: " + dbData + " for enum " + enumClass.getSimpleName());
+        }
+        return attribute;
     }
 }
\ No newline at end of file
@@ -12,7 +12,8 @@ import org.mi.plannitybe.common.entity.base.BaseEntity;
 public class CommonCode extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "common_code_seq")
+    @SequenceGenerator(name = "common_code_seq", sequenceName = "common_code_seq", allocationSize = 50)
     @Comment("공통 코드 ID")
     private Long id;
 
@@ -25,4 +25,9 @@ public abstract class BaseTimeEntity {
     @Column(nullable = false)
     @Comment("수정일시")
     private LocalDateTime updatedAt;
+
+    // 컬럼 변경 없이 컬렉션만 바뀐 경우 수정일시 갱신 (버전 없는 엔티티는 컬렉션 변경만으로는 update되지 않음)
+    protected void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
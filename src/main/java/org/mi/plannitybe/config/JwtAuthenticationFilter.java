@@ -20,6 +20,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final AuthenticationEntryPoint authenticationEntryPoint;
 
     @Override
@@ -28,10 +29,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Request Header에서 JWT 토큰 추출
             String token = resolveToken(request);
 
-            // validateToken으로 토큰 유효성 검사
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                // 토큰이 유효할 경우 토큰에서 Authentication 객체를 가지고 와서 SecurityContext에 저장
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            // 토큰을 한 번만 파싱하여 유효성 검사 후 Authentication 객체를 가지고 와서 SecurityContext에 저장
+            // (인증 캐시 사용 시 이미 검증된 토큰은 캐시된 인증 정보 사용)
+            if (token != null) {
+                Authentication authentication = verifiedTokenCache.authenticate(token, jwtTokenProvider::verify);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
             chain.doFilter(request, response);
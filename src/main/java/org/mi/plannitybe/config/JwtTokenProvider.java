@@ -29,10 +29,14 @@ import java.util.stream.Collectors;
 @Component
 public class JwtTokenProvider {
     private final Key key;
+    private final JwtParser jwtParser;  // 서명 키가 고정이므로 한 번만 생성하여 재사용 (thread-safe)
 
     public JwtTokenProvider(@Value("${jwt.secret-key}") String secretKey) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     // User 정보로 AccessToken과 RefreshToken 생성하는 메소드
@@ -78,10 +82,26 @@ public class JwtTokenProvider {
                 .build();
     }
 
+    // 토큰을 한 번만 파싱하여 서명 및 유효기간을 검증하고 Authentication 객체를 반환하는 메소드 (요청 인증용)
+    public Authentication authenticate(String accessToken) {
+        return verify(accessToken).authentication();
+    }
+
+    // 토큰을 한 번만 파싱하여 검증하고 Authentication 객체와 만료 시각을 반환하는 메소드 (인증 캐시 저장용)
+    public VerifiedToken verify(String accessToken) {
+        Claims claims = parseClaims(accessToken);
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(toAuthentication(claims), expiration == null ? null : expiration.toInstant());
+    }
+
     // JWT 토큰을 복호화하여 토큰에 들어있는 정보를 꺼내는 메소드
     public Authentication getAuthentication(String accessToken) {
         // JWT 토큰 복호화하여 클레임 얻기
-        Claims claims = getClaimsFromToken(accessToken);
+        return toAuthentication(getClaimsFromToken(accessToken));
+    }
+
+    // 클레임에 들어있는 정보로 Authentication 객체를 만드는 메소드
+    private Authentication toAuthentication(Claims claims) {
 
         /*
         ** 토큰 생성 시 auth가 null인 경우 없도록 확인하고 토큰 서명으로 위변조 확인하므로 auth null 체크 불필요
@@ -109,30 +129,27 @@ public class JwtTokenProvider {
 
     private Claims getClaimsFromToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
 
-    // 토큰 정보를 검증하는 메소드
-    public boolean validateToken(String token) {
-
+    // 토큰을 파싱하여 검증된 클레임을 반환하는 메소드 - 검증 실패 시 예외 발생
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
             throw new InvalidTokenException("유효하지 않은 토큰입니다.");
         } catch (ExpiredJwtException e) {
             throw new ExpiredTokenException("유효기간이 만료된 토큰입니다.");
         }
+    }
+
+    // 토큰 정보를 검증하는 메소드
+    public boolean validateToken(String token) {
+        parseClaims(token);
+        return true;
 
         /*
         try {
@@ -0,0 +1,10 @@
+package org.mi.plannitybe.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 데이터 점검/복구 job 실행용 (job별 cron 설정이 "-"이면 실행하지 않음)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,14 @@
+package org.mi.plannitybe.config;
+
+import org.springframework.security.core.Authentication;
+
+import java.time.Instant;
+
+/**
+ * 서명과 유효기간 검증을 마친 토큰의 인증 정보
+ *
+ * @param authentication 토큰 클레임으로 만든 Authentication 객체
+ * @param expiresAt      토큰 만료 시각 (exp 클레임이 없으면 null)
+ */
+public record VerifiedToken(Authentication authentication, Instant expiresAt) {
+}
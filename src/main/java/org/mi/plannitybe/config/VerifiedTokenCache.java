@@ -0,0 +1,137 @@
+package org.mi.plannitybe.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * 검증된 액세스 토큰의 인증 정보 캐시 (선택 기능, 기본 비활성화)
+ * <p>
+ * 같은 토큰으로 반복 요청하는 경우 서명 검증과 클레임 파싱을 생략한다.
+ * 토큰 원문 대신 SHA-256 digest를 키로 사용하고, 각 항목은 토큰 만료 시각(exp) 이전에 만료된다.
+ * 조회 시에도 만료 시각을 다시 확인하므로 만료된 토큰의 인증 정보는 반환하지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Duration maxTtl;
+    private final Clock clock;
+    private final Cache<String, VerifiedToken> cache;
+
+    /**
+     * @param enabled     캐시 사용 여부 (false면 항상 토큰을 검증)
+     * @param maximumSize 캐시에 보관할 최대 토큰 수, 초과 시 사용 빈도가 낮은 토큰부터 제거
+     * @param maxTtl      토큰 만료 시각과 관계없이 항목을 보관할 최대 시간
+     */
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.verified-token-cache.enabled:false}") boolean enabled,
+                              @Value("${jwt.verified-token-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${jwt.verified-token-cache.max-ttl:15m}") Duration maxTtl) {
+        this(enabled, maximumSize, maxTtl, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(boolean enabled, long maximumSize, Duration maxTtl, Clock clock) {
+        this.enabled = enabled;
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return timeToLive(value).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return timeToLive(value).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 토큰의 Authentication 객체를 반환 - 캐시에 없거나 만료된 경우 verifier로 검증 후 저장
+     *
+     * @param token    액세스 토큰
+     * @param verifier 토큰을 검증하는 함수 (검증 실패 시 예외 발생, 실패 결과는 저장하지 않음)
+     */
+    public Authentication authenticate(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token).authentication();
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = cache.getIfPresent(digest);
+        if (cached != null && clock.instant().isBefore(cached.expiresAt())) {
+            return copyOf(cached.authentication());
+        }
+
+        VerifiedToken verified = verifier.apply(token);
+        if (verified.expiresAt() != null && clock.instant().isBefore(verified.expiresAt())) {
+            cache.put(digest, verified);
+        }
+        return copyOf(verified.authentication());
+    }
+
+    // 캐시 hit/miss/eviction 통계 (hitRate()로 적중률 확인)
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    // 현재 캐시에 저장된 토큰 수 (근사값)
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    // 대기 중인 만료/제거 작업 즉시 수행 (테스트용)
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    // 토큰 만료 시각과 최대 보관 시간 중 먼저 도래하는 시점까지 보관
+    private Duration timeToLive(VerifiedToken value) {
+        Duration untilExpiration = Duration.between(clock.instant(), value.expiresAt());
+        if (untilExpiration.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiration.compareTo(maxTtl) < 0 ? untilExpiration : maxTtl;
+    }
+
+    // 요청마다 SecurityContext에 별도 객체를 저장하도록 복사 (principal, 권한 목록은 불변이므로 공유)
+    private Authentication copyOf(Authentication authentication) {
+        return new UsernamePasswordAuthenticationToken(
+                authentication.getPrincipal(), authentication.getCredentials(), authentication.getAuthorities());
+    }
+
+    private String digest(String token) {
+        try {
+            // MessageDigest는 thread-safe하지 않으므로 호출마다 생성
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+}
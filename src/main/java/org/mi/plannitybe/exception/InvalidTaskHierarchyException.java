@@ -0,0 +1,19 @@
+package org.mi.plannitybe.exception;
+
+import lombok.Getter;
+
+/**
+ * 상위 작업 지정이 올바르지 않을 때 발생 (다른 할일리스트의 작업, 자기 자신 또는 하위 작업을 상위 작업으로 지정)
+ */
+@Getter
+public class InvalidTaskHierarchyException extends RuntimeException {
+
+    private final Long taskId;
+    private final Long mainTaskId;
+
+    public InvalidTaskHierarchyException(Long taskId, Long mainTaskId, String reason) {
+        super(String.format("할일(taskId=%s)의 상위 작업(mainTaskId=%s)을 지정할 수 없습니다. (%s)", taskId, mainTaskId, reason));
+        this.taskId = taskId;
+        this.mainTaskId = mainTaskId;
+    }
+}
@@ -0,0 +1,10 @@
+package org.mi.plannitybe.exception;
+
+public class TaskListAccessDeniedException extends ResourceAccessDeniedException {
+    public TaskListAccessDeniedException(String userId, Long taskListId) {
+        super(String.format("사용자(userId=%s)가 할일리스트(taskListId=%s)에 접근할 권한이 없습니다.", userId, taskListId),
+                userId,
+                taskListId,
+                "TASK_LIST");
+    }
+}
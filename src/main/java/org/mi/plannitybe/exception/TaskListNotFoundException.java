@@ -0,0 +1,11 @@
+package org.mi.plannitybe.exception;
+
+public class TaskListNotFoundException extends ResourceNotFoundException {
+
+    public TaskListNotFoundException(String userId, Long taskListId) {
+        super(String.format("사용자(userId=%s)가 할일리스트(taskListId=%s)를 찾을 수 없습니다.", userId, taskListId),
+                userId,
+                taskListId,
+                "TASK_LIST");
+    }
+}
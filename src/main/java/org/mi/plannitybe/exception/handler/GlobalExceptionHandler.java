@@ -3,6 +3,9 @@ package org.mi.plannitybe.exception.handler;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.log4j.Log4j2;
 import org.mi.plannitybe.exception.*;
+import org.mi.plannitybe.schedule.ics.IcsParseException;
+import org.mi.plannitybe.schedule.pagination.InvalidCursorException;
+import org.mi.plannitybe.schedule.pagination.SyncTokenExpiredException;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -97,6 +100,52 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    // iCalendar 가져오기 요청 본문 형식 오류 처리 (400)
+    @ExceptionHandler(IcsParseException.class)
+    public ResponseEntity<?> handleIcsParseException(IcsParseException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "code", "INVALID_ICS",
+                        "message", "iCalendar 형식이 올바르지 않습니다. (" + ex.getMessage() + ")"
+                ));
+    }
+
+    // 페이지 조회 cursor 형식 오류 처리 (400)
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<?> handleInvalidCursorException(InvalidCursorException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "code", "INVALID_CURSOR",
+                        "message", "cursor가 올바르지 않습니다."
+                ));
+    }
+
+    // 삭제 기록 보관 기간이 지난 syncToken 처리 (410) - 클라이언트는 syncToken 없이 전체 동기화
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public ResponseEntity<?> handleSyncTokenExpiredException(SyncTokenExpiredException ex) {
+        log.info(ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.GONE)
+                .body(Map.of(
+                        "code", "SYNC_TOKEN_EXPIRED",
+                        "message", "syncToken이 만료되었습니다. 전체 일정을 다시 동기화해 주세요."
+                ));
+    }
+
+    // 상위 작업 지정 오류 처리 (400) - 다른 할일리스트의 작업 또는 자기 자신/하위 작업을 상위 작업으로 지정
+    @ExceptionHandler(InvalidTaskHierarchyException.class)
+    public ResponseEntity<?> handleInvalidTaskHierarchyException(InvalidTaskHierarchyException ex) {
+        log.info(ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "code", "INVALID_TASK_HIERARCHY",
+                        "message", "상위 작업으로 지정할 수 없는 할일입니다."
+                ));
+    }
+
     // 클라이언트 요청 데이터 유효성 검사 실패 처리 (400)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
@@ -143,7 +192,8 @@ public class GlobalExceptionHandler {
     // 본인 소유가 아닌 데이터에 접근 시도할 때 예외 처리 (404 : 보안을 위해 403 X)
     @ExceptionHandler({EventListNotFoundException.class, TaskNotFoundException.class,
             EventNotFoundException.class, EventAccessDeniedException.class,
-            EventListAccessDeniedException.class, TaskAccessDeniedException.class})
+            EventListAccessDeniedException.class, TaskAccessDeniedException.class,
+            TaskListNotFoundException.class, TaskListAccessDeniedException.class})
     public ResponseEntity<?> handleNotFoundException(ResourceException ex) {
 
         if (ex instanceof ResourceAccessDeniedException) {        // 권한 없는 접근 시도 로그
@@ -166,6 +216,9 @@ public class GlobalExceptionHandler {
         } else if (ex instanceof TaskNotFoundException || ex instanceof TaskAccessDeniedException) {
             code = "TASK_NOT_FOUND";
             message = "할일이 존재하지 않습니다.";
+        } else if (ex instanceof TaskListNotFoundException || ex instanceof TaskListAccessDeniedException) {
+            code = "TASK_LIST_NOT_FOUND";
+            message = "할일리스트가 존재하지 않습니다.";
         } else {
             code = "RESOURCE_NOT_FOUND";
             message = "리소스가 존재하지 않습니다.";
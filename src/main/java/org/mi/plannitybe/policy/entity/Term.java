@@ -12,7 +12,8 @@ import org.mi.plannitybe.common.entity.base.BaseEntity;
 public class Term extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "term_seq")
+    @SequenceGenerator(name = "term_seq", sequenceName = "term_seq", allocationSize = 50)
     @Comment("약관 ID")
     private Long id;
 
@@ -0,0 +1,12 @@
+package org.mi.plannitybe.schedule.cache;
+
+import java.time.YearMonth;
+
+/**
+ * 캘린더 캐시의 키 - 사용자별 월 단위 버킷
+ *
+ * @param userId 일정 소유자 ID
+ * @param month  버킷에 해당하는 월
+ */
+public record CalendarBucketKey(String userId, YearMonth month) {
+}
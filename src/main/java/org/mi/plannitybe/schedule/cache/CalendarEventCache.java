@@ -0,0 +1,182 @@
+package org.mi.plannitybe.schedule.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * 캘린더 화면용 일정 목록 캐시
+ * <p>
+ * 사용자별 월 단위 버킷에 해당 월과 겹치는 일정 목록을 저장하고,
+ * 임의의 from/to 조회 요청은 겹치는 월 버킷들을 이어 붙여 응답한다.
+ * 일정 생성/수정/삭제 시 해당 일정의 날짜가 걸친 버킷만 무효화한다.
+ */
+@Slf4j
+@Component
+public class CalendarEventCache {
+
+    private static final Comparator<EventCalendarResponse> CALENDAR_ORDER =
+            Comparator.comparing((EventCalendarResponse e) -> e.getEventDateTime().getStartDate())
+                    .thenComparing(EventCalendarResponse::getEventId);
+
+    private final boolean enabled;
+    private final int maxBucketsPerRequest;
+    private final Cache<CalendarBucketKey, List<EventCalendarResponse>> cache;
+
+    /**
+     * @param enabled               캐시 사용 여부 (false면 항상 loader로 조회)
+     * @param maximumWeight         캐시에 보관할 최대 일정 수 (버킷당 일정 수 + 1로 가중치 계산)
+     * @param expireAfterWrite      버킷 저장 후 만료 시간
+     * @param maxBucketsPerRequest  캐시를 사용할 최대 조회 범위(월 수), 초과 시 캐시를 거치지 않고 조회
+     */
+    public CalendarEventCache(@Value("${calendar.cache.enabled:true}") boolean enabled,
+                              @Value("${calendar.cache.maximum-weight:200000}") long maximumWeight,
+                              @Value("${calendar.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                              @Value("${calendar.cache.max-buckets-per-request:24}") int maxBucketsPerRequest) {
+        this.enabled = enabled;
+        this.maxBucketsPerRequest = maxBucketsPerRequest;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((CalendarBucketKey key, List<EventCalendarResponse> events) -> events.size() + 1)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * from ~ to 범위와 겹치는 사용자의 일정 목록을 시작날짜, id 순으로 반환
+     *
+     * @param userId 일정 소유자 ID
+     * @param from   조회 시작 날짜
+     * @param to     조회 종료 날짜
+     * @param loader 캐시에 없는 버킷을 조회할 함수 (from, to 범위와 겹치는 일정 목록 반환)
+     */
+    public List<EventCalendarResponse> getEvents(String userId, LocalDateTime from, LocalDateTime to,
+                                                 BiFunction<LocalDateTime, LocalDateTime, List<EventCalendarResponse>> loader) {
+        YearMonth firstMonth = YearMonth.from(from);
+        YearMonth lastMonth = YearMonth.from(to);
+        if (!enabled || ChronoUnit.MONTHS.between(firstMonth, lastMonth) + 1 > maxBucketsPerRequest) {
+            return loader.apply(from, to);
+        }
+
+        // 요청 범위의 버킷 조회 - 캐시에 없는 버킷들은 연속된 월 구간마다 한 번의 조회로 함께 적재
+        List<CalendarBucketKey> keys = bucketKeys(userId, firstMonth, lastMonth);
+        Map<CalendarBucketKey, List<EventCalendarResponse>> buckets =
+                cache.getAll(keys, missingKeys -> loadBuckets(missingKeys, loader));
+
+        // 여러 달에 걸친 일정은 여러 버킷에 존재하므로 eventId 기준으로 중복 제거 후 요청 범위로 필터링
+        Map<Long, EventCalendarResponse> events = new HashMap<>();
+        for (List<EventCalendarResponse> bucket : buckets.values()) {
+            for (EventCalendarResponse event : bucket) {
+                if (!event.getEventDateTime().getStartDate().isAfter(to)
+                        && !event.getEventDateTime().getEndDate().isBefore(from)) {
+                    events.putIfAbsent(event.getEventId(), event);
+                }
+            }
+        }
+
+        List<EventCalendarResponse> result = new ArrayList<>(events.values());
+        result.sort(CALENDAR_ORDER);
+        return result;
+    }
+
+    /**
+     * startDate ~ endDate 기간에 걸친 사용자의 버킷을 무효화
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화하여
+     * 커밋 전에 다른 요청이 이전 데이터로 버킷을 다시 채운 경우도 제거한다.
+     */
+    public void evict(String userId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (!enabled || startDate == null || endDate == null) {
+            return;
+        }
+
+        List<CalendarBucketKey> keys = bucketKeys(userId, YearMonth.from(startDate), YearMonth.from(endDate));
+        cache.invalidateAll(keys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll(keys);
+                }
+            });
+        }
+    }
+
+    // 캐시 hit/miss/eviction 통계
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    // 현재 캐시에 저장된 버킷 수 (근사값)
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private List<CalendarBucketKey> bucketKeys(String userId, YearMonth firstMonth, YearMonth lastMonth) {
+        List<CalendarBucketKey> keys = new ArrayList<>();
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            keys.add(new CalendarBucketKey(userId, month));
+        }
+        return keys;
+    }
+
+    // 캐시에 없는 버킷을 연속된 월 구간별로 한 번씩 조회 (떨어져 있는 월 사이의 이미 캐시된 월은 다시 조회하지 않음)
+    private Map<CalendarBucketKey, List<EventCalendarResponse>> loadBuckets(
+            Set<? extends CalendarBucketKey> missingKeys,
+            BiFunction<LocalDateTime, LocalDateTime, List<EventCalendarResponse>> loader) {
+
+        List<CalendarBucketKey> sortedKeys = new ArrayList<>(missingKeys);
+        sortedKeys.sort(Comparator.comparing(CalendarBucketKey::month));
+
+        Map<CalendarBucketKey, List<EventCalendarResponse>> buckets = new HashMap<>();
+        int runStart = 0;
+        for (int i = 1; i <= sortedKeys.size(); i++) {
+            if (i == sortedKeys.size()
+                    || !sortedKeys.get(i).month().equals(sortedKeys.get(i - 1).month().plusMonths(1))) {
+                loadRun(sortedKeys.subList(runStart, i), loader, buckets);
+                runStart = i;
+            }
+        }
+        return buckets;
+    }
+
+    // 연속된 월의 버킷들을 덮는 범위를 한 번에 조회하여 버킷별로 분배
+    private void loadRun(List<CalendarBucketKey> keys,
+                         BiFunction<LocalDateTime, LocalDateTime, List<EventCalendarResponse>> loader,
+                         Map<CalendarBucketKey, List<EventCalendarResponse>> buckets) {
+        YearMonth firstMonth = keys.get(0).month();
+        YearMonth lastMonth = keys.get(keys.size() - 1).month();
+
+        // 종료 경계는 다음 달 1일 00:00 포함, 버킷 분배 시 제외
+        List<EventCalendarResponse> events = loader.apply(
+                firstMonth.atDay(1).atStartOfDay(),
+                lastMonth.plusMonths(1).atDay(1).atStartOfDay());
+
+        // 각 버킷에는 시작 월 ~ 종료 월 사이에 해당 월이 포함되는 일정만 저장 - evict()의 무효화 범위와 일치
+        for (CalendarBucketKey key : keys) {
+            List<EventCalendarResponse> bucket = new ArrayList<>();
+            for (EventCalendarResponse event : events) {
+                if (!YearMonth.from(event.getEventDateTime().getStartDate()).isAfter(key.month())
+                        && !YearMonth.from(event.getEventDateTime().getEndDate()).isBefore(key.month())) {
+                    bucket.add(event);
+                }
+            }
+            buckets.put(key, List.copyOf(bucket));
+        }
+    }
+}
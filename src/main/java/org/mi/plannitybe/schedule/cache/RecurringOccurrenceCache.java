@@ -0,0 +1,260 @@
+package org.mi.plannitybe.schedule.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.mi.plannitybe.schedule.domain.RecurrenceRule;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.dto.RecurringEventRow;
+import org.mi.plannitybe.schedule.recurrence.RecurringEventExpander;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 반복 일정의 발생 일정 캐시
+ * <p>
+ * 사용자별로 반복 일정 x 월 버킷 단위로 펼친 발생 일정을 보관하고,
+ * 조회 범위 중 아직 펼치지 않은 월만 계산하여 채운다 (캘린더를 넘길수록 점진적으로 적재).
+ * 조회한 반복 일정 행(수정일시 포함)이 보관된 행과 다르면 해당 반복 일정을 다시 펼친다.
+ * 제외 날짜만 바뀐 경우에도 수정일시가 갱신되므로, 다른 인스턴스에서 변경되었거나
+ * 커밋 이후 무효화 전에 읽은 이전 데이터로 채워진 경우도 다음 조회에서 다시 펼친다.
+ * 같은 인스턴스의 변경은 EventService가 {@link #evictSeries}로 바로 무효화한다.
+ * 보관하는 전체 발생 일정 수로 메모리를 제한하며, 오래 조회되지 않은 사용자부터 제거한다.
+ */
+@Component
+public class RecurringOccurrenceCache {
+
+    private final boolean enabled;
+    private final int maxBucketsPerRequest;
+    private final Cache<String, UserOccurrences> users;
+
+    /**
+     * @param enabled              캐시 사용 여부 (false면 요청마다 발생 일정 계산)
+     * @param maximumWeight        캐시에 보관할 최대 발생 일정 수 (버킷당 발생 일정 수 + 1의 사용자별 합으로 가중치 계산)
+     * @param expireAfterAccess    마지막 조회 이후 사용자 캐시를 제거할 시간
+     * @param maxBucketsPerRequest 캐시를 사용할 최대 조회 범위(월 수), 초과 시 캐시를 거치지 않고 계산
+     */
+    public RecurringOccurrenceCache(@Value("${calendar.occurrence-cache.enabled:true}") boolean enabled,
+                                    @Value("${calendar.occurrence-cache.maximum-weight:500000}") long maximumWeight,
+                                    @Value("${calendar.occurrence-cache.expire-after-access:30m}") Duration expireAfterAccess,
+                                    @Value("${calendar.occurrence-cache.max-buckets-per-request:24}") int maxBucketsPerRequest) {
+        this.enabled = enabled;
+        this.maxBucketsPerRequest = maxBucketsPerRequest;
+        this.users = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String userId, UserOccurrences occurrences) -> occurrences.weight())
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * from ~ to 범위와 겹치는 반복 일정들의 발생 일정 목록 반환 (반복 일정별 시작날짜 순)
+     *
+     * @param userId          일정 소유자 ID
+     * @param from            조회 시작 날짜
+     * @param to              조회 종료 날짜
+     * @param series          from ~ to 범위에 발생 일정이 있을 수 있는 사용자의 반복 일정 목록
+     * @param exceptionLoader 반복 일정 id 목록의 제외 날짜를 조회할 함수 (펼쳐야 할 버킷이 있을 때만 호출)
+     */
+    public List<EventCalendarResponse> getOccurrences(String userId, LocalDateTime from, LocalDateTime to,
+                                                      List<RecurringEventRow> series,
+                                                      Function<Collection<Long>, Map<Long, Set<LocalDateTime>>> exceptionLoader) {
+        if (series.isEmpty()) {
+            return List.of();
+        }
+
+        YearMonth firstMonth = YearMonth.from(from);
+        YearMonth lastMonth = YearMonth.from(to);
+        if (!enabled || ChronoUnit.MONTHS.between(firstMonth, lastMonth) + 1 > maxBucketsPerRequest) {
+            return expand(series, from, to, exceptionLoader);
+        }
+
+        // 요청 범위의 버킷이 모두 있는 반복 일정은 그대로 사용하고, 없는 반복 일정만 제외 날짜를 한 번에 조회하여 채움
+        UserOccurrences user = users.get(userId, key -> new UserOccurrences());
+        List<SeriesOccurrences> entries = new ArrayList<>(series.size());
+        List<SeriesOccurrences> incomplete = new ArrayList<>();
+        for (RecurringEventRow row : series) {
+            SeriesOccurrences entry = user.get(row);
+            entries.add(entry);
+            if (!entry.hasBuckets(firstMonth, lastMonth)) {
+                incomplete.add(entry);
+            }
+        }
+
+        if (!incomplete.isEmpty()) {
+            Map<Long, Set<LocalDateTime>> exceptionDates = exceptionLoader.apply(
+                    incomplete.stream().map(entry -> entry.row.eventId()).toList());
+            for (SeriesOccurrences entry : incomplete) {
+                entry.fill(firstMonth, lastMonth, exceptionDates.getOrDefault(entry.row.eventId(), Set.of()));
+            }
+            users.put(userId, user);  // 늘어난 발생 일정 수로 가중치 다시 계산
+        }
+
+        List<EventCalendarResponse> result = new ArrayList<>();
+        for (SeriesOccurrences entry : entries) {
+            entry.collect(firstMonth, lastMonth, from, to, result);
+        }
+        return result;
+    }
+
+    /**
+     * 사용자의 반복 일정 하나의 버킷 전체를 무효화 (반복 일정 수정/삭제, 발생 일정 삭제/변경 시)
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화하여
+     * 커밋 전에 다른 요청이 이전 데이터로 버킷을 다시 채운 경우도 제거한다.
+     */
+    public void evictSeries(String userId, Long eventId) {
+        if (!enabled) {
+            return;
+        }
+
+        Runnable evict = () -> users.asMap().computeIfPresent(userId, (key, user) -> {
+            user.remove(eventId);
+            return user;  // 같은 값으로 갱신하여 가중치 다시 계산
+        });
+        evict.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    // 사용자 캐시 hit/miss/eviction 통계
+    public CacheStats getStats() {
+        return users.stats();
+    }
+
+    // 현재 캐시에 저장된 사용자 수 (근사값)
+    public long getEstimatedSize() {
+        return users.estimatedSize();
+    }
+
+    // 캐시를 거치지 않고 모든 반복 일정을 from ~ to 범위로 펼침
+    private List<EventCalendarResponse> expand(List<RecurringEventRow> series, LocalDateTime from, LocalDateTime to,
+                                               Function<Collection<Long>, Map<Long, Set<LocalDateTime>>> exceptionLoader) {
+        Map<Long, Set<LocalDateTime>> exceptionDates = exceptionLoader.apply(
+                series.stream().map(RecurringEventRow::eventId).toList());
+
+        List<EventCalendarResponse> occurrences = new ArrayList<>();
+        for (RecurringEventRow row : series) {
+            RecurringEventExpander.expand(row, RecurrenceRule.parse(row.recurrenceRule()),
+                    exceptionDates.getOrDefault(row.eventId(), Set.of()), from, to, occurrences);
+        }
+        return occurrences;
+    }
+
+    // 사용자 한 명의 반복 일정별 발생 일정
+    private static final class UserOccurrences {
+
+        private final Map<Long, SeriesOccurrences> series = new ConcurrentHashMap<>();
+
+        // 조회한 행과 보관된 행이 다르면(다른 인스턴스에서 수정된 경우 등, 제외 날짜 변경은 수정일시로 확인) 버킷 없이 새로 시작
+        SeriesOccurrences get(RecurringEventRow row) {
+            return series.compute(row.eventId(),
+                    (eventId, entry) -> entry != null && entry.row.equals(row) ? entry : new SeriesOccurrences(row));
+        }
+
+        void remove(Long eventId) {
+            series.remove(eventId);
+        }
+
+        int weight() {
+            long weight = 1;
+            for (SeriesOccurrences entry : series.values()) {
+                weight += entry.weight();
+            }
+            return (int) Math.min(weight, Integer.MAX_VALUE);
+        }
+    }
+
+    // 반복 일정 하나의 월 버킷별 발생 일정 - 각 버킷에는 시작 월 ~ 종료 월 사이에 해당 월이 포함되는 발생 일정만 저장
+    private static final class SeriesOccurrences {
+
+        private final RecurringEventRow row;
+        private final RecurrenceRule rule;
+        private final Map<YearMonth, List<EventCalendarResponse>> buckets = new ConcurrentHashMap<>();
+
+        SeriesOccurrences(RecurringEventRow row) {
+            this.row = row;
+            this.rule = RecurrenceRule.parse(row.recurrenceRule());
+        }
+
+        boolean hasBuckets(YearMonth firstMonth, YearMonth lastMonth) {
+            for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                if (!buckets.containsKey(month)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 없는 버킷 전체를 덮는 범위를 한 번에 펼친 뒤 월별로 분배 (종료 경계는 다음 달 1일 00:00 포함, 분배 시 제외)
+        void fill(YearMonth firstMonth, YearMonth lastMonth, Set<LocalDateTime> exceptionDates) {
+            List<YearMonth> missingMonths = new ArrayList<>();
+            for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                if (!buckets.containsKey(month)) {
+                    missingMonths.add(month);
+                }
+            }
+            if (missingMonths.isEmpty()) {
+                return;
+            }
+
+            List<EventCalendarResponse> occurrences = new ArrayList<>();
+            RecurringEventExpander.expand(row, rule, exceptionDates,
+                    missingMonths.get(0).atDay(1).atStartOfDay(),
+                    missingMonths.get(missingMonths.size() - 1).plusMonths(1).atDay(1).atStartOfDay(),
+                    occurrences);
+
+            for (YearMonth month : missingMonths) {
+                List<EventCalendarResponse> bucket = new ArrayList<>();
+                for (EventCalendarResponse occurrence : occurrences) {
+                    if (!YearMonth.from(occurrence.getEventDateTime().getStartDate()).isAfter(month)
+                            && !YearMonth.from(occurrence.getEventDateTime().getEndDate()).isBefore(month)) {
+                        bucket.add(occurrence);
+                    }
+                }
+                buckets.put(month, List.copyOf(bucket));
+            }
+        }
+
+        // 여러 달에 걸친 발생 일정은 첫 번째 조회 월 또는 시작 월의 버킷에서만 추가하여 중복 제거
+        void collect(YearMonth firstMonth, YearMonth lastMonth, LocalDateTime from, LocalDateTime to,
+                     List<EventCalendarResponse> result) {
+            for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                for (EventCalendarResponse occurrence : buckets.getOrDefault(month, List.of())) {
+                    LocalDateTime startDate = occurrence.getEventDateTime().getStartDate();
+                    if ((month.equals(firstMonth) || YearMonth.from(startDate).equals(month))
+                            && !startDate.isAfter(to)
+                            && !occurrence.getEventDateTime().getEndDate().isBefore(from)) {
+                        result.add(occurrence);
+                    }
+                }
+            }
+        }
+
+        long weight() {
+            long weight = 0;
+            for (List<EventCalendarResponse> bucket : buckets.values()) {
+                weight += bucket.size() + 1;
+            }
+            return weight;
+        }
+    }
+}
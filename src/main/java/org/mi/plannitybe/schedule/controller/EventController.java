@@ -7,15 +7,29 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mi.plannitybe.schedule.dto.*;
+import org.mi.plannitybe.schedule.service.EventBatchService;
+import org.mi.plannitybe.schedule.service.EventDensityService;
+import org.mi.plannitybe.schedule.service.EventExportService;
+import org.mi.plannitybe.schedule.service.EventImportService;
+import org.mi.plannitybe.schedule.service.EventPageService;
+import org.mi.plannitybe.schedule.service.EventStreamService;
+import org.mi.plannitybe.schedule.service.EventSyncService;
 import org.mi.plannitybe.schedule.service.EventService;
 import org.mi.plannitybe.user.dto.CustomUserDetails;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +40,13 @@ import java.util.Map;
 public class EventController {
 
     private final EventService eventService;
+    private final EventBatchService eventBatchService;
+    private final EventImportService eventImportService;
+    private final EventExportService eventExportService;
+    private final EventPageService eventPageService;
+    private final EventStreamService eventStreamService;
+    private final EventDensityService eventDensityService;
+    private final EventSyncService eventSyncService;
 
     @PostMapping
     public ResponseEntity<?> createEvent(@RequestBody @Valid CreateEventRequest createEventRequest,
@@ -38,6 +59,48 @@ public class EventController {
         ));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<?> createEvents(@RequestBody @Valid EventBatchCreateRequest eventBatchCreateRequest,
+                                          @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        EventBatchCreateResponse eventBatchCreateResponse = eventBatchService.createEvents(eventBatchCreateRequest.events(), userId);
+        return ResponseEntity.ok(Map.of(
+                "result", eventBatchCreateResponse,
+                "message", "일정 일괄 생성이 완료되었습니다."
+        ));
+    }
+
+    // iCalendar(.ics) 파일 내용을 요청 본문으로 받아 스트리밍으로 가져오기
+    @PostMapping(value = "/import", consumes = {"text/calendar", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<?> importEvents(InputStream inputStream,
+                                          @RequestParam(value = "eventListId", required = false) @Min(1) Long eventListId,
+                                          @RequestParam(value = "timeZone", required = false) ZoneId timeZone,
+                                          @AuthenticationPrincipal CustomUserDetails userDetails) throws IOException {
+        String userId = userDetails.getId();
+        EventImportResponse eventImportResponse = eventImportService.importIcs(inputStream, eventListId,
+                timeZone != null ? timeZone : ZoneId.systemDefault(), userId);
+        return ResponseEntity.ok(Map.of(
+                "result", eventImportResponse,
+                "message", eventImportResponse.completed()
+                        ? "일정 가져오기가 완료되었습니다."
+                        : "파일을 끝까지 읽지 못해 일정 가져오기가 중단되었습니다. (읽은 일정까지 생성됨)"
+        ));
+    }
+
+    // user의 일정을 iCalendar(.ics) 파일로 내보내기 - DB에서 읽는 즉시 응답으로 출력
+    @GetMapping(value = "/export.ics", produces = "text/calendar")
+    public ResponseEntity<StreamingResponseBody> exportEvents(@Valid EventExportRequest eventExportRequest,
+                                                              @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        eventExportService.validateEventList(eventExportRequest.getEventListId(), userId);  // 출력 시작 전에 검증 (404 응답 가능)
+
+        StreamingResponseBody body = outputStream -> eventExportService.exportIcs(eventExportRequest, userId, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"plannity.ics\"")
+                .contentType(new MediaType("text", "calendar", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getEvent(@PathVariable("id") @Min(1) Long eventId,
                                       @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -56,6 +119,58 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    // 캘린더 일정 조회 (GET /events와 같은 응답) - DB에서 읽는 즉시 JSON으로 출력하여 넓은 범위 조회 시에도 응답 전체를 메모리에 만들지 않음
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamEventsForCalendar(
+            @Valid EventCalendarRequest eventCalendarRequest,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        String userId = userDetails.getId();
+        StreamingResponseBody body = outputStream -> eventStreamService.writeEventsForCalendar(
+                eventCalendarRequest.getFrom(), eventCalendarRequest.getTo(), userId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // 캘린더 일정 페이지 조회 - 응답의 nextCursor를 cursor로 전달하여 다음 페이지 조회
+    @GetMapping("/page")
+    public ResponseEntity<?> getEventsForCalendarPage(
+            @Valid EventCalendarPageRequest eventCalendarPageRequest,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        String userId = userDetails.getId();
+        EventCalendarPageResponse page = eventPageService.getEventsForCalendarPage(
+                eventCalendarPageRequest.getFrom(), eventCalendarPageRequest.getTo(),
+                eventCalendarPageRequest.getCursor(), eventCalendarPageRequest.getSize(), userId);
+        return ResponseEntity.ok(page);
+    }
+
+    // 일정 밀도 조회 - from ~ to 범위의 일별(day) 또는 주별(week) 일정 수
+    @GetMapping("/density")
+    public ResponseEntity<?> getEventDensity(
+            @Valid EventDensityRequest eventDensityRequest,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        String userId = userDetails.getId();
+        EventDensityResponse density = eventDensityService.getEventDensity(
+                eventDensityRequest.getFrom(), eventDensityRequest.getTo(),
+                eventDensityRequest.getGranularityType(), userId);
+        return ResponseEntity.ok(density);
+    }
+
+    // 일정 변경 동기화 - syncToken 이후 생성/수정/삭제된 일정 조회, hasMore가 false가 될 때까지 응답의 syncToken으로 이어서 요청
+    @GetMapping("/sync")
+    public ResponseEntity<?> syncEvents(
+            @Valid EventSyncRequest eventSyncRequest,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        String userId = userDetails.getId();
+        EventSyncResponse changes = eventSyncService.getChanges(
+                eventSyncRequest.getSyncToken(), eventSyncRequest.getSize(), userId);
+        return ResponseEntity.ok(changes);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateEvent(@PathVariable("id") @Min(1) Long eventId,
                                          @RequestBody @Valid UpdateEventRequest updateEventRequest,
@@ -68,6 +183,32 @@ public class EventController {
         ));
     }
 
+    // 반복 일정의 발생 일정 하나만 변경 (해당 발생 일정은 별도 일정으로 분리됨)
+    @PutMapping("/{id}/occurrences")
+    public ResponseEntity<?> updateOccurrence(@PathVariable("id") @Min(1) Long eventId,
+                                              @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrenceStartDate,
+                                              @RequestBody @Valid UpdateEventRequest updateEventRequest,
+                                              @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        EventResponse eventResponse = eventService.updateOccurrence(eventId, occurrenceStartDate, updateEventRequest, userId);
+        return ResponseEntity.ok(Map.of(
+                "event", eventResponse,
+                "message", "일정이 수정되었습니다."
+        ));
+    }
+
+    // 반복 일정의 발생 일정 하나만 삭제
+    @DeleteMapping("/{id}/occurrences")
+    public ResponseEntity<?> deleteOccurrence(@PathVariable("id") @Min(1) Long eventId,
+                                              @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrenceStartDate,
+                                              @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        eventService.deleteOccurrence(eventId, occurrenceStartDate, userId);
+        return ResponseEntity.ok(Map.of(
+                "message", "일정이 삭제되었습니다."
+        ));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteEvent(@PathVariable("id") @Min(1) Long eventId,
                                          @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -0,0 +1,125 @@
+package org.mi.plannitybe.schedule.controller;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.schedule.dto.CreateTaskRequest;
+import org.mi.plannitybe.schedule.dto.TaskListTreeResponse;
+import org.mi.plannitybe.schedule.dto.TaskProgressResponse;
+import org.mi.plannitybe.schedule.dto.TaskResponse;
+import org.mi.plannitybe.schedule.dto.UpdateTaskRequest;
+import org.mi.plannitybe.schedule.service.TaskService;
+import org.mi.plannitybe.user.dto.CustomUserDetails;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class TaskController {
+
+    private final TaskService taskService;
+
+    @PostMapping
+    public ResponseEntity<?> createTask(@RequestBody @Valid CreateTaskRequest createTaskRequest,
+                                        @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        TaskResponse taskResponse = taskService.createTask(createTaskRequest, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
+                "task", taskResponse,
+                "message", "할일이 생성되었습니다."
+        ));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getTask(@PathVariable("id") @Min(1) Long taskId,
+                                     @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        TaskResponse taskResponse = taskService.getTask(taskId, userId);
+        return ResponseEntity.ok(taskResponse);
+    }
+
+    // 할일의 모든 하위 작업 조회 (가까운 순)
+    @GetMapping("/{id}/descendants")
+    public ResponseEntity<?> getDescendants(@PathVariable("id") @Min(1) Long taskId,
+                                            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        List<TaskResponse> descendants = taskService.getDescendants(taskId, userId);
+        return ResponseEntity.ok(descendants);
+    }
+
+    // 할일의 하위 작업 수 조회
+    @GetMapping("/{id}/descendants/count")
+    public ResponseEntity<?> countDescendants(@PathVariable("id") @Min(1) Long taskId,
+                                              @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        long count = taskService.countDescendants(taskId, userId);
+        return ResponseEntity.ok(Map.of("count", count));
+    }
+
+    // 할일의 모든 상위 작업 조회 (최상위 작업부터)
+    @GetMapping("/{id}/ancestors")
+    public ResponseEntity<?> getAncestors(@PathVariable("id") @Min(1) Long taskId,
+                                          @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        List<TaskResponse> ancestors = taskService.getAncestors(taskId, userId);
+        return ResponseEntity.ok(ancestors);
+    }
+
+    // 할일의 진행 현황 조회 (모든 하위 작업의 상태별 수, 완료율)
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<?> getTaskProgress(@PathVariable("id") @Min(1) Long taskId,
+                                             @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        TaskProgressResponse progress = taskService.getTaskProgress(taskId, userId);
+        return ResponseEntity.ok(progress);
+    }
+
+    // 할일리스트의 진행 현황 조회 (전체 할일의 상태별 수, 완료율)
+    @GetMapping("/progress")
+    public ResponseEntity<?> getTaskListProgress(@RequestParam("taskListId") @Min(1) Long taskListId,
+                                                 @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        TaskProgressResponse progress = taskService.getTaskListProgress(taskListId, userId);
+        return ResponseEntity.ok(progress);
+    }
+
+    // 할일리스트의 전체 할일을 하위 작업 계층으로 조회
+    @GetMapping
+    public ResponseEntity<?> getTaskTree(@RequestParam("taskListId") @Min(1) Long taskListId,
+                                         @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        TaskListTreeResponse taskTree = taskService.getTaskTree(taskListId, userId);
+        return ResponseEntity.ok(taskTree);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateTask(@PathVariable("id") @Min(1) Long taskId,
+                                        @RequestBody @Valid UpdateTaskRequest updateTaskRequest,
+                                        @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        TaskResponse taskResponse = taskService.updateTask(taskId, updateTaskRequest, userId);
+        return ResponseEntity.ok(Map.of(
+                "task", taskResponse,
+                "message", "할일이 수정되었습니다."
+        ));
+    }
+
+    // 할일 삭제 (하위 작업도 함께 삭제)
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteTask(@PathVariable("id") @Min(1) Long taskId,
+                                        @AuthenticationPrincipal CustomUserDetails userDetails) {
+        String userId = userDetails.getId();
+        taskService.deleteTask(taskId, userId);
+        return ResponseEntity.ok(Map.of(
+                "message", "할일이 삭제되었습니다."
+        ));
+    }
+}
@@ -9,7 +9,6 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
@@ -43,6 +42,11 @@ public class EventDateTime {
         return eventDateTime;
     }
 
+    // 저장 시 검증을 거친 DB 값으로 생성 (검증 생략) - 조회 결과 projection용, 검증은 EventDateTimeValidationJob에서 따로 수행
+    public static EventDateTime ofTrusted(LocalDateTime startDate, LocalDateTime endDate, Boolean isAllDay) {
+        return new EventDateTime(startDate, endDate, isAllDay);
+    }
+
 
     private void validateOrThrow() {
         if (startDate == null || endDate == null) {
@@ -70,6 +74,6 @@ public class EventDateTime {
         if (!isAllDay) return true;
         return startDate.toLocalTime().equals(LocalTime.MIDNIGHT) &&   // 시작날짜의 시간이 00:00:00
                 endDate.toLocalTime().equals(LocalTime.MIDNIGHT) &&   // 종료날짜의 시간이 00:00:00
-                !(Duration.between(startDate, endDate).toDays() < 1);   // 시작날짜와 종료날짜의 시간 차가 하루 이상
+                endDate.isAfter(startDate);   // 시작날짜와 종료날짜의 시간 차가 하루 이상 (둘 다 자정이므로 종료날짜가 더 늦으면 하루 이상)
     }
 }
\ No newline at end of file
@@ -0,0 +1,456 @@
+package org.mi.plannitybe.schedule.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * 반복 일정 규칙 (iCalendar RRULE 중 일부)
+ * <p>
+ * 지원 항목: FREQ=DAILY|WEEKLY|MONTHLY|YEARLY, INTERVAL, COUNT, UNTIL,
+ * BYDAY(WEEKLY: 요일 목록, MONTHLY: 요일 또는 n번째 요일 - 예: 2MO, -1FR), BYMONTHDAY(MONTHLY)
+ * <p>
+ * 발생 시각은 iterator로 필요한 만큼만 계산한다.
+ * COUNT가 없으면 조회 시작 시각이 포함된 주기부터 바로 계산하므로, 긴 기간의 반복 일정도 조회 범위 밖은 계산하지 않는다.
+ * 해당 월에 없는 날짜(예: 31일, 2월 29일)는 건너뛴다.
+ */
+@Getter
+@EqualsAndHashCode
+public final class RecurrenceRule {
+
+    public static final int MAX_COUNT = 10_000;
+    public static final int MAX_INTERVAL = 1_000;
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final int MAX_YEAR = 9_000;  // 종료 조건 없는 규칙의 계산 상한
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY, YEARLY }
+
+    /**
+     * BYDAY 항목
+     *
+     * @param ordinal 월의 n번째 요일 (0이면 모든 해당 요일, 음수는 뒤에서부터)
+     */
+    public record WeekdayNum(int ordinal, DayOfWeek dayOfWeek) {
+    }
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDateTime until;
+    private final List<WeekdayNum> byDays;
+    private final List<Integer> byMonthDays;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDateTime until,
+                           List<WeekdayNum> byDays, List<Integer> byMonthDays) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDays = byDays;
+        this.byMonthDays = byMonthDays;
+    }
+
+    /**
+     * 시간대 정보 없이 RRULE 문자열 파싱 (앞의 "RRULE:"는 생략 가능) - API 요청, DB에 저장된 정규화된 규칙용
+     * UTC로 지정된 UNTIL('Z')은 일정 시각의 시간대를 알 수 없어 변환할 수 없으므로 허용하지 않는다.
+     * (서버 시간대로 변환하면 요청을 처리한 서버에 따라 발생 일정이 달라짐)
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않거나 지원하지 않는 항목(UTC UNTIL 포함)이 포함된 경우
+     */
+    public static RecurrenceRule parse(String rule) {
+        return parse(rule, null);
+    }
+
+    /**
+     * RRULE 문자열 파싱 (앞의 "RRULE:"는 생략 가능)
+     *
+     * @param zone 일정 시작 시각(DTSTART)이 표현된 시간대, UTC로 지정된 UNTIL('Z')을 이 시간대의 시각으로 변환한다.
+     *             (null이면 UTC UNTIL은 허용하지 않음) 정규화된 형식(toString)의 UNTIL은 이미 변환된 시각이므로 다시 변환되지 않는다.
+     * @throws IllegalArgumentException 형식이 올바르지 않거나 지원하지 않는 항목이 포함된 경우
+     */
+    public static RecurrenceRule parse(String rule, ZoneId zone) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("반복 규칙이 비어 있습니다.");
+        }
+        String value = rule.trim();
+        if (value.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            value = value.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDateTime until = null;
+        List<WeekdayNum> byDays = List.of();
+        List<Integer> byMonthDays = List.of();
+        String weekStart = null;
+
+        Set<String> names = new HashSet<>();
+        for (String part : value.split(";")) {
+            int separator = part.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("반복 규칙 형식이 올바르지 않습니다: " + part);
+            }
+            String name = part.substring(0, separator).trim().toUpperCase(Locale.ROOT);
+            String partValue = part.substring(separator + 1).trim().toUpperCase(Locale.ROOT);
+            if (!names.add(name)) {
+                throw new IllegalArgumentException("반복 규칙 항목이 중복되었습니다: " + name);
+            }
+
+            switch (name) {
+                case "FREQ" -> frequency = parseFrequency(partValue);
+                case "INTERVAL" -> interval = parseInt(name, partValue, 1, MAX_INTERVAL);
+                case "COUNT" -> count = parseInt(name, partValue, 1, MAX_COUNT);
+                case "UNTIL" -> until = parseUntil(partValue, zone);
+                case "BYDAY" -> byDays = parseByDays(partValue);
+                case "BYMONTHDAY" -> byMonthDays = parseByMonthDays(partValue);
+                case "WKST" -> weekStart = partValue;
+                default -> throw new IllegalArgumentException("지원하지 않는 반복 규칙 항목입니다: " + name);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("반복 주기(FREQ)는 필수입니다.");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT와 UNTIL은 함께 사용할 수 없습니다.");
+        }
+        if (!byDays.isEmpty() && !byMonthDays.isEmpty()) {
+            throw new IllegalArgumentException("BYDAY와 BYMONTHDAY는 함께 사용할 수 없습니다.");
+        }
+        if (!byDays.isEmpty() && frequency != Frequency.WEEKLY && frequency != Frequency.MONTHLY) {
+            throw new IllegalArgumentException("BYDAY는 WEEKLY, MONTHLY 반복에서만 사용할 수 있습니다.");
+        }
+        if (frequency == Frequency.WEEKLY && byDays.stream().anyMatch(day -> day.ordinal() != 0)) {
+            throw new IllegalArgumentException("WEEKLY 반복의 BYDAY에는 순서를 지정할 수 없습니다.");
+        }
+        if (!byMonthDays.isEmpty() && frequency != Frequency.MONTHLY) {
+            throw new IllegalArgumentException("BYMONTHDAY는 MONTHLY 반복에서만 사용할 수 있습니다.");
+        }
+        // 주 시작 요일은 월요일 기준으로 계산하므로, 결과가 달라지는 경우(격주 이상)만 제한
+        if (weekStart != null && !weekStart.equals("MO") && frequency == Frequency.WEEKLY && interval > 1) {
+            throw new IllegalArgumentException("WKST는 MO만 지원합니다.");
+        }
+
+        return new RecurrenceRule(frequency, interval, count, until, byDays, byMonthDays);
+    }
+
+    // RRULE 문자열의 형식 및 지원 여부 확인
+    public static boolean isValid(String rule) {
+        try {
+            parse(rule);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * seriesStart에서 시작하는 반복 일정의 발생 시각 중 lowerBound 이후(포함) 발생 시각을 오름차순으로 반환
+     * 종료 조건(COUNT, UNTIL)이 없으면 끝나지 않으므로 호출하는 쪽에서 필요한 범위까지만 사용해야 한다.
+     */
+    public Iterator<LocalDateTime> occurrences(LocalDateTime seriesStart, LocalDateTime lowerBound) {
+        return new OccurrenceIterator(seriesStart, lowerBound);
+    }
+
+    /**
+     * 마지막 발생 시각의 상한 (종료 조건이 없으면 null)
+     * COUNT는 실제 마지막 발생 시각, UNTIL은 UNTIL 값을 반환한다.
+     */
+    public LocalDateTime lastStartBound(LocalDateTime seriesStart) {
+        if (until != null) {
+            return until;
+        }
+        if (count == null) {
+            return null;
+        }
+
+        LocalDateTime last = seriesStart;
+        Iterator<LocalDateTime> iterator = occurrences(seriesStart, seriesStart);
+        while (iterator.hasNext()) {
+            last = iterator.next();
+        }
+        return last;
+    }
+
+    /**
+     * occurrenceStart가 이 규칙으로 발생하는 시각인지 여부
+     */
+    public boolean isOccurrence(LocalDateTime seriesStart, LocalDateTime occurrenceStart) {
+        Iterator<LocalDateTime> iterator = occurrences(seriesStart, occurrenceStart);
+        return iterator.hasNext() && iterator.next().equals(occurrenceStart);
+    }
+
+    // 정규화된 RRULE 문자열 (DB 저장 형식)
+    @Override
+    public String toString() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            rule.append(";INTERVAL=").append(interval);
+        }
+        if (!byDays.isEmpty()) {
+            StringJoiner days = new StringJoiner(",");
+            for (WeekdayNum day : byDays) {
+                days.add((day.ordinal() != 0 ? String.valueOf(day.ordinal()) : "") + day.dayOfWeek().name().substring(0, 2));
+            }
+            rule.append(";BYDAY=").append(days);
+        }
+        if (!byMonthDays.isEmpty()) {
+            StringJoiner days = new StringJoiner(",");
+            byMonthDays.forEach(day -> days.add(String.valueOf(day)));
+            rule.append(";BYMONTHDAY=").append(days);
+        }
+        if (count != null) {
+            rule.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            rule.append(";UNTIL=").append(DATE_TIME.format(until));
+        }
+        return rule.toString();
+    }
+
+    private static Frequency parseFrequency(String value) {
+        try {
+            return Frequency.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 반복 주기입니다: " + value);
+        }
+    }
+
+    private static int parseInt(String name, String value, int min, int max) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number < min || number > max) {
+                throw new IllegalArgumentException(name + "는 " + min + " ~ " + max + " 사이여야 합니다.");
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    // 날짜만 있으면 해당 날짜 전체 포함, 'Z'(UTC)는 zone의 시각으로 변환 (발생 시각과 같은 기준으로 비교)
+    private static LocalDateTime parseUntil(String value, ZoneId zone) {
+        try {
+            if (value.endsWith("Z")) {
+                if (zone == null) {
+                    throw new IllegalArgumentException("UTC로 지정된 UNTIL은 지원하지 않습니다. 일정과 같은 시간대의 시각으로 지정해 주세요: " + value);
+                }
+                return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME)
+                        .atZone(ZoneOffset.UTC).withZoneSameInstant(zone).toLocalDateTime();
+            }
+            if (value.length() == 8) {
+                return LocalDate.parse(value, DATE).atTime(LocalTime.of(23, 59, 59));
+            }
+            return LocalDateTime.parse(value, DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("UNTIL 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static List<WeekdayNum> parseByDays(String value) {
+        Set<WeekdayNum> days = new LinkedHashSet<>();
+        for (String day : value.split(",")) {
+            String trimmed = day.trim();
+            if (trimmed.length() < 2) {
+                throw new IllegalArgumentException("BYDAY 형식이 올바르지 않습니다: " + value);
+            }
+            String ordinal = trimmed.substring(0, trimmed.length() - 2);
+            int number = ordinal.isEmpty() ? 0 : parseInt("BYDAY", ordinal.startsWith("+") ? ordinal.substring(1) : ordinal, -5, 5);
+            days.add(new WeekdayNum(number, parseDayOfWeek(trimmed.substring(trimmed.length() - 2))));
+        }
+        List<WeekdayNum> sorted = new ArrayList<>(days);
+        sorted.sort(Comparator.comparing(WeekdayNum::dayOfWeek).thenComparing(WeekdayNum::ordinal));
+        return List.copyOf(sorted);
+    }
+
+    private static DayOfWeek parseDayOfWeek(String value) {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (dayOfWeek.name().startsWith(value)) {
+                return dayOfWeek;
+            }
+        }
+        throw new IllegalArgumentException("BYDAY 요일 형식이 올바르지 않습니다: " + value);
+    }
+
+    private static List<Integer> parseByMonthDays(String value) {
+        Set<Integer> days = new TreeSet<>();
+        for (String day : value.split(",")) {
+            int number = parseInt("BYMONTHDAY", day.trim(), -31, 31);
+            if (number == 0) {
+                throw new IllegalArgumentException("BYMONTHDAY는 0일 수 없습니다.");
+            }
+            days.add(number);
+        }
+        return List.copyOf(days);
+    }
+
+    // 반복 주기(period) 단위로 후보 시각을 계산하며 발생 시각을 하나씩 반환
+    private final class OccurrenceIterator implements Iterator<LocalDateTime> {
+
+        private final LocalDateTime seriesStart;
+        private final LocalDateTime lowerBound;
+        private long period;                    // seriesStart가 속한 주기 기준 현재 주기 번호 (interval의 배수)
+        private List<LocalDateTime> candidates = List.of();
+        private int candidateIndex;
+        private int emittedCount;               // COUNT 계산용 (lowerBound 이전 발생 포함)
+        private LocalDateTime next;
+        private boolean finished;
+
+        private OccurrenceIterator(LocalDateTime seriesStart, LocalDateTime lowerBound) {
+            this.seriesStart = seriesStart;
+            this.lowerBound = lowerBound.isBefore(seriesStart) ? seriesStart : lowerBound;
+            // COUNT는 처음부터 세어야 하므로 건너뛰지 않음, 그 외에는 lowerBound가 포함된 주기부터 시작
+            this.period = count == null ? firstPeriod() : 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                next = advance();
+                finished = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime occurrence = next;
+            next = null;
+            return occurrence;
+        }
+
+        private LocalDateTime advance() {
+            while (true) {
+                while (candidateIndex < candidates.size()) {
+                    LocalDateTime candidate = candidates.get(candidateIndex++);
+                    if (candidate.isBefore(seriesStart)) {
+                        continue;
+                    }
+                    if (until != null && candidate.isAfter(until)) {
+                        return null;
+                    }
+                    if (count != null && ++emittedCount > count) {
+                        return null;
+                    }
+                    if (!candidate.isBefore(lowerBound)) {
+                        return candidate;
+                    }
+                }
+
+                LocalDate periodStart = periodStart(period);
+                if (periodStart.getYear() > MAX_YEAR
+                        || (until != null && periodStart.atStartOfDay().isAfter(until))) {
+                    return null;
+                }
+                candidates = candidates(periodStart);
+                candidateIndex = 0;
+                period += interval;
+            }
+        }
+
+        private long firstPeriod() {
+            LocalDate start = seriesStart.toLocalDate();
+            LocalDate bound = lowerBound.toLocalDate();
+            long units = switch (frequency) {
+                case DAILY -> ChronoUnit.DAYS.between(start, bound);
+                case WEEKLY -> ChronoUnit.WEEKS.between(weekStart(start), weekStart(bound));
+                case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(bound));
+                case YEARLY -> bound.getYear() - start.getYear();
+            };
+            return Math.max(0, units) / interval * interval;
+        }
+
+        // 주기의 첫 날짜 (DAILY: 해당 날짜, WEEKLY: 월요일, MONTHLY: 1일, YEARLY: 1월 1일)
+        private LocalDate periodStart(long period) {
+            LocalDate start = seriesStart.toLocalDate();
+            return switch (frequency) {
+                case DAILY -> start.plusDays(period);
+                case WEEKLY -> weekStart(start).plusWeeks(period);
+                case MONTHLY -> start.withDayOfMonth(1).plusMonths(period);
+                case YEARLY -> start.withDayOfYear(1).plusYears(period);
+            };
+        }
+
+        // 주기 안의 후보 시각을 오름차순으로 반환
+        private List<LocalDateTime> candidates(LocalDate periodStart) {
+            LocalTime time = seriesStart.toLocalTime();
+            LocalDate start = seriesStart.toLocalDate();
+            return switch (frequency) {
+                case DAILY -> List.of(periodStart.atTime(time));
+                case WEEKLY -> {
+                    if (byDays.isEmpty()) {
+                        yield List.of(periodStart.with(TemporalAdjusters.nextOrSame(start.getDayOfWeek())).atTime(time));
+                    }
+                    List<LocalDateTime> days = new ArrayList<>(byDays.size());
+                    for (WeekdayNum day : byDays) {  // 요일 순으로 정렬되어 있음
+                        days.add(periodStart.with(TemporalAdjusters.nextOrSame(day.dayOfWeek())).atTime(time));
+                    }
+                    yield days;
+                }
+                case MONTHLY -> monthlyCandidates(YearMonth.from(periodStart), start.getDayOfMonth(), time);
+                case YEARLY -> {
+                    YearMonth month = YearMonth.of(periodStart.getYear(), start.getMonth());
+                    yield month.isValidDay(start.getDayOfMonth())
+                            ? List.of(month.atDay(start.getDayOfMonth()).atTime(time))
+                            : List.of();
+                }
+            };
+        }
+
+        private List<LocalDateTime> monthlyCandidates(YearMonth month, int startDayOfMonth, LocalTime time) {
+            if (byDays.isEmpty() && byMonthDays.isEmpty()) {
+                return month.isValidDay(startDayOfMonth) ? List.of(month.atDay(startDayOfMonth).atTime(time)) : List.of();
+            }
+
+            SortedSet<LocalDate> dates = new TreeSet<>();
+            int length = month.lengthOfMonth();
+            for (int day : byMonthDays) {
+                int dayOfMonth = day > 0 ? day : length + day + 1;
+                if (dayOfMonth >= 1 && dayOfMonth <= length) {
+                    dates.add(month.atDay(dayOfMonth));
+                }
+            }
+            for (WeekdayNum day : byDays) {
+                if (day.ordinal() == 0) {
+                    for (LocalDate date = month.atDay(1).with(TemporalAdjusters.nextOrSame(day.dayOfWeek()));
+                         !date.isAfter(month.atEndOfMonth()); date = date.plusWeeks(1)) {
+                        dates.add(date);
+                    }
+                    continue;
+                }
+                LocalDate date = day.ordinal() > 0
+                        ? month.atDay(1).with(TemporalAdjusters.nextOrSame(day.dayOfWeek())).plusWeeks(day.ordinal() - 1)
+                        : month.atEndOfMonth().with(TemporalAdjusters.previousOrSame(day.dayOfWeek())).minusWeeks(-day.ordinal() - 1);
+                if (YearMonth.from(date).equals(month)) {  // 5번째 요일이 없는 달은 제외
+                    dates.add(date);
+                }
+            }
+
+            List<LocalDateTime> candidates = new ArrayList<>(dates.size());
+            dates.forEach(date -> candidates.add(date.atTime(time)));
+            return candidates;
+        }
+
+        private LocalDate weekStart(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+    }
+}
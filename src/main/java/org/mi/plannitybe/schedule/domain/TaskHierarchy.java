@@ -0,0 +1,47 @@
+package org.mi.plannitybe.schedule.domain;
+
+import org.mi.plannitybe.schedule.dto.TaskParentRow;
+
+import java.util.*;
+
+/**
+ * 할일리스트 하나의 작업 계층 (taskId -> 상위 작업 id)
+ * <p>
+ * 할일리스트의 (taskId, mainTaskId) 전체를 한 번의 쿼리로 조회하여 만들고,
+ * closure table 점검 job과 진행 현황 재계산 job이 mainTask 기준의 올바른 값을 추가 쿼리 없이 메모리에서 계산할 때 사용한다.
+ */
+public final class TaskHierarchy {
+
+    private final Map<Long, Long> parents;
+
+    private TaskHierarchy(Map<Long, Long> parents) {
+        this.parents = parents;
+    }
+
+    public static TaskHierarchy of(List<TaskParentRow> rows) {
+        Map<Long, Long> parents = new HashMap<>(rows.size() * 2);
+        for (TaskParentRow row : rows) {
+            parents.put(row.taskId(), row.mainTaskId());
+        }
+        return new TaskHierarchy(parents);
+    }
+
+    // 할일리스트의 전체 taskId
+    public Set<Long> taskIds() {
+        return Collections.unmodifiableSet(parents.keySet());
+    }
+
+    // taskId의 상위 작업 id를 가까운 순으로 반환 (자기 자신 제외)
+    // 상위 작업이 할일리스트에 없거나 순환 참조가 있으면 그 이전까지만 반환
+    public List<Long> ancestorIds(Long taskId) {
+        List<Long> result = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        visited.add(taskId);
+        Long current = parents.get(taskId);
+        while (current != null && parents.containsKey(current) && visited.add(current)) {
+            result.add(current);
+            current = parents.get(current);
+        }
+        return result;
+    }
+}
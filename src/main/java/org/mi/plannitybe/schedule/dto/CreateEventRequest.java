@@ -1,12 +1,16 @@
 package org.mi.plannitybe.schedule.dto;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.mi.plannitybe.schedule.domain.EventDateTime;
+import org.mi.plannitybe.schedule.domain.RecurrenceRule;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,13 +27,33 @@ public record CreateEventRequest(
     
     String description,
     
-    List<Long> taskIds
+    List<Long> taskIds,
+
+    String recurrenceRule,
+
+    // 반복 일정에서 제외할 발생 일정의 시작 날짜 - iCalendar 가져오기(EXDATE) 전용, API 요청으로는 받지 않음
+    @JsonIgnore
+    List<LocalDateTime> recurrenceExceptionDates
 ) {
     // Compact constructor - 파라미터 처리 로직
     public CreateEventRequest {
         title = title != null ? title.trim() : "";
         description = description != null ? description.trim() : "";
         taskIds = taskIds != null ? new ArrayList<>(taskIds) : new ArrayList<>();
+        recurrenceRule = recurrenceRule == null || recurrenceRule.isBlank() ? null : recurrenceRule.trim();
+        recurrenceExceptionDates = recurrenceExceptionDates != null ? List.copyOf(recurrenceExceptionDates) : List.of();
+    }
+
+    // 제외 날짜 없는 일정 생성 요청
+    public CreateEventRequest(Long eventListId, String title, EventDateTime eventDateTime, String description,
+                              List<Long> taskIds, String recurrenceRule) {
+        this(eventListId, title, eventDateTime, description, taskIds, recurrenceRule, null);
+    }
+
+    // 반복하지 않는 일정 생성 요청
+    public CreateEventRequest(Long eventListId, String title, EventDateTime eventDateTime, String description,
+                              List<Long> taskIds) {
+        this(eventListId, title, eventDateTime, description, taskIds, null);
     }
     
     // Jackson용 별도 생성자
@@ -38,7 +62,14 @@ public record CreateEventRequest(
                                            @JsonProperty("title") String title,
                                            @JsonProperty("eventDateTime") EventDateTime eventDateTime,
                                            @JsonProperty("description") String description,
-                                           @JsonProperty("taskIds") List<Long> taskIds) {
-        return new CreateEventRequest(eventListId, title, eventDateTime, description, taskIds);
+                                           @JsonProperty("taskIds") List<Long> taskIds,
+                                           @JsonProperty("recurrenceRule") String recurrenceRule) {
+        return new CreateEventRequest(eventListId, title, eventDateTime, description, taskIds, recurrenceRule);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "반복 규칙 형식이 올바르지 않습니다.")
+    public boolean isValidRecurrenceRule() {
+        return recurrenceRule == null || RecurrenceRule.isValid(recurrenceRule);
     }
 }
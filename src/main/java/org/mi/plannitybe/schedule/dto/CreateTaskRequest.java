@@ -0,0 +1,38 @@
+package org.mi.plannitybe.schedule.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+
+import java.time.LocalDateTime;
+
+// mainTaskId: 상위 작업 ID (같은 할일리스트의 작업만 지정 가능, null이면 최상위 작업)
+public record CreateTaskRequest(
+    @NotNull(message = "task list는 필수 입력값입니다.")
+    Long taskListId,
+
+    @NotBlank(message = "title은 필수 입력값입니다.")
+    String title,
+
+    Long mainTaskId,
+
+    String estimatedDuration,
+
+    String actualDuration,
+
+    TaskStatusType status,
+
+    LocalDateTime reminderDate,
+
+    Boolean isAllDay,
+
+    String description
+) {
+    // Compact constructor - 파라미터 처리 로직
+    public CreateTaskRequest {
+        title = title != null ? title.trim() : "";
+        status = status != null ? status : TaskStatusType.NOT_STARTED;
+        isAllDay = isAllDay != null ? isAllDay : false;
+        description = description != null ? description.trim() : "";
+    }
+}
@@ -0,0 +1,18 @@
+package org.mi.plannitybe.schedule.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 일정 일괄 생성 요청
+ * 각 일정의 유효성 검사는 항목별 결과로 반환하기 위해 서비스에서 수행한다. (@Valid 미사용)
+ */
+public record EventBatchCreateRequest(
+        @NotEmpty(message = "생성할 일정 목록은 필수 입력값입니다.")
+        @Size(max = EventBatchCreateRequest.MAX_EVENTS, message = "한 번에 생성할 수 있는 일정은 최대 10000개입니다.")
+        List<CreateEventRequest> events
+) {
+    public static final int MAX_EVENTS = 10_000;
+}
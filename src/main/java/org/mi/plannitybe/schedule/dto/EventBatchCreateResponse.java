@@ -0,0 +1,18 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.util.List;
+
+/**
+ * 일정 일괄 생성 결과
+ *
+ * @param createdCount 생성된 일정 수
+ * @param failedCount  실패한 일정 수
+ * @param results      요청 순서대로의 항목별 결과
+ */
+public record EventBatchCreateResponse(int createdCount, int failedCount, List<EventBatchItemResult> results) {
+
+    public static EventBatchCreateResponse of(List<EventBatchItemResult> results) {
+        int createdCount = (int) results.stream().filter(EventBatchItemResult::created).count();
+        return new EventBatchCreateResponse(createdCount, results.size() - createdCount, results);
+    }
+}
@@ -0,0 +1,24 @@
+package org.mi.plannitybe.schedule.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 일정 일괄 생성의 항목별 결과
+ *
+ * @param index   요청 목록에서의 순서 (0부터 시작)
+ * @param created 생성 여부
+ * @param eventId 생성된 일정 ID (실패 시 null)
+ * @param code    실패 코드 (EVENT_LIST_NOT_FOUND, TASK_NOT_FOUND, VALIDATION_FAILED, SAVE_FAILED)
+ * @param message 실패 메시지
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EventBatchItemResult(int index, boolean created, Long eventId, String code, String message) {
+
+    public static EventBatchItemResult created(int index, Long eventId) {
+        return new EventBatchItemResult(index, true, eventId, null, null);
+    }
+
+    public static EventBatchItemResult failed(int index, String code, String message) {
+        return new EventBatchItemResult(index, false, null, code, message);
+    }
+}
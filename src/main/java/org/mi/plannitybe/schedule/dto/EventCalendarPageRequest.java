@@ -0,0 +1,18 @@
+package org.mi.plannitybe.schedule.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 캘린더 일정 페이지 조회 조건 - 첫 페이지는 cursor 없이, 다음 페이지는 이전 응답의 nextCursor로 요청
+@Getter
+@Setter
+@NoArgsConstructor
+public class EventCalendarPageRequest extends EventCalendarRequest {
+
+    @Min(value = 1, message = "size는 1 이상이어야 합니다.")
+    private Integer size;  // 지정하지 않으면 기본 페이지 크기, 최대 페이지 크기 초과 시 최대 크기로 조회
+
+    private String cursor;
+}
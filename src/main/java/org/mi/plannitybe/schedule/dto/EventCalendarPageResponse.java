@@ -0,0 +1,13 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.util.List;
+
+/**
+ * 캘린더 일정 페이지 조회 결과
+ *
+ * @param events     시작날짜, id 순의 일정 목록
+ * @param nextCursor 다음 페이지 요청용 continuation token (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record EventCalendarPageResponse(List<EventCalendarResponse> events, String nextCursor, boolean hasNext) {
+}
@@ -13,12 +13,19 @@ public class EventCalendarResponse {
     private final Long eventListId;
     private final String title;
     private final EventDateTime eventDateTime;
+    private final boolean recurring;  // 반복 일정의 발생 일정 여부 (같은 eventId로 여러 개 반환됨)
 
     public EventCalendarResponse(Long eventId, Long eventListId, String title, 
                                 LocalDateTime startDate, LocalDateTime endDate, Boolean isAllDay) {
+        this(eventId, eventListId, title, startDate, endDate, isAllDay, false);
+    }
+
+    public EventCalendarResponse(Long eventId, Long eventListId, String title,
+                                 LocalDateTime startDate, LocalDateTime endDate, Boolean isAllDay, boolean recurring) {
         this.eventId = eventId;
         this.eventListId = eventListId;
         this.title = title;
-        this.eventDateTime = EventDateTime.of(startDate, endDate, isAllDay);
+        this.eventDateTime = EventDateTime.ofTrusted(startDate, endDate, isAllDay);  // DB 조회 결과, 계산된 발생 일정이므로 검증 생략
+        this.recurring = recurring;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.time.LocalDateTime;
+
+// 일정 날짜 점검용 - 저장된 날짜 값을 검증 없이 그대로 조회
+public record EventDateTimeRow(
+        Long eventId,
+        String userId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Boolean isAllDay
+) {
+}
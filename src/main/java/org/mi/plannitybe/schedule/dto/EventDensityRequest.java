@@ -0,0 +1,35 @@
+package org.mi.plannitybe.schedule.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.mi.plannitybe.schedule.type.EventDensityGranularity;
+
+import java.time.Duration;
+import java.util.Locale;
+
+// 일정 밀도 조회 조건 - 조회 범위와 집계 단위(day, week)
+@Getter
+@Setter
+@NoArgsConstructor
+public class EventDensityRequest extends EventCalendarRequest {
+
+    private static final long MAX_RANGE_DAYS = 366L * 3;
+
+    @Pattern(regexp = "(?i)day|week", message = "granularity는 day 또는 week이어야 합니다.")
+    private String granularity = "day";
+
+    public EventDensityGranularity getGranularityType() {
+        return EventDensityGranularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+    }
+
+    @AssertTrue(message = "조회 범위는 최대 3년입니다.")
+    public boolean isValidRangeLength() {
+        if (getFrom() == null || getTo() == null || getFrom().isAfter(getTo())) {
+            return true;
+        }
+        return Duration.between(getFrom(), getTo()).toDays() <= MAX_RANGE_DAYS;
+    }
+}
@@ -0,0 +1,15 @@
+package org.mi.plannitybe.schedule.dto;
+
+import org.mi.plannitybe.schedule.type.EventDensityGranularity;
+
+import java.time.LocalDate;
+
+/**
+ * 일정 밀도 조회 결과 - 구간별 일정 수
+ *
+ * @param start       첫 번째 구간의 시작 날짜 (주별 조회는 조회 시작 날짜가 속한 주의 월요일)
+ * @param granularity 구간 단위
+ * @param counts      구간 순서대로의 일정 수 (counts[i]는 start + i 구간)
+ */
+public record EventDensityResponse(LocalDate start, EventDensityGranularity granularity, int[] counts) {
+}
@@ -0,0 +1,12 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.time.LocalDate;
+
+// 일정 밀도 집계용 - 시작일, 종료일, 종일일정 여부가 같은 일정 수
+public record EventDensityRow(
+        LocalDate startDay,
+        LocalDate endDay,
+        Boolean isAllDay,
+        Long count
+) {
+}
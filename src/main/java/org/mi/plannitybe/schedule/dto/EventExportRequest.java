@@ -0,0 +1,36 @@
+package org.mi.plannitybe.schedule.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// 일정 내보내기 조건 - 모두 선택값 (지정하지 않으면 전체 일정)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventExportRequest {
+
+    @Min(value = 1, message = "eventListId는 1 이상이어야 합니다.")
+    private Long eventListId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    @AssertTrue(message = "조회 시작 날짜는 종료 날짜보다 미래일 수 없습니다.")
+    public boolean isValidRange() {
+        if (from == null || to == null) {
+            return true;
+        }
+        return !from.isAfter(to);
+    }
+}
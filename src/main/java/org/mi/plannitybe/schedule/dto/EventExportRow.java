@@ -0,0 +1,34 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일정 내보내기용 조회 결과 - entity 대신 필요한 컬럼만 조회하여 영속성 컨텍스트에 쌓이지 않도록 함
+ *
+ * @param recurrenceRule           반복 규칙 (반복하지 않는 일정은 null)
+ * @param recurrenceExceptionDates 반복 일정에서 제외된 발생 일정의 시작 날짜 (조회 후 withRecurrenceExceptionDates로 채움)
+ */
+public record EventExportRow(
+        Long eventId,
+        String title,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Boolean isAllDay,
+        String description,
+        String recurrenceRule,
+        List<LocalDateTime> recurrenceExceptionDates,
+        LocalDateTime updatedAt
+) {
+
+    // JPQL 생성자 표현식용 (제외 날짜는 컬렉션이므로 별도 조회)
+    public EventExportRow(Long eventId, String title, LocalDateTime startDate, LocalDateTime endDate, Boolean isAllDay,
+                          String description, String recurrenceRule, LocalDateTime updatedAt) {
+        this(eventId, title, startDate, endDate, isAllDay, description, recurrenceRule, List.of(), updatedAt);
+    }
+
+    public EventExportRow withRecurrenceExceptionDates(List<LocalDateTime> recurrenceExceptionDates) {
+        return new EventExportRow(eventId, title, startDate, endDate, isAllDay, description, recurrenceRule,
+                recurrenceExceptionDates, updatedAt);
+    }
+}
@@ -0,0 +1,12 @@
+package org.mi.plannitybe.schedule.dto;
+
+/**
+ * 가져오기에 실패한 VEVENT
+ *
+ * @param index   파일 내 VEVENT 순서 (0부터 시작)
+ * @param uid     VEVENT의 UID (없으면 null)
+ * @param code    실패 코드 (INVALID_EVENT, INVALID_ICS(이 위치부터 입력을 읽지 못함) 또는 일괄 생성 실패 코드)
+ * @param message 실패 메시지
+ */
+public record EventImportFailure(int index, String uid, String code, String message) {
+}
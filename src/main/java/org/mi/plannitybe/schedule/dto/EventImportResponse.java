@@ -0,0 +1,16 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.util.List;
+
+/**
+ * 일정 가져오기 결과
+ *
+ * @param totalCount   읽은 VEVENT 수 (입력을 더 읽을 수 없어 중단한 경우 읽지 못한 위치 1개 포함)
+ * @param createdCount 생성된 일정 수
+ * @param failedCount  실패한 VEVENT 수
+ * @param completed    입력을 끝까지 읽었는지 여부 (false면 failures의 마지막 INVALID_ICS 항목 위치부터 읽지 못함)
+ * @param failures     실패 상세 (앞에서부터 최대 100개)
+ */
+public record EventImportResponse(int totalCount, int createdCount, int failedCount, boolean completed,
+                                  List<EventImportFailure> failures) {
+}
@@ -6,7 +6,7 @@ import org.mi.plannitybe.schedule.domain.EventDateTime;
 import java.util.List;
 
 public record EventResponse(Long id, Long eventListId, String title, EventDateTime eventDateTime, String description,
-                            List<Long> taskIds) {
+                            List<Long> taskIds, String recurrenceRule, Long recurringEventId) {
     @Builder
     public EventResponse {
     }
@@ -0,0 +1,29 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 변경 동기화 응답의 생성/수정된 일정
+ *
+ * @param recurrenceRule           반복 규칙 (반복하지 않는 일정은 null)
+ * @param recurrenceExceptionDates 반복 일정에서 제외된 발생 일정의 시작 날짜 (반복하지 않는 일정은 빈 목록)
+ * @param updatedAt                마지막 수정일시
+ */
+public record EventSyncEvent(
+        Long eventId,
+        Long eventListId,
+        String title,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Boolean isAllDay,
+        String recurrenceRule,
+        List<LocalDateTime> recurrenceExceptionDates,
+        LocalDateTime updatedAt
+) {
+
+    public static EventSyncEvent of(EventSyncRow row, List<LocalDateTime> recurrenceExceptionDates) {
+        return new EventSyncEvent(row.eventId(), row.eventListId(), row.title(), row.startDate(), row.endDate(),
+                row.isAllDay(), row.recurrenceRule(), recurrenceExceptionDates, row.updatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package org.mi.plannitybe.schedule.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 변경 동기화 조건 - 첫 동기화는 syncToken 없이, 이후에는 이전 응답의 syncToken으로 요청
+@Getter
+@Setter
+@NoArgsConstructor
+public class EventSyncRequest {
+
+    private String syncToken;
+
+    @Min(value = 1, message = "size는 1 이상이어야 합니다.")
+    private Integer size;  // 지정하지 않으면 기본 크기, 최대 크기 초과 시 최대 크기로 조회
+}
@@ -0,0 +1,14 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.util.List;
+
+/**
+ * 변경 동기화 결과
+ *
+ * @param changed   syncToken 이후 생성/수정된 일정 (수정일시 순)
+ * @param deleted   syncToken 이후 삭제된 일정 id (삭제 순)
+ * @param syncToken 다음 동기화 요청에 전달할 token
+ * @param hasMore   응답 크기 제한으로 남은 변경 사항이 있는지 여부 (true면 바로 다음 요청)
+ */
+public record EventSyncResponse(List<EventSyncEvent> changed, List<Long> deleted, String syncToken, boolean hasMore) {
+}
@@ -0,0 +1,16 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.time.LocalDateTime;
+
+// 변경 동기화 조회용 - 생성/수정된 일정 (반복 일정은 펼치지 않고 한 행으로 전달)
+public record EventSyncRow(
+        Long eventId,
+        Long eventListId,
+        String title,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Boolean isAllDay,
+        String recurrenceRule,
+        LocalDateTime updatedAt
+) {
+}
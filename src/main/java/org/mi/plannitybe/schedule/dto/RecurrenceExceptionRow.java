@@ -0,0 +1,7 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.time.LocalDateTime;
+
+// 반복 일정에서 제외된 발생 일정의 시작 날짜
+public record RecurrenceExceptionRow(Long eventId, LocalDateTime originalStartDate) {
+}
@@ -0,0 +1,20 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더 조회용 반복 일정 - startDate/endDate는 첫 번째 발생 일정
+ *
+ * @param updatedAt 마지막 수정일시 - 제외 날짜만 바뀐 경우에도 갱신되므로(Event.addRecurrenceException) 발생 일정 캐시의 변경 확인에 사용
+ */
+public record RecurringEventRow(
+        Long eventId,
+        Long eventListId,
+        String title,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Boolean isAllDay,
+        String recurrenceRule,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,11 @@
+package org.mi.plannitybe.schedule.dto;
+
+import java.util.List;
+
+/**
+ * 할일리스트와 전체 하위 작업 계층
+ *
+ * @param tasks 최상위 작업 목록 (각 작업의 subTasks에 하위 작업이 깊이와 관계없이 포함됨)
+ */
+public record TaskListTreeResponse(Long taskListId, String name, List<TaskTreeNode> tasks) {
+}
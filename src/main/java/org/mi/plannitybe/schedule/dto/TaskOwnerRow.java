@@ -0,0 +1,5 @@
+package org.mi.plannitybe.schedule.dto;
+
+// task 소유자 검증용 - taskId와 taskList 소유자 id
+public record TaskOwnerRow(Long taskId, String userId) {
+}
@@ -0,0 +1,5 @@
+package org.mi.plannitybe.schedule.dto;
+
+// 할일 계층 검증/하위 작업 탐색용 - taskId와 상위 작업 id (최상위 작업은 null)
+public record TaskParentRow(Long taskId, Long mainTaskId) {
+}
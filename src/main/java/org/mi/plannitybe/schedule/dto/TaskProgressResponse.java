@@ -0,0 +1,21 @@
+package org.mi.plannitybe.schedule.dto;
+
+import org.mi.plannitybe.schedule.entity.TaskStatusCounts;
+
+// 작업(하위 작업 기준) 또는 할일리스트(전체 작업 기준)의 진행 현황 - completionRate는 완료 작업 비율(%, 소수점 버림)
+public record TaskProgressResponse(
+        int total,
+        int notStarted,
+        int inProgress,
+        int completed,
+        int postponed,
+        int canceled,
+        int completionRate
+) {
+
+    public static TaskProgressResponse of(TaskStatusCounts counts) {
+        int completionRate = counts.getTotal() == 0 ? 0 : counts.getCompleted() * 100 / counts.getTotal();
+        return new TaskProgressResponse(counts.getTotal(), counts.getNotStarted(), counts.getInProgress(),
+                counts.getCompleted(), counts.getPostponed(), counts.getCanceled(), completionRate);
+    }
+}
@@ -0,0 +1,14 @@
+package org.mi.plannitybe.schedule.dto;
+
+import lombok.Builder;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+
+import java.time.LocalDateTime;
+
+public record TaskResponse(Long id, Long taskListId, String title, Long mainTaskId, String estimatedDuration,
+                           String actualDuration, TaskStatusType status, LocalDateTime reminderDate,
+                           Boolean isAllDay, String description) {
+    @Builder
+    public TaskResponse {
+    }
+}
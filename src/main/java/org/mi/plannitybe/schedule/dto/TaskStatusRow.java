@@ -0,0 +1,7 @@
+package org.mi.plannitybe.schedule.dto;
+
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+
+// 진행 현황 점검/복구용 - taskId, 상위 작업 id (최상위 작업은 null), 상태
+public record TaskStatusRow(Long taskId, Long mainTaskId, TaskStatusType status) {
+}
@@ -0,0 +1,30 @@
+package org.mi.plannitybe.schedule.dto;
+
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 할일 계층 조회 결과의 작업 하나
+ *
+ * @param subTasks 하위 작업 목록 (생성 순서)
+ */
+public record TaskTreeNode(
+        Long id,
+        String title,
+        String estimatedDuration,
+        String actualDuration,
+        TaskStatusType status,
+        LocalDateTime reminderDate,
+        Boolean isAllDay,
+        String description,
+        List<TaskTreeNode> subTasks
+) {
+
+    public static TaskTreeNode of(TaskTreeRow row) {
+        return new TaskTreeNode(row.id(), row.title(), row.estimatedDuration(), row.actualDuration(), row.status(),
+                row.reminderDate(), row.isAllDay(), row.description(), new ArrayList<>());
+    }
+}
@@ -0,0 +1,19 @@
+package org.mi.plannitybe.schedule.dto;
+
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+
+import java.time.LocalDateTime;
+
+// 할일리스트 계층 조회용 - 상위 작업은 mainTaskId로만 조회하여 메모리에서 트리로 조립
+public record TaskTreeRow(
+        Long id,
+        Long mainTaskId,
+        String title,
+        String estimatedDuration,
+        String actualDuration,
+        TaskStatusType status,
+        LocalDateTime reminderDate,
+        Boolean isAllDay,
+        String description
+) {
+}
@@ -1,26 +1,44 @@
 package org.mi.plannitybe.schedule.dto;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
 import org.mi.plannitybe.schedule.domain.EventDateTime;
+import org.mi.plannitybe.schedule.domain.RecurrenceRule;
 
 import java.util.ArrayList;
 import java.util.List;
 
+// recurrenceRule: null이면 변경하지 않음, 빈 문자열이면 반복 해제
 public record UpdateEventRequest(Long eventListId, String title, @Valid EventDateTime eventDateTime, String description,
-                                 List<Long> taskIds) {
+                                 List<Long> taskIds, String recurrenceRule) {
 
     @JsonCreator
     public UpdateEventRequest(@JsonProperty("eventListId") Long eventListId,
                               @JsonProperty("title") String title,
                               @JsonProperty("eventDateTime") EventDateTime eventDateTime,
                               @JsonProperty("description") String description,
-                              @JsonProperty("taskIds") List<Long> taskIds) {
+                              @JsonProperty("taskIds") List<Long> taskIds,
+                              @JsonProperty("recurrenceRule") String recurrenceRule) {
         this.eventListId = eventListId;
         this.title = title == null || title.trim().isEmpty() ? null : title.trim();
         this.eventDateTime = eventDateTime;
         this.description = description == null ? null : description.trim();
         this.taskIds = taskIds == null ? null : new ArrayList<>(taskIds);
+        this.recurrenceRule = recurrenceRule == null ? null : recurrenceRule.trim();
+    }
+
+    // 반복 규칙을 변경하지 않는 수정 요청
+    public UpdateEventRequest(Long eventListId, String title, EventDateTime eventDateTime, String description,
+                              List<Long> taskIds) {
+        this(eventListId, title, eventDateTime, description, taskIds, null);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "반복 규칙 형식이 올바르지 않습니다.")
+    public boolean isValidRecurrenceRule() {
+        return recurrenceRule == null || recurrenceRule.isEmpty() || RecurrenceRule.isValid(recurrenceRule);
     }
 }
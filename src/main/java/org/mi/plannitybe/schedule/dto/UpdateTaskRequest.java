@@ -0,0 +1,34 @@
+package org.mi.plannitybe.schedule.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+
+import java.time.LocalDateTime;
+
+// 할일 전체 수정 요청 - mainTaskId가 null이면 최상위 작업으로 변경 (할일리스트는 변경하지 않음)
+public record UpdateTaskRequest(
+    @NotBlank(message = "title은 필수 입력값입니다.")
+    String title,
+
+    Long mainTaskId,
+
+    String estimatedDuration,
+
+    String actualDuration,
+
+    TaskStatusType status,
+
+    LocalDateTime reminderDate,
+
+    Boolean isAllDay,
+
+    String description
+) {
+    // Compact constructor - 파라미터 처리 로직
+    public UpdateTaskRequest {
+        title = title != null ? title.trim() : "";
+        status = status != null ? status : TaskStatusType.NOT_STARTED;
+        isAllDay = isAllDay != null ? isAllDay : false;
+        description = description != null ? description.trim() : "";
+    }
+}
@@ -5,22 +5,36 @@ import lombok.*;
 import org.hibernate.annotations.Comment;
 import org.mi.plannitybe.common.entity.base.BaseEntity;
 import org.mi.plannitybe.schedule.domain.EventDateTime;
+import org.mi.plannitybe.schedule.domain.RecurrenceRule;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 @Builder
 @Entity
-@Table(name = "event")
+@Table(name = "event", indexes = {
+        // 캘린더 조회(findEventsByUserIdAndDateRange) - user_id 동등 조건 + start_date 범위 스캔, 정렬(start_date, id)까지 인덱스로 처리
+        // (end_date를 start_date 다음에 두면 같은 start_date 안에서 id 순서가 아니게 되어 정렬에 filesort 필요 - end_date는 행에서 필터링)
+        @Index(name = "idx_event_user_start", columnList = "user_id, start_date, id"),
+        // 반복 일정 삭제 시 발생 일정을 변경하여 만든 일정 조회(findByRecurringEventId)
+        @Index(name = "idx_event_recurring_event", columnList = "recurring_event_id"),
+        // 반복 일정 조회(findRecurringEventsByUserIdAndDateRange) - user_id 동등 조건 + recurrence_rule IS NOT NULL 범위 스캔으로 반복 일정만 읽음
+        // (반복 종료 날짜 조건은 인덱스에서 확인하여 이미 끝난 반복 일정은 행을 읽지 않음)
+        @Index(name = "idx_event_user_recurrence", columnList = "user_id, recurrence_rule, recurrence_end_date"),
+        // 변경 동기화 조회(findSyncRowsAfter) - user_id 동등 조건 + updated_at 범위 스캔, 정렬(updated_at, id)까지 인덱스로 처리
+        @Index(name = "idx_event_user_updated", columnList = "user_id, updated_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class Event extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 insert마다 즉시 실행되어 JDBC 배치가 불가능하므로 pooled 시퀀스 사용
+    // (H2: 시퀀스, MySQL: 시퀀스 미지원으로 {table}_seq 테이블로 대체, 50개씩 미리 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     @Comment("이벤트 ID")
     private Long id;
 
@@ -29,6 +43,11 @@ public class Event extends BaseEntity {
     @Comment("이벤트 목록 ID")
     private EventList eventList;
 
+    // eventList.user.id를 비정규화한 컬럼 - 캘린더 조회 시 event_list 조인 제거용
+    @Column(length = 36)
+    @Comment("사용자 ID")
+    private String userId;
+
     @Column(nullable = false, length = 255)
     @Comment("제목")
     private String title;
@@ -49,35 +68,137 @@ public class Event extends BaseEntity {
     @Comment("설명")
     private String description;
 
-    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    // 반복 규칙 (RRULE 형식, null이면 반복하지 않는 일정) - startDate/endDate는 첫 번째 발생 일정
+    @Column(length = 255)
+    @Comment("반복 규칙")
+    private String recurrenceRule;
+
+    // 마지막 발생 일정의 종료 날짜 상한 (종료 조건이 없으면 null) - 조회 범위 이전에 끝난 반복 일정 제외용
+    @Comment("반복 종료 날짜")
+    private LocalDateTime recurrenceEndDate;
+
+    // 반복 일정에서 제외된 발생 일정의 시작 날짜 (삭제 또는 별도 일정으로 변경된 발생 일정)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "event_recurrence_exception", joinColumns = @JoinColumn(name = "event_id"))
+    @Column(name = "original_start_date", nullable = false)
+    @Builder.Default
+    private Set<LocalDateTime> recurrenceExceptionDates = new HashSet<>();
+
+    // 반복 일정의 발생 일정 하나를 변경하여 만든 일정인 경우 원본 반복 일정 ID
+    @Comment("원본 반복 일정 ID")
+    private Long recurringEventId;
+
+    // 연결된 task를 taskId로 찾는 map - 추가/삭제/포함 여부 확인이 연결 수와 관계없이 O(1)
+    // task 연결 삭제는 EventTaskRepository의 bulk delete로 처리하므로 orphanRemoval은 사용하지 않음 (map에서 제거해도 delete 실행 안 됨)
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @MapKey(name = "taskId")
+    @OrderBy("id")
     @Builder.Default
-    private List<EventTask> eventTasks = new ArrayList<>();
+    private Map<Long, EventTask> eventTasks = new LinkedHashMap<>();
+
+    // 연결된 EventTask 목록 (연결 순서, 읽기 전용 - 변경은 addTask/addTaskLinks/removeTaskLinks로 수행)
+    public Collection<EventTask> getEventTasks() {
+        return Collections.unmodifiableCollection(this.eventTasks.values());
+    }
 
     public void addTask(Task task) {
-        if (hasTask(task)) {
+        this.eventTasks.computeIfAbsent(task.getId(), taskId -> EventTask.builder()
+                .event(this)
+                .task(task)
+                .build());
+    }
+
+    public boolean hasTask(Long taskId) {
+        return this.eventTasks.containsKey(taskId);
+    }
+
+    // 연결된 taskId 집합 (읽기 전용, task 프록시 초기화 없음)
+    public Set<Long> getTaskIds() {
+        return Collections.unmodifiableSet(this.eventTasks.keySet());
+    }
+
+    // 연결되지 않은 task의 EventTask를 만들어 추가하고, 추가한 EventTask 반환 (저장은 EventTaskRepository.insertAll로 한 번에 수행)
+    public List<EventTask> addTaskLinks(Collection<Task> tasks) {
+        List<EventTask> added = new ArrayList<>();
+        for (Task task : tasks) {
+            if (!this.eventTasks.containsKey(task.getId())) {
+                EventTask eventTask = EventTask.builder()
+                        .event(this)
+                        .task(task)
+                        .build();
+                this.eventTasks.put(task.getId(), eventTask);
+                added.add(eventTask);
+            }
+        }
+        return added;
+    }
+
+    // DB에서 삭제한 task 연결을 map에서 제거 (EventTaskRepository.deleteByEventIdAndTaskIdIn 이후 호출, SQL 실행 없음)
+    public void removeTaskLinks(Collection<Long> taskIds) {
+        for (Long taskId : taskIds) {
+            this.eventTasks.remove(taskId);
+        }
+    }
+
+    @PrePersist
+    public void prePersist() {
+        if (this.userId == null && this.eventList != null) {
+            this.userId = eventList.getUser().getId();
+        }
+        refreshRecurrenceEndDate();
+    }
+
+    public boolean isRecurring() {
+        return this.recurrenceRule != null;
+    }
+
+    // 반복 규칙 변경 (빈 문자열이면 반복 해제), 규칙이 바뀌면 기존 제외 날짜는 더 이상 유효하지 않으므로 제거
+    // (발생 일정을 변경하여 만든 일정은 EventService.updateEvent에서 함께 삭제)
+    public void updateRecurrenceRule(String recurrenceRule) {
+        if (recurrenceRule == null) {
             return;
         }
+        String rule = recurrenceRule.isBlank() ? null : RecurrenceRule.parse(recurrenceRule).toString();
+        if (!Objects.equals(this.recurrenceRule, rule)) {
+            if (this.recurrenceRule != null) {
+                this.recurrenceExceptionDates.clear();
+            }
+            this.recurrenceRule = rule;
+            refreshRecurrenceEndDate();
+        }
+    }
 
-        EventTask eventTask = EventTask.builder()
-                .event(this)
-                .task(task)
-                .build();
-        this.eventTasks.add(eventTask);
+    // 반복 일정에서 발생 일정 하나를 제외
+    public void addRecurrenceException(LocalDateTime occurrenceStartDate) {
+        this.recurrenceExceptionDates.add(occurrenceStartDate);
+        touch();  // 변경 동기화 대상이 되도록 수정일시 갱신
     }
 
-    private boolean hasTask(Task task) {
-        return this.eventTasks.stream()
-                .anyMatch(eventTask -> Objects.equals(eventTask.getTask().getId(), task.getId()));
+    // 반복 일정의 발생 일정 하나를 별도 일정으로 복사 (eventTask 포함, 반복 규칙 제외)
+    public Event copyOccurrence(LocalDateTime occurrenceStartDate) {
+        Event occurrence = Event.builder()
+                .eventList(this.eventList)
+                .userId(this.userId)
+                .title(this.title)
+                .startDate(occurrenceStartDate)
+                .endDate(occurrenceStartDate.plus(Duration.between(this.startDate, this.endDate)))
+                .isAllDay(this.isAllDay)
+                .description(this.description)
+                .recurringEventId(this.id)
+                .build();
+        this.eventTasks.values().forEach(eventTask -> occurrence.addTask(eventTask.getTask()));
+        return occurrence;
     }
 
-    public void removeTask(Task task) {
-        this.eventTasks.stream()
-                .filter(eventTask -> Objects.equals(eventTask.getTask().getId(), task.getId()))
-                .findFirst()
-                .ifPresent(eventTask -> {
-                    this.eventTasks.remove(eventTask);
-                    eventTask.setEvent(null);  // 양방향 연관관계 동기화
-                });
+    private void refreshRecurrenceEndDate() {
+        if (this.recurrenceRule == null || this.startDate == null || this.endDate == null) {
+            this.recurrenceEndDate = null;
+            return;
+        }
+        LocalDateTime lastStartBound = RecurrenceRule.parse(this.recurrenceRule).lastStartBound(this.startDate);
+        this.recurrenceEndDate = lastStartBound == null
+                ? null
+                : lastStartBound.plus(Duration.between(this.startDate, this.endDate));
     }
 
     public EventDateTime getEventDateTime() {
@@ -87,6 +208,7 @@ public class Event extends BaseEntity {
     public void updateEventList(EventList eventList) {
         if (eventList != null) {
             this.eventList = eventList;
+            this.userId = eventList.getUser().getId();
         }
     }
 
@@ -98,10 +220,32 @@ public class Event extends BaseEntity {
 
     public void updateFromEventDateTime(EventDateTime eventDateTime) {
         if (eventDateTime != null) {
+            if (this.recurrenceRule != null && !Objects.equals(this.startDate, eventDateTime.getStartDate())) {
+                this.recurrenceExceptionDates.clear();  // 발생 시각이 모두 바뀌므로 제외 날짜 제거
+            }
             this.startDate = eventDateTime.getStartDate();
             this.endDate = eventDateTime.getEndDate();
             this.isAllDay = eventDateTime.getIsAllDay();
+            refreshRecurrenceEndDate();
+        }
+    }
+
+    // 잘못 저장된 날짜 복구 (EventDateTimeValidationJob) - 반복 일정은 발생 시각이 모두 같은 만큼 이동하므로
+    // updateFromEventDateTime과 달리 제외 날짜를 제거하지 않고 같은 만큼 이동하여 제외된 발생 일정을 유지
+    // (시작 날짜가 없던 일정은 발생 일정이 없었으므로 제외 날짜를 그대로 둠)
+    public void repairDateTime(EventDateTime eventDateTime) {
+        if (this.recurrenceRule != null && this.startDate != null && !this.recurrenceExceptionDates.isEmpty()
+                && !this.startDate.equals(eventDateTime.getStartDate())) {
+            Duration offset = Duration.between(this.startDate, eventDateTime.getStartDate());
+            Set<LocalDateTime> shifted = new HashSet<>();
+            this.recurrenceExceptionDates.forEach(date -> shifted.add(date.plus(offset)));
+            this.recurrenceExceptionDates.clear();
+            this.recurrenceExceptionDates.addAll(shifted);
         }
+        this.startDate = eventDateTime.getStartDate();
+        this.endDate = eventDateTime.getEndDate();
+        this.isAllDay = eventDateTime.getIsAllDay();
+        refreshRecurrenceEndDate();
     }
 
     public void updateDescription(String description) {
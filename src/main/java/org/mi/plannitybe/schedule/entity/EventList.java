@@ -7,7 +7,9 @@ import org.mi.plannitybe.common.entity.base.BaseEntity;
 import org.mi.plannitybe.user.entity.User;
 
 @Entity
-@Table(name = "event_list")
+@Table(name = "event_list", indexes = {
+        @Index(name = "idx_event_list_user", columnList = "user_id")
+})
 @Getter
 @Setter
 //@NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -15,7 +17,8 @@ import org.mi.plannitybe.user.entity.User;
 public class EventList extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_list_seq")
+    @SequenceGenerator(name = "event_list_seq", sequenceName = "event_list_seq", allocationSize = 50)
     @Comment("이벤트 목록 ID")
     private Long id;
 
@@ -6,14 +6,17 @@ import org.hibernate.annotations.Comment;
 import org.mi.plannitybe.common.entity.base.BaseEntity;
 
 @Entity
-@Table(name = "event_task")
+@Table(name = "event_task", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_event_task_event_task", columnNames = {"event_id", "task_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EventTask extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_task_seq")
+    @SequenceGenerator(name = "event_task_seq", sequenceName = "event_task_seq", allocationSize = 50)
     @Comment("이벤트 작업 ID")
     private Long id;
 
@@ -27,9 +30,14 @@ public class EventTask extends BaseEntity {
     @Comment("작업 ID")
     private Task task;
 
+    // task_id 컬럼 읽기 전용 매핑 - task 프록시를 거치지 않고 연결된 taskId 확인용 (저장은 task 연관관계로 수행)
+    @Column(name = "task_id", insertable = false, updatable = false)
+    private Long taskId;
+
     @Builder
     public EventTask(Event event, Task task) {
         this.event = event;
         this.task = task;
+        this.taskId = task == null ? null : task.getId();
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package org.mi.plannitybe.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+// 삭제된 일정 기록 - 변경 동기화(GET /events/sync)에서 삭제된 일정을 클라이언트에 전달하기 위해 보관
+@Entity
+@Table(name = "event_tombstone", indexes = {
+        // 변경 동기화 조회(findTombstonesAfter) - user_id 동등 조건 + (deleted_at, event_id) 순서 범위 스캔
+        @Index(name = "idx_event_tombstone_user_deleted", columnList = "user_id, deleted_at, event_id"),
+        // 보관 기간이 지난 기록 삭제(deleteByDeletedAtBefore)
+        @Index(name = "idx_event_tombstone_deleted", columnList = "deleted_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventTombstone {
+
+    @Id
+    @Comment("이벤트 ID")
+    private Long eventId;
+
+    @Column(nullable = false, length = 36)
+    @Comment("사용자 ID")
+    private String userId;
+
+    @Column(nullable = false)
+    @Comment("삭제일시")
+    private LocalDateTime deletedAt;
+
+    public EventTombstone(Long eventId, String userId, LocalDateTime deletedAt) {
+        this.eventId = eventId;
+        this.userId = userId;
+        this.deletedAt = deletedAt;
+    }
+}
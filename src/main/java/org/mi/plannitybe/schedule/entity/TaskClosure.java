@@ -0,0 +1,67 @@
+package org.mi.plannitybe.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 작업 계층 closure table - 모든 (상위 작업, 하위 작업) 쌍과 거리를 저장 (자기 자신도 거리 0으로 저장)
+// Task.mainTask 변경 시 TaskService가 같은 트랜잭션에서 갱신하며, TaskClosureConsistencyJob이 점검/복구한다.
+@Entity
+@Table(name = "task_closure", indexes = {
+        // 상위 작업 조회(findAncestors) - descendant_id 동등 조건 + depth 순서
+        @Index(name = "idx_task_closure_descendant", columnList = "descendant_id, depth, ancestor_id"),
+        // 점검 job의 할일리스트별 조회/복구
+        @Index(name = "idx_task_closure_task_list", columnList = "task_list_id")
+})
+@IdClass(TaskClosure.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskClosure {
+
+    // 하위 작업 조회(findDescendants, countDescendants)는 PK (ancestor_id, descendant_id) 범위 스캔
+    @Id
+    @Comment("상위 작업 ID")
+    private Long ancestorId;
+
+    @Id
+    @Comment("하위 작업 ID")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    @Comment("상위 작업과의 거리 (자기 자신은 0)")
+    private int depth;
+
+    @Comment("작업 목록 ID")
+    private Long taskListId;
+
+    public TaskClosure(Long ancestorId, Long descendantId, int depth, Long taskListId) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+        this.depth = depth;
+        this.taskListId = taskListId;
+    }
+
+    // 새 task의 closure 행 - 자기 자신과, 상위 작업의 모든 상위 작업(상위 작업 자신 포함)
+    public static List<TaskClosure> forNewTask(Long taskId, Long taskListId, Collection<TaskClosure> mainTaskAncestors) {
+        List<TaskClosure> closures = new ArrayList<>(mainTaskAncestors.size() + 1);
+        closures.add(new TaskClosure(taskId, taskId, 0, taskListId));
+        for (TaskClosure ancestor : mainTaskAncestors) {
+            closures.add(new TaskClosure(ancestor.getAncestorId(), taskId, ancestor.getDepth() + 1, taskListId));
+        }
+        return closures;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
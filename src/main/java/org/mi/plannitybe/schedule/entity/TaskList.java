@@ -13,7 +13,8 @@ import org.mi.plannitybe.user.entity.User;
 public class TaskList extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_list_seq")
+    @SequenceGenerator(name = "task_list_seq", sequenceName = "task_list_seq", allocationSize = 50)
     @Comment("작업 목록 ID")
     private Long id;
 
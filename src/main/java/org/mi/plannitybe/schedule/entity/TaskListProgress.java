@@ -0,0 +1,37 @@
+package org.mi.plannitybe.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+// 할일리스트 진행 현황 - 할일리스트 전체 작업의 상태별 수
+// 작업 생성/상태 변경/삭제 시 TaskService가 증감을 반영하며, TaskProgressRebuildJob이 점검/복구한다.
+@Entity
+@Table(name = "task_list_progress")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskListProgress {
+
+    @Id
+    @Comment("작업 목록 ID")
+    private Long taskListId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_list_id")
+    private TaskList taskList;
+
+    @Embedded
+    private TaskStatusCounts counts;
+
+    public TaskListProgress(TaskList taskList, TaskStatusCounts counts) {
+        this.taskList = taskList;
+        this.counts = counts;
+    }
+
+    public void updateCounts(TaskStatusCounts counts) {
+        this.counts = counts;
+    }
+}
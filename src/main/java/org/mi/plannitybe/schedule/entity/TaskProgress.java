@@ -0,0 +1,37 @@
+package org.mi.plannitybe.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+// 작업별 하위 작업 진행 현황 - 모든 하위 작업(자기 자신 제외)의 상태별 수
+// 작업 상태/상위 작업 변경 시 TaskService가 closure table로 찾은 상위 작업 행에 증감을 반영하며, TaskProgressRebuildJob이 점검/복구한다.
+@Entity
+@Table(name = "task_progress")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskProgress {
+
+    @Id
+    @Comment("작업 ID")
+    private Long taskId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id")
+    private Task task;
+
+    @Embedded
+    private TaskStatusCounts counts;
+
+    public TaskProgress(Task task, TaskStatusCounts counts) {
+        this.task = task;
+        this.counts = counts;
+    }
+
+    public void updateCounts(TaskStatusCounts counts) {
+        this.counts = counts;
+    }
+}
@@ -0,0 +1,90 @@
+package org.mi.plannitybe.schedule.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Comment;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+
+// 상태별 작업 수 (변경하지 않는 값 - 증감은 plus/minus로 새 값을 만듦)
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskStatusCounts {
+
+    private static final TaskStatusCounts EMPTY = new TaskStatusCounts(0, 0, 0, 0, 0, 0);
+
+    @Column(nullable = false)
+    @Comment("전체 작업 수")
+    private int total;
+
+    @Column(nullable = false)
+    @Comment("시작 전 작업 수")
+    private int notStarted;
+
+    @Column(nullable = false)
+    @Comment("진행 중 작업 수")
+    private int inProgress;
+
+    @Column(nullable = false)
+    @Comment("완료 작업 수")
+    private int completed;
+
+    @Column(nullable = false)
+    @Comment("연기된 작업 수")
+    private int postponed;
+
+    @Column(nullable = false)
+    @Comment("취소된 작업 수")
+    private int canceled;
+
+    public TaskStatusCounts(int total, int notStarted, int inProgress, int completed, int postponed, int canceled) {
+        this.total = total;
+        this.notStarted = notStarted;
+        this.inProgress = inProgress;
+        this.completed = completed;
+        this.postponed = postponed;
+        this.canceled = canceled;
+    }
+
+    public static TaskStatusCounts empty() {
+        return new TaskStatusCounts(0, 0, 0, 0, 0, 0);
+    }
+
+    // 작업 하나의 상태 (상태가 없으면 전체 작업 수만 1)
+    public static TaskStatusCounts of(TaskStatusType status) {
+        if (status == null) {
+            return new TaskStatusCounts(1, 0, 0, 0, 0, 0);
+        }
+        return switch (status) {
+            case NOT_STARTED -> new TaskStatusCounts(1, 1, 0, 0, 0, 0);
+            case IN_PROGRESS -> new TaskStatusCounts(1, 0, 1, 0, 0, 0);
+            case COMPLETED -> new TaskStatusCounts(1, 0, 0, 1, 0, 0);
+            case POSTPONED -> new TaskStatusCounts(1, 0, 0, 0, 1, 0);
+            case CANCELED -> new TaskStatusCounts(1, 0, 0, 0, 0, 1);
+        };
+    }
+
+    public TaskStatusCounts plus(TaskStatusCounts other) {
+        return new TaskStatusCounts(total + other.total, notStarted + other.notStarted, inProgress + other.inProgress,
+                completed + other.completed, postponed + other.postponed, canceled + other.canceled);
+    }
+
+    public TaskStatusCounts minus(TaskStatusCounts other) {
+        return plus(other.negate());
+    }
+
+    public TaskStatusCounts negate() {
+        return new TaskStatusCounts(-total, -notStarted, -inProgress, -completed, -postponed, -canceled);
+    }
+
+    public boolean isEmpty() {
+        return equals(EMPTY);
+    }
+}
@@ -0,0 +1,28 @@
+package org.mi.plannitybe.schedule.ics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * VEVENT 컴포넌트 하나
+ *
+ * @param index      파일 내 VEVENT 순서 (0부터 시작)
+ * @param properties 속성 이름 -> 속성 목록 (여러 번 나올 수 있는 속성(EXDATE)만 모두 보관하고 나머지는 첫 번째 속성,
+ *                   하위 컴포넌트(VALARM 등)의 속성 제외)
+ */
+public record IcsEvent(int index, Map<String, List<IcsProperty>> properties) {
+
+    public IcsProperty property(String name) {
+        List<IcsProperty> values = properties.get(name);
+        return values == null ? null : values.get(0);
+    }
+
+    public List<IcsProperty> properties(String name) {
+        return properties.getOrDefault(name, List.of());
+    }
+
+    public String value(String name) {
+        IcsProperty property = property(name);
+        return property == null ? null : property.value();
+    }
+}
@@ -0,0 +1,158 @@
+package org.mi.plannitybe.schedule.ics;
+
+import org.mi.plannitybe.schedule.domain.EventDateTime;
+import org.mi.plannitybe.schedule.domain.RecurrenceRule;
+import org.mi.plannitybe.schedule.dto.CreateEventRequest;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * VEVENT를 일정 생성 요청으로 변환
+ * <p>
+ * 날짜(VALUE=DATE)만 있는 일정은 종일일정으로, 날짜시간 일정은 zone 기준 LocalDateTime으로 변환한다.
+ * (UTC(Z 접미사), TZID 지정 시각은 zone으로 변환하고 시간대 없는 시각은 그대로 사용)
+ * 반복 일정의 EXDATE는 같은 방식으로 변환하여 제외 날짜로 가져온다.
+ * 변환할 수 없는 VEVENT, 반복 일정의 발생 일정 하나를 변경한 VEVENT(RECURRENCE-ID)는 IllegalArgumentException 발생
+ */
+public final class IcsEventMapper {
+
+    public static final String RECURRENCE_OVERRIDE_MESSAGE = "변경된 발생 일정(RECURRENCE-ID)이 있는 반복 일정은 가져올 수 없습니다.";
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final int MAX_TEXT_LENGTH = 255;  // event.title, event.description 컬럼 길이
+    private static final String DEFAULT_TITLE = "(제목 없음)";
+
+    private IcsEventMapper() {}
+
+    public static CreateEventRequest toCreateEventRequest(IcsEvent event, Long eventListId, ZoneId zone) {
+        if (isRecurrenceOverride(event)) {
+            throw new IllegalArgumentException(RECURRENCE_OVERRIDE_MESSAGE);
+        }
+        IcsProperty start = event.property("DTSTART");
+        if (start == null) {
+            throw new IllegalArgumentException("일정의 날짜는 반드시 존재해야 합니다.");
+        }
+        boolean isAllDay = isDate(start);
+        LocalDateTime startDate = toLocalDateTime(start, zone);
+        LocalDateTime endDate = endDate(event, startDate, isAllDay, zone);
+        String recurrenceRule = recurrenceRule(event.value("RRULE"), zone);
+
+        String title = unescape(event.value("SUMMARY"));
+        return new CreateEventRequest(eventListId,
+                truncate(title == null || title.isBlank() ? DEFAULT_TITLE : title.trim()),
+                EventDateTime.of(startDate, endDate, isAllDay),
+                truncate(unescape(event.value("DESCRIPTION"))),
+                List.of(),
+                recurrenceRule,
+                recurrenceRule == null ? List.of() : exceptionDates(event, isAllDay, zone));
+    }
+
+    /**
+     * 반복 일정의 발생 일정 하나를 변경한 VEVENT(RECURRENCE-ID) 여부
+     * 변경된 발생 일정은 지원하지 않으므로, 같은 UID의 반복 일정도 가져오지 않아야 한다 (변경 전 발생 일정이 남음)
+     */
+    public static boolean isRecurrenceOverride(IcsEvent event) {
+        return event.property("RECURRENCE-ID") != null;
+    }
+
+    // DTEND가 없으면 DURATION, 둘 다 없으면 종일일정은 하루, 날짜시간 일정은 시작 시각과 같은 종료 시각
+    private static LocalDateTime endDate(IcsEvent event, LocalDateTime startDate, boolean isAllDay, ZoneId zone) {
+        IcsProperty end = event.property("DTEND");
+        if (end != null) {
+            if (isDate(end) != isAllDay) {
+                throw new IllegalArgumentException("시작 날짜와 종료 날짜의 형식이 다릅니다.");
+            }
+            return toLocalDateTime(end, zone);
+        }
+
+        String duration = event.value("DURATION");
+        if (duration != null) {
+            try {
+                return startDate.plus(Duration.parse(duration.trim()));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("일정 기간(DURATION) 형식이 올바르지 않습니다: " + duration);
+            }
+        }
+        return isAllDay ? startDate.plusDays(1) : startDate;
+    }
+
+    // 지원하지 않는 반복 규칙은 IllegalArgumentException 발생
+    // UTC로 지정된 UNTIL은 DTSTART와 같은 시간대(zone)의 시각으로 변환해 저장
+    private static String recurrenceRule(String rrule, ZoneId zone) {
+        return rrule == null || rrule.isBlank() ? null : RecurrenceRule.parse(rrule, zone).toString();
+    }
+
+    // EXDATE(여러 줄, 한 줄에 ','로 구분된 여러 값)를 발생 일정의 시작 날짜와 같은 기준의 제외 날짜로 변환
+    // 발생 일정과 비교할 수 있도록 DTSTART와 형식(날짜, 날짜시간)이 다르면 IllegalArgumentException 발생
+    private static List<LocalDateTime> exceptionDates(IcsEvent event, boolean isAllDay, ZoneId zone) {
+        List<LocalDateTime> exceptionDates = new ArrayList<>();
+        for (IcsProperty exdate : event.properties("EXDATE")) {
+            for (String value : exdate.value().split(",")) {
+                if (value.isBlank()) {
+                    continue;
+                }
+                IcsProperty date = new IcsProperty(exdate.name(), exdate.parameters(), value);
+                if (isDate(date) != isAllDay) {
+                    throw new IllegalArgumentException("제외 날짜(EXDATE)와 시작 날짜의 형식이 다릅니다.");
+                }
+                exceptionDates.add(toLocalDateTime(date, zone));
+            }
+        }
+        return exceptionDates;
+    }
+
+    private static boolean isDate(IcsProperty property) {
+        return "DATE".equalsIgnoreCase(property.parameter("VALUE")) || property.value().trim().length() == 8;
+    }
+
+    private static LocalDateTime toLocalDateTime(IcsProperty property, ZoneId zone) {
+        String value = property.value().trim();
+        try {
+            if (isDate(property)) {
+                return LocalDate.parse(value, DATE).atStartOfDay();
+            }
+            if (value.endsWith("Z")) {  // UTC 시각
+                return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME)
+                        .atZone(ZoneOffset.UTC).withZoneSameInstant(zone).toLocalDateTime();
+            }
+            LocalDateTime localDateTime = LocalDateTime.parse(value, DATE_TIME);
+            String tzid = property.parameter("TZID");
+            if (tzid == null) {  // 시간대 없는 시각은 그대로 사용
+                return localDateTime;
+            }
+            return localDateTime.atZone(ZoneId.of(tzid)).withZoneSameInstant(zone).toLocalDateTime();
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("날짜 형식 또는 시간대가 올바르지 않습니다: " + property.name() + "=" + value);
+        }
+    }
+
+    // TEXT 값의 이스케이프 문자 처리 (\n, \, \; \, \\)
+    static String unescape(String value) {
+        if (value == null || value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                result.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= MAX_TEXT_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_TEXT_LENGTH);
+    }
+}
@@ -0,0 +1,180 @@
+package org.mi.plannitybe.schedule.ics;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+/**
+ * iCalendar(RFC 5545) 입력에서 VEVENT를 하나씩 읽는 reader
+ * <p>
+ * 입력을 한 줄씩 읽어 접힌 줄(folding)을 이어 붙이고, VEVENT 하나를 완성할 때마다 반환한다.
+ * 파일 전체를 메모리에 올리지 않으며, 한 번에 보관하는 데이터는 현재 줄과 현재 VEVENT뿐이다.
+ * 비정상적으로 긴 줄로 메모리가 늘어나지 않도록 줄 길이와 VEVENT 하나의 반복 속성(EXDATE) 수를 제한한다.
+ */
+public class IcsEventReader {
+
+    private static final Set<String> REPEATABLE_PROPERTIES = Set.of("EXDATE");  // 여러 번 나와도 모두 보관하는 속성
+    private static final int MAX_REPEATED_PROPERTIES = 1_000;
+
+    private final Reader reader;
+    private final int maxLineLength;
+    private final StringBuilder lineBuffer = new StringBuilder();
+    private String pendingLine;     // 접힌 줄 여부 확인을 위해 미리 읽은 다음 줄
+    private boolean endOfInput;
+    private int eventCount;
+    private long lineNumber;
+
+    /**
+     * @param reader        iCalendar 입력 (호출하는 쪽에서 버퍼링 및 close)
+     * @param maxLineLength 접힌 줄을 이어 붙인 한 줄의 최대 길이
+     */
+    public IcsEventReader(Reader reader, int maxLineLength) {
+        this.reader = reader;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * 다음 VEVENT 반환, 더 이상 없으면 null
+     *
+     * @throws IcsParseException 줄 길이 초과 등으로 입력을 더 읽을 수 없는 경우
+     */
+    public IcsEvent next() throws IOException {
+        Map<String, List<IcsProperty>> properties = null;
+        int nestedDepth = 0;  // VEVENT 안의 하위 컴포넌트(VALARM 등) 깊이
+
+        String line;
+        while ((line = readContentLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            IcsProperty property = parse(line);
+
+            if (properties == null) {  // VEVENT 시작 전 (VCALENDAR, VTIMEZONE 등의 속성은 무시)
+                if (property.name().equals("BEGIN") && property.value().equalsIgnoreCase("VEVENT")) {
+                    properties = new HashMap<>();
+                }
+                continue;
+            }
+
+            if (property.name().equals("BEGIN")) {
+                nestedDepth++;
+            } else if (property.name().equals("END")) {
+                if (nestedDepth == 0 && property.value().equalsIgnoreCase("VEVENT")) {
+                    return new IcsEvent(eventCount++, properties);
+                }
+                nestedDepth = Math.max(0, nestedDepth - 1);
+            } else if (nestedDepth == 0) {
+                add(properties, property);
+            }
+        }
+        return null;  // 마지막 VEVENT가 END 없이 끝난 경우 무시
+    }
+
+    // 반복 속성은 모두 보관하고 나머지는 첫 번째 속성만 보관
+    private void add(Map<String, List<IcsProperty>> properties, IcsProperty property) {
+        List<IcsProperty> values = properties.get(property.name());
+        if (values == null) {
+            values = new ArrayList<>(1);
+            properties.put(property.name(), values);
+        } else if (!REPEATABLE_PROPERTIES.contains(property.name())) {
+            return;
+        } else if (values.size() == MAX_REPEATED_PROPERTIES) {
+            throw new IcsParseException("Too many " + property.name() + " properties at line " + lineNumber);
+        }
+        values.add(property);
+    }
+
+    // 접힌 줄(다음 줄이 공백/탭으로 시작)을 이어 붙인 content line 반환, 입력 끝이면 null
+    private String readContentLine() throws IOException {
+        String line = pendingLine != null ? pendingLine : readPhysicalLine();
+        pendingLine = null;
+        if (line == null) {
+            return null;
+        }
+
+        StringBuilder contentLine = null;
+        String next;
+        while ((next = readPhysicalLine()) != null) {
+            if (next.isEmpty() || (next.charAt(0) != ' ' && next.charAt(0) != '\t')) {
+                pendingLine = next;
+                break;
+            }
+            if (contentLine == null) {
+                contentLine = new StringBuilder(line);
+            }
+            contentLine.append(next, 1, next.length());
+            if (contentLine.length() > maxLineLength) {
+                throw new IcsParseException("Line too long at line " + lineNumber);
+            }
+        }
+        return contentLine == null ? line : contentLine.toString();
+    }
+
+    // 줄바꿈(CRLF, LF) 전까지의 한 줄 반환, 입력 끝이면 null
+    private String readPhysicalLine() throws IOException {
+        if (endOfInput) {
+            return null;
+        }
+
+        lineBuffer.setLength(0);
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                break;
+            }
+            if (c != '\r') {
+                lineBuffer.append((char) c);
+                if (lineBuffer.length() > maxLineLength) {
+                    throw new IcsParseException("Line too long at line " + (lineNumber + 1));
+                }
+            }
+        }
+        if (c == -1) {
+            endOfInput = true;
+            if (lineBuffer.isEmpty()) {
+                return null;
+            }
+        }
+        lineNumber++;
+        return lineBuffer.toString();
+    }
+
+    // NAME;PARAM=VALUE;PARAM="QUOTED:VALUE":VALUE 형식의 content line 파싱
+    static IcsProperty parse(String line) {
+        int length = line.length();
+        int i = 0;
+        while (i < length && line.charAt(i) != ';' && line.charAt(i) != ':') {
+            i++;
+        }
+        String name = line.substring(0, i).trim().toUpperCase(Locale.ROOT);
+
+        Map<String, String> parameters = new LinkedHashMap<>();
+        while (i < length && line.charAt(i) == ';') {
+            int nameStart = ++i;
+            while (i < length && line.charAt(i) != '=' && line.charAt(i) != ';' && line.charAt(i) != ':') {
+                i++;
+            }
+            String parameterName = line.substring(nameStart, i).toUpperCase(Locale.ROOT);
+            String parameterValue = "";
+            if (i < length && line.charAt(i) == '=') {
+                StringBuilder value = new StringBuilder();
+                boolean quoted = false;
+                for (i++; i < length; i++) {
+                    char c = line.charAt(i);
+                    if (c == '"') {
+                        quoted = !quoted;
+                    } else if (!quoted && (c == ';' || c == ':')) {
+                        break;
+                    } else {
+                        value.append(c);
+                    }
+                }
+                parameterValue = value.toString();
+            }
+            parameters.putIfAbsent(parameterName, parameterValue);
+        }
+
+        String value = i < length ? line.substring(i + 1) : "";  // ':' 이후 전체가 값
+        return new IcsProperty(name, parameters, value);
+    }
+}
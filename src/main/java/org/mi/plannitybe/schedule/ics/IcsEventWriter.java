@@ -0,0 +1,153 @@
+package org.mi.plannitybe.schedule.ics;
+
+import org.mi.plannitybe.schedule.dto.EventExportRow;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * 일정을 iCalendar(RFC 5545) 형식으로 출력하는 writer
+ * <p>
+ * 일정을 하나씩 바로 출력하므로 출력할 일정 수와 관계없이 메모리 사용량이 일정하다.
+ * 날짜는 시간대 없는 시각(floating time)으로, 종일일정은 VALUE=DATE로 출력한다.
+ * 반복 일정은 첫 발생 일정과 RRULE, 제외된 발생 일정(EXDATE)으로 출력한다.
+ */
+public class IcsEventWriter {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final Pattern UNTIL_TIME = Pattern.compile("(UNTIL=\\d{8})T\\d{6}");
+    private static final int MAX_LINE_OCTETS = 75;  // 줄바꿈 제외 한 줄의 최대 바이트 수
+    private static final String CRLF = "\r\n";
+
+    private final Writer writer;
+    private final String dtStamp;
+    private final ZoneId serverZone;
+
+    /**
+     * @param writer     출력 대상 (호출하는 쪽에서 버퍼링 및 close)
+     * @param exportedAt 내보내기 시각 (DTSTAMP)
+     */
+    public IcsEventWriter(Writer writer, Instant exportedAt) {
+        this(writer, exportedAt, ZoneId.systemDefault());
+    }
+
+    /**
+     * @param serverZone 수정일시(updatedAt)가 기록된 서버 시간대 - LAST-MODIFIED는 UTC로 변환하여 출력
+     */
+    public IcsEventWriter(Writer writer, Instant exportedAt, ZoneId serverZone) {
+        this.writer = writer;
+        this.dtStamp = utc(exportedAt);
+        this.serverZone = serverZone;
+    }
+
+    public void writeHeader() throws IOException {
+        writeLine("BEGIN:VCALENDAR");
+        writeLine("VERSION:2.0");
+        writeLine("PRODID:-//Plannity//Plannity Calendar//KO");
+        writeLine("CALSCALE:GREGORIAN");
+    }
+
+    public void write(EventExportRow event) throws IOException {
+        boolean isAllDay = Boolean.TRUE.equals(event.isAllDay());
+        writeLine("BEGIN:VEVENT");
+        writeLine("UID:event-" + event.eventId() + "@plannity");
+        writeLine("DTSTAMP:" + dtStamp);
+        writeLine(dateProperty("DTSTART", event.startDate(), isAllDay));
+        writeLine(dateProperty("DTEND", event.endDate(), isAllDay));
+        writeLine("SUMMARY:" + escape(event.title()));
+        if (event.recurrenceRule() != null) {
+            writeLine("RRULE:" + recurrenceRule(event.recurrenceRule(), isAllDay));
+            if (!event.recurrenceExceptionDates().isEmpty()) {
+                StringJoiner dates = new StringJoiner(",");
+                event.recurrenceExceptionDates().forEach(date -> dates.add(isAllDay ? DATE.format(date) : DATE_TIME.format(date)));
+                writeLine((isAllDay ? "EXDATE;VALUE=DATE:" : "EXDATE:") + dates);
+            }
+        }
+        if (event.description() != null && !event.description().isEmpty()) {
+            writeLine("DESCRIPTION:" + escape(event.description()));
+        }
+        if (event.updatedAt() != null) {
+            writeLine("LAST-MODIFIED:" + utc(event.updatedAt().atZone(serverZone).toInstant()));  // RFC 5545: UTC 시각만 허용
+        }
+        writeLine("END:VEVENT");
+    }
+
+    public void writeFooter() throws IOException {
+        writeLine("END:VCALENDAR");
+    }
+
+    // UTC 날짜시간 형식 (DTSTAMP, LAST-MODIFIED)
+    private static String utc(Instant instant) {
+        return DATE_TIME.format(instant.atOffset(ZoneOffset.UTC)) + "Z";
+    }
+
+    private static String dateProperty(String name, LocalDateTime dateTime, boolean isAllDay) {
+        return isAllDay
+                ? name + ";VALUE=DATE:" + DATE.format(dateTime)
+                : name + ":" + DATE_TIME.format(dateTime);
+    }
+
+    // 정규화된 반복 규칙(RecurrenceRule.toString) 그대로 출력, 종일일정은 DTSTART와 같은 형식이 되도록 UNTIL을 날짜로 출력
+    // (날짜만 있는 UNTIL은 가져올 때 해당 날짜 전체를 포함하므로 같은 발생 일정이 됨)
+    private static String recurrenceRule(String rule, boolean isAllDay) {
+        return isAllDay ? UNTIL_TIME.matcher(rule).replaceFirst("$1") : rule;
+    }
+
+    // TEXT 값 이스케이프 (\, ;, ',', 줄바꿈) - IcsEventMapper.unescape의 역변환
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> result.append('\\').append(c);
+                case '\n' -> result.append("\\n");
+                case '\r' -> {
+                }
+                default -> result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    // 75바이트(UTF-8)를 넘는 줄은 CRLF + 공백으로 접어서 출력, 서로게이트 쌍은 나누지 않음
+    private void writeLine(String line) throws IOException {
+        int octets = 0;
+        int limit = MAX_LINE_OCTETS;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int charCount = Character.charCount(codePoint);
+            int length = utf8Length(codePoint);
+            if (octets + length > limit) {
+                writer.write(CRLF);
+                writer.write(' ');
+                octets = 0;
+                limit = MAX_LINE_OCTETS - 1;  // 이어지는 줄은 맨 앞 공백 포함 75바이트
+            }
+            writer.write(line, i, charCount);
+            octets += length;
+            i += charCount;
+        }
+        writer.write(CRLF);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
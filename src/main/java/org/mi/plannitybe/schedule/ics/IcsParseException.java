@@ -0,0 +1,15 @@
+package org.mi.plannitybe.schedule.ics;
+
+/**
+ * iCalendar 파일 형식 오류 (파일 전체를 더 읽을 수 없는 경우)
+ */
+public class IcsParseException extends RuntimeException {
+
+    public IcsParseException(String message) {
+        super(message);
+    }
+
+    public IcsParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package org.mi.plannitybe.schedule.ics;
+
+import java.util.Map;
+
+/**
+ * iCalendar content line 하나 (예: DTSTART;TZID=Asia/Seoul:20240415T100000)
+ *
+ * @param name       속성 이름 (대문자)
+ * @param parameters 속성 파라미터 (이름은 대문자, 따옴표 제거된 값)
+ * @param value      속성 값 (이스케이프 처리 전 원문)
+ */
+public record IcsProperty(String name, Map<String, String> parameters, String value) {
+
+    public String parameter(String name) {
+        return parameters.get(name);
+    }
+}
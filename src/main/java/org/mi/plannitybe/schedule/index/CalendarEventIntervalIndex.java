@@ -0,0 +1,147 @@
+package org.mi.plannitybe.schedule.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.entity.Event;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자별 일정 interval tree 인덱스 (선택 기능, 기본 비활성화)
+ * <p>
+ * 사용자의 첫 캘린더 조회 시 해당 사용자의 날짜가 있는 일정 전체로 {@link EventIntervalTree}를 만들고,
+ * 이후 일정 생성/수정/삭제는 DB를 다시 읽지 않고 트리에 반영한다.
+ * 보관하는 전체 일정 수로 메모리를 제한하며, 오래 조회되지 않은 사용자의 트리부터 제거한다.
+ */
+@Slf4j
+@Component
+public class CalendarEventIntervalIndex {
+
+    // 일정 수가 많아 인덱스를 만들지 않는 사용자 표시용
+    private static final EventIntervalTree OVERSIZED = EventIntervalTree.of(List.of());
+
+    private final EventRepository eventRepository;
+    private final boolean enabled;
+    private final int maxEventsPerUser;
+    private final Cache<String, EventIntervalTree> trees;
+
+    /**
+     * @param eventRepository  사용자 일정 조회용 repository
+     * @param enabled          인덱스 사용 여부 (false면 항상 SQL로 조회)
+     * @param maximumWeight    인덱스에 보관할 최대 일정 수 (사용자당 일정 수 + 1로 가중치 계산)
+     * @param expireAfterAccess 마지막 조회 이후 사용자 트리를 제거할 시간
+     * @param maxEventsPerUser 인덱스를 만들 사용자의 최대 일정 수, 초과 시 SQL로 조회
+     */
+    public CalendarEventIntervalIndex(EventRepository eventRepository,
+                                      @Value("${calendar.interval-index.enabled:false}") boolean enabled,
+                                      @Value("${calendar.interval-index.maximum-weight:1000000}") long maximumWeight,
+                                      @Value("${calendar.interval-index.expire-after-access:30m}") Duration expireAfterAccess,
+                                      @Value("${calendar.interval-index.max-events-per-user:50000}") int maxEventsPerUser) {
+        this.eventRepository = eventRepository;
+        this.enabled = enabled;
+        this.maxEventsPerUser = maxEventsPerUser;
+        this.trees = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String userId, EventIntervalTree tree) -> tree.size() + 1)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * from ~ to 범위와 겹치는 사용자의 일정 목록을 시작날짜, id 순으로 반환
+     * 인덱스를 사용할 수 없는 경우(비활성화, 일정 수 초과) 빈 Optional 반환
+     */
+    public Optional<List<EventCalendarResponse>> findEvents(String userId, LocalDateTime from, LocalDateTime to) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        EventIntervalTree tree = trees.get(userId, this::load);
+        if (tree == OVERSIZED) {
+            return Optional.empty();
+        }
+        return Optional.of(tree.query(from, to));
+    }
+
+    /**
+     * 생성/수정된 일정을 사용자 트리에 반영 (트리가 없으면 다음 조회 시 생성되므로 무시)
+     * 반복 일정은 조회 시 발생 일정으로 펼치므로 트리에 보관하지 않음
+     */
+    public void upsert(String userId, Event event) {
+        if (event.getStartDate() == null || event.getEndDate() == null || event.isRecurring()) {
+            remove(userId, event.getId());
+            return;
+        }
+        EventCalendarResponse calendarEvent = new EventCalendarResponse(event.getId(), event.getEventList().getId(),
+                event.getTitle(), event.getStartDate(), event.getEndDate(), event.getIsAllDay());
+        apply(userId, tree -> tree.upsert(calendarEvent));
+    }
+
+    /**
+     * 삭제된 일정을 사용자 트리에서 제거
+     */
+    public void remove(String userId, Long eventId) {
+        apply(userId, tree -> tree.remove(eventId));
+    }
+
+    /**
+     * 사용자 트리 전체 제거 (일괄 생성 등 변경이 많을 때 다음 조회 시 다시 생성)
+     */
+    public void invalidate(String userId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> trees.invalidate(userId));
+    }
+
+    // 인덱스 사용 통계 (hit/miss/eviction)
+    public CacheStats getStats() {
+        return trees.stats();
+    }
+
+    private EventIntervalTree load(String userId) {
+        long eventCount = eventRepository.countCalendarEventsByUserId(userId);
+        if (eventCount > maxEventsPerUser) {
+            log.info("Calendar interval index skipped - userId: {}, eventCount: {}", userId, eventCount);
+            return OVERSIZED;
+        }
+        return EventIntervalTree.of(eventRepository.findCalendarEventsByUserId(userId));
+    }
+
+    // 변경 사항은 커밋 이후에 반영 - 롤백된 변경이 인덱스에 남지 않도록 함
+    // upsert/remove는 eventId 기준으로 멱등이므로, 커밋 전후 어느 시점에 적재된 트리에 반영되어도 결과가 같다.
+    private void apply(String userId, UnaryOperator<EventIntervalTree> change) {
+        if (!enabled) {
+            return;
+        }
+
+        afterCommit(() -> trees.asMap().computeIfPresent(userId,
+                (key, tree) -> tree == OVERSIZED ? tree : change.apply(tree)));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.mi.plannitybe.schedule.index;
+
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 한 사용자의 일정을 기간(시작날짜 ~ 종료날짜) 기준으로 조회하기 위한 불변 interval tree
+ * <p>
+ * 일정을 (시작날짜, id) 순으로 정렬한 배열을 암시적 균형 이진 트리로 보고,
+ * 각 노드에 하위 트리의 최대 종료날짜를 저장한다.
+ * 기간 조회는 최대 종료날짜가 from보다 이전인 하위 트리와 시작날짜가 to 이후인 노드를 건너뛰므로
+ * 긴 기간의 일정과 짧은 일정이 섞여 있어도 O(log n + k)로 동작하며, 결과는 (시작날짜, id) 순으로 반환된다.
+ * <p>
+ * 변경(upsert/remove)은 새 트리를 반환하므로 여러 스레드가 잠금 없이 동시에 조회해도 안전하다 (copy-on-write).
+ * 대신 변경 한 번에 정렬된 배열 복사와 최대 종료날짜 재계산으로 O(n)이 든다.
+ * 트리는 사용자 한 명의 일정만 보관하고(CalendarEventIntervalIndex의 max-events-per-user 이하),
+ * 일정 변경은 조회보다 훨씬 드물기 때문에, 노드 객체 없이 배열 두 개로 조회하는 이점을 위해 이 비용을 택했다.
+ * (경로 복사 방식의 영속 균형 트리는 변경이 O(log n)이지만 eventId로 기존 일정을 찾는 영속 인덱스가 추가로 필요하고
+ * 조회 시 노드마다 포인터를 따라가야 한다) 쓰기 비용은 EventIntervalTreeBenchmark의 upsert, remove로 확인한다.
+ * 일괄 생성처럼 변경이 많으면 트리를 변경하지 않고 다음 조회 시 다시 만든다 (CalendarEventIntervalIndex.invalidate).
+ */
+public final class EventIntervalTree {
+
+    private static final Comparator<EventCalendarResponse> START_ORDER =
+            Comparator.comparing((EventCalendarResponse e) -> e.getEventDateTime().getStartDate())
+                    .thenComparing(EventCalendarResponse::getEventId);
+
+    private static final EventIntervalTree EMPTY = new EventIntervalTree(new EventCalendarResponse[0]);
+
+    private final EventCalendarResponse[] events;   // (시작날짜, id) 순으로 정렬된 일정
+    private final LocalDateTime[] maxEndDates;      // 각 노드를 루트로 하는 하위 트리의 최대 종료날짜
+
+    private EventIntervalTree(EventCalendarResponse[] sortedEvents) {
+        this.events = sortedEvents;
+        this.maxEndDates = new LocalDateTime[sortedEvents.length];
+        buildMaxEndDates(0, sortedEvents.length - 1);
+    }
+
+    public static EventIntervalTree empty() {
+        return EMPTY;
+    }
+
+    public static EventIntervalTree of(Collection<EventCalendarResponse> events) {
+        EventCalendarResponse[] sorted = events.toArray(new EventCalendarResponse[0]);
+        Arrays.sort(sorted, START_ORDER);
+        return new EventIntervalTree(sorted);
+    }
+
+    public int size() {
+        return events.length;
+    }
+
+    /**
+     * from ~ to 범위와 겹치는 일정(시작날짜 <= to, 종료날짜 >= from)을 (시작날짜, id) 순으로 반환
+     */
+    public List<EventCalendarResponse> query(LocalDateTime from, LocalDateTime to) {
+        List<EventCalendarResponse> result = new ArrayList<>();
+        collect(0, events.length - 1, from, to, result);
+        return result;
+    }
+
+    /**
+     * 같은 eventId의 일정을 교체(없으면 추가)한 새 트리를 반환 - 배열을 한 번만 복사 (O(n))
+     */
+    public EventIntervalTree upsert(EventCalendarResponse event) {
+        int existing = indexOf(event.getEventId());
+        int position = Arrays.binarySearch(events, event, START_ORDER);
+        EventCalendarResponse[] updated;
+        if (position >= 0) {  // 시작날짜가 같아 위치가 그대로인 기존 일정 교체
+            updated = events.clone();
+            updated[position] = event;
+        } else if (existing < 0) {  // 추가
+            int insertAt = -position - 1;
+            updated = new EventCalendarResponse[events.length + 1];
+            System.arraycopy(events, 0, updated, 0, insertAt);
+            updated[insertAt] = event;
+            System.arraycopy(events, insertAt, updated, insertAt + 1, events.length - insertAt);
+        } else {  // 기존 일정을 빼고 새 위치에 넣기 - 두 위치 사이의 일정만 한 칸 이동
+            int insertAt = -position - 1;
+            updated = events.clone();
+            if (insertAt <= existing) {
+                System.arraycopy(events, insertAt, updated, insertAt + 1, existing - insertAt);
+                updated[insertAt] = event;
+            } else {
+                System.arraycopy(events, existing + 1, updated, existing, insertAt - existing - 1);
+                updated[insertAt - 1] = event;
+            }
+        }
+        return new EventIntervalTree(updated);
+    }
+
+    /**
+     * eventId에 해당하는 일정을 제거한 새 트리를 반환 (없으면 현재 트리 반환)
+     */
+    public EventIntervalTree remove(Long eventId) {
+        int i = indexOf(eventId);
+        if (i < 0) {
+            return this;
+        }
+        EventCalendarResponse[] removed = new EventCalendarResponse[events.length - 1];
+        System.arraycopy(events, 0, removed, 0, i);
+        System.arraycopy(events, i + 1, removed, i, events.length - i - 1);
+        return new EventIntervalTree(removed);
+    }
+
+    // eventId의 배열 위치 (없으면 -1) - 배열은 시작날짜 순이므로 전체 탐색
+    private int indexOf(Long eventId) {
+        for (int i = 0; i < events.length; i++) {
+            if (events[i].getEventId().equals(eventId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private LocalDateTime buildMaxEndDates(int lo, int hi) {
+        if (lo > hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        LocalDateTime maxEndDate = events[mid].getEventDateTime().getEndDate();
+        LocalDateTime leftMax = buildMaxEndDates(lo, mid - 1);
+        LocalDateTime rightMax = buildMaxEndDates(mid + 1, hi);
+        if (leftMax != null && leftMax.isAfter(maxEndDate)) {
+            maxEndDate = leftMax;
+        }
+        if (rightMax != null && rightMax.isAfter(maxEndDate)) {
+            maxEndDate = rightMax;
+        }
+        maxEndDates[mid] = maxEndDate;
+        return maxEndDate;
+    }
+
+    private void collect(int lo, int hi, LocalDateTime from, LocalDateTime to, List<EventCalendarResponse> result) {
+        if (lo > hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEndDates[mid].isBefore(from)) {  // 하위 트리의 모든 일정이 from 이전에 종료
+            return;
+        }
+
+        collect(lo, mid - 1, from, to, result);
+
+        EventCalendarResponse event = events[mid];
+        if (event.getEventDateTime().getStartDate().isAfter(to)) {  // 현재 노드와 오른쪽 하위 트리는 모두 to 이후에 시작
+            return;
+        }
+        if (!event.getEventDateTime().getEndDate().isBefore(from)) {
+            result.add(event);
+        }
+
+        collect(mid + 1, hi, from, to, result);
+    }
+}
@@ -0,0 +1,66 @@
+package org.mi.plannitybe.schedule.job;
+
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 데이터 점검/복구 job 결과
+ *
+ * @param checkedCount      점검한 대상(할일리스트, 일정) 수
+ * @param inconsistentCount 저장된 값이 올바르지 않은 대상 수
+ * @param differenceCount   올바른 값과 다르거나 없는 행 수 (대상 하나에 여러 행이 있을 수 있음)
+ * @param repairedCount     복구한 대상 수 (복구 모드가 아니면 0)
+ * @param samples           올바르지 않은 대상 (최대 SAMPLE_LIMIT개)
+ */
+public record ConsistencyReport<T>(long checkedCount, long inconsistentCount, long differenceCount,
+                                   long repairedCount, List<T> samples) {
+
+    public static final int SAMPLE_LIMIT = 100;
+
+    /**
+     * 점검 결과 기록 - 올바르지 않은 대상이 있으면 warn, 없으면 info
+     *
+     * @param checkName 로그에 표시할 점검 이름 (예: "Task closure check")
+     */
+    public void log(Logger log, String checkName) {
+        if (inconsistentCount > 0) {
+            log.warn("{} found inconsistencies - checked: {}, inconsistent: {}, differences: {}, repaired: {}, samples: {}",
+                    checkName, checkedCount, inconsistentCount, differenceCount, repairedCount, samples);
+        } else {
+            log.info("{} completed - checked: {}", checkName, checkedCount);
+        }
+    }
+
+    // 점검 중 결과 집계 (샘플은 최대 SAMPLE_LIMIT개만 보관)
+    static final class Counter<T> {
+
+        private long checkedCount;
+        private long inconsistentCount;
+        private long differenceCount;
+        private long repairedCount;
+        private final List<T> samples = new ArrayList<>();
+
+        void checked(long count) {
+            checkedCount += count;
+        }
+
+        void inconsistent(T sample, long differences) {
+            inconsistentCount++;
+            differenceCount += differences;
+            if (samples.size() < SAMPLE_LIMIT) {
+                samples.add(sample);
+            }
+        }
+
+        void repaired(long count) {
+            repairedCount += count;
+        }
+
+        ConsistencyReport<T> toReport() {
+            return new ConsistencyReport<>(checkedCount, inconsistentCount, differenceCount, repairedCount,
+                    List.copyOf(samples));
+        }
+    }
+}
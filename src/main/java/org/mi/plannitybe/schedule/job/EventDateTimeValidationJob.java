@@ -0,0 +1,194 @@
+package org.mi.plannitybe.schedule.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.schedule.cache.CalendarEventCache;
+import org.mi.plannitybe.schedule.cache.RecurringOccurrenceCache;
+import org.mi.plannitybe.schedule.domain.EventDateTime;
+import org.mi.plannitybe.schedule.dto.EventDateTimeRow;
+import org.mi.plannitybe.schedule.entity.Event;
+import org.mi.plannitybe.schedule.index.CalendarEventIntervalIndex;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저장된 일정 날짜 점검/복구 job
+ * <p>
+ * 캘린더 조회는 DB 값을 검증 없이 응답하므로({@link EventDateTime#ofTrusted}),
+ * 검증 규칙 도입 이전에 저장된 값 등 EventDateTime 조건을 만족하지 않는 일정은 이 job으로 따로 찾는다.
+ * 일정 테이블을 id 순으로 chunk 단위 조회하며 점검하고, 복구 모드에서는 가장 가까운 올바른 값으로 수정한다.
+ * <ul>
+ *   <li>시작/종료 날짜 중 하나만 있음: 없는 날짜를 있는 날짜로 채움</li>
+ *   <li>종료 날짜가 시작 날짜보다 과거: 종료 날짜를 시작 날짜로 변경</li>
+ *   <li>종일일정 조건 위반: 시작 날짜는 당일 자정, 종료 날짜는 다음 자정(최소 시작 다음 날)으로 변경</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class EventDateTimeValidationJob {
+
+    private final EventRepository eventRepository;
+    private final CalendarEventCache calendarEventCache;
+    private final CalendarEventIntervalIndex calendarEventIntervalIndex;
+    private final RecurringOccurrenceCache recurringOccurrenceCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+    private final boolean repair;
+
+    /**
+     * @param chunkSize 한 번에 조회하여 점검할 일정 수
+     * @param repair    예약 실행 시 복구 여부 (false면 점검 결과만 기록)
+     */
+    public EventDateTimeValidationJob(EventRepository eventRepository,
+                                      CalendarEventCache calendarEventCache,
+                                      CalendarEventIntervalIndex calendarEventIntervalIndex,
+                                      RecurringOccurrenceCache recurringOccurrenceCache,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${event.validation.chunk-size:1000}") int chunkSize,
+                                      @Value("${event.validation.repair:false}") boolean repair) {
+        this.eventRepository = eventRepository;
+        this.calendarEventCache = calendarEventCache;
+        this.calendarEventIntervalIndex = calendarEventIntervalIndex;
+        this.recurringOccurrenceCache = recurringOccurrenceCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.repair = repair;
+    }
+
+    @Scheduled(cron = "${event.validation.cron:-}")
+    public void scheduledRun() {
+        run(repair);
+    }
+
+    /**
+     * 전체 일정 점검
+     *
+     * @param repair 올바르지 않은 일정 복구 여부
+     * @return differenceCount는 inconsistentCount와 같음 (일정마다 한 행)
+     */
+    public ConsistencyReport<InvalidEvent> run(boolean repair) {
+        ConsistencyReport.Counter<InvalidEvent> counter = new ConsistencyReport.Counter<>();
+
+        Long lastEventId = 0L;
+        while (true) {
+            Long afterEventId = lastEventId;
+            List<EventDateTimeRow> rows = readOnlyTransactionTemplate.execute(
+                    status -> eventRepository.findDateTimeRowsAfter(afterEventId, Limit.of(chunkSize)));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+
+            List<InvalidEvent> invalidEvents = new ArrayList<>();
+            for (EventDateTimeRow row : rows) {
+                String reason = findViolation(row.startDate(), row.endDate(), row.isAllDay());
+                if (reason != null) {
+                    InvalidEvent invalidEvent = new InvalidEvent(row.eventId(), row.userId(),
+                            row.startDate(), row.endDate(), row.isAllDay(), reason);
+                    invalidEvents.add(invalidEvent);
+                    counter.inconsistent(invalidEvent, 1);
+                }
+            }
+            counter.checked(rows.size());
+
+            // 일정은 할일리스트처럼 잠글 상위 단위가 없으므로 chunk 단위 트랜잭션에서 일정마다 다시 읽어 확인 후 복구
+            if (repair && !invalidEvents.isEmpty()) {
+                Integer repaired = transactionTemplate.execute(status -> repairEvents(invalidEvents));
+                counter.repaired(repaired != null ? repaired : 0);
+            }
+
+            lastEventId = rows.get(rows.size() - 1).eventId();
+        }
+
+        ConsistencyReport<InvalidEvent> report = counter.toReport();
+        report.log(log, "Event date validation");
+        return report;
+    }
+
+    /**
+     * 저장된 날짜가 EventDateTime 조건을 만족하지 않는 이유 반환 (올바르면 null)
+     * 날짜가 모두 없는 일정은 날짜 없는 일정으로 간주
+     */
+    static String findViolation(LocalDateTime startDate, LocalDateTime endDate, Boolean isAllDay) {
+        if (startDate == null && endDate == null) {
+            return null;
+        }
+        if (startDate == null || endDate == null) {
+            return "시작 날짜와 종료 날짜 중 하나만 존재";
+        }
+        EventDateTime eventDateTime = EventDateTime.ofTrusted(startDate, endDate, isAllDay);
+        if (!eventDateTime.isValidDateCombination()) {
+            return "종료 날짜가 시작 날짜보다 과거";
+        }
+        if (!eventDateTime.isValidAllDayConditions()) {
+            return "종일일정 날짜 조건 위반";
+        }
+        return null;
+    }
+
+    // 올바르지 않은 날짜를 가장 가까운 올바른 값으로 변경
+    static EventDateTime repairedDateTime(LocalDateTime startDate, LocalDateTime endDate, Boolean isAllDay) {
+        LocalDateTime repairedStartDate = startDate != null ? startDate : endDate;
+        LocalDateTime repairedEndDate = endDate != null && !endDate.isBefore(repairedStartDate) ? endDate : repairedStartDate;
+
+        if (Boolean.TRUE.equals(isAllDay)) {
+            repairedStartDate = repairedStartDate.toLocalDate().atStartOfDay();
+            if (!repairedEndDate.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+                repairedEndDate = repairedEndDate.toLocalDate().plusDays(1).atStartOfDay();
+            }
+            if (!repairedEndDate.isAfter(repairedStartDate)) {
+                repairedEndDate = repairedStartDate.plusDays(1);
+            }
+        }
+        return EventDateTime.of(repairedStartDate, repairedEndDate, isAllDay);
+    }
+
+    // 점검 이후 변경되었을 수 있으므로 entity를 다시 읽어 확인 후 수정하고, 캐시/인덱스에 반영
+    private int repairEvents(List<InvalidEvent> invalidEvents) {
+        int repairedCount = 0;
+        for (InvalidEvent invalidEvent : invalidEvents) {
+            Event event = eventRepository.findById(invalidEvent.eventId()).orElse(null);
+            if (event == null
+                    || findViolation(event.getStartDate(), event.getEndDate(), event.getIsAllDay()) == null) {
+                continue;
+            }
+
+            LocalDateTime previousStartDate = event.getStartDate();
+            LocalDateTime previousEndDate = event.getEndDate();
+            event.repairDateTime(repairedDateTime(previousStartDate, previousEndDate, event.getIsAllDay()));  // 반복 일정의 제외 날짜 유지
+            log.info("Event date repaired - eventId: {}, reason: {}, before: {} ~ {}, after: {} ~ {}",
+                    event.getId(), invalidEvent.reason(), previousStartDate, previousEndDate,
+                    event.getStartDate(), event.getEndDate());
+
+            String userId = event.getUserId();
+            calendarEventIntervalIndex.upsert(userId, event);
+            calendarEventCache.evict(userId, previousStartDate, previousEndDate);
+            calendarEventCache.evict(userId, event.getStartDate(), event.getEndDate());
+            if (event.isRecurring()) {
+                recurringOccurrenceCache.evictSeries(userId, event.getId());
+            }
+            repairedCount++;
+        }
+        return repairedCount;
+    }
+
+    /**
+     * 날짜가 올바르지 않은 일정
+     *
+     * @param reason 올바르지 않은 이유
+     */
+    public record InvalidEvent(Long eventId, String userId, LocalDateTime startDate, LocalDateTime endDate,
+                               Boolean isAllDay, String reason) {
+    }
+}
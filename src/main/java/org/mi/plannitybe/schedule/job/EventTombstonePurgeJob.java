@@ -0,0 +1,47 @@
+package org.mi.plannitybe.schedule.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.schedule.repository.EventTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 일정 삭제 기록 정리 job
+ * <p>
+ * 보관 기간보다 오래된 syncToken은 EventSyncService가 거부하므로, 그 이전의 삭제 기록은 더 이상 전달할 일이 없다.
+ */
+@Slf4j
+@Component
+public class EventTombstonePurgeJob {
+
+    private final EventTombstoneRepository eventTombstoneRepository;
+    private final Duration tombstoneRetention;
+
+    /**
+     * @param tombstoneRetention 삭제 기록 보관 기간 (EventSyncService와 같은 값 사용)
+     */
+    public EventTombstonePurgeJob(EventTombstoneRepository eventTombstoneRepository,
+                                  @Value("${event.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.eventTombstoneRepository = eventTombstoneRepository;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    // 예약 실행 (event.sync.tombstone-purge-cron, 기본값 "-"는 실행하지 않음)
+    @Scheduled(cron = "${event.sync.tombstone-purge-cron:-}")
+    public void scheduledRun() {
+        run();
+    }
+
+    // 보관 기간이 지난 삭제 기록을 삭제하고 삭제한 건수 반환
+    @Transactional
+    public int run() {
+        int purgedCount = eventTombstoneRepository.deleteByDeletedAtBefore(LocalDateTime.now().minus(tombstoneRetention));
+        log.info("Event tombstone purge finished - purgedCount: {}", purgedCount);
+        return purgedCount;
+    }
+}
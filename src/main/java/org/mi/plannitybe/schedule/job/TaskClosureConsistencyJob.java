@@ -0,0 +1,125 @@
+package org.mi.plannitybe.schedule.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.schedule.domain.TaskHierarchy;
+import org.mi.plannitybe.schedule.entity.TaskClosure;
+import org.mi.plannitybe.schedule.entity.TaskList;
+import org.mi.plannitybe.schedule.repository.TaskClosureRepository;
+import org.mi.plannitybe.schedule.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 작업 계층 closure table 점검/복구 job
+ * <p>
+ * closure table은 TaskService가 작업 생성/이동/삭제 시 같은 트랜잭션에서 갱신하지만,
+ * 도입 이전 데이터나 서비스를 거치지 않은 변경으로 Task.mainTask 기준 계층과 달라질 수 있다.
+ * 할일리스트마다 (taskId, mainTaskId) 전체로 올바른 closure 행을 계산하여 저장된 행과 비교하고,
+ * 복구 모드에서는 해당 할일리스트의 closure 행을 다시 만든다 (할일리스트 순회, 잠금은 {@link TaskListConsistencyScanner}).
+ */
+@Slf4j
+@Component
+public class TaskClosureConsistencyJob {
+
+    private final TaskRepository taskRepository;
+    private final TaskClosureRepository taskClosureRepository;
+    private final TaskListConsistencyScanner scanner;
+    private final int chunkSize;
+    private final boolean repair;
+
+    /**
+     * @param chunkSize 한 번에 조회할 할일리스트 수
+     * @param repair    예약 실행 시 복구 여부 (false면 점검 결과만 기록)
+     */
+    public TaskClosureConsistencyJob(TaskRepository taskRepository,
+                                     TaskClosureRepository taskClosureRepository,
+                                     TaskListConsistencyScanner scanner,
+                                     @Value("${task.closure-check.chunk-size:100}") int chunkSize,
+                                     @Value("${task.closure-check.repair:false}") boolean repair) {
+        this.taskRepository = taskRepository;
+        this.taskClosureRepository = taskClosureRepository;
+        this.scanner = scanner;
+        this.chunkSize = chunkSize;
+        this.repair = repair;
+    }
+
+    @Scheduled(cron = "${task.closure-check.cron:-}")
+    public void scheduledRun() {
+        run(repair);
+    }
+
+    /**
+     * 전체 할일리스트의 closure table 점검
+     *
+     * @param repair closure 행이 다른 할일리스트 복구 여부
+     * @return differenceCount는 없거나 남아 있으면 안 되는 closure 행 수 (거리가 다른 행은 양쪽에 포함)
+     */
+    public ConsistencyReport<Long> run(boolean repair) {
+        ConsistencyReport<Long> report = scanner.scan(chunkSize, repair, this::compare, this::repair);
+        report.log(log, "Task closure check");
+        return report;
+    }
+
+    // 없거나 남아 있으면 안 되는 closure 행 수
+    private int compare(Long taskListId) {
+        ClosureDiff diff = diff(taskListId);
+        return diff.missing().size() + diff.stale().size();
+    }
+
+    // 잠근 뒤 다시 비교하고, 다르면 closure 행 전체를 다시 만듦
+    private boolean repair(TaskList lockedTaskList) {
+        Long taskListId = lockedTaskList.getId();
+        if (diff(taskListId).isConsistent()) {
+            return false;
+        }
+
+        taskClosureRepository.deleteByTaskListId(taskListId);
+        taskClosureRepository.insertAll(expectedRows(taskListId).stream()
+                .map(row -> new TaskClosure(row.ancestorId(), row.descendantId(), row.depth(), taskListId))
+                .toList());
+        log.info("Task closure rebuilt - taskListId: {}", taskListId);
+        return true;
+    }
+
+    // 할일리스트의 올바른 closure 행과 저장된 closure 행 비교
+    private ClosureDiff diff(Long taskListId) {
+        Set<ClosureRow> expected = expectedRows(taskListId);
+        Set<ClosureRow> actual = new HashSet<>();
+        for (TaskClosure closure : taskClosureRepository.findByTaskListId(taskListId)) {
+            actual.add(new ClosureRow(closure.getAncestorId(), closure.getDescendantId(), closure.getDepth()));
+        }
+
+        Set<ClosureRow> missing = new HashSet<>(expected);
+        missing.removeAll(actual);
+        Set<ClosureRow> stale = new HashSet<>(actual);
+        stale.removeAll(expected);
+        return new ClosureDiff(missing, stale);
+    }
+
+    // mainTask 기준의 closure 행 - 작업마다 자기 자신(거리 0)과 모든 상위 작업
+    private Set<ClosureRow> expectedRows(Long taskListId) {
+        TaskHierarchy hierarchy = TaskHierarchy.of(taskRepository.findParentRowsByTaskListId(taskListId));
+        Set<ClosureRow> rows = new HashSet<>();
+        for (Long taskId : hierarchy.taskIds()) {
+            rows.add(new ClosureRow(taskId, taskId, 0));
+            List<Long> ancestorIds = hierarchy.ancestorIds(taskId);
+            for (int i = 0; i < ancestorIds.size(); i++) {
+                rows.add(new ClosureRow(ancestorIds.get(i), taskId, i + 1));
+            }
+        }
+        return rows;
+    }
+
+    private record ClosureRow(Long ancestorId, Long descendantId, int depth) {
+    }
+
+    private record ClosureDiff(Set<ClosureRow> missing, Set<ClosureRow> stale) {
+
+        boolean isConsistent() {
+            return missing.isEmpty() && stale.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.mi.plannitybe.schedule.job;
+
+import org.mi.plannitybe.schedule.entity.TaskList;
+import org.mi.plannitybe.schedule.repository.TaskListRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * 할일리스트 단위 점검/복구 loop (TaskClosureConsistencyJob, TaskProgressRebuildJob 공용)
+ * <p>
+ * 할일리스트를 id 순으로 chunk 단위 조회하며, 할일리스트마다 읽기 전용 트랜잭션에서 저장된 값과 올바른 값을 비교한다.
+ * 복구 모드에서는 할일리스트마다 별도 트랜잭션에서 할일리스트를 잠근 뒤 복구하므로,
+ * 복구 중 실패해도 이전 할일리스트의 복구는 유지되고 잠금은 할일리스트 하나의 복구 동안만 유지된다.
+ */
+@Component
+public class TaskListConsistencyScanner {
+
+    private final TaskListRepository taskListRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public TaskListConsistencyScanner(TaskListRepository taskListRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.taskListRepository = taskListRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 전체 할일리스트 점검
+     *
+     * @param chunkSize 한 번에 조회할 할일리스트 수
+     * @param repair    올바르지 않은 할일리스트 복구 여부
+     * @param compare   할일리스트 ID -> 올바른 값과 다르거나 없는 행 수 (0이면 일치)
+     * @param repairer  잠근 할일리스트 복구, 복구했으면 true
+     *                  (점검 이후 변경되었을 수 있으므로 다시 비교하여 다른 경우에만 복구)
+     * @return 샘플은 올바르지 않은 할일리스트 ID
+     */
+    public ConsistencyReport<Long> scan(int chunkSize, boolean repair,
+                                        ToIntFunction<Long> compare, Predicate<TaskList> repairer) {
+        ConsistencyReport.Counter<Long> counter = new ConsistencyReport.Counter<>();
+
+        Long lastTaskListId = 0L;
+        while (true) {
+            Long afterTaskListId = lastTaskListId;
+            List<Long> taskListIds = readOnlyTransactionTemplate.execute(
+                    status -> taskListRepository.findIdsAfter(afterTaskListId, Limit.of(chunkSize)));
+            if (taskListIds == null || taskListIds.isEmpty()) {
+                break;
+            }
+
+            for (Long taskListId : taskListIds) {
+                Integer differences = readOnlyTransactionTemplate.execute(status -> compare.applyAsInt(taskListId));
+                counter.checked(1);
+                if (differences == null || differences == 0) {
+                    continue;
+                }
+
+                counter.inconsistent(taskListId, differences);
+                if (repair && Boolean.TRUE.equals(transactionTemplate.execute(status -> lockAndRepair(taskListId, repairer)))) {
+                    counter.repaired(1);
+                }
+            }
+
+            lastTaskListId = taskListIds.get(taskListIds.size() - 1);
+        }
+        return counter.toReport();
+    }
+
+    private boolean lockAndRepair(Long taskListId, Predicate<TaskList> repairer) {
+        Optional<TaskList> taskList = taskListRepository.findForUpdateById(taskListId);
+        return taskList.isPresent() && repairer.test(taskList.get());
+    }
+}
@@ -0,0 +1,153 @@
+package org.mi.plannitybe.schedule.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.schedule.domain.TaskHierarchy;
+import org.mi.plannitybe.schedule.dto.TaskParentRow;
+import org.mi.plannitybe.schedule.dto.TaskStatusRow;
+import org.mi.plannitybe.schedule.entity.TaskList;
+import org.mi.plannitybe.schedule.entity.TaskListProgress;
+import org.mi.plannitybe.schedule.entity.TaskProgress;
+import org.mi.plannitybe.schedule.entity.TaskStatusCounts;
+import org.mi.plannitybe.schedule.repository.TaskListProgressRepository;
+import org.mi.plannitybe.schedule.repository.TaskProgressRepository;
+import org.mi.plannitybe.schedule.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 작업 진행 현황 점검/재계산 job
+ * <p>
+ * 진행 현황(task_progress, task_list_progress)은 TaskService가 작업 생성/상태 변경/이동/삭제 시 증감으로만 갱신하므로,
+ * 서비스를 거치지 않은 변경이나 closure table이 어긋난 동안의 갱신으로 실제 값과 달라질 수 있다.
+ * 할일리스트마다 (taskId, mainTaskId, status) 전체로 올바른 값을 계산하여 저장된 값과 비교하고,
+ * 복구 모드에서는 다른 행만 다시 저장한다 (할일리스트 순회, 잠금은 {@link TaskListConsistencyScanner}).
+ * closure table이 아닌 mainTask 기준으로 계산하므로 TaskClosureConsistencyJob 이후에 실행한다.
+ */
+@Slf4j
+@Component
+public class TaskProgressRebuildJob {
+
+    private final TaskRepository taskRepository;
+    private final TaskProgressRepository taskProgressRepository;
+    private final TaskListProgressRepository taskListProgressRepository;
+    private final TaskListConsistencyScanner scanner;
+    private final int chunkSize;
+    private final boolean repair;
+
+    /**
+     * @param chunkSize 한 번에 조회할 할일리스트 수
+     * @param repair    예약 실행 시 복구 여부 (false면 점검 결과만 기록)
+     */
+    public TaskProgressRebuildJob(TaskRepository taskRepository,
+                                  TaskProgressRepository taskProgressRepository,
+                                  TaskListProgressRepository taskListProgressRepository,
+                                  TaskListConsistencyScanner scanner,
+                                  @Value("${task.progress-rebuild.chunk-size:100}") int chunkSize,
+                                  @Value("${task.progress-rebuild.repair:false}") boolean repair) {
+        this.taskRepository = taskRepository;
+        this.taskProgressRepository = taskProgressRepository;
+        this.taskListProgressRepository = taskListProgressRepository;
+        this.scanner = scanner;
+        this.chunkSize = chunkSize;
+        this.repair = repair;
+    }
+
+    @Scheduled(cron = "${task.progress-rebuild.cron:-}")
+    public void scheduledRun() {
+        run(repair);
+    }
+
+    /**
+     * 전체 할일리스트의 진행 현황 점검
+     *
+     * @param repair 진행 현황이 다른 할일리스트 재계산 여부
+     * @return differenceCount는 값이 다르거나 없는 진행 현황 행 수 (작업 행 + 할일리스트 행)
+     */
+    public ConsistencyReport<Long> run(boolean repair) {
+        ConsistencyReport<Long> report = scanner.scan(chunkSize, repair, this::compare, this::rebuild);
+        report.log(log, "Task progress check");
+        return report;
+    }
+
+    // 올바른 값과 다르거나 없는 진행 현황 행 수
+    private int compare(Long taskListId) {
+        ExpectedProgress expected = expectedProgress(taskListId);
+        Map<Long, TaskStatusCounts> stored = new HashMap<>();
+        for (TaskProgress progress : taskProgressRepository.findByTaskListId(taskListId)) {
+            stored.put(progress.getTaskId(), progress.getCounts());
+        }
+
+        int drifted = 0;
+        for (Map.Entry<Long, TaskStatusCounts> entry : expected.tasks().entrySet()) {
+            if (!entry.getValue().equals(stored.get(entry.getKey()))) {
+                drifted++;
+            }
+        }
+        TaskStatusCounts storedTaskList = taskListProgressRepository.findById(taskListId)
+                .map(TaskListProgress::getCounts).orElseGet(TaskStatusCounts::empty);
+        if (!expected.taskList().equals(storedTaskList)) {
+            drifted++;
+        }
+        return drifted;
+    }
+
+    // 잠근 뒤 다시 계산하고, 값이 다르거나 없는 행만 저장
+    private boolean rebuild(TaskList taskList) {
+        Long taskListId = taskList.getId();
+        ExpectedProgress expected = expectedProgress(taskListId);
+        Map<Long, TaskStatusCounts> missing = new HashMap<>(expected.tasks());
+        boolean rebuilt = false;
+        for (TaskProgress progress : taskProgressRepository.findByTaskListId(taskListId)) {
+            TaskStatusCounts counts = missing.remove(progress.getTaskId());
+            if (!progress.getCounts().equals(counts)) {
+                progress.updateCounts(counts);
+                rebuilt = true;
+            }
+        }
+        missing.forEach((taskId, counts) ->
+                taskProgressRepository.save(new TaskProgress(taskRepository.getReferenceById(taskId), counts)));
+        rebuilt |= !missing.isEmpty();
+
+        Optional<TaskListProgress> taskListProgress = taskListProgressRepository.findById(taskListId);
+        if (taskListProgress.isEmpty()) {
+            taskListProgressRepository.save(new TaskListProgress(taskList, expected.taskList()));
+            rebuilt = true;
+        } else if (!taskListProgress.get().getCounts().equals(expected.taskList())) {
+            taskListProgress.get().updateCounts(expected.taskList());
+            rebuilt = true;
+        }
+
+        if (rebuilt) {
+            log.info("Task progress rebuilt - taskListId: {}", taskListId);
+        }
+        return rebuilt;
+    }
+
+    // mainTask 기준의 진행 현황 - 작업마다 모든 상위 작업에 자신의 상태를 더함
+    private ExpectedProgress expectedProgress(Long taskListId) {
+        List<TaskStatusRow> rows = taskRepository.findStatusRowsByTaskListId(taskListId);
+        TaskHierarchy hierarchy = TaskHierarchy.of(rows.stream()
+                .map(row -> new TaskParentRow(row.taskId(), row.mainTaskId()))
+                .toList());
+
+        Map<Long, TaskStatusCounts> tasks = new HashMap<>(rows.size() * 2);
+        for (TaskStatusRow row : rows) {
+            tasks.put(row.taskId(), TaskStatusCounts.empty());
+        }
+        TaskStatusCounts taskList = TaskStatusCounts.empty();
+        for (TaskStatusRow row : rows) {
+            TaskStatusCounts counts = TaskStatusCounts.of(row.status());
+            taskList = taskList.plus(counts);
+            for (Long ancestorId : hierarchy.ancestorIds(row.taskId())) {
+                tasks.merge(ancestorId, counts, TaskStatusCounts::plus);
+            }
+        }
+        return new ExpectedProgress(tasks, taskList);
+    }
+
+    private record ExpectedProgress(Map<Long, TaskStatusCounts> tasks, TaskStatusCounts taskList) {
+    }
+}
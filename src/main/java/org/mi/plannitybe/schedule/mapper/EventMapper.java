@@ -1,27 +1,38 @@
 package org.mi.plannitybe.schedule.mapper;
 
 import org.mi.plannitybe.schedule.domain.EventDateTime;
+import org.mi.plannitybe.schedule.domain.RecurrenceRule;
 import org.mi.plannitybe.schedule.dto.CreateEventRequest;
 import org.mi.plannitybe.schedule.dto.EventResponse;
 import org.mi.plannitybe.schedule.entity.Event;
 import org.mi.plannitybe.schedule.entity.EventList;
 import org.mi.plannitybe.schedule.entity.EventTask;
-import org.mi.plannitybe.schedule.entity.Task;
 
+import java.util.HashSet;
 import java.util.stream.Collectors;
 
 public final class EventMapper {
     private EventMapper() {}
 
     public static Event toEntity(CreateEventRequest request, EventList eventList) {
+        return toEntity(request, eventList, null);  // userId는 저장 시 eventList의 소유자로 지정
+    }
+
+    // eventList 소유자 조회 없이 userId를 지정하여 생성 (일괄 생성 시 eventList 프록시 사용)
+    public static Event toEntity(CreateEventRequest request, EventList eventList, String userId) {
         EventDateTime eventDateTime = request.eventDateTime();
         return Event.builder()
                 .eventList(eventList)
+                .userId(userId)
                 .title(request.title())
                 .startDate(eventDateTime.getStartDate())
                 .endDate(eventDateTime.getEndDate())
                 .isAllDay(eventDateTime.getIsAllDay())
                 .description(request.description())
+                .recurrenceRule(request.recurrenceRule() == null
+                        ? null : RecurrenceRule.parse(request.recurrenceRule()).toString())  // 정규화된 형식으로 저장
+                .recurrenceExceptionDates(request.recurrenceRule() == null
+                        ? new HashSet<>() : new HashSet<>(request.recurrenceExceptionDates()))
                 .build();
     }
 
@@ -34,9 +45,10 @@ public final class EventMapper {
                 .description(event.getDescription())
                 .taskIds(
                         event.getEventTasks().stream()
-                                .map(EventTask::getTask)
-                                .map(Task::getId)
+                                .map(EventTask::getTaskId)
                                 .collect(Collectors.toList()))
+                .recurrenceRule(event.getRecurrenceRule())
+                .recurringEventId(event.getRecurringEventId())
                 .build();
     }
 }
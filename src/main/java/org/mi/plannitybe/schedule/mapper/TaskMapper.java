@@ -0,0 +1,66 @@
+package org.mi.plannitybe.schedule.mapper;
+
+import org.mi.plannitybe.schedule.dto.CreateTaskRequest;
+import org.mi.plannitybe.schedule.dto.TaskResponse;
+import org.mi.plannitybe.schedule.dto.TaskTreeNode;
+import org.mi.plannitybe.schedule.dto.TaskTreeRow;
+import org.mi.plannitybe.schedule.entity.Task;
+import org.mi.plannitybe.schedule.entity.TaskList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class TaskMapper {
+    private TaskMapper() {}
+
+    public static Task toEntity(CreateTaskRequest request, TaskList taskList, Task mainTask) {
+        return Task.builder()
+                .taskList(taskList)
+                .title(request.title())
+                .mainTask(mainTask)
+                .estimatedDuration(request.estimatedDuration())
+                .actualDuration(request.actualDuration())
+                .status(request.status())
+                .reminderDate(request.reminderDate())
+                .isAllDay(request.isAllDay())
+                .description(request.description())
+                .build();
+    }
+
+    public static TaskResponse toResponse(Task task) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .taskListId(task.getTaskList().getId())
+                .title(task.getTitle())
+                .mainTaskId(task.getMainTask() == null ? null : task.getMainTask().getId())  // 프록시 초기화 없이 id 반환
+                .estimatedDuration(task.getEstimatedDuration())
+                .actualDuration(task.getActualDuration())
+                .status(task.getStatus())
+                .reminderDate(task.getReminderDate())
+                .isAllDay(task.getIsAllDay())
+                .description(task.getDescription())
+                .build();
+    }
+
+    // 할일리스트 전체 작업 행을 트리로 조립 - 행 순서(생성 순서)대로 상위 작업의 subTasks에 추가
+    // 상위 작업이 목록에 없는 행은 최상위 작업으로 취급
+    public static List<TaskTreeNode> toTree(List<TaskTreeRow> rows) {
+        Map<Long, TaskTreeNode> nodes = new HashMap<>(rows.size() * 2);
+        for (TaskTreeRow row : rows) {
+            nodes.put(row.id(), TaskTreeNode.of(row));
+        }
+
+        List<TaskTreeNode> roots = new ArrayList<>();
+        for (TaskTreeRow row : rows) {
+            TaskTreeNode parent = row.mainTaskId() == null ? null : nodes.get(row.mainTaskId());
+            if (parent != null) {
+                parent.subTasks().add(nodes.get(row.id()));
+            } else {
+                roots.add(nodes.get(row.id()));
+            }
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,56 @@
+package org.mi.plannitybe.schedule.pagination;
+
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 캘린더 일정 keyset 페이지 조회의 커서 - 이전 페이지 마지막 일정의 (시작날짜, id)
+ * <p>
+ * 클라이언트에는 내용을 해석할 필요가 없는 continuation token(URL-safe Base64)으로 전달한다.
+ *
+ * @param startDate 이전 페이지 마지막 일정의 시작날짜
+ * @param eventId   이전 페이지 마지막 일정의 id
+ */
+public record CalendarCursor(LocalDateTime startDate, Long eventId) {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+
+    // 페이지의 마지막 일정으로 다음 페이지 커서 생성
+    public static CalendarCursor of(EventCalendarResponse event) {
+        return new CalendarCursor(event.getEventDateTime().getStartDate(), event.getEventId());
+    }
+
+    /**
+     * continuation token을 커서로 변환
+     *
+     * @throws InvalidCursorException token 형식이 올바르지 않은 경우
+     */
+    public static CalendarCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = value.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("지원하지 않는 token 형식입니다.");
+            }
+            return new CalendarCursor(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {  // Base64, 숫자 형식 오류 포함
+            throw new InvalidCursorException("token을 해석할 수 없습니다.", e);
+        }
+    }
+
+    public String encode() {
+        String value = VERSION + SEPARATOR + startDate + SEPARATOR + eventId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // event가 이 커서 이후((시작날짜, id) 순서상 뒤)에 오는지 여부
+    public boolean isBefore(EventCalendarResponse event) {
+        int compare = event.getEventDateTime().getStartDate().compareTo(startDate);
+        return compare > 0 || (compare == 0 && event.getEventId() > eventId);
+    }
+}
@@ -0,0 +1,79 @@
+package org.mi.plannitybe.schedule.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 일정 변경 동기화 token - 클라이언트가 마지막으로 받은 변경 사항의 위치
+ * <p>
+ * 생성/수정된 일정은 (수정일시, id), 삭제된 일정은 (삭제일시, id) 순서로 각각 전달하므로 두 커서를 함께 보관한다.
+ * 클라이언트에는 내용을 해석할 필요가 없는 token(URL-safe Base64)으로 전달한다.
+ *
+ * @param updatedAt      마지막으로 전달한 생성/수정 일정의 수정일시
+ * @param eventId        마지막으로 전달한 생성/수정 일정의 id
+ * @param deletedAt      마지막으로 전달한 삭제 일정의 삭제일시
+ * @param deletedEventId 마지막으로 전달한 삭제 일정의 id
+ */
+public record EventSyncToken(LocalDateTime updatedAt, Long eventId, LocalDateTime deletedAt, Long deletedEventId) {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * 첫 동기화 token - 모든 일정을 전달하고, 삭제 기록은 now 이후부터 전달 (첫 동기화 이전에 삭제된 일정은 받을 필요 없음)
+     */
+    public static EventSyncToken initial(LocalDateTime now) {
+        return new EventSyncToken(EPOCH, 0L, now, Long.MAX_VALUE);
+    }
+
+    /**
+     * token을 동기화 위치로 변환
+     *
+     * @throws InvalidCursorException token 형식이 올바르지 않은 경우
+     */
+    public static EventSyncToken decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = value.split("\\" + SEPARATOR, -1);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("지원하지 않는 token 형식입니다.");
+            }
+            return new EventSyncToken(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]),
+                    LocalDateTime.parse(parts[3]), Long.valueOf(parts[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {  // Base64, 숫자 형식 오류 포함
+            throw new InvalidCursorException("token을 해석할 수 없습니다.", e);
+        }
+    }
+
+    public String encode() {
+        String value = VERSION + SEPARATOR + updatedAt + SEPARATOR + eventId
+                + SEPARATOR + deletedAt + SEPARATOR + deletedEventId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public EventSyncToken withLastChanged(LocalDateTime updatedAt, Long eventId) {
+        return new EventSyncToken(updatedAt, eventId, deletedAt, deletedEventId);
+    }
+
+    public EventSyncToken withLastDeleted(LocalDateTime deletedAt, Long deletedEventId) {
+        return new EventSyncToken(updatedAt, eventId, deletedAt, deletedEventId);
+    }
+
+    /**
+     * until까지의 변경 사항을 모두 전달한 경우 두 커서를 until로 이동
+     * (변경이 없는 동안에도 삭제 커서가 앞으로 이동하여 삭제 기록 보관 기간이 지나지 않도록 함)
+     */
+    public EventSyncToken advanceTo(LocalDateTime until) {
+        EventSyncToken token = this;
+        if (updatedAt.isBefore(until)) {
+            token = token.withLastChanged(until, Long.MAX_VALUE);
+        }
+        if (deletedAt.isBefore(until)) {
+            token = token.withLastDeleted(until, Long.MAX_VALUE);
+        }
+        return token;
+    }
+}
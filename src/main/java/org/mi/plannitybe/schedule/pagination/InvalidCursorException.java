@@ -0,0 +1,15 @@
+package org.mi.plannitybe.schedule.pagination;
+
+/**
+ * 페이지 조회 continuation token 형식 오류
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
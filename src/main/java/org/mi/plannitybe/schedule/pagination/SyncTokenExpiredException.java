@@ -0,0 +1,11 @@
+package org.mi.plannitybe.schedule.pagination;
+
+/**
+ * 변경 동기화 token이 삭제 기록 보관 기간보다 오래된 경우 - 클라이언트는 전체 일정을 다시 받아야 함
+ */
+public class SyncTokenExpiredException extends RuntimeException {
+
+    public SyncTokenExpiredException(String message) {
+        super(message);
+    }
+}
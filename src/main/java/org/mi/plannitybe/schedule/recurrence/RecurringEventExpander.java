@@ -0,0 +1,57 @@
+package org.mi.plannitybe.schedule.recurrence;
+
+import org.mi.plannitybe.schedule.domain.RecurrenceRule;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.dto.RecurringEventRow;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 반복 일정을 조회 범위의 발생 일정으로 펼치는 유틸리티
+ * <p>
+ * 발생 시각은 RecurrenceRule의 iterator로 조회 범위 안에서만 계산하므로,
+ * 종료 조건이 없는 반복 일정도 조회 범위 밖의 발생 일정은 만들지 않는다.
+ */
+public final class RecurringEventExpander {
+
+    private RecurringEventExpander() {}
+
+    /**
+     * from ~ to 범위와 겹치는 발생 일정(시작날짜 <= to, 종료날짜 >= from)을 시작날짜 순으로 반환
+     *
+     * @param exceptionDates 제외할 발생 일정의 시작 날짜
+     */
+    public static List<EventCalendarResponse> expand(RecurringEventRow series, Set<LocalDateTime> exceptionDates,
+                                                     LocalDateTime from, LocalDateTime to) {
+        List<EventCalendarResponse> occurrences = new ArrayList<>();
+        expand(series, RecurrenceRule.parse(series.recurrenceRule()), exceptionDates, from, to, occurrences);
+        return occurrences;
+    }
+
+    /**
+     * 이미 파싱한 규칙으로 발생 일정을 result에 추가
+     */
+    public static void expand(RecurringEventRow series, RecurrenceRule rule, Set<LocalDateTime> exceptionDates,
+                              LocalDateTime from, LocalDateTime to, List<EventCalendarResponse> result) {
+        Duration duration = Duration.between(series.startDate(), series.endDate());
+
+        // 종료날짜 >= from 인 발생 일정은 시작날짜 >= from - 기간
+        Iterator<LocalDateTime> starts = rule.occurrences(series.startDate(), from.minus(duration));
+        while (starts.hasNext()) {
+            LocalDateTime start = starts.next();
+            if (start.isAfter(to)) {
+                break;
+            }
+            if (exceptionDates.contains(start)) {
+                continue;
+            }
+            result.add(new EventCalendarResponse(series.eventId(), series.eventListId(), series.title(),
+                    start, start.plus(duration), series.isAllDay(), true));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.mi.plannitybe.schedule.recurrence;
+
+import org.mi.plannitybe.schedule.domain.RecurrenceRule;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.dto.RecurringEventRow;
+import org.mi.plannitybe.schedule.pagination.CalendarCursor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 여러 반복 일정의 발생 일정을 캘린더 순서(시작날짜, id)로 하나씩 반환하는 iterator
+ * <p>
+ * 반복 일정마다 발생 시각 iterator를 두고 다음 발생 일정을 우선순위 큐로 병합하므로,
+ * 메모리에는 반복 일정당 발생 일정 하나만 두고 사용한 만큼만 계산한다 (조회 범위 전체를 펼치지 않음).
+ * 커서를 지정하면 커서 이후의 발생 일정부터 계산한다.
+ */
+public final class RecurringOccurrenceIterator implements Iterator<EventCalendarResponse> {
+
+    private static final Comparator<EventCalendarResponse> CALENDAR_ORDER =
+            Comparator.comparing((EventCalendarResponse e) -> e.getEventDateTime().getStartDate())
+                    .thenComparing(EventCalendarResponse::getEventId);
+
+    private final PriorityQueue<SeriesOccurrences> queue =
+            new PriorityQueue<>(Comparator.comparing((SeriesOccurrences s) -> s.next, CALENDAR_ORDER));
+
+    /**
+     * @param series         from ~ to 범위에 발생 일정이 있을 수 있는 반복 일정 목록
+     * @param exceptionDates 반복 일정 id별 제외할 발생 일정의 시작 날짜
+     * @param after          이 커서 이후의 발생 일정만 반환 (null이면 처음부터)
+     */
+    public RecurringOccurrenceIterator(List<RecurringEventRow> series, Map<Long, Set<LocalDateTime>> exceptionDates,
+                                       LocalDateTime from, LocalDateTime to, CalendarCursor after) {
+        for (RecurringEventRow row : series) {
+            SeriesOccurrences occurrences = new SeriesOccurrences(row,
+                    exceptionDates.getOrDefault(row.eventId(), Set.of()), from, to, after);
+            if (occurrences.advance()) {
+                queue.add(occurrences);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !queue.isEmpty();
+    }
+
+    @Override
+    public EventCalendarResponse next() {
+        SeriesOccurrences occurrences = queue.poll();
+        if (occurrences == null) {
+            throw new NoSuchElementException();
+        }
+        EventCalendarResponse next = occurrences.next;
+        if (occurrences.advance()) {
+            queue.add(occurrences);  // 다음 발생 일정 기준으로 다시 정렬
+        }
+        return next;
+    }
+
+    // 반복 일정 하나의 발생 일정 - next는 아직 반환하지 않은 다음 발생 일정
+    private static final class SeriesOccurrences {
+
+        private final RecurringEventRow series;
+        private final Set<LocalDateTime> exceptionDates;
+        private final LocalDateTime to;
+        private final CalendarCursor after;
+        private final Duration duration;
+        private final Iterator<LocalDateTime> starts;
+        private EventCalendarResponse next;
+
+        private SeriesOccurrences(RecurringEventRow series, Set<LocalDateTime> exceptionDates,
+                                  LocalDateTime from, LocalDateTime to, CalendarCursor after) {
+            this.series = series;
+            this.exceptionDates = exceptionDates;
+            this.to = to;
+            this.after = after;
+            this.duration = Duration.between(series.startDate(), series.endDate());
+
+            // 종료날짜 >= from 인 발생 일정은 시작날짜 >= from - 기간, 커서 이후의 발생 일정은 시작날짜 >= 커서 시작날짜
+            LocalDateTime lowerBound = from.minus(duration);
+            if (after != null && after.startDate().isAfter(lowerBound)) {
+                lowerBound = after.startDate();
+            }
+            this.starts = RecurrenceRule.parse(series.recurrenceRule()).occurrences(series.startDate(), lowerBound);
+        }
+
+        // 다음 발생 일정으로 이동, 조회 범위를 벗어나면 false
+        private boolean advance() {
+            while (starts.hasNext()) {
+                LocalDateTime start = starts.next();
+                if (start.isAfter(to)) {
+                    break;
+                }
+                if (exceptionDates.contains(start)) {
+                    continue;
+                }
+                EventCalendarResponse occurrence = new EventCalendarResponse(series.eventId(), series.eventListId(),
+                        series.title(), start, start.plus(duration), series.isAllDay(), true);
+                if (after == null || after.isBefore(occurrence)) {  // 커서와 시작날짜가 같으면 id로 비교
+                    next = occurrence;
+                    return true;
+                }
+            }
+            next = null;
+            return false;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface EventListRepository extends JpaRepository<EventList, Long> {
 
@@ -24,4 +25,7 @@ public interface EventListRepository extends JpaRepository<EventList, Long> {
     */
 
     List<EventList> findByUserId(String userId);
+
+    // user의 기본 eventList 조회 (일정 가져오기 시 eventList를 지정하지 않은 경우 사용)
+    Optional<EventList> findFirstByUserIdAndIsDefaultTrue(String userId);
 }
@@ -1,23 +1,64 @@
 package org.mi.plannitybe.schedule.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.dto.EventDateTimeRow;
+import org.mi.plannitybe.schedule.dto.EventDensityRow;
+import org.mi.plannitybe.schedule.dto.EventExportRow;
+import org.mi.plannitybe.schedule.dto.EventSyncRow;
+import org.mi.plannitybe.schedule.dto.RecurrenceExceptionRow;
+import org.mi.plannitybe.schedule.dto.RecurringEventRow;
 import org.mi.plannitybe.schedule.entity.Event;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
     Optional<Event> findTopByOrderByIdDesc();
 
+    // eventId로 event를 eventList, eventTask와 함께 한 번에 조회 (소유자 검증 및 상세 조회용)
+    @Query("SELECT e " +
+           "FROM Event e " +
+           "JOIN FETCH e.eventList el " +
+           "LEFT JOIN FETCH e.eventTasks et " +
+           "WHERE e.id = :eventId")
+    Optional<Event> findWithEventListAndEventTasksById(@Param("eventId") Long eventId);
+
+    // userId 소유의 event 행만 쓰기 잠금으로 조회 (SELECT ... FOR UPDATE) - 같은 event의 task 연결 변경을 직렬화하여
+    // 커밋된 연결 상태를 기준으로 비교하도록 함 (event_list, event_task 행은 잠그지 않음)
+    // 소유자 조건을 잠금 조건에 포함하여 다른 사용자의 event는 잠그지 않음 (존재하지 않거나 소유자가 다르면 빈 결과)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :eventId AND e.userId = :userId")
+    Optional<Event> findForUpdateByIdAndUserId(@Param("eventId") Long eventId, @Param("userId") String userId);
+
+    /*
+    <JPQL 실행구문>
+    select e1_0.id, ..., el1_0.id, el1_0.user_id, ..., et1_0.id, et1_0.task_id, ...
+    from event e1_0
+    join event_list el1_0 on el1_0.id=e1_0.event_list_id
+    left join event_task et1_0 on e1_0.id=et1_0.event_id
+    where e1_0.id=?
+
+    -> event_list.user_id, event_task.task_id 컬럼이 함께 조회되므로
+       event.getEventList().getUser().getId()와 eventTask.getTask().getId()는 프록시 초기화 없이 추가 쿼리 없이 반환
+    */
+
     @Query("SELECT new org.mi.plannitybe.schedule.dto.EventCalendarResponse(" +
-           "e.id, el.id, e.title, e.startDate, e.endDate, e.isAllDay) " +
+           "e.id, e.eventList.id, e.title, e.startDate, e.endDate, e.isAllDay) " +
            "FROM Event e " +
-           "JOIN e.eventList el " +
-           "WHERE el.user.id = :userId " +
+           "WHERE e.userId = :userId " +
+           "AND e.recurrenceRule IS NULL " +
            "AND e.startDate IS NOT NULL " +
            "AND e.endDate IS NOT NULL " +
            "AND e.startDate <= :to " +
@@ -26,4 +67,211 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     List<EventCalendarResponse> findEventsByUserIdAndDateRange(@Param("userId") String userId,
                                                               @Param("from") LocalDateTime from,
                                                               @Param("to") LocalDateTime to);
+
+    // findEventsByUserIdAndDateRange와 같은 조건/순서로 한 행씩 조회 - 캘린더 JSON 스트리밍 응답용
+    // 결과를 모두 메모리에 올리지 않도록 fetch size 단위로 읽음 (MySQL은 URL에 useCursorFetch=true 필요)
+    // 반환된 Stream은 트랜잭션 안에서 사용 후 반드시 close
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.EventCalendarResponse(" +
+           "e.id, e.eventList.id, e.title, e.startDate, e.endDate, e.isAllDay) " +
+           "FROM Event e " +
+           "WHERE e.userId = :userId " +
+           "AND e.recurrenceRule IS NULL " +
+           "AND e.startDate IS NOT NULL " +
+           "AND e.endDate IS NOT NULL " +
+           "AND e.startDate <= :to " +
+           "AND e.endDate >= :from " +
+           "ORDER BY e.startDate ASC, e.id ASC")
+    Stream<EventCalendarResponse> streamEventsByUserIdAndDateRange(@Param("userId") String userId,
+                                                                   @Param("from") LocalDateTime from,
+                                                                   @Param("to") LocalDateTime to);
+
+    // user의 날짜가 있는 반복하지 않는 event 전체 조회 - 사용자별 interval tree 인덱스 생성용
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.EventCalendarResponse(" +
+           "e.id, e.eventList.id, e.title, e.startDate, e.endDate, e.isAllDay) " +
+           "FROM Event e " +
+           "WHERE e.userId = :userId " +
+           "AND e.recurrenceRule IS NULL " +
+           "AND e.startDate IS NOT NULL " +
+           "AND e.endDate IS NOT NULL")
+    List<EventCalendarResponse> findCalendarEventsByUserId(@Param("userId") String userId);
+
+    @Query("SELECT COUNT(e) " +
+           "FROM Event e " +
+           "WHERE e.userId = :userId " +
+           "AND e.recurrenceRule IS NULL " +
+           "AND e.startDate IS NOT NULL " +
+           "AND e.endDate IS NOT NULL")
+    long countCalendarEventsByUserId(@Param("userId") String userId);
+
+    /*
+    <JPQL 실행구문>
+    select e1_0.id, e1_0.event_list_id, e1_0.title, e1_0.start_date, e1_0.end_date, e1_0.is_all_day
+    from event e1_0
+    where e1_0.user_id=? and e1_0.recurrence_rule is null and ... and e1_0.start_date<=? and e1_0.end_date>=?
+    order by e1_0.start_date, e1_0.id
+
+    -> 비정규화한 event.user_id로 event_list 조인 없이 조회
+       idx_event_user_start(user_id, start_date, id) 인덱스로 user_id 동등 + start_date 범위 스캔,
+       정렬(start_date, id)은 인덱스 순서로 처리되어 filesort 없음, end_date 조건은 읽은 행에서 필터링
+       반복 일정(recurrence_rule이 있는 event)은 findRecurringEventsByUserIdAndDateRange로 따로 조회하여 발생 일정으로 펼침
+    */
+
+    // user의 반복하지 않는 event를 from ~ to 범위에서 시작날짜, id 순으로 limit개 조회 - 페이지 조회의 첫 페이지
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.EventCalendarResponse(" +
+           "e.id, e.eventList.id, e.title, e.startDate, e.endDate, e.isAllDay) " +
+           "FROM Event e " +
+           "WHERE e.userId = :userId " +
+           "AND e.recurrenceRule IS NULL " +
+           "AND e.startDate IS NOT NULL " +
+           "AND e.endDate IS NOT NULL " +
+           "AND e.startDate <= :to " +
+           "AND e.endDate >= :from " +
+           "ORDER BY e.startDate ASC, e.id ASC")
+    List<EventCalendarResponse> findEventPageByUserIdAndDateRange(@Param("userId") String userId,
+                                                                 @Param("from") LocalDateTime from,
+                                                                 @Param("to") LocalDateTime to,
+                                                                 Limit limit);
+
+    // 커서((시작날짜, id)) 이후의 event를 limit개 조회 - 페이지 조회의 다음 페이지 (keyset pagination)
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.EventCalendarResponse(" +
+           "e.id, e.eventList.id, e.title, e.startDate, e.endDate, e.isAllDay) " +
+           "FROM Event e " +
+           "WHERE e.userId = :userId " +
+           "AND e.recurrenceRule IS NULL " +
+           "AND e.startDate IS NOT NULL " +
+           "AND e.endDate IS NOT NULL " +
+           "AND e.startDate <= :to " +
+           "AND e.endDate >= :from " +
+           "AND e.startDate >= :cursorStartDate " +
+           "AND (e.startDate > :cursorStartDate OR e.id > :cursorEventId) " +
+           "ORDER BY e.startDate ASC, e.id ASC")
+    List<EventCalendarResponse> findEventPageByUserIdAndDateRangeAfter(@Param("userId") String userId,
+                                                                      @Param("from") LocalDateTime from,
+                                                                      @Param("to") LocalDateTime to,
+                                                                      @Param("cursorStartDate") LocalDateTime cursorStartDate,
+                                                                      @Param("cursorEventId") Long cursorEventId,
+                                                                      Limit limit);
+
+    /*
+    <JPQL 실행구문>
+    select ... from event e1_0
+    where e1_0.user_id=? and ... and e1_0.start_date<=? and e1_0.end_date>=?
+      and e1_0.start_date>=? and (e1_0.start_date>? or e1_0.id>?)
+    order by e1_0.start_date, e1_0.id
+    fetch first ? rows only
+
+    -> idx_event_user_start(user_id, start_date, id) 인덱스에서 user_id 동등 + start_date >= 커서 ~ to 범위 스캔을 시작하고
+       정렬이 인덱스 순서와 같으므로 end_date 조건을 만족하는 행을 limit개 읽으면 멈춤 - 페이지가 뒤로 갈수록 느려지는 offset 방식과 달리 페이지마다 비용 일정
+    */
+
+    // from ~ to 범위와 겹치는 user의 반복하지 않는 event를 시작일, 종료일, 종일일정 여부별로 묶어 개수 조회 - 일정 밀도 조회용
+    // 여러 날에 걸친 일정을 날짜별로 나누는 것은 EventDensityService에서 처리 (같은 기간의 일정은 한 행으로 합쳐짐)
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.EventDensityRow(" +
+           "CAST(e.startDate AS LocalDate), CAST(e.endDate AS LocalDate), e.isAllDay, COUNT(e)) " +
+           "FROM Event e " +
+           "WHERE e.userId = :userId " +
+           "AND e.recurrenceRule IS NULL " +
+           "AND e.startDate IS NOT NULL " +
+           "AND e.endDate IS NOT NULL " +
+           "AND e.startDate <= :to " +
+           "AND e.endDate >= :from " +
+           "GROUP BY CAST(e.startDate AS LocalDate), CAST(e.endDate AS LocalDate), e.isAllDay")
+    List<EventDensityRow> countEventsByUserIdAndDateRangeGroupByDay(@Param("userId") String userId,
+                                                                   @Param("from") LocalDateTime from,
+                                                                   @Param("to") LocalDateTime to);
+
+    /*
+    <JPQL 실행구문>
+    select cast(e1_0.start_date as date), cast(e1_0.end_date as date), e1_0.is_all_day, count(e1_0.id)
+    from event e1_0
+    where e1_0.user_id=? and ... and e1_0.start_date<=? and e1_0.end_date>=?
+    group by cast(e1_0.start_date as date), cast(e1_0.end_date as date), e1_0.is_all_day
+
+    -> idx_event_user_start 인덱스 범위 스캔으로 일정 행을 애플리케이션에 전달하지 않고 DB에서 집계
+       결과 행 수는 일정 수가 아니라 (시작일, 종료일) 조합 수로 제한됨
+    */
+
+    // 커서((수정일시, id)) 이후 until까지 생성/수정된 user의 event를 수정일시, id 순으로 limit개 조회 - 변경 동기화용
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.EventSyncRow(" +
+           "e.id, e.eventList.id, e.title, e.startDate, e.endDate, e.isAllDay, e.recurrenceRule, e.updatedAt) " +
+           "FROM Event e " +
+           "WHERE e.userId = :userId " +
+           "AND e.updatedAt >= :cursorUpdatedAt " +
+           "AND (e.updatedAt > :cursorUpdatedAt OR e.id > :cursorEventId) " +
+           "AND e.updatedAt <= :until " +
+           "ORDER BY e.updatedAt ASC, e.id ASC")
+    List<EventSyncRow> findSyncRowsAfter(@Param("userId") String userId,
+                                         @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                         @Param("cursorEventId") Long cursorEventId,
+                                         @Param("until") LocalDateTime until,
+                                         Limit limit);
+
+    /*
+    <JPQL 실행구문>
+    select e1_0.id, e1_0.event_list_id, ..., e1_0.updated_at
+    from event e1_0
+    where e1_0.user_id=? and e1_0.updated_at>=? and (e1_0.updated_at>? or e1_0.id>?) and e1_0.updated_at<=?
+    order by e1_0.updated_at, e1_0.id
+    fetch first ? rows only
+
+    -> idx_event_user_updated(user_id, updated_at) 인덱스에서 user_id 동등 + updated_at 범위 스캔,
+       정렬은 인덱스 순서(+ PK)로 처리되어 변경된 일정 수만큼만 읽음
+    */
+
+    // user의 반복 일정 중 from ~ to 범위에 발생 일정이 있을 수 있는 일정 조회 (첫 발생 일정이 to 이전에 시작하고, 반복이 from 이후에 끝남)
+    // idx_event_user_recurrence(user_id, recurrence_rule, recurrence_end_date) 인덱스에서 user_id 동등 + recurrence_rule IS NOT NULL 범위 스캔
+    // -> 반복하지 않는 일정(recurrence_rule NULL)은 읽지 않고, 반복 종료 날짜 조건은 인덱스에서 확인(ICP), 정렬은 반복 일정 수만큼만 수행
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.RecurringEventRow(" +
+           "e.id, e.eventList.id, e.title, e.startDate, e.endDate, e.isAllDay, e.recurrenceRule, e.updatedAt) " +
+           "FROM Event e " +
+           "WHERE e.userId = :userId " +
+           "AND e.recurrenceRule IS NOT NULL " +
+           "AND e.startDate IS NOT NULL " +
+           "AND e.endDate IS NOT NULL " +
+           "AND e.startDate <= :to " +
+           "AND (e.recurrenceEndDate IS NULL OR e.recurrenceEndDate >= :from) " +
+           "ORDER BY e.id ASC")
+    List<RecurringEventRow> findRecurringEventsByUserIdAndDateRange(@Param("userId") String userId,
+                                                                    @Param("from") LocalDateTime from,
+                                                                    @Param("to") LocalDateTime to);
+
+    // 반복 일정들의 제외 날짜를 한 번에 조회
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.RecurrenceExceptionRow(e.id, d) " +
+           "FROM Event e " +
+           "JOIN e.recurrenceExceptionDates d " +
+           "WHERE e.id IN :eventIds")
+    List<RecurrenceExceptionRow> findRecurrenceExceptionsByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    // 반복 일정의 발생 일정을 변경하여 만든 일정 조회 (반복 일정 삭제 시 함께 삭제)
+    List<Event> findByRecurringEventId(Long recurringEventId);
+
+    // user의 날짜가 있는 event를 id 순으로 한 행씩 조회 - 일정 내보내기용 (eventList, 기간 조건은 선택)
+    // 반복 일정은 첫 발생 일정이 아니라 반복 기간(첫 발생 일정 시작 ~ 반복 종료 날짜)으로 기간 조건 확인
+    // 결과를 모두 메모리에 올리지 않도록 fetch size 단위로 읽음 (MySQL은 URL에 useCursorFetch=true 필요)
+    // 반환된 Stream은 트랜잭션 안에서 사용 후 반드시 close
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.EventExportRow(" +
+           "e.id, e.title, e.startDate, e.endDate, e.isAllDay, e.description, e.recurrenceRule, e.updatedAt) " +
+           "FROM Event e " +
+           "WHERE e.userId = :userId " +
+           "AND (:eventListId IS NULL OR e.eventList.id = :eventListId) " +
+           "AND e.startDate IS NOT NULL " +
+           "AND e.endDate IS NOT NULL " +
+           "AND (:to IS NULL OR e.startDate <= :to) " +
+           "AND (:from IS NULL OR e.endDate >= :from " +
+           "     OR (e.recurrenceRule IS NOT NULL AND (e.recurrenceEndDate IS NULL OR e.recurrenceEndDate >= :from))) " +
+           "ORDER BY e.id ASC")
+    Stream<EventExportRow> streamExportRows(@Param("userId") String userId,
+                                            @Param("eventListId") Long eventListId,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to);
+
+    // id가 lastEventId보다 큰 일정의 저장된 날짜를 id 순으로 limit개 조회 - 일정 날짜 점검 job용 (PK 범위 스캔)
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.EventDateTimeRow(" +
+           "e.id, e.userId, e.startDate, e.endDate, e.isAllDay) " +
+           "FROM Event e " +
+           "WHERE e.id > :lastEventId " +
+           "ORDER BY e.id ASC")
+    List<EventDateTimeRow> findDateTimeRowsAfter(@Param("lastEventId") Long lastEventId, Limit limit);
 }
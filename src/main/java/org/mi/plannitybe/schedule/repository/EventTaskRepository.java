@@ -0,0 +1,33 @@
+package org.mi.plannitybe.schedule.repository;
+
+import org.mi.plannitybe.schedule.entity.EventTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface EventTaskRepository extends JpaRepository<EventTask, Long>, EventTaskRepositoryCustom {
+
+    // event의 task 연결 중 taskId 목록에 해당하는 연결을 한 번에 삭제 (영속성 컨텍스트의 Event.eventTasks는 호출하는 쪽에서 맞춤)
+    @Modifying
+    @Query("DELETE FROM EventTask et " +
+           "WHERE et.event.id = :eventId " +
+           "AND et.taskId IN :taskIds")
+    int deleteByEventIdAndTaskIdIn(@Param("eventId") Long eventId, @Param("taskIds") Collection<Long> taskIds);
+
+    /*
+    <JPQL 실행구문>
+    delete from event_task et1_0
+    where et1_0.event_id=? and et1_0.task_id in (?, ?, ...)
+
+    -> 삭제할 연결 수와 관계없이 한 번의 delete로 처리 (orphanRemoval처럼 EventTask id별 delete를 실행하지 않음)
+    */
+
+    // taskId 목록에 연결된 event 연결을 한 번에 삭제 (task 삭제 전 FK 정리용)
+    @Modifying
+    @Query("DELETE FROM EventTask et " +
+           "WHERE et.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+}
@@ -0,0 +1,13 @@
+package org.mi.plannitybe.schedule.repository;
+
+import org.mi.plannitybe.schedule.entity.EventTask;
+
+import java.util.Collection;
+
+public interface EventTaskRepositoryCustom {
+
+    /**
+     * 새 EventTask 목록을 하나의 JDBC 배치로 저장 (MySQL은 URL에 rewriteBatchedStatements=true 설정 시 한 번의 multi-row insert)
+     */
+    void insertAll(Collection<EventTask> eventTasks);
+}
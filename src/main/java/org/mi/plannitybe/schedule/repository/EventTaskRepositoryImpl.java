@@ -0,0 +1,38 @@
+package org.mi.plannitybe.schedule.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.mi.plannitybe.schedule.entity.EventTask;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+public class EventTaskRepositoryImpl implements EventTaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 대기 중인 변경을 먼저 flush한 뒤, 이 세션의 JDBC 배치 크기를 저장할 개수로 늘려 insert만 한 번의 배치로 실행
+    // taskId 순으로 저장하여 동시에 insert하는 트랜잭션들이 (event_id, task_id) unique 인덱스 잠금을 같은 순서로 잡도록 함 (교착 상태 방지)
+    @Override
+    public void insertAll(Collection<EventTask> eventTasks) {
+        if (eventTasks.isEmpty()) {
+            return;
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        entityManager.flush();
+
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(eventTasks.size());
+        try {
+            eventTasks.stream()
+                    .sorted(Comparator.comparing(EventTask::getTaskId))
+                    .forEach(entityManager::persist);
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.mi.plannitybe.schedule.repository;
+
+import org.mi.plannitybe.schedule.entity.EventTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventTombstoneRepository extends JpaRepository<EventTombstone, Long> {
+
+    // 커서((삭제일시, eventId)) 이후 until까지 삭제된 user의 일정을 삭제 순으로 limit개 조회 - 변경 동기화용
+    @Query("SELECT t " +
+           "FROM EventTombstone t " +
+           "WHERE t.userId = :userId " +
+           "AND t.deletedAt >= :cursorDeletedAt " +
+           "AND (t.deletedAt > :cursorDeletedAt OR t.eventId > :cursorEventId) " +
+           "AND t.deletedAt <= :until " +
+           "ORDER BY t.deletedAt ASC, t.eventId ASC")
+    List<EventTombstone> findTombstonesAfter(@Param("userId") String userId,
+                                             @Param("cursorDeletedAt") LocalDateTime cursorDeletedAt,
+                                             @Param("cursorEventId") Long cursorEventId,
+                                             @Param("until") LocalDateTime until,
+                                             Limit limit);
+
+    // 보관 기간이 지난 삭제 기록 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM EventTombstone t WHERE t.deletedAt < :deletedBefore")
+    int deleteByDeletedAtBefore(@Param("deletedBefore") LocalDateTime deletedBefore);
+}
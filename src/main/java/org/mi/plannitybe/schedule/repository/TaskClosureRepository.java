@@ -0,0 +1,78 @@
+package org.mi.plannitybe.schedule.repository;
+
+import org.mi.plannitybe.schedule.entity.TaskClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosure.Key>, TaskClosureRepositoryCustom {
+
+    // task의 모든 상위 작업 closure 행 (자기 자신 포함) - 새 하위 작업의 closure 행 생성용
+    List<TaskClosure> findByDescendantId(Long descendantId);
+
+    // task와 모든 하위 작업의 id - PK (ancestor_id, descendant_id) 범위 스캔
+    @Query("SELECT c.descendantId " +
+           "FROM TaskClosure c " +
+           "WHERE c.ancestorId = :taskId")
+    List<Long> findSubtreeIds(@Param("taskId") Long taskId);
+
+    // task의 모든 상위 작업 id (자기 자신 제외)
+    @Query("SELECT c.ancestorId " +
+           "FROM TaskClosure c " +
+           "WHERE c.descendantId = :taskId " +
+           "AND c.depth > 0")
+    List<Long> findAncestorIds(@Param("taskId") Long taskId);
+
+    // task의 하위 작업 수 (자기 자신 제외)
+    @Query("SELECT COUNT(c) " +
+           "FROM TaskClosure c " +
+           "WHERE c.ancestorId = :taskId " +
+           "AND c.depth > 0")
+    long countDescendants(@Param("taskId") Long taskId);
+
+    // descendantId가 ancestorId 자신이거나 하위 작업인지 확인 (PK 단건 조회)
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    List<TaskClosure> findByTaskListId(Long taskListId);
+
+    // 이동하는 subtree와 기존 상위 작업 사이의 행 삭제 (subtree 내부의 행은 유지)
+    @Modifying
+    @Query("DELETE FROM TaskClosure c " +
+           "WHERE c.descendantId IN :subtreeIds " +
+           "AND c.ancestorId IN :ancestorIds")
+    int deleteLinks(@Param("subtreeIds") Collection<Long> subtreeIds, @Param("ancestorIds") Collection<Long> ancestorIds);
+
+    // 새 상위 작업의 모든 상위 작업(자신 포함) x 이동한 subtree의 모든 작업 행 추가
+    @Modifying
+    @Query("INSERT INTO TaskClosure (ancestorId, descendantId, depth, taskListId) " +
+           "SELECT a.ancestorId, d.descendantId, a.depth + d.depth + 1, d.taskListId " +
+           "FROM TaskClosure a, TaskClosure d " +
+           "WHERE a.descendantId = :mainTaskId " +
+           "AND d.ancestorId = :taskId")
+    int insertSubtreeLinks(@Param("taskId") Long taskId, @Param("mainTaskId") Long mainTaskId);
+
+    /*
+    <JPQL 실행구문>
+    insert into task_closure (ancestor_id, descendant_id, depth, task_list_id)
+    select a.ancestor_id, d.descendant_id, a.depth+d.depth+1, d.task_list_id
+    from task_closure a, task_closure d
+    where a.descendant_id=? and d.ancestor_id=?
+
+    -> subtree 크기와 관계없이 한 번의 insert ... select로 처리 (a: 새 상위 작업의 상위 작업 행, d: subtree 행)
+    */
+
+    @Modifying
+    @Query("DELETE FROM TaskClosure c " +
+           "WHERE c.descendantId IN :taskIds")
+    int deleteByDescendantIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    // 할일리스트의 closure 행 전체 삭제 - 같은 id로 다시 저장할 수 있도록 영속성 컨텍스트도 비움 (점검 job 복구용)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM TaskClosure c " +
+           "WHERE c.taskListId = :taskListId")
+    int deleteByTaskListId(@Param("taskListId") Long taskListId);
+}
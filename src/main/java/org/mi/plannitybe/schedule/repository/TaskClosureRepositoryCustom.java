@@ -0,0 +1,11 @@
+package org.mi.plannitybe.schedule.repository;
+
+import org.mi.plannitybe.schedule.entity.TaskClosure;
+
+import java.util.Collection;
+
+public interface TaskClosureRepositoryCustom {
+
+    // closure 행 저장 (id가 지정된 엔티티이므로 save의 merge 조회 없이 persist)
+    void insertAll(Collection<TaskClosure> closures);
+}
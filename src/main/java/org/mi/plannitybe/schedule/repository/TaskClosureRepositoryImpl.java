@@ -0,0 +1,19 @@
+package org.mi.plannitybe.schedule.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.mi.plannitybe.schedule.entity.TaskClosure;
+
+import java.util.Collection;
+
+public class TaskClosureRepositoryImpl implements TaskClosureRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(Collection<TaskClosure> closures) {
+        closures.forEach(entityManager::persist);
+        entityManager.flush();
+    }
+}
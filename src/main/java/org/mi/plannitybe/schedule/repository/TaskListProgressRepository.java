@@ -0,0 +1,42 @@
+package org.mi.plannitybe.schedule.repository;
+
+import org.mi.plannitybe.schedule.entity.TaskListProgress;
+import org.mi.plannitybe.schedule.entity.TaskStatusCounts;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface TaskListProgressRepository extends JpaRepository<TaskListProgress, Long> {
+
+    // 할일리스트의 상태별 작업 수 (PK 단건 조회) - 엔티티가 아닌 값으로 조회하여 bulk 증감 이후에도 영속성 컨텍스트의 이전 값을 반환하지 않음
+    @Query("SELECT p.counts " +
+           "FROM TaskListProgress p " +
+           "WHERE p.taskListId = :taskListId")
+    Optional<TaskStatusCounts> findCountsByTaskListId(@Param("taskListId") Long taskListId);
+
+    // 할일리스트에 상태별 수 증감 반영
+    default int add(Long taskListId, TaskStatusCounts delta) {
+        if (delta.isEmpty()) {
+            return 0;
+        }
+        return add(taskListId, delta.getTotal(), delta.getNotStarted(), delta.getInProgress(),
+                delta.getCompleted(), delta.getPostponed(), delta.getCanceled());
+    }
+
+    @Modifying
+    @Query("UPDATE TaskListProgress p " +
+           "SET p.counts.total = p.counts.total + :total, " +
+           "p.counts.notStarted = p.counts.notStarted + :notStarted, " +
+           "p.counts.inProgress = p.counts.inProgress + :inProgress, " +
+           "p.counts.completed = p.counts.completed + :completed, " +
+           "p.counts.postponed = p.counts.postponed + :postponed, " +
+           "p.counts.canceled = p.counts.canceled + :canceled " +
+           "WHERE p.taskListId = :taskListId")
+    int add(@Param("taskListId") Long taskListId, @Param("total") int total,
+            @Param("notStarted") int notStarted, @Param("inProgress") int inProgress,
+            @Param("completed") int completed, @Param("postponed") int postponed,
+            @Param("canceled") int canceled);
+}
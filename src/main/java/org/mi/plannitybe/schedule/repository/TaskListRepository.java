@@ -1,7 +1,42 @@
 package org.mi.plannitybe.schedule.repository;
 
+import jakarta.persistence.LockModeType;
 import org.mi.plannitybe.schedule.entity.TaskList;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface TaskListRepository extends JpaRepository<TaskList, Long> {
+
+    // task_list 행을 쓰기 잠금으로 조회 (SELECT ... FOR UPDATE) - 같은 할일리스트의 계층 변경(closure table 갱신)을 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT tl FROM TaskList tl WHERE tl.id = :taskListId")
+    Optional<TaskList> findForUpdateById(@Param("taskListId") Long taskListId);
+
+    // 소유자의 task_list 행을 쓰기 잠금으로 조회 - 계층 변경 트랜잭션의 첫 쿼리로 실행
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT tl FROM TaskList tl WHERE tl.id = :taskListId AND tl.user.id = :userId")
+    Optional<TaskList> findForUpdateByIdAndUserId(@Param("taskListId") Long taskListId, @Param("userId") String userId);
+
+    // task가 속한 소유자의 task_list id를 task, task_list 행 쓰기 잠금과 함께 조회 - 계층 변경 트랜잭션의 첫 쿼리로 실행
+    // (JPQL 잠금은 MySQL에서 FOR UPDATE OF <alias>로 일부 테이블만 잠글 수 있어 두 테이블 모두 잠그도록 native로 실행)
+    @Query(value = "SELECT tl.id " +
+                   "FROM task t " +
+                   "JOIN task_list tl ON tl.id = t.task_list_id " +
+                   "WHERE t.id = :taskId " +
+                   "AND tl.user_id = :userId " +
+                   "FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockIdByTaskIdAndUserId(@Param("taskId") Long taskId, @Param("userId") String userId);
+
+    // afterTaskListId 이후의 taskList id를 id 순으로 limit개 조회 - 점검 job의 chunk 조회용
+    @Query("SELECT tl.id " +
+           "FROM TaskList tl " +
+           "WHERE tl.id > :afterTaskListId " +
+           "ORDER BY tl.id")
+    List<Long> findIdsAfter(@Param("afterTaskListId") Long afterTaskListId, Limit limit);
 }
@@ -0,0 +1,67 @@
+package org.mi.plannitybe.schedule.repository;
+
+import org.mi.plannitybe.schedule.entity.TaskProgress;
+import org.mi.plannitybe.schedule.entity.TaskStatusCounts;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskProgressRepository extends JpaRepository<TaskProgress, Long> {
+
+    // task의 하위 작업 상태별 수 (PK 단건 조회) - 엔티티가 아닌 값으로 조회하여 bulk 증감 이후에도 영속성 컨텍스트의 이전 값을 반환하지 않음
+    @Query("SELECT p.counts " +
+           "FROM TaskProgress p " +
+           "WHERE p.taskId = :taskId")
+    Optional<TaskStatusCounts> findCountsByTaskId(@Param("taskId") Long taskId);
+
+    // 할일리스트의 진행 현황 전체 - 점검/복구용
+    @Query("SELECT p " +
+           "FROM TaskProgress p " +
+           "JOIN p.task t " +
+           "WHERE t.taskList.id = :taskListId")
+    List<TaskProgress> findByTaskListId(@Param("taskListId") Long taskListId);
+
+    // task의 모든 상위 작업(자기 자신 제외)에 상태별 수 증감 반영
+    default int addToAncestors(Long taskId, TaskStatusCounts delta) {
+        if (delta.isEmpty()) {
+            return 0;
+        }
+        return addToAncestors(taskId, delta.getTotal(), delta.getNotStarted(), delta.getInProgress(),
+                delta.getCompleted(), delta.getPostponed(), delta.getCanceled());
+    }
+
+    @Modifying
+    @Query("UPDATE TaskProgress p " +
+           "SET p.counts.total = p.counts.total + :total, " +
+           "p.counts.notStarted = p.counts.notStarted + :notStarted, " +
+           "p.counts.inProgress = p.counts.inProgress + :inProgress, " +
+           "p.counts.completed = p.counts.completed + :completed, " +
+           "p.counts.postponed = p.counts.postponed + :postponed, " +
+           "p.counts.canceled = p.counts.canceled + :canceled " +
+           "WHERE p.taskId IN (" +
+           "SELECT c.ancestorId FROM TaskClosure c WHERE c.descendantId = :taskId AND c.depth > 0)")
+    int addToAncestors(@Param("taskId") Long taskId, @Param("total") int total,
+                       @Param("notStarted") int notStarted, @Param("inProgress") int inProgress,
+                       @Param("completed") int completed, @Param("postponed") int postponed,
+                       @Param("canceled") int canceled);
+
+    /*
+    <JPQL 실행구문>
+    update task_progress
+    set total=total+?, not_started=not_started+?, ...
+    where task_id in (select c.ancestor_id from task_closure c where c.descendant_id=? and c.depth>0)
+
+    -> closure table (descendant_id, depth) 인덱스로 상위 작업을 찾아 계층 깊이만큼의 행만 상대값으로 갱신
+       (읽은 뒤 쓰지 않으므로 같은 행을 동시에 갱신해도 증감이 유실되지 않음)
+    */
+
+    @Modifying
+    @Query("DELETE FROM TaskProgress p " +
+           "WHERE p.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+}
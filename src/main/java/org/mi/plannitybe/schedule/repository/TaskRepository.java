@@ -1,7 +1,124 @@
 package org.mi.plannitybe.schedule.repository;
 
+import jakarta.persistence.LockModeType;
+import org.mi.plannitybe.schedule.dto.TaskOwnerRow;
+import org.mi.plannitybe.schedule.dto.TaskParentRow;
+import org.mi.plannitybe.schedule.dto.TaskStatusRow;
+import org.mi.plannitybe.schedule.dto.TaskTreeRow;
 import org.mi.plannitybe.schedule.entity.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    // taskId 목록에 해당하는 task들을 taskList와 함께 한 번에 조회 (소유자 검증용)
+    @Query("SELECT t " +
+            "FROM Task t " +
+            "JOIN FETCH t.taskList tl " +
+            "WHERE t.id IN :taskIds")
+    List<Task> findAllWithTaskListByIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /*
+    <JPQL 실행구문>
+    select t1_0.id, ..., tl1_0.id, tl1_0.user_id, ...
+    from task t1_0
+    join task_list tl1_0 on tl1_0.id=t1_0.task_list_id
+    where t1_0.id in (?, ?, ...)
+
+    -> taskList를 fetch join하면 task_list.user_id 컬럼이 함께 조회되므로
+       task.getTaskList().getUser().getId()는 user 프록시 초기화 없이 추가 쿼리 없이 소유자 id를 반환
+    */
+
+    // taskId 목록에 해당하는 task의 소유자 id만 조회 (task 엔티티를 사용하지 않는 소유자 검증용)
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.TaskOwnerRow(t.id, tl.user.id) " +
+            "FROM Task t " +
+            "JOIN t.taskList tl " +
+            "WHERE t.id IN :taskIds")
+    List<TaskOwnerRow> findOwnersByIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    // taskId로 task를 taskList와 함께 조회 (소유자 검증 및 상세 조회용)
+    @Query("SELECT t " +
+            "FROM Task t " +
+            "JOIN FETCH t.taskList tl " +
+            "WHERE t.id = :taskId")
+    Optional<Task> findWithTaskListById(@Param("taskId") Long taskId);
+
+    // taskId로 task를 taskList와 함께 쓰기 잠금으로 조회 - taskList 잠금 이후 상위 작업/상태 변경 여부를 최신 값으로 비교하기 위함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t " +
+            "FROM Task t " +
+            "JOIN FETCH t.taskList tl " +
+            "WHERE t.id = :taskId")
+    Optional<Task> findForUpdateWithTaskListById(@Param("taskId") Long taskId);
+
+    // 할일리스트의 전체 작업을 계층 깊이와 관계없이 한 번에 조회 (트리 조립은 TaskMapper.toTree)
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.TaskTreeRow(" +
+            "t.id, mt.id, t.title, t.estimatedDuration, t.actualDuration, t.status, t.reminderDate, t.isAllDay, t.description) " +
+            "FROM Task t " +
+            "LEFT JOIN t.mainTask mt " +
+            "WHERE t.taskList.id = :taskListId " +
+            "ORDER BY t.id")
+    List<TaskTreeRow> findTreeRowsByTaskListId(@Param("taskListId") Long taskListId);
+
+    /*
+    <JPQL 실행구문>
+    select t1_0.id, t1_0.main_task_id, t1_0.title, ...
+    from task t1_0
+    where t1_0.task_list_id=?
+    order by t1_0.id
+
+    -> mt.id는 task.main_task_id 컬럼으로 조회되므로 상위 작업 join 없이 task_list_id 인덱스(FK)로 한 번에 조회
+       하위 작업을 단계별로 조회하는 경우(깊이 d이면 최소 d번, 지연 로딩이면 작업 수만큼)와 달리 쿼리는 항상 1번
+    */
+
+    // 할일리스트의 (taskId, mainTaskId) 전체 조회 - closure table 점검/복구용
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.TaskParentRow(t.id, mt.id) " +
+            "FROM Task t " +
+            "LEFT JOIN t.mainTask mt " +
+            "WHERE t.taskList.id = :taskListId")
+    List<TaskParentRow> findParentRowsByTaskListId(@Param("taskListId") Long taskListId);
+
+    // 할일리스트의 (taskId, mainTaskId, status) 전체 조회 - 진행 현황 점검/복구용
+    @Query("SELECT new org.mi.plannitybe.schedule.dto.TaskStatusRow(t.id, mt.id, t.status) " +
+            "FROM Task t " +
+            "LEFT JOIN t.mainTask mt " +
+            "WHERE t.taskList.id = :taskListId")
+    List<TaskStatusRow> findStatusRowsByTaskListId(@Param("taskListId") Long taskListId);
+
+    // task의 모든 하위 작업을 가까운 순으로 조회 - closure table PK (ancestor_id, descendant_id) 범위 스캔 후 task PK 조회
+    @Query("SELECT t " +
+            "FROM TaskClosure c " +
+            "JOIN Task t ON t.id = c.descendantId " +
+            "WHERE c.ancestorId = :taskId " +
+            "AND c.depth > 0 " +
+            "ORDER BY c.depth, t.id")
+    List<Task> findDescendants(@Param("taskId") Long taskId);
+
+    // task의 모든 상위 작업을 최상위 작업부터 조회 - closure table (descendant_id, depth) 인덱스 조회 후 task PK 조회
+    @Query("SELECT t " +
+            "FROM TaskClosure c " +
+            "JOIN Task t ON t.id = c.ancestorId " +
+            "WHERE c.descendantId = :taskId " +
+            "AND c.depth > 0 " +
+            "ORDER BY c.depth DESC")
+    List<Task> findAncestors(@Param("taskId") Long taskId);
+
+    // taskId 목록의 상위 작업 연결을 한 번에 해제 - 자기 참조 FK 때문에 하위 작업까지 함께 삭제하기 전에 수행
+    @Modifying
+    @Query("UPDATE Task t " +
+            "SET t.mainTask = null " +
+            "WHERE t.id IN :taskIds")
+    int detachMainTaskByIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query("DELETE FROM Task t " +
+            "WHERE t.id IN :taskIds")
+    int deleteByIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
@@ -0,0 +1,196 @@
+package org.mi.plannitybe.schedule.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.schedule.cache.CalendarEventCache;
+import org.mi.plannitybe.schedule.dto.CreateEventRequest;
+import org.mi.plannitybe.schedule.dto.EventBatchCreateResponse;
+import org.mi.plannitybe.schedule.dto.EventBatchItemResult;
+import org.mi.plannitybe.schedule.entity.Event;
+import org.mi.plannitybe.schedule.entity.EventList;
+import org.mi.plannitybe.schedule.entity.Task;
+import org.mi.plannitybe.schedule.index.CalendarEventIntervalIndex;
+import org.mi.plannitybe.schedule.mapper.EventMapper;
+import org.mi.plannitybe.schedule.repository.EventListRepository;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.schedule.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 일정 일괄 생성 서비스
+ * <p>
+ * 요청한 모든 일정의 eventList, task를 집합 단위 쿼리로 한 번에 검증하고,
+ * 검증을 통과한 일정은 chunk 단위 트랜잭션으로 나누어 JDBC 배치로 저장한다.
+ * 일부 일정이 실패해도 나머지 일정은 생성되며, 결과는 요청 순서대로 항목별로 반환한다.
+ */
+@Slf4j
+@Service
+public class EventBatchService {
+
+    private static final int ID_QUERY_CHUNK_SIZE = 1_000;  // IN 절 최대 파라미터 수
+
+    private final EventRepository eventRepository;
+    private final EventListRepository eventListRepository;
+    private final TaskRepository taskRepository;
+    private final CalendarEventCache calendarEventCache;
+    private final CalendarEventIntervalIndex calendarEventIntervalIndex;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+
+    /**
+     * @param chunkSize 한 트랜잭션에서 저장할 최대 일정 수
+     */
+    public EventBatchService(EventRepository eventRepository,
+                             EventListRepository eventListRepository,
+                             TaskRepository taskRepository,
+                             CalendarEventCache calendarEventCache,
+                             CalendarEventIntervalIndex calendarEventIntervalIndex,
+                             Validator validator,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${event.batch.chunk-size:1000}") int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.eventListRepository = eventListRepository;
+        this.taskRepository = taskRepository;
+        this.calendarEventCache = calendarEventCache;
+        this.calendarEventIntervalIndex = calendarEventIntervalIndex;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    // user의 event 여러 개를 생성하는 메서드
+    public EventBatchCreateResponse createEvents(List<CreateEventRequest> requests, String userId) {
+        EventBatchItemResult[] results = new EventBatchItemResult[requests.size()];
+
+        // 1. 항목별 입력값 유효성 검사
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String violation = validate(requests.get(i));
+            if (violation != null) {
+                results[i] = EventBatchItemResult.failed(i, "VALIDATION_FAILED", violation);
+            } else {
+                validIndexes.add(i);
+            }
+        }
+
+        // 2. 참조하는 eventList, task의 존재 여부 및 소유자 일치 여부를 집합 단위로 검증
+        List<Integer> savableIndexes = readOnlyTransactionTemplate.execute(
+                status -> validateOwnership(requests, validIndexes, userId, results));
+
+        // 3. chunk 단위 트랜잭션으로 저장 - 실패한 chunk의 일정만 실패 처리
+        LocalDateTime minStartDate = null;
+        LocalDateTime maxEndDate = null;
+        for (int from = 0; from < savableIndexes.size(); from += chunkSize) {
+            List<Integer> chunk = savableIndexes.subList(from, Math.min(from + chunkSize, savableIndexes.size()));
+            try {
+                List<Event> saved = transactionTemplate.execute(status -> saveChunk(requests, chunk, userId));
+                for (int i = 0; i < chunk.size(); i++) {
+                    Event event = saved.get(i);
+                    results[chunk.get(i)] = EventBatchItemResult.created(chunk.get(i), event.getId());
+                    if (minStartDate == null || event.getStartDate().isBefore(minStartDate)) {
+                        minStartDate = event.getStartDate();
+                    }
+                    if (maxEndDate == null || event.getEndDate().isAfter(maxEndDate)) {
+                        maxEndDate = event.getEndDate();
+                    }
+                }
+            } catch (DataAccessException e) {
+                log.error("Event batch chunk save failed - userId: {}, chunkStartIndex: {}, chunkSize: {}",
+                        userId, chunk.get(0), chunk.size(), e);
+                chunk.forEach(index -> results[index] =
+                        EventBatchItemResult.failed(index, "SAVE_FAILED", "일정 저장 중 오류가 발생했습니다."));
+            }
+        }
+
+        // 4. 생성된 일정 기간 전체의 캘린더 캐시 무효화, interval tree 인덱스는 다음 조회 시 다시 생성
+        if (minStartDate != null) {
+            calendarEventIntervalIndex.invalidate(userId);
+            calendarEventCache.evict(userId, minStartDate, maxEndDate);
+        }
+
+        EventBatchCreateResponse response = EventBatchCreateResponse.of(Arrays.asList(results));
+        log.info("Event batch created - userId: {}, requested: {}, created: {}, failed: {}",
+                userId, requests.size(), response.createdCount(), response.failedCount());
+        return response;
+    }
+
+    // 입력값 유효성 검사 - 첫 번째 오류 메시지 반환, 오류가 없으면 null
+    private String validate(CreateEventRequest request) {
+        if (request == null) {
+            return "일정 정보는 필수 입력값입니다.";
+        }
+        Set<ConstraintViolation<CreateEventRequest>> violations = validator.validate(request);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    // eventList, task를 한 번에 조회하여 검증 - 검증을 통과한 요청의 index 목록 반환
+    private List<Integer> validateOwnership(List<CreateEventRequest> requests, List<Integer> indexes, String userId,
+                                            EventBatchItemResult[] results) {
+        Set<Long> eventListIds = new HashSet<>();
+        Set<Long> taskIds = new HashSet<>();
+        for (int index : indexes) {
+            eventListIds.add(requests.get(index).eventListId());
+            taskIds.addAll(requests.get(index).taskIds());
+        }
+
+        Map<Long, String> eventListOwners = new HashMap<>();  // eventListId -> 소유자 userId
+        for (List<Long> ids : chunks(eventListIds)) {
+            for (EventList eventList : eventListRepository.findAllById(ids)) {
+                eventListOwners.put(eventList.getId(), eventList.getUser().getId());
+            }
+        }
+        Map<Long, String> taskOwners = new HashMap<>();  // taskId -> 소유자 userId
+        for (List<Long> ids : chunks(taskIds)) {
+            for (Task task : taskRepository.findAllWithTaskListByIdIn(ids)) {  // taskList fetch join으로 user_id 함께 조회
+                taskOwners.put(task.getId(), task.getTaskList().getUser().getId());
+            }
+        }
+
+        // 단건 생성과 같은 순서(eventList -> task)로 검증, 다른 사용자 소유도 존재하지 않는 것으로 응답
+        List<Integer> savableIndexes = new ArrayList<>();
+        for (int index : indexes) {
+            CreateEventRequest request = requests.get(index);
+            if (!userId.equals(eventListOwners.get(request.eventListId()))) {
+                results[index] = EventBatchItemResult.failed(index, "EVENT_LIST_NOT_FOUND", "일정리스트가 존재하지 않습니다.");
+            } else if (!request.taskIds().stream().allMatch(taskId -> userId.equals(taskOwners.get(taskId)))) {
+                results[index] = EventBatchItemResult.failed(index, "TASK_NOT_FOUND", "할일이 존재하지 않습니다.");
+            } else {
+                savableIndexes.add(index);
+            }
+        }
+        return savableIndexes;
+    }
+
+    // 검증된 일정을 저장 - eventList, task는 조회 없이 프록시로 연관관계 지정 (insert는 flush 시 JDBC 배치로 실행)
+    private List<Event> saveChunk(List<CreateEventRequest> requests, List<Integer> indexes, String userId) {
+        List<Event> events = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            CreateEventRequest request = requests.get(index);
+            Event event = EventMapper.toEntity(request, eventListRepository.getReferenceById(request.eventListId()), userId);
+            request.taskIds().forEach(taskId -> event.addTask(taskRepository.getReferenceById(taskId)));
+            events.add(event);
+        }
+        return eventRepository.saveAll(events);
+    }
+
+    private List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < idList.size(); from += ID_QUERY_CHUNK_SIZE) {
+            chunks.add(idList.subList(from, Math.min(from + ID_QUERY_CHUNK_SIZE, idList.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,98 @@
+package org.mi.plannitybe.schedule.service;
+
+import lombok.RequiredArgsConstructor;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.dto.EventDensityResponse;
+import org.mi.plannitybe.schedule.dto.EventDensityRow;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.schedule.type.EventDensityGranularity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일정 밀도(구간별 일정 수) 조회 서비스
+ * <p>
+ * DB에서 (시작일, 종료일, 종일일정 여부)별 일정 수를 집계한 뒤, 각 행을 일정이 걸친 날짜 구간 전체에 더한다.
+ * 구간마다 더하지 않고 차분 배열에 시작/끝만 기록하므로 행 수와 구간 수의 합에 비례하는 시간으로 계산된다.
+ * <ul>
+ *     <li>시간 일정은 시작일 ~ 종료일의 모든 날짜에 포함</li>
+ *     <li>종일 일정의 종료 날짜는 다음 날 00:00이므로 종료일 전날까지 포함</li>
+ *     <li>주별 조회는 월요일 시작 주 단위이며, 한 주에 여러 날 걸친 일정도 한 번만 계산</li>
+ * </ul>
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class EventDensityService {
+
+    private final EventRepository eventRepository;
+    private final EventService eventService;
+
+    // from ~ to 범위(날짜 단위)의 구간별 일정 수 조회 - 반복 일정은 발생 일정 단위로 계산
+    public EventDensityResponse getEventDensity(LocalDateTime from, LocalDateTime to,
+                                                EventDensityGranularity granularity, String userId) {
+        DensityCounter counter = new DensityCounter(from.toLocalDate(), to.toLocalDate(), granularity);
+
+        for (EventDensityRow row : eventRepository.countEventsByUserIdAndDateRangeGroupByDay(userId, from, to)) {
+            counter.add(row.startDay(), lastDay(row.startDay(), row.endDay(), row.isAllDay()), row.count());
+        }
+
+        for (EventCalendarResponse occurrence : eventService.getRecurringOccurrences(from, to, userId)) {
+            LocalDate startDay = occurrence.getEventDateTime().getStartDate().toLocalDate();
+            LocalDate endDay = occurrence.getEventDateTime().getEndDate().toLocalDate();
+            counter.add(startDay, lastDay(startDay, endDay, occurrence.getEventDateTime().getIsAllDay()), 1);
+        }
+
+        return new EventDensityResponse(counter.firstBucketStart, granularity, counter.counts());
+    }
+
+    // 일정이 포함되는 마지막 날짜 - 종일 일정은 종료일(다음 날 00:00) 전날
+    private static LocalDate lastDay(LocalDate startDay, LocalDate endDay, Boolean isAllDay) {
+        if (Boolean.TRUE.equals(isAllDay) && endDay.isAfter(startDay)) {
+            return endDay.minusDays(1);
+        }
+        return endDay;
+    }
+
+    // 구간별 일정 수 차분 배열 - add는 첫 구간에 +count, 마지막 구간 다음에 -count만 기록
+    private static final class DensityCounter {
+
+        private final LocalDate fromDay;
+        private final LocalDate toDay;
+        private final LocalDate firstBucketStart;
+        private final EventDensityGranularity granularity;
+        private final long[] diff;
+
+        DensityCounter(LocalDate fromDay, LocalDate toDay, EventDensityGranularity granularity) {
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+            this.granularity = granularity;
+            this.firstBucketStart = granularity.bucketStart(fromDay);
+            this.diff = new long[granularity.index(firstBucketStart, toDay) + 2];
+        }
+
+        // startDay ~ lastDay에 걸친 일정 count개를 조회 범위 안의 구간에 더함
+        void add(LocalDate startDay, LocalDate lastDay, long count) {
+            LocalDate first = startDay.isBefore(fromDay) ? fromDay : startDay;
+            LocalDate last = lastDay.isAfter(toDay) ? toDay : lastDay;
+            if (first.isAfter(last)) {
+                return;
+            }
+            diff[granularity.index(firstBucketStart, first)] += count;
+            diff[granularity.index(firstBucketStart, last) + 1] -= count;
+        }
+
+        int[] counts() {
+            int[] counts = new int[diff.length - 1];
+            long count = 0;
+            for (int i = 0; i < counts.length; i++) {
+                count += diff[i];
+                counts[i] = (int) count;
+            }
+            return counts;
+        }
+    }
+}
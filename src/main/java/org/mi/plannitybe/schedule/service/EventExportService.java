@@ -0,0 +1,114 @@
+package org.mi.plannitybe.schedule.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.exception.EventListAccessDeniedException;
+import org.mi.plannitybe.exception.EventListNotFoundException;
+import org.mi.plannitybe.schedule.dto.EventExportRequest;
+import org.mi.plannitybe.schedule.dto.EventExportRow;
+import org.mi.plannitybe.schedule.dto.RecurrenceExceptionRow;
+import org.mi.plannitybe.schedule.ics.IcsEventWriter;
+import org.mi.plannitybe.schedule.repository.EventListRepository;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * iCalendar(.ics) 일정 내보내기 서비스
+ * <p>
+ * DB에서 일정을 한 행씩 읽어 바로 출력하므로 일정 수와 관계없이 메모리 사용량이 일정하다.
+ * (fetch size 단위의 chunk만 메모리에 두고, entity와 eventTasks를 로딩하지 않음)
+ * 반복 일정의 제외 날짜는 chunk 단위로 한 번에 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EventExportService {
+
+    private static final int CHUNK_SIZE = 1000;  // 반복 일정의 제외 날짜를 한 번에 조회할 행 수 (streamExportRows fetch size)
+
+    private final EventRepository eventRepository;
+    private final EventListRepository eventListRepository;
+
+    // 내보낼 eventList의 존재 여부 및 소유자 일치 여부 검증 - 응답 출력 시작 전에 호출
+    public void validateEventList(Long eventListId, String userId) {
+        if (eventListId == null) {
+            return;
+        }
+        String ownerId = eventListRepository.findUserIdByEventListId(eventListId);
+        if (ownerId == null) {
+            throw new EventListNotFoundException(userId, eventListId);
+        }
+        if (!userId.equals(ownerId)) {
+            throw new EventListAccessDeniedException(userId, eventListId);
+        }
+    }
+
+    // user의 일정을 iCalendar 형식으로 outputStream에 출력 (outputStream은 호출하는 쪽에서 close)
+    public void exportIcs(EventExportRequest request, String userId, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        IcsEventWriter icsWriter = new IcsEventWriter(writer, Instant.now());
+        long count = 0;
+
+        icsWriter.writeHeader();
+        try (Stream<EventExportRow> rows = eventRepository.streamExportRows(
+                userId, request.getEventListId(), request.getFrom(), request.getTo())) {
+            Iterator<EventExportRow> iterator = rows.iterator();  // IOException을 그대로 전달하기 위해 forEach 대신 사용
+            List<EventExportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    for (EventExportRow row : withRecurrenceExceptionDates(chunk)) {
+                        icsWriter.write(row);
+                    }
+                    count += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        icsWriter.writeFooter();
+        writer.flush();
+
+        log.info("ICS export completed - userId: {}, eventListId: {}, count: {}", userId, request.getEventListId(), count);
+    }
+
+    // chunk 안 반복 일정의 제외 날짜를 한 번의 쿼리로 조회하여 채움
+    private List<EventExportRow> withRecurrenceExceptionDates(List<EventExportRow> rows) {
+        List<Long> recurringEventIds = rows.stream()
+                .filter(row -> row.recurrenceRule() != null)
+                .map(EventExportRow::eventId)
+                .toList();
+        if (recurringEventIds.isEmpty()) {
+            return rows;
+        }
+
+        Map<Long, List<LocalDateTime>> exceptionDates = new HashMap<>();
+        for (RecurrenceExceptionRow row : eventRepository.findRecurrenceExceptionsByEventIdIn(recurringEventIds)) {
+            exceptionDates.computeIfAbsent(row.eventId(), id -> new ArrayList<>()).add(row.originalStartDate());
+        }
+        exceptionDates.values().forEach(Collections::sort);
+
+        return rows.stream()
+                .map(row -> exceptionDates.containsKey(row.eventId())
+                        ? row.withRecurrenceExceptionDates(exceptionDates.get(row.eventId()))
+                        : row)
+                .toList();
+    }
+}
@@ -0,0 +1,214 @@
+package org.mi.plannitybe.schedule.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.exception.EventListAccessDeniedException;
+import org.mi.plannitybe.exception.EventListNotFoundException;
+import org.mi.plannitybe.schedule.dto.*;
+import org.mi.plannitybe.schedule.entity.EventList;
+import org.mi.plannitybe.schedule.ics.IcsEvent;
+import org.mi.plannitybe.schedule.ics.IcsEventMapper;
+import org.mi.plannitybe.schedule.ics.IcsEventReader;
+import org.mi.plannitybe.schedule.ics.IcsParseException;
+import org.mi.plannitybe.schedule.repository.EventListRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * iCalendar(.ics) 일정 가져오기 서비스
+ * <p>
+ * 입력을 VEVENT 단위로 읽으면서 batchSize개씩 모아 EventBatchService로 저장한다.
+ * 한 batch를 저장한 뒤에 다음 입력을 읽으므로(저장이 끝날 때까지 읽기 대기) 파일 크기와 관계없이
+ * 메모리에는 현재 batch만 유지된다.
+ * <p>
+ * 저장한 batch는 각각 커밋되므로, 중간에 입력을 더 읽을 수 없으면(형식 오류, 입력 오류) 오류 응답 대신
+ * 그때까지 읽은 일정을 저장하고 읽지 못한 위치를 실패 항목으로 담은 결과(completed = false)를 반환한다.
+ * 클라이언트는 createdCount와 실패 위치로 이미 생성된 일정을 알 수 있어 재시도 시 중복 생성을 피할 수 있다.
+ * <p>
+ * 반복 일정의 발생 일정 하나를 변경한 VEVENT(RECURRENCE-ID)는 지원하지 않으므로, 같은 UID의 반복 일정도
+ * 실패 처리한다 (변경 전 발생 일정이 그대로 남는 잘못된 일정을 만들지 않음). 반복 일정이 변경된 발생 일정보다
+ * 먼저 저장되었을 수 있으므로, 생성한 반복 일정의 UID별 일정 ID는 가져오기가 끝날 때까지 보관한다.
+ */
+@Slf4j
+@Service
+public class EventImportService {
+
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    private final EventListRepository eventListRepository;
+    private final EventBatchService eventBatchService;
+    private final EventService eventService;
+    private final int batchSize;
+    private final int maxLineLength;
+
+    /**
+     * @param batchSize     한 번에 저장할 일정 수
+     * @param maxLineLength iCalendar 한 줄(접힌 줄 포함)의 최대 길이
+     */
+    public EventImportService(EventListRepository eventListRepository,
+                              EventBatchService eventBatchService,
+                              EventService eventService,
+                              @Value("${event.import.batch-size:1000}") int batchSize,
+                              @Value("${event.import.max-line-length:65536}") int maxLineLength) {
+        this.eventListRepository = eventListRepository;
+        this.eventBatchService = eventBatchService;
+        this.eventService = eventService;
+        this.batchSize = batchSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * iCalendar 입력의 VEVENT들을 user의 일정으로 생성
+     *
+     * @param inputStream iCalendar 입력 (UTF-8)
+     * @param eventListId 일정을 생성할 eventList ID (null이면 user의 기본 eventList)
+     * @param zone        UTC, TZID 지정 시각을 변환할 시간대
+     */
+    public EventImportResponse importIcs(InputStream inputStream, Long eventListId, ZoneId zone, String userId) {
+        Long targetEventListId = resolveEventListId(eventListId, userId);
+        ImportProgress progress = new ImportProgress();
+
+        IcsEventReader reader = new IcsEventReader(
+                new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), maxLineLength);
+        List<CreateEventRequest> requests = new ArrayList<>(batchSize);
+        List<IcsEvent> sources = new ArrayList<>(batchSize);  // 실패 결과에 VEVENT 순서, UID를 표시하기 위해 보관
+
+        IcsEvent icsEvent;
+        while ((icsEvent = readNext(reader, progress)) != null) {
+            progress.totalCount++;
+            String uid = icsEvent.value("UID");
+            if (IcsEventMapper.isRecurrenceOverride(icsEvent)) {
+                progress.fail(invalidRecurrence(icsEvent.index(), uid));
+                if (uid != null && progress.overriddenUids.add(uid)) {
+                    rejectSeries(uid, requests, sources, userId, progress);
+                }
+            } else {
+                try {
+                    CreateEventRequest request = IcsEventMapper.toCreateEventRequest(icsEvent, targetEventListId, zone);
+                    if (request.recurrenceRule() != null && progress.overriddenUids.contains(uid)) {
+                        progress.fail(invalidRecurrence(icsEvent.index(), uid));
+                    } else {
+                        requests.add(request);
+                        sources.add(icsEvent);
+                    }
+                } catch (IllegalArgumentException e) {
+                    progress.fail(new EventImportFailure(icsEvent.index(), uid, "INVALID_EVENT", e.getMessage()));
+                }
+            }
+
+            if (requests.size() == batchSize) {
+                save(requests, sources, userId, progress);
+            }
+        }
+        if (!requests.isEmpty()) {
+            save(requests, sources, userId, progress);
+        }
+
+        log.info("ICS import completed - userId: {}, eventListId: {}, total: {}, created: {}, failed: {}, completed: {}",
+                userId, targetEventListId, progress.totalCount, progress.createdCount, progress.failedCount,
+                progress.completed);
+        return new EventImportResponse(progress.totalCount, progress.createdCount, progress.failedCount,
+                progress.completed, progress.failures);
+    }
+
+    // 다음 VEVENT 읽기 - 입력을 더 읽을 수 없으면 읽지 못한 위치를 실패로 기록하고 null 반환 (이후 입력은 읽지 않음)
+    private IcsEvent readNext(IcsEventReader reader, ImportProgress progress) {
+        try {
+            return reader.next();
+        } catch (IcsParseException | IOException e) {
+            log.warn("ICS import stopped - unreadable input after {} events: {}", progress.totalCount, e.getMessage());
+            progress.completed = false;
+            progress.fail(new EventImportFailure(progress.totalCount++, null, "INVALID_ICS", e.getMessage()));
+            return null;
+        }
+    }
+
+    // batch 저장 후 진행 상황 기록
+    private void save(List<CreateEventRequest> requests, List<IcsEvent> sources, String userId, ImportProgress progress) {
+        EventBatchCreateResponse response = eventBatchService.createEvents(requests, userId);
+        progress.createdCount += response.createdCount();
+        for (EventBatchItemResult result : response.results()) {
+            IcsEvent source = sources.get(result.index());
+            if (!result.created()) {
+                progress.fail(new EventImportFailure(source.index(), source.value("UID"), result.code(), result.message()));
+            } else if (requests.get(result.index()).recurrenceRule() != null && source.value("UID") != null) {
+                progress.importedSeries.put(source.value("UID"), new ImportedSeries(source.index(), result.eventId()));
+            }
+        }
+        requests.clear();
+        sources.clear();
+
+        log.info("ICS import progress - userId: {}, read: {}, created: {}, failed: {}",
+                userId, progress.totalCount, progress.createdCount, progress.failedCount);
+    }
+
+    // 변경된 발생 일정(RECURRENCE-ID)이 있는 UID의 반복 일정 실패 처리 - 저장 전이면 batch에서 제거, 이미 저장했으면 삭제
+    private void rejectSeries(String uid, List<CreateEventRequest> requests, List<IcsEvent> sources, String userId,
+                              ImportProgress progress) {
+        for (int i = sources.size() - 1; i >= 0; i--) {
+            if (uid.equals(sources.get(i).value("UID")) && requests.get(i).recurrenceRule() != null) {
+                progress.fail(invalidRecurrence(sources.get(i).index(), uid));
+                requests.remove(i);
+                sources.remove(i);
+            }
+        }
+
+        ImportedSeries imported = progress.importedSeries.remove(uid);
+        if (imported != null) {
+            eventService.deleteEvent(imported.eventId(), userId);  // 발생 일정을 변경하여 만든 일정, 캐시, 변경 동기화 기록 함께 처리
+            progress.createdCount--;
+            progress.fail(invalidRecurrence(imported.index(), uid));
+        }
+    }
+
+    private static EventImportFailure invalidRecurrence(int index, String uid) {
+        return new EventImportFailure(index, uid, "INVALID_EVENT", IcsEventMapper.RECURRENCE_OVERRIDE_MESSAGE);
+    }
+
+    // 가져올 eventList 결정 - 지정하지 않으면 기본 eventList, 존재하지 않거나 소유자가 다르면 예외 발생
+    private Long resolveEventListId(Long eventListId, String userId) {
+        if (eventListId == null) {
+            return eventListRepository.findFirstByUserIdAndIsDefaultTrue(userId)
+                    .map(EventList::getId)
+                    .orElseThrow(() -> new EventListNotFoundException(userId, null));
+        }
+
+        String ownerId = eventListRepository.findUserIdByEventListId(eventListId);
+        if (ownerId == null) {
+            throw new EventListNotFoundException(userId, eventListId);
+        }
+        if (!userId.equals(ownerId)) {
+            throw new EventListAccessDeniedException(userId, eventListId);
+        }
+        return eventListId;
+    }
+
+    // 가져오기 진행 상황 (실패 상세는 최대 MAX_REPORTED_FAILURES개만 보관)
+    private static class ImportProgress {
+        private int totalCount;
+        private int createdCount;
+        private int failedCount;
+        private boolean completed = true;
+        private final List<EventImportFailure> failures = new ArrayList<>();
+        private final Set<String> overriddenUids = new HashSet<>();                 // 변경된 발생 일정이 있는 UID
+        private final Map<String, ImportedSeries> importedSeries = new HashMap<>();  // UID -> 생성한 반복 일정
+
+        private void fail(EventImportFailure failure) {
+            failedCount++;
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(failure);
+            }
+        }
+    }
+
+    // 생성한 반복 일정 (VEVENT 순서, 일정 ID)
+    private record ImportedSeries(int index, Long eventId) {
+    }
+}
@@ -0,0 +1,92 @@
+package org.mi.plannitybe.schedule.service;
+
+import org.mi.plannitybe.schedule.dto.EventCalendarPageResponse;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.pagination.CalendarCursor;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 캘린더 일정 페이지 조회 서비스
+ * <p>
+ * 반복하지 않는 일정은 (시작날짜, id) keyset으로 커서 이후의 일정만 페이지 크기 + 1개 조회하고,
+ * 반복 일정의 발생 일정은 반복 일정별로 커서 이후부터 펼치면서 같은 순서로 병합하여 페이지를 만든다.
+ * 페이지 위치와 관계없이 조회 비용이 일정하도록 offset은 사용하지 않는다.
+ * (발생 일정 계산도 페이지 크기 + 반복 일정 수에 비례하고, 조회 범위 전체를 펼치지 않음)
+ */
+@Service
+@Transactional(readOnly = true)
+public class EventPageService {
+
+    private static final Comparator<EventCalendarResponse> CALENDAR_ORDER =
+            Comparator.comparing((EventCalendarResponse e) -> e.getEventDateTime().getStartDate())
+                    .thenComparing(EventCalendarResponse::getEventId);
+
+    private final EventRepository eventRepository;
+    private final EventService eventService;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    /**
+     * @param defaultPageSize 페이지 크기를 지정하지 않은 요청의 페이지 크기
+     * @param maxPageSize     최대 페이지 크기 (초과 요청은 최대 크기로 조회)
+     */
+    public EventPageService(EventRepository eventRepository,
+                            EventService eventService,
+                            @Value("${event.page.default-size:500}") int defaultPageSize,
+                            @Value("${event.page.max-size:1000}") int maxPageSize) {
+        this.eventRepository = eventRepository;
+        this.eventService = eventService;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * from ~ to 범위와 겹치는 user의 일정을 커서 이후부터 한 페이지 조회
+     *
+     * @param cursorToken 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size        페이지 크기 (null이면 기본 페이지 크기)
+     */
+    public EventCalendarPageResponse getEventsForCalendarPage(LocalDateTime from, LocalDateTime to,
+                                                              String cursorToken, Integer size, String userId) {
+        int pageSize = size == null ? defaultPageSize : Math.min(size, maxPageSize);
+        CalendarCursor cursor = cursorToken == null ? null : CalendarCursor.decode(cursorToken);
+
+        // 한 개 더 조회하여 다음 페이지 존재 여부 확인
+        Limit limit = Limit.of(pageSize + 1);
+        List<EventCalendarResponse> events = cursor == null
+                ? eventRepository.findEventPageByUserIdAndDateRange(userId, from, to, limit)
+                : eventRepository.findEventPageByUserIdAndDateRangeAfter(userId, from, to,
+                        cursor.startDate(), cursor.eventId(), limit);
+
+        // 반복 일정의 발생 일정은 커서 이후부터 펼치면서 같은 순서로 병합하고 pageSize + 1개가 되면 멈춤
+        // (반복하지 않는 일정은 pageSize + 1개까지만 조회했지만, 그 이후의 일정은 모두 이 페이지 범위 뒤에 오므로 결과가 같음)
+        Iterator<EventCalendarResponse> occurrences = eventService.iterateRecurringOccurrences(from, to, cursor, userId);
+        List<EventCalendarResponse> merged = new ArrayList<>(pageSize + 1);
+        int index = 0;
+        EventCalendarResponse occurrence = occurrences.hasNext() ? occurrences.next() : null;
+        while (merged.size() <= pageSize && (index < events.size() || occurrence != null)) {
+            if (occurrence != null && (index == events.size() || CALENDAR_ORDER.compare(occurrence, events.get(index)) < 0)) {
+                merged.add(occurrence);
+                occurrence = occurrences.hasNext() ? occurrences.next() : null;
+            } else {
+                merged.add(events.get(index++));
+            }
+        }
+
+        if (merged.size() <= pageSize) {
+            return new EventCalendarPageResponse(merged, null, false);
+        }
+        List<EventCalendarResponse> page = List.copyOf(merged.subList(0, pageSize));
+        return new EventCalendarPageResponse(page, CalendarCursor.of(page.get(pageSize - 1)).encode(), true);
+    }
+}
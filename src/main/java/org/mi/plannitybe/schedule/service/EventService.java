@@ -3,25 +3,30 @@ package org.mi.plannitybe.schedule.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mi.plannitybe.exception.*;
-import org.mi.plannitybe.schedule.dto.CreateEventRequest;
-import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
-import org.mi.plannitybe.schedule.dto.EventResponse;
-import org.mi.plannitybe.schedule.dto.UpdateEventRequest;
+import org.mi.plannitybe.schedule.cache.CalendarEventCache;
+import org.mi.plannitybe.schedule.cache.RecurringOccurrenceCache;
+import org.mi.plannitybe.schedule.domain.RecurrenceRule;
+import org.mi.plannitybe.schedule.dto.*;
 import org.mi.plannitybe.schedule.entity.Event;
 import org.mi.plannitybe.schedule.entity.EventList;
 import org.mi.plannitybe.schedule.entity.EventTask;
+import org.mi.plannitybe.schedule.entity.EventTombstone;
 import org.mi.plannitybe.schedule.entity.Task;
+import org.mi.plannitybe.schedule.index.CalendarEventIntervalIndex;
 import org.mi.plannitybe.schedule.mapper.EventMapper;
+import org.mi.plannitybe.schedule.pagination.CalendarCursor;
+import org.mi.plannitybe.schedule.recurrence.RecurringOccurrenceIterator;
 import org.mi.plannitybe.schedule.repository.EventListRepository;
 import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.schedule.repository.EventTaskRepository;
+import org.mi.plannitybe.schedule.repository.EventTombstoneRepository;
 import org.mi.plannitybe.schedule.repository.TaskRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,9 +35,18 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class EventService {
 
+    private static final Comparator<EventCalendarResponse> CALENDAR_ORDER =
+            Comparator.comparing((EventCalendarResponse e) -> e.getEventDateTime().getStartDate())
+                    .thenComparing(EventCalendarResponse::getEventId);
+
     private final EventRepository eventRepository;
+    private final EventTombstoneRepository eventTombstoneRepository;
     private final EventListRepository eventListRepository;
     private final TaskRepository taskRepository;
+    private final EventTaskRepository eventTaskRepository;
+    private final CalendarEventCache calendarEventCache;
+    private final CalendarEventIntervalIndex calendarEventIntervalIndex;
+    private final RecurringOccurrenceCache recurringOccurrenceCache;
 
     // user의 event를 생성하는 메서드
     @Transactional
@@ -45,57 +59,88 @@ public class EventService {
             throw new EventListAccessDeniedException(userId, createEventRequest.eventListId());
         }
 
-        // tasks에 값이 존재할 경우, task 유효성 검증
-        List<Task> tasks = new ArrayList<>();
-        if (!createEventRequest.taskIds().isEmpty()) {
-            for (Long taskId : createEventRequest.taskIds()) {
-                // task 존재 여부 확인
-                Task task = taskRepository.findById(taskId).orElseThrow(() ->
-                        new TaskNotFoundException(userId, taskId));
-                // task의 소유자와 일정 생성 시도하는 사용자가 동일한지 확인
-                String taskOwnerId = task.getTaskList().getUser().getId();
-                if (!userId.equals(taskOwnerId)) {
-                    throw new TaskAccessDeniedException(userId, taskId);
-                }
-                tasks.add(task); // taskId에 해당하는 task 객체 리스트 추가
-            }
-        }
+        // tasks에 값이 존재할 경우, task 유효성 검증 (한 번의 쿼리로 존재 여부 및 소유자 일치 여부 확인)
+        List<Task> tasks = findOwnedTasks(createEventRequest.taskIds(), userId);
 
         Event event = EventMapper.toEntity(createEventRequest, eventList);  // Event entity 생성
         tasks.forEach(event::addTask);  // event에 task 연관관계 맺어줌
         Event save = eventRepository.save(event);  // event 저장 (영속성 전이 설정으로 eventTask도 함께 저장)
+        calendarEventIntervalIndex.upsert(userId, save);  // interval tree 인덱스 반영 (캐시 무효화보다 먼저 등록)
+        calendarEventCache.evict(userId, save.getStartDate(), save.getEndDate());  // 일정 기간에 해당하는 캘린더 캐시 무효화
 
         return EventMapper.toResponse(save);
     }
 
     // user의 event 단건 상세 조회 메소드
     public EventResponse getEvent(Long eventId, String userId) {
-        // 조회 요청한 eventId 유효성 검증
-        Event event = eventRepository.findById(eventId).orElseThrow(  // event 존재 여부
-                () -> new EventNotFoundException(userId, eventId));
-        if (!event.getEventList().getUser().getId().equals(userId)) {  // event 소유자 일치 여부
-            throw new EventAccessDeniedException(userId, eventId);
-        }
+        // 조회 요청한 eventId 유효성 검증 - 존재 여부 및 소유자 일치 여부
+        Event event = findOwnedEvent(eventId, userId);
 
         return EventMapper.toResponse(event);  // 조회한 event 내용 반환
     }
 
     // user 소유 event 목록 조회 - 캘린더 화면용
     public List<EventCalendarResponse> getEventsForCalendar(LocalDateTime from, LocalDateTime to, String userId) {
-        return eventRepository.findEventsByUserIdAndDateRange(userId, from, to);
+        // 캐시에 없는 범위는 interval tree 인덱스에서 조회하고, 인덱스를 사용할 수 없으면 DB에서 조회
+        List<EventCalendarResponse> events = calendarEventCache.getEvents(userId, from, to,
+                (rangeFrom, rangeTo) -> calendarEventIntervalIndex.findEvents(userId, rangeFrom, rangeTo)
+                        .orElseGet(() -> eventRepository.findEventsByUserIdAndDateRange(userId, rangeFrom, rangeTo)));
+
+        // 반복 일정은 조회 범위의 발생 일정으로 펼쳐서 합침
+        List<EventCalendarResponse> occurrences = getRecurringOccurrences(from, to, userId);
+        if (occurrences.isEmpty()) {
+            return events;
+        }
+        List<EventCalendarResponse> result = new ArrayList<>(events.size() + occurrences.size());
+        result.addAll(events);
+        result.addAll(occurrences);
+        result.sort(CALENDAR_ORDER);
+        return result;
+    }
+
+    // user의 반복 일정을 from ~ to 범위의 발생 일정으로 펼침 - 반복 일정 x 월 버킷 단위로 캐시된 발생 일정 사용
+    public List<EventCalendarResponse> getRecurringOccurrences(LocalDateTime from, LocalDateTime to, String userId) {
+        List<RecurringEventRow> series = eventRepository.findRecurringEventsByUserIdAndDateRange(userId, from, to);
+        return recurringOccurrenceCache.getOccurrences(userId, from, to, series, this::findRecurrenceExceptionDates);
+    }
+
+    /**
+     * user의 반복 일정을 from ~ to 범위의 발생 일정으로 캘린더 순서(시작날짜, id)대로 필요한 만큼만 펼치는 iterator
+     * (페이지 조회, 스트리밍 응답용 - 범위 전체를 펼쳐 모으지 않으므로 발생 일정 캐시는 사용하지 않음)
+     *
+     * @param after 이 커서 이후의 발생 일정부터 반환 (null이면 처음부터)
+     */
+    public Iterator<EventCalendarResponse> iterateRecurringOccurrences(LocalDateTime from, LocalDateTime to,
+                                                                      CalendarCursor after, String userId) {
+        // 커서 이후의 발생 일정은 커서 시작날짜 이후에 끝나므로, 그 전에 반복이 끝난 일정은 조회하지 않음
+        LocalDateTime seriesFrom = after != null && after.startDate().isAfter(from) ? after.startDate() : from;
+        List<RecurringEventRow> series = eventRepository.findRecurringEventsByUserIdAndDateRange(userId, seriesFrom, to);
+        if (series.isEmpty()) {
+            return Collections.emptyIterator();
+        }
+        Map<Long, Set<LocalDateTime>> exceptionDates =
+                findRecurrenceExceptionDates(series.stream().map(RecurringEventRow::eventId).toList());
+        return new RecurringOccurrenceIterator(series, exceptionDates, from, to, after);
     }
 
     // user의 event 업데이트 메소드
     @Transactional
     public EventResponse updateEvent(Long eventId, UpdateEventRequest updateEventRequest, String userId) {
 
-        // 변경 요청한 eventId 유효성 검사
-        Event event = eventRepository.findById(eventId).orElseThrow(  // event 존재하지 않으면 예외 발생
-                () -> new EventNotFoundException(userId, eventId));
-        if (!event.getEventList().getUser().getId().equals(userId)) {  // event의 소유자가 다르면 예외 발생
-            throw new EventAccessDeniedException(userId, eventId);
+        // task 연결을 변경하는 경우 event 행을 먼저 잠가 동시에 들어온 연결 변경 요청을 순서대로 처리
+        // (잠금 이후 조회한 연결 상태와 비교하므로 같은 연결을 중복 추가하지 않음)
+        // 소유자 조건으로 잠그므로 다른 사용자의 event는 잠기지 않고, 아래 소유자 검증에서 예외 발생
+        if (updateEventRequest.taskIds() != null) {
+            eventRepository.findForUpdateByIdAndUserId(eventId, userId);
         }
 
+        // 변경 요청한 eventId 유효성 검사 - event 존재하지 않거나 소유자가 다르면 예외 발생
+        Event event = findOwnedEvent(eventId, userId);
+        LocalDateTime previousStartDate = event.getStartDate();  // 변경 전 일정 기간 (캘린더 캐시 무효화용)
+        LocalDateTime previousEndDate = event.getEndDate();
+        boolean wasRecurring = event.isRecurring();  // 변경 전 반복 여부 (발생 일정 캐시 무효화용)
+        String previousRecurrenceRule = event.getRecurrenceRule();
+
         // 변경 요청한 eventListId의 유효성 검사
         Long requestEventListId = updateEventRequest.eventListId();
         if (requestEventListId != null) {
@@ -109,56 +154,187 @@ public class EventService {
 
         event.updateTitle(updateEventRequest.title());  // title 업데이트
         event.updateFromEventDateTime(updateEventRequest.eventDateTime());  // eventDateTime 업데이트
+        event.updateRecurrenceRule(updateEventRequest.recurrenceRule());  // 반복 규칙 업데이트 (빈 문자열이면 반복 해제)
         event.updateDescription(updateEventRequest.description());  // description 업데이트
 
         // 변경 요청한 taskId의 유효성 검사 후 업데이트
         List<Long> requestTaskIds = updateEventRequest.taskIds();
         if (requestTaskIds != null) {
-            List<Task> newTasks = new ArrayList<>();
-            for (Long taskId : requestTaskIds) {
-                Task task = taskRepository.findById(taskId).orElseThrow(  // task 존재하지 않으면 예외 발생
-                        () -> new TaskNotFoundException(userId, taskId)
-                );
-                String taskOwnerId = task.getTaskList().getUser().getId();  // task의 소유자가 다르면 예외 발생
-                if (!userId.equals(taskOwnerId)) {
-                    throw new TaskAccessDeniedException(userId, taskId);
-                }
-                newTasks.add(task);
-            }
-
-            Set<Long> newTaskIds = newTasks.stream().map(Task::getId).collect(Collectors.toSet());
-            Set<Long> currentTaskIds = event.getEventTasks().stream()
-                    .map(et -> et.getTask().getId()).collect(Collectors.toSet());
-
-            // 삭제할 EventTask들 (기존에 있었는데 새 목록에 없는 것들)
-            List<EventTask> toRemove = event.getEventTasks().stream()
-                    .filter(et -> !newTaskIds.contains(et.getTask().getId()))
-                    .toList();
-
-            // 추가할 Task들 (새 목록에 있는데 기존에 없던 것들)
-            List<Task> toAdd = newTasks.stream()
-                    .filter(task -> !currentTaskIds.contains(task.getId()))
-                    .toList();
+            Set<Long> newTaskIds = findOwnedTaskIds(requestTaskIds, userId);  // task 존재하지 않거나 소유자가 다르면 예외 발생
+            replaceTasks(event, newTaskIds);
+        }
 
-            event.getEventTasks().removeAll(toRemove);  // 삭제
-            toAdd.forEach(event::addTask);  // 추가
+        // 반복 규칙이나 시작 시각이 바뀌면 모든 발생 시각이 바뀌어 제외 날짜가 제거되므로(Event 참고),
+        // 발생 일정을 변경하여 만든 일정도 함께 삭제 (남겨 두면 같은 발생 일정이 반복 일정과 별도 일정으로 두 번 조회됨)
+        if (wasRecurring && (!Objects.equals(previousRecurrenceRule, event.getRecurrenceRule())
+                || !Objects.equals(previousStartDate, event.getStartDate()))) {
+            deleteEvents(eventRepository.findByRecurringEventId(eventId), userId);
         }
 
         Event save = eventRepository.saveAndFlush(event);  // 더티 체킹 하지만 명시적으로 저장 수행
 
+        // interval tree 인덱스 반영 후 변경 전후 일정 기간에 해당하는 캘린더 캐시 무효화
+        calendarEventIntervalIndex.upsert(userId, event);
+        calendarEventCache.evict(userId, previousStartDate, previousEndDate);
+        calendarEventCache.evict(userId, event.getStartDate(), event.getEndDate());
+        if (wasRecurring || event.isRecurring()) {
+            recurringOccurrenceCache.evictSeries(userId, eventId);  // 반복 일정의 발생 일정 캐시 무효화
+        }
+
         return EventMapper.toResponse(event);
     }
 
+    // event의 task 연결을 taskIds로 교체 - id 집합 비교로 바뀐 연결만 찾아 삭제는 한 번의 bulk delete, 추가는 한 번의 JDBC 배치 insert로 반영
+    // (task 엔티티는 조회하지 않고 프록시로 연결, event.eventTasks도 같은 내용으로 맞춤)
+    private void replaceTasks(Event event, Set<Long> taskIds) {
+        Set<Long> currentTaskIds = event.getTaskIds();
+        List<Long> toRemove = currentTaskIds.stream().filter(taskId -> !taskIds.contains(taskId)).toList();
+        List<Long> toAdd = taskIds.stream().filter(taskId -> !currentTaskIds.contains(taskId)).toList();
+
+        if (!toRemove.isEmpty()) {
+            eventTaskRepository.deleteByEventIdAndTaskIdIn(event.getId(), toRemove);
+            event.removeTaskLinks(toRemove);
+        }
+        if (!toAdd.isEmpty()) {
+            List<EventTask> added = event.addTaskLinks(toAdd.stream().map(taskRepository::getReferenceById).toList());
+            eventTaskRepository.insertAll(added);
+        }
+    }
+
     @Transactional
     public void deleteEvent(Long eventId, String userId) {
         // eventId 유효성 검사 - 존재여부 및 소유자 검증
-        Event event = eventRepository.findById(eventId).orElseThrow(
-                () -> new EventNotFoundException(userId, eventId)
-        );
-        if (!event.getEventList().getUser().getId().equals(userId)) {
+        Event event = findOwnedEvent(eventId, userId);
+
+        // 반복 일정이면 발생 일정을 변경하여 만든 일정도 함께 삭제
+        List<Event> events = new ArrayList<>();
+        events.add(event);
+        if (event.isRecurring()) {
+            events.addAll(eventRepository.findByRecurringEventId(eventId));
+            recurringOccurrenceCache.evictSeries(userId, eventId);  // 반복 일정의 발생 일정 캐시 무효화
+        }
+
+        deleteEvents(events, userId);
+    }
+
+    // event 삭제 - 변경 동기화용 삭제 기록을 같은 트랜잭션에서 남기고, interval tree 인덱스와 캘린더 캐시에 반영
+    private void deleteEvents(List<Event> events, String userId) {
+        LocalDateTime deletedAt = LocalDateTime.now();
+        for (Event deleted : events) {
+            eventRepository.delete(deleted);
+            eventTombstoneRepository.save(new EventTombstone(deleted.getId(), userId, deletedAt));  // 변경 동기화용 삭제 기록
+            calendarEventIntervalIndex.remove(userId, deleted.getId());  // interval tree 인덱스 반영 (캐시 무효화보다 먼저 등록)
+            calendarEventCache.evict(userId, deleted.getStartDate(), deleted.getEndDate());  // 일정 기간에 해당하는 캘린더 캐시 무효화
+        }
+    }
+
+    // 반복 일정의 발생 일정 하나를 삭제 (반복 일정에 제외 날짜 추가)
+    @Transactional
+    public void deleteOccurrence(Long eventId, LocalDateTime occurrenceStartDate, String userId) {
+        Event event = findOwnedOccurrence(eventId, occurrenceStartDate, userId);
+        event.addRecurrenceException(occurrenceStartDate);
+        recurringOccurrenceCache.evictSeries(userId, eventId);  // 반복 일정의 발생 일정 캐시 무효화
+    }
+
+    // 반복 일정의 발생 일정 하나를 변경 - 해당 발생 일정을 반복 일정에서 제외하고 별도 일정으로 만든 뒤 변경 내용 반영
+    @Transactional
+    public EventResponse updateOccurrence(Long eventId, LocalDateTime occurrenceStartDate,
+                                          UpdateEventRequest updateEventRequest, String userId) {
+        Event event = findOwnedOccurrence(eventId, occurrenceStartDate, userId);
+
+        event.addRecurrenceException(occurrenceStartDate);
+        recurringOccurrenceCache.evictSeries(userId, eventId);  // 반복 일정의 발생 일정 캐시 무효화
+        Event occurrence = eventRepository.save(event.copyOccurrence(occurrenceStartDate));
+
+        // 같은 트랜잭션에서 일반 일정과 동일하게 변경 (발생 일정에는 반복 규칙을 지정할 수 없으므로 제외)
+        return updateEvent(occurrence.getId(), new UpdateEventRequest(updateEventRequest.eventListId(),
+                updateEventRequest.title(), updateEventRequest.eventDateTime(), updateEventRequest.description(),
+                updateEventRequest.taskIds()), userId);
+    }
+
+    // 반복 일정의 발생 일정 유효성 검증 - 반복 일정이 아니거나 해당 시각에 발생하지 않으면(이미 제외된 경우 포함) 예외 발생
+    private Event findOwnedOccurrence(Long eventId, LocalDateTime occurrenceStartDate, String userId) {
+        Event event = findOwnedEvent(eventId, userId);
+        if (!event.isRecurring()
+                || !RecurrenceRule.parse(event.getRecurrenceRule()).isOccurrence(event.getStartDate(), occurrenceStartDate)
+                || event.getRecurrenceExceptionDates().contains(occurrenceStartDate)) {
+            throw new EventNotFoundException(userId, eventId);
+        }
+        return event;
+    }
+
+    // 반복 일정 id별 제외 날짜를 한 번의 쿼리로 조회
+    private Map<Long, Set<LocalDateTime>> findRecurrenceExceptionDates(Collection<Long> eventIds) {
+        return eventRepository.findRecurrenceExceptionsByEventIdIn(eventIds).stream()
+                .collect(Collectors.groupingBy(RecurrenceExceptionRow::eventId,
+                        Collectors.mapping(RecurrenceExceptionRow::originalStartDate, Collectors.toSet())));
+    }
+
+    // eventId로 event를 eventList, eventTask와 함께 한 번에 조회하여 존재 여부 및 소유자 일치 여부를 검증하는 메소드
+    private Event findOwnedEvent(Long eventId, String userId) {
+        Event event = eventRepository.findWithEventListAndEventTasksById(eventId).orElseThrow(
+                () -> new EventNotFoundException(userId, eventId));
+        if (!userId.equals(event.getEventList().getUser().getId())) {  // eventList fetch join으로 user_id 이미 조회됨
             throw new EventAccessDeniedException(userId, eventId);
         }
+        return event;
+    }
 
-        eventRepository.delete(event);
+    // 요청한 taskId 목록의 task를 한 번에 조회하여 존재 여부 및 소유자 일치 여부를 검증하는 메소드
+    private List<Task> findOwnedTasks(List<Long> taskIds, String userId) {
+        if (taskIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Task> taskMap = taskRepository.findAllWithTaskListByIdIn(new HashSet<>(taskIds)).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Map<Long, String> ownerIds = new HashMap<>();
+        taskMap.forEach((taskId, task) -> ownerIds.put(taskId, task.getTaskList().getUser().getId()));  // taskList fetch join으로 user_id 이미 조회됨
+        validateTaskOwners(taskIds, ownerIds, userId);
+
+        return taskIds.stream().map(taskMap::get).collect(Collectors.toList());
+    }
+
+    // findOwnedTasks와 같은 검증을 task 엔티티 조회 없이 (taskId, 소유자 id)만 조회하여 수행하고, 중복을 제거한 taskId를 요청 순서대로 반환
+    private Set<Long> findOwnedTaskIds(List<Long> taskIds, String userId) {
+        if (taskIds.isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+
+        Map<Long, String> ownerIds = taskRepository.findOwnersByIdIn(new HashSet<>(taskIds)).stream()
+                .collect(Collectors.toMap(TaskOwnerRow::taskId, TaskOwnerRow::userId));
+        validateTaskOwners(taskIds, ownerIds, userId);
+
+        return new LinkedHashSet<>(taskIds);
+    }
+
+    // 요청한 taskId 중 존재하지 않거나(ownerIds에 없음) 다른 사용자 소유인 task가 있으면 예외 발생
+    private void validateTaskOwners(List<Long> taskIds, Map<Long, String> ownerIds, String userId) {
+        Set<Long> missingTaskIds = new LinkedHashSet<>();  // 존재하지 않는 taskId
+        Set<Long> foreignTaskIds = new LinkedHashSet<>();  // 다른 사용자 소유의 taskId
+        Long firstInvalidTaskId = null;
+        for (Long taskId : taskIds) {
+            String ownerId = ownerIds.get(taskId);
+            if (ownerId == null) {
+                missingTaskIds.add(taskId);
+            } else if (!userId.equals(ownerId)) {
+                foreignTaskIds.add(taskId);
+            } else {
+                continue;
+            }
+            if (firstInvalidTaskId == null) {
+                firstInvalidTaskId = taskId;
+            }
+        }
+
+        if (firstInvalidTaskId != null) {
+            log.info("Task validation failed - userId: {}, missingTaskIds: {}, foreignTaskIds: {}",
+                    userId, missingTaskIds, foreignTaskIds);
+            // 요청 순서상 처음으로 검증에 실패한 taskId 기준으로 예외 발생
+            if (missingTaskIds.contains(firstInvalidTaskId)) {
+                throw new TaskNotFoundException(userId, firstInvalidTaskId);
+            }
+            throw new TaskAccessDeniedException(userId, firstInvalidTaskId);
+        }
     }
 }
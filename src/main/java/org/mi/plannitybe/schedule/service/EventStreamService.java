@@ -0,0 +1,89 @@
+package org.mi.plannitybe.schedule.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 캘린더 일정 JSON 스트리밍 응답 서비스
+ * <p>
+ * GET /events와 같은 JSON 배열을 만들되, 일정 목록을 모으지 않고 DB에서 한 행씩 읽는 즉시
+ * Jackson JsonGenerator로 출력하므로 조회 범위의 일정 수와 관계없이 메모리 사용량이 일정하다.
+ * 반복 일정의 발생 일정도 반복 일정별 iterator로 출력할 때 하나씩 계산하므로,
+ * 메모리에는 반복 일정 수(와 제외 날짜)만큼만 두고 발생 일정 수에는 비례하지 않는다.
+ * 트랜잭션은 출력하는 동안만 열려 있다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class EventStreamService {
+
+    private static final Comparator<EventCalendarResponse> CALENDAR_ORDER =
+            Comparator.comparing((EventCalendarResponse e) -> e.getEventDateTime().getStartDate())
+                    .thenComparing(EventCalendarResponse::getEventId);
+
+    private final EventRepository eventRepository;
+    private final EventService eventService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter eventWriter;
+
+    public EventStreamService(EventRepository eventRepository, EventService eventService, ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.eventService = eventService;
+        this.objectMapper = objectMapper;
+        // 일정마다 flush하지 않도록 설정 (출력 버퍼가 찰 때만 전송)
+        this.eventWriter = objectMapper.writerFor(EventCalendarResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    // from ~ to 범위와 겹치는 user의 일정을 시작날짜, id 순의 JSON 배열로 outputStream에 출력 (outputStream은 호출하는 쪽에서 close)
+    public void writeEventsForCalendar(LocalDateTime from, LocalDateTime to, String userId,
+                                       OutputStream outputStream) throws IOException {
+        // 반복 일정의 발생 일정은 반복 일정별로 필요한 만큼만 펼치면서, DB에서 읽는 일정과 순서대로 병합
+        Iterator<EventCalendarResponse> occurrenceIterator = eventService.iterateRecurringOccurrences(from, to, null, userId);
+        EventCalendarResponse nextOccurrence = occurrenceIterator.hasNext() ? occurrenceIterator.next() : null;
+        long count = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+             Stream<EventCalendarResponse> events = eventRepository.streamEventsByUserIdAndDateRange(userId, from, to)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+
+            Iterator<EventCalendarResponse> eventIterator = events.iterator();  // IOException을 그대로 전달하기 위해 forEach 대신 사용
+            while (eventIterator.hasNext()) {
+                EventCalendarResponse event = eventIterator.next();
+                while (nextOccurrence != null && CALENDAR_ORDER.compare(nextOccurrence, event) < 0) {
+                    eventWriter.writeValue(generator, nextOccurrence);
+                    nextOccurrence = occurrenceIterator.hasNext() ? occurrenceIterator.next() : null;
+                    count++;
+                }
+                eventWriter.writeValue(generator, event);
+                count++;
+            }
+            while (nextOccurrence != null) {
+                eventWriter.writeValue(generator, nextOccurrence);
+                nextOccurrence = occurrenceIterator.hasNext() ? occurrenceIterator.next() : null;
+                count++;
+            }
+
+            generator.writeEndArray();
+            generator.flush();
+        }
+
+        log.debug("Calendar stream completed - userId: {}, from: {}, to: {}, count: {}", userId, from, to, count);
+    }
+}
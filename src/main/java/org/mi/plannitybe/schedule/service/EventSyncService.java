@@ -0,0 +1,139 @@
+package org.mi.plannitybe.schedule.service;
+
+import org.mi.plannitybe.schedule.dto.EventSyncEvent;
+import org.mi.plannitybe.schedule.dto.EventSyncResponse;
+import org.mi.plannitybe.schedule.dto.EventSyncRow;
+import org.mi.plannitybe.schedule.dto.RecurrenceExceptionRow;
+import org.mi.plannitybe.schedule.entity.EventTombstone;
+import org.mi.plannitybe.schedule.pagination.EventSyncToken;
+import org.mi.plannitybe.schedule.pagination.SyncTokenExpiredException;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.schedule.repository.EventTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 일정 변경 동기화 서비스
+ * <p>
+ * syncToken 이후 생성/수정된 일정(event.updated_at)과 삭제된 일정(event_tombstone)을
+ * 각각 (일시, id) keyset으로 조회한 뒤 일시 순으로 합쳐 최대 size개 반환한다.
+ * 변경 시각은 커밋 전에 정해지므로, 늦게 커밋되는 트랜잭션의 변경을 놓치지 않도록
+ * 현재 시각 - commitLag 이전의 변경만 전달한다 (commitLag보다 오래 걸리는 트랜잭션의 변경은 놓칠 수 있음).
+ * 삭제 기록은 tombstoneRetention 동안만 보관하므로, 그보다 오래된 token은 전체 일정을 다시 받도록 거부한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EventSyncService {
+
+    private final EventRepository eventRepository;
+    private final EventTombstoneRepository eventTombstoneRepository;
+    private final int defaultSize;
+    private final int maxSize;
+    private final Duration commitLag;
+    private final Duration tombstoneRetention;
+
+    /**
+     * @param defaultSize        size를 지정하지 않은 요청의 최대 변경 사항 수
+     * @param maxSize            한 번에 반환할 최대 변경 사항 수 (초과 요청은 최대 크기로 조회)
+     * @param commitLag          현재 시각 기준으로 전달을 미루는 시간 (커밋 지연 허용 범위)
+     * @param tombstoneRetention 삭제 기록 보관 기간 (EventTombstonePurgeJob과 같은 값 사용)
+     */
+    public EventSyncService(EventRepository eventRepository,
+                            EventTombstoneRepository eventTombstoneRepository,
+                            @Value("${event.sync.default-size:500}") int defaultSize,
+                            @Value("${event.sync.max-size:1000}") int maxSize,
+                            @Value("${event.sync.commit-lag:5s}") Duration commitLag,
+                            @Value("${event.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.eventRepository = eventRepository;
+        this.eventTombstoneRepository = eventTombstoneRepository;
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+        this.commitLag = commitLag;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * syncToken 이후 user 일정의 변경 사항 조회
+     *
+     * @param syncToken 이전 응답의 syncToken (첫 동기화면 null - 전체 일정 전달)
+     * @param size      최대 변경 사항 수 (null이면 기본 크기)
+     * @throws SyncTokenExpiredException syncToken이 삭제 기록 보관 기간보다 오래된 경우
+     */
+    public EventSyncResponse getChanges(String syncToken, Integer size, String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minus(commitLag);
+        int limit = size == null ? defaultSize : Math.min(size, maxSize);
+
+        EventSyncToken token = syncToken == null ? EventSyncToken.initial(until) : EventSyncToken.decode(syncToken);
+        if (token.deletedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new SyncTokenExpiredException("삭제 기록 보관 기간이 지난 syncToken입니다. userId: " + userId);
+        }
+
+        // 각각 한 개 더 조회하여 남은 변경 사항 존재 여부 확인
+        List<EventSyncRow> rows = eventRepository.findSyncRowsAfter(userId,
+                token.updatedAt(), token.eventId(), until, Limit.of(limit + 1));
+        List<EventTombstone> tombstones = eventTombstoneRepository.findTombstonesAfter(userId,
+                token.deletedAt(), token.deletedEventId(), until, Limit.of(limit + 1));
+
+        // 생성/수정과 삭제를 일시 순으로 합쳐 limit개까지 전달
+        int changedCount = 0;
+        int deletedCount = 0;
+        while (changedCount + deletedCount < limit
+                && (changedCount < rows.size() || deletedCount < tombstones.size())) {
+            boolean nextIsChange = deletedCount == tombstones.size()
+                    || (changedCount < rows.size()
+                    && !rows.get(changedCount).updatedAt().isAfter(tombstones.get(deletedCount).getDeletedAt()));
+            if (nextIsChange) {
+                changedCount++;
+            } else {
+                deletedCount++;
+            }
+        }
+        List<EventSyncRow> changed = rows.subList(0, changedCount);
+        List<EventTombstone> deleted = tombstones.subList(0, deletedCount);
+        boolean hasMore = changedCount < rows.size() || deletedCount < tombstones.size();
+
+        EventSyncToken nextToken = token;
+        if (!changed.isEmpty()) {
+            EventSyncRow last = changed.get(changed.size() - 1);
+            nextToken = nextToken.withLastChanged(last.updatedAt(), last.eventId());
+        }
+        if (!deleted.isEmpty()) {
+            EventTombstone last = deleted.get(deleted.size() - 1);
+            nextToken = nextToken.withLastDeleted(last.getDeletedAt(), last.getEventId());
+        }
+        if (!hasMore) {
+            nextToken = nextToken.advanceTo(until);
+        }
+
+        return new EventSyncResponse(toSyncEvents(changed),
+                deleted.stream().map(EventTombstone::getEventId).toList(),
+                nextToken.encode(), hasMore);
+    }
+
+    // 반복 일정의 제외 날짜를 한 번에 조회하여 응답 형식으로 변환
+    private List<EventSyncEvent> toSyncEvents(List<EventSyncRow> rows) {
+        List<Long> recurringEventIds = rows.stream()
+                .filter(row -> row.recurrenceRule() != null)
+                .map(EventSyncRow::eventId)
+                .toList();
+
+        Map<Long, List<LocalDateTime>> exceptionDates = new HashMap<>();
+        if (!recurringEventIds.isEmpty()) {
+            for (RecurrenceExceptionRow row : eventRepository.findRecurrenceExceptionsByEventIdIn(recurringEventIds)) {
+                exceptionDates.computeIfAbsent(row.eventId(), id -> new ArrayList<>()).add(row.originalStartDate());
+            }
+            exceptionDates.values().forEach(Collections::sort);
+        }
+
+        return rows.stream()
+                .map(row -> EventSyncEvent.of(row, exceptionDates.getOrDefault(row.eventId(), List.of())))
+                .toList();
+    }
+}
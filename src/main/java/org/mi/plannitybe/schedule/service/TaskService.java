@@ -0,0 +1,254 @@
+package org.mi.plannitybe.schedule.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.mi.plannitybe.exception.*;
+import org.mi.plannitybe.schedule.dto.*;
+import org.mi.plannitybe.schedule.entity.*;
+import org.mi.plannitybe.schedule.mapper.TaskMapper;
+import org.mi.plannitybe.schedule.repository.*;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskService {
+
+    private final TaskRepository taskRepository;
+    private final TaskListRepository taskListRepository;
+    private final EventTaskRepository eventTaskRepository;
+    private final TaskClosureRepository taskClosureRepository;
+    private final TaskProgressRepository taskProgressRepository;
+    private final TaskListProgressRepository taskListProgressRepository;
+
+    // user의 task를 생성하는 메서드
+    @Transactional
+    public TaskResponse createTask(CreateTaskRequest createTaskRequest, String userId) {
+
+        // taskListId 유효성 검증(존재 여부 및 소유자 일치 여부)과 함께 taskList를 잠금 - 계층/진행 현황 변경 직렬화
+        TaskList taskList = lockOwnedTaskList(createTaskRequest.taskListId(), userId);
+
+        // 상위 작업이 있으면 같은 taskList의 task인지 검증
+        Task mainTask = createTaskRequest.mainTaskId() == null
+                ? null : findMainTask(null, createTaskRequest.mainTaskId(), taskList, userId);
+
+        Task task = taskRepository.save(TaskMapper.toEntity(createTaskRequest, taskList, mainTask));
+
+        // closure 행 추가 - 자기 자신 + 상위 작업의 상위 작업 행마다 1개 (계층 깊이만큼)
+        List<TaskClosure> mainTaskAncestors = mainTask == null
+                ? List.of() : taskClosureRepository.findByDescendantId(mainTask.getId());
+        taskClosureRepository.insertAll(TaskClosure.forNewTask(task.getId(), taskList.getId(), mainTaskAncestors));
+
+        // 진행 현황 - 새 task의 행(하위 작업 없음) 추가, 모든 상위 작업과 taskList에 새 task의 상태 반영
+        taskProgressRepository.save(new TaskProgress(task, TaskStatusCounts.empty()));
+        TaskStatusCounts added = TaskStatusCounts.of(task.getStatus());
+        taskProgressRepository.addToAncestors(task.getId(), added);
+        addToTaskListProgress(taskList, added);
+
+        return TaskMapper.toResponse(task);
+    }
+
+    public TaskResponse getTask(Long taskId, String userId) {
+        return TaskMapper.toResponse(findOwnedTask(taskId, userId));
+    }
+
+    // task의 모든 하위 작업 (가까운 순) - closure table 한 번의 조회
+    public List<TaskResponse> getDescendants(Long taskId, String userId) {
+        findOwnedTask(taskId, userId);
+        return taskRepository.findDescendants(taskId).stream().map(TaskMapper::toResponse).toList();
+    }
+
+    // task의 모든 상위 작업 (최상위 작업부터) - closure table 한 번의 조회
+    public List<TaskResponse> getAncestors(Long taskId, String userId) {
+        findOwnedTask(taskId, userId);
+        return taskRepository.findAncestors(taskId).stream().map(TaskMapper::toResponse).toList();
+    }
+
+    // task의 하위 작업 수 - closure table 한 번의 조회
+    public long countDescendants(Long taskId, String userId) {
+        findOwnedTask(taskId, userId);
+        return taskClosureRepository.countDescendants(taskId);
+    }
+
+    // task의 진행 현황 (모든 하위 작업의 상태별 수) - 저장된 집계 행 단건 조회
+    public TaskProgressResponse getTaskProgress(Long taskId, String userId) {
+        findOwnedTask(taskId, userId);
+        return TaskProgressResponse.of(
+                taskProgressRepository.findCountsByTaskId(taskId).orElseGet(TaskStatusCounts::empty));
+    }
+
+    // taskList의 진행 현황 (전체 task의 상태별 수) - 저장된 집계 행 단건 조회
+    public TaskProgressResponse getTaskListProgress(Long taskListId, String userId) {
+        findOwnedTaskList(taskListId, userId);
+        return TaskProgressResponse.of(
+                taskListProgressRepository.findCountsByTaskListId(taskListId).orElseGet(TaskStatusCounts::empty));
+    }
+
+    // taskList의 전체 task를 한 번의 쿼리로 조회하여 하위 작업 계층으로 조립 (계층 깊이와 관계없이 쿼리 2번 - taskList 검증, task 조회)
+    public TaskListTreeResponse getTaskTree(Long taskListId, String userId) {
+        TaskList taskList = findOwnedTaskList(taskListId, userId);
+        List<TaskTreeRow> rows = taskRepository.findTreeRowsByTaskListId(taskListId);
+        return new TaskListTreeResponse(taskList.getId(), taskList.getName(), TaskMapper.toTree(rows));
+    }
+
+    // user의 task 업데이트 메소드 (전체 수정, taskList는 변경하지 않음)
+    @Transactional
+    public TaskResponse updateTask(Long taskId, UpdateTaskRequest updateTaskRequest, String userId) {
+
+        // 변경 요청한 taskId 유효성 검사(존재 여부 및 소유자 일치 여부)와 함께 taskList를 잠근 뒤 task를 쓰기 잠금으로 조회
+        lockOwnedTask(taskId, userId);
+        Task task = findLockedTask(taskId, userId);
+
+        // 상위 작업/상태 변경 여부는 잠금 이후의 값으로 비교 - 동시에 같은 상태로 변경하면 나중 요청은 증감을 반영하지 않음
+        Task mainTask = task.getMainTask();
+        Long requestMainTaskId = updateTaskRequest.mainTaskId();
+        Long currentMainTaskId = mainTask == null ? null : mainTask.getId();
+        boolean moved = !Objects.equals(requestMainTaskId, currentMainTaskId);
+        TaskStatusType previousStatus = task.getStatus();
+        boolean statusChanged = previousStatus != updateTaskRequest.status();
+
+        // 상위 작업 검증 - 같은 taskList의 task이며 자기 자신 또는 하위 작업이 아니어야 함
+        if (moved) {
+            mainTask = requestMainTaskId == null
+                    ? null : findMainTask(task, requestMainTaskId, task.getTaskList(), userId);
+        }
+
+        task.update(updateTaskRequest.title(), mainTask, updateTaskRequest.estimatedDuration(),
+                updateTaskRequest.actualDuration(), updateTaskRequest.status(), updateTaskRequest.reminderDate(),
+                updateTaskRequest.isAllDay(), updateTaskRequest.description());
+        taskRepository.flush();
+
+        // 상태 변경 - 현재 모든 상위 작업과 taskList에 이전 상태(잠금 이후 조회한 값) -1, 새 상태 +1
+        if (statusChanged) {
+            TaskStatusCounts delta = TaskStatusCounts.of(task.getStatus()).minus(TaskStatusCounts.of(previousStatus));
+            taskProgressRepository.addToAncestors(taskId, delta);
+            addToTaskListProgress(task.getTaskList(), delta);
+        }
+
+        if (moved) {
+            moveSubtree(taskId, requestMainTaskId, task.getStatus());
+        }
+
+        return TaskMapper.toResponse(task);
+    }
+
+    // task와 모든 하위 작업 삭제 - 하위 작업 수와 관계없이 closure 조회 1번, 진행 현황/closure/일정 연결 삭제/상위 작업 해제/삭제 각 1번
+    @Transactional
+    public void deleteTask(Long taskId, String userId) {
+        // taskId 유효성 검사(존재여부 및 소유자 검증)와 함께 taskList를 잠근 뒤 task를 쓰기 잠금으로 조회
+        lockOwnedTask(taskId, userId);
+        Task task = findLockedTask(taskId, userId);
+
+        List<Long> subtreeIds = taskClosureRepository.findSubtreeIds(taskId);
+        TaskStatusCounts removed = subtreeCounts(taskId, task.getStatus()).negate();
+
+        taskRepository.flush();  // bulk 쿼리 전에 대기 중인 변경 반영
+        taskProgressRepository.addToAncestors(taskId, removed);  // closure 행 삭제 전에 상위 작업에서 subtree의 상태별 수를 뺌
+        taskProgressRepository.deleteByTaskIdIn(subtreeIds);
+        taskClosureRepository.deleteByDescendantIdIn(subtreeIds);
+        eventTaskRepository.deleteByTaskIdIn(subtreeIds);       // 일정에 연결된 task 연결 삭제 (일정은 유지)
+        taskRepository.detachMainTaskByIdIn(subtreeIds);        // 자기 참조 FK 해제 후 한 번에 삭제
+        taskRepository.deleteByIdIn(subtreeIds);
+        addToTaskListProgress(task.getTaskList(), removed);
+    }
+
+    // subtree를 새 상위 작업 아래로 이동 - 기존 상위 작업과의 행 삭제 후 새 상위 작업과의 행 추가 (subtree 내부 행은 유지)
+    // 진행 현황은 기존 상위 작업에서 subtree 전체의 상태별 수를 빼고 새 상위 작업에 더함 (taskList 전체는 변하지 않음)
+    private void moveSubtree(Long taskId, Long mainTaskId, TaskStatusType status) {
+        TaskStatusCounts moving = subtreeCounts(taskId, status);
+        taskProgressRepository.addToAncestors(taskId, moving.negate());
+
+        List<Long> ancestorIds = taskClosureRepository.findAncestorIds(taskId);
+        if (!ancestorIds.isEmpty()) {
+            taskClosureRepository.deleteLinks(taskClosureRepository.findSubtreeIds(taskId), ancestorIds);
+        }
+        if (mainTaskId != null) {
+            taskClosureRepository.insertSubtreeLinks(taskId, mainTaskId);
+        }
+
+        taskProgressRepository.addToAncestors(taskId, moving);
+    }
+
+    // task 자신과 모든 하위 작업의 상태별 수
+    private TaskStatusCounts subtreeCounts(Long taskId, TaskStatusType status) {
+        return taskProgressRepository.findCountsByTaskId(taskId).orElseGet(TaskStatusCounts::empty)
+                .plus(TaskStatusCounts.of(status));
+    }
+
+    // taskList 진행 현황에 증감 반영 - 진행 현황 행이 없는 taskList(도입 이후 생성)는 현재 task 전체로 계산하여 추가
+    private void addToTaskListProgress(TaskList taskList, TaskStatusCounts delta) {
+        if (taskListProgressRepository.add(taskList.getId(), delta) == 0 && !delta.isEmpty()) {
+            TaskStatusCounts counts = TaskStatusCounts.empty();
+            for (TaskStatusRow row : taskRepository.findStatusRowsByTaskListId(taskList.getId())) {
+                counts = counts.plus(TaskStatusCounts.of(row.status()));
+            }
+            taskListProgressRepository.save(new TaskListProgress(taskList, counts));
+        }
+    }
+
+    // 같은 taskList의 계층 변경(closure table, 진행 현황 갱신)을 직렬화 - 동시에 이동하여 순환 참조가 생기거나 closure 행이 어긋나지 않도록 함
+    // 반드시 트랜잭션의 첫 쿼리로 실행 - MySQL REPEATABLE READ의 일반 조회는 첫 일반 조회 시점의 스냅샷을 보므로,
+    // 잠금 전에 조회하면 이후의 closure 조회(순환 참조 검증 포함)가 잠금을 기다리는 동안 커밋된 다른 이동을 보지 못함
+    private TaskList lockOwnedTaskList(Long taskListId, String userId) {
+        return taskListRepository.findForUpdateByIdAndUserId(taskListId, userId).orElseThrow(
+                () -> taskListRepository.existsById(taskListId)
+                        ? new TaskListAccessDeniedException(userId, taskListId)
+                        : new TaskListNotFoundException(userId, taskListId));
+    }
+
+    // task가 속한 taskList를 잠금 (task 행도 함께 잠김) - lockOwnedTaskList와 같이 트랜잭션의 첫 쿼리로 실행
+    private void lockOwnedTask(Long taskId, String userId) {
+        if (taskListRepository.lockIdByTaskIdAndUserId(taskId, userId).isEmpty()) {
+            throw taskRepository.existsById(taskId)
+                    ? new TaskAccessDeniedException(userId, taskId)
+                    : new TaskNotFoundException(userId, taskId);
+        }
+    }
+
+    // taskListId로 taskList를 조회하여 존재 여부 및 소유자 일치 여부를 검증하는 메소드
+    private TaskList findOwnedTaskList(Long taskListId, String userId) {
+        TaskList taskList = taskListRepository.findById(taskListId).orElseThrow(
+                () -> new TaskListNotFoundException(userId, taskListId));
+        if (!userId.equals(taskList.getUser().getId())) {  // user 프록시의 id는 초기화 없이 반환
+            throw new TaskListAccessDeniedException(userId, taskListId);
+        }
+        return taskList;
+    }
+
+    // taskId로 task를 taskList와 함께 조회하여 존재 여부 및 소유자 일치 여부를 검증하는 메소드
+    private Task findOwnedTask(Long taskId, String userId) {
+        Task task = taskRepository.findWithTaskListById(taskId).orElseThrow(
+                () -> new TaskNotFoundException(userId, taskId));
+        if (!userId.equals(task.getTaskList().getUser().getId())) {  // taskList fetch join으로 user_id 이미 조회됨
+            throw new TaskAccessDeniedException(userId, taskId);
+        }
+        return task;
+    }
+
+    // lockOwnedTask 이후 task를 taskList와 함께 쓰기 잠금으로 다시 조회 (소유자는 잠금 쿼리에서 검증됨)
+    private Task findLockedTask(Long taskId, String userId) {
+        return taskRepository.findForUpdateWithTaskListById(taskId).orElseThrow(
+                () -> new TaskNotFoundException(userId, taskId));
+    }
+
+    // 상위 작업으로 지정할 task 검증 - 소유자 일치, 같은 taskList, task(수정 시)의 하위 작업이 아님
+    private Task findMainTask(Task task, Long mainTaskId, TaskList taskList, String userId) {
+        Long taskId = task == null ? null : task.getId();
+        Task mainTask = findOwnedTask(mainTaskId, userId);
+        if (!taskList.getId().equals(mainTask.getTaskList().getId())) {
+            throw new InvalidTaskHierarchyException(taskId, mainTaskId, "다른 할일리스트의 작업");
+        }
+
+        // 수정 시 순환 참조 검증 - closure table에 (task, mainTask) 행이 있으면 자기 자신 또는 하위 작업
+        if (task != null && taskClosureRepository.existsByAncestorIdAndDescendantId(taskId, mainTaskId)) {
+            throw new InvalidTaskHierarchyException(taskId, mainTaskId, "자기 자신 또는 하위 작업");
+        }
+        return mainTask;
+    }
+}
@@ -0,0 +1,38 @@
+package org.mi.plannitybe.schedule.type;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+// 일정 밀도 조회 단위 - 일별, 주별(월요일 시작)
+public enum EventDensityGranularity {
+    DAY {
+        @Override
+        public LocalDate bucketStart(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public int index(LocalDate firstBucketStart, LocalDate date) {
+            return (int) ChronoUnit.DAYS.between(firstBucketStart, date);
+        }
+    },
+    WEEK {
+        @Override
+        public LocalDate bucketStart(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public int index(LocalDate firstBucketStart, LocalDate date) {
+            return (int) (ChronoUnit.DAYS.between(firstBucketStart, date) / 7);
+        }
+    };
+
+    // date가 속한 구간의 시작 날짜
+    public abstract LocalDate bucketStart(LocalDate date);
+
+    // 첫 구간(firstBucketStart)부터 date가 속한 구간까지의 구간 수
+    public abstract int index(LocalDate firstBucketStart, LocalDate date);
+}
@@ -15,7 +15,8 @@ import org.mi.plannitybe.user.type.WeekStartType;
 public class DefaultSettings extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "default_settings_seq")
+    @SequenceGenerator(name = "default_settings_seq", sequenceName = "default_settings_seq", allocationSize = 50)
     @Comment("설정 ID")
     private Long id;
 
@@ -12,7 +12,8 @@ import org.mi.plannitybe.common.entity.base.BaseEntity;
 public class UserTermHistory extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_term_history_seq")
+    @SequenceGenerator(name = "user_term_history_seq", sequenceName = "user_term_history_seq", allocationSize = 50)
     @Comment("이력 ID")
     private Long id;
 
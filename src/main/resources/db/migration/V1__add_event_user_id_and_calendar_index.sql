@@ -0,0 +1,21 @@
+-- 캘린더 조회(findEventsByUserIdAndDateRange)용 스키마 변경 (MySQL 8.0)
+-- 1. event.user_id 비정규화 컬럼 추가 및 기존 데이터 채우기
+-- 2. (user_id, start_date, end_date) 복합 인덱스 추가
+--    -> user_id 동등 조건 + start_date 범위 스캔, ORDER BY start_date, id 를 filesort 없이 처리
+
+ALTER TABLE event
+    ADD COLUMN user_id VARCHAR(36) NULL COMMENT '사용자 ID' AFTER event_list_id,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 대용량 테이블은 id 범위로 나누어 실행 (예: id BETWEEN 1 AND 100000 단위로 반복)
+UPDATE event e
+    JOIN event_list el ON el.id = e.event_list_id
+SET e.user_id = el.user_id
+WHERE e.user_id IS NULL;
+
+CREATE INDEX idx_event_user_start_end ON event (user_id, start_date, end_date)
+    ALGORITHM = INPLACE LOCK = NONE;
+
+-- event_list.user_id (FK 생성 시 자동으로 만들어진 인덱스가 없는 경우에만 실행)
+CREATE INDEX idx_event_list_user ON event_list (user_id)
+    ALGORITHM = INPLACE LOCK = NONE;
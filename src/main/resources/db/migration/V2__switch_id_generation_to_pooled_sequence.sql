@@ -0,0 +1,31 @@
+-- 엔티티 ID 생성 방식 변경: IDENTITY -> pooled 시퀀스 (MySQL 8.0)
+-- MySQL은 시퀀스를 지원하지 않으므로 Hibernate가 {table}_seq 테이블(next_val 컬럼)로 시퀀스를 대체한다.
+-- pooled 방식은 읽은 값 - 49 ~ 읽은 값 범위의 ID를 사용하므로 next_val을 기존 최대 ID + 51로 지정하여 기존 ID와 겹치지 않도록 한다.
+-- 기존 AUTO_INCREMENT 속성은 그대로 두어도 되며, 애플리케이션 배포 직전에 실행한다.
+
+CREATE TABLE event_seq (next_val BIGINT);
+INSERT INTO event_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM event;
+
+CREATE TABLE event_task_seq (next_val BIGINT);
+INSERT INTO event_task_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM event_task;
+
+CREATE TABLE task_seq (next_val BIGINT);
+INSERT INTO task_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM task;
+
+CREATE TABLE task_list_seq (next_val BIGINT);
+INSERT INTO task_list_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM task_list;
+
+CREATE TABLE event_list_seq (next_val BIGINT);
+INSERT INTO event_list_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM event_list;
+
+CREATE TABLE common_code_seq (next_val BIGINT);
+INSERT INTO common_code_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM common_code;
+
+CREATE TABLE default_settings_seq (next_val BIGINT);
+INSERT INTO default_settings_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM default_settings;
+
+CREATE TABLE user_term_history_seq (next_val BIGINT);
+INSERT INTO user_term_history_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM user_term_history;
+
+CREATE TABLE term_seq (next_val BIGINT);
+INSERT INTO term_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM term;
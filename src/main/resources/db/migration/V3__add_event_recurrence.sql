@@ -0,0 +1,22 @@
+-- 반복 일정 지원 (MySQL 8.0)
+-- 1. event에 반복 규칙(RRULE), 반복 종료 날짜, 원본 반복 일정 ID 컬럼 추가
+-- 2. 반복 일정에서 제외된 발생 일정의 시작 날짜를 저장하는 event_recurrence_exception 테이블 추가
+--    -> 반복 일정은 한 행만 저장하고 캘린더 조회 시 조회 범위의 발생 일정으로 펼친다.
+
+ALTER TABLE event
+    ADD COLUMN recurrence_rule VARCHAR(255) NULL COMMENT '반복 규칙',
+    ADD COLUMN recurrence_end_date DATETIME(6) NULL COMMENT '반복 종료 날짜',
+    ADD COLUMN recurring_event_id BIGINT NULL COMMENT '원본 반복 일정 ID',
+    ALGORITHM = INSTANT;
+
+CREATE TABLE event_recurrence_exception
+(
+    event_id            BIGINT      NOT NULL,
+    original_start_date DATETIME(6) NOT NULL,
+    PRIMARY KEY (event_id, original_start_date),
+    CONSTRAINT fk_event_recurrence_exception_event FOREIGN KEY (event_id) REFERENCES event (id)
+);
+
+-- 반복 일정 삭제 시 발생 일정을 변경하여 만든 일정 조회 (findByRecurringEventId)
+CREATE INDEX idx_event_recurring_event ON event (recurring_event_id)
+    ALGORITHM = INPLACE LOCK = NONE;
@@ -0,0 +1,18 @@
+-- 일정 변경 동기화 지원 (MySQL 8.0)
+-- 1. 수정일시 기준 변경 일정 조회용 인덱스 추가 (InnoDB 보조 인덱스에 PK(id)가 포함되어 (updated_at, id) 순서로 스캔)
+-- 2. 삭제된 일정을 동기화 응답에 전달하기 위한 event_tombstone 테이블 추가
+--    -> 보관 기간(event.sync.tombstone-retention)이 지난 기록은 EventTombstonePurgeJob이 삭제한다.
+
+CREATE INDEX idx_event_user_updated ON event (user_id, updated_at)
+    ALGORITHM = INPLACE LOCK = NONE;
+
+CREATE TABLE event_tombstone
+(
+    event_id   BIGINT      NOT NULL COMMENT '이벤트 ID',
+    user_id    VARCHAR(36) NOT NULL COMMENT '사용자 ID',
+    deleted_at DATETIME(6) NOT NULL COMMENT '삭제일시',
+    PRIMARY KEY (event_id)
+);
+
+CREATE INDEX idx_event_tombstone_user_deleted ON event_tombstone (user_id, deleted_at, event_id);
+CREATE INDEX idx_event_tombstone_deleted ON event_tombstone (deleted_at);
@@ -0,0 +1,16 @@
+-- 일정-작업 연결 중복 방지 (MySQL 8.0)
+-- 1. 같은 (event_id, task_id) 연결이 여러 행 있으면 가장 먼저 저장된 행(id가 가장 작은 행)만 남기고 삭제
+-- 2. (event_id, task_id) unique 제약 추가
+--    -> 동시에 같은 연결을 추가하면 한쪽 insert가 실패하므로 중복 행이 저장되지 않는다.
+--    -> event_id로 시작하는 인덱스이므로 일정별 연결 조회/삭제에도 사용된다.
+
+DELETE et
+FROM event_task et
+         JOIN event_task dup
+              ON dup.event_id = et.event_id
+                  AND dup.task_id = et.task_id
+                  AND dup.id < et.id;
+
+ALTER TABLE event_task
+    ADD CONSTRAINT uk_event_task_event_task UNIQUE (event_id, task_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
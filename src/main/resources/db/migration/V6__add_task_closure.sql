@@ -0,0 +1,29 @@
+-- 작업 계층 closure table 추가 (MySQL 8.0)
+-- 1. 모든 (상위 작업, 하위 작업) 쌍과 거리를 저장하는 task_closure 테이블 추가 (자기 자신도 거리 0으로 저장)
+--    -> 하위 작업/상위 작업/하위 작업 수 조회를 재귀 조회 없이 인덱스 한 번으로 처리한다.
+-- 2. 기존 task의 main_task_id 계층으로 closure 행 생성
+--    -> 이후 어긋난 행은 TaskClosureConsistencyJob이 점검/복구한다.
+
+CREATE TABLE task_closure
+(
+    ancestor_id   BIGINT NOT NULL COMMENT '상위 작업 ID',
+    descendant_id BIGINT NOT NULL COMMENT '하위 작업 ID',
+    depth         INT    NOT NULL COMMENT '상위 작업과의 거리 (자기 자신은 0)',
+    task_list_id  BIGINT NULL COMMENT '작업 목록 ID',
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+CREATE INDEX idx_task_closure_descendant ON task_closure (descendant_id, depth, ancestor_id);
+CREATE INDEX idx_task_closure_task_list ON task_closure (task_list_id);
+
+INSERT INTO task_closure (ancestor_id, descendant_id, depth, task_list_id)
+WITH RECURSIVE closure (ancestor_id, descendant_id, depth, task_list_id) AS (
+    SELECT id, id, 0, task_list_id
+    FROM task
+    UNION ALL
+    SELECT c.ancestor_id, t.id, c.depth + 1, t.task_list_id
+    FROM closure c
+             JOIN task t ON t.main_task_id = c.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth, task_list_id
+FROM closure;
@@ -0,0 +1,57 @@
+-- 작업 진행 현황 집계 테이블 추가 (MySQL 8.0)
+-- 1. 작업별 하위 작업(자기 자신 제외) 상태별 수를 저장하는 task_progress, 할일리스트별 상태별 수를 저장하는 task_list_progress 추가
+--    -> 진행 현황/완료율 조회를 하위 작업 수와 관계없이 PK 단건 조회로 처리한다. (증감은 TaskService가 closure table로 반영)
+-- 2. 기존 task, task_list로 집계 행 생성
+--    -> 이후 어긋난 값은 TaskProgressRebuildJob이 점검/재계산한다.
+
+CREATE TABLE task_progress
+(
+    task_id     BIGINT NOT NULL COMMENT '작업 ID',
+    total       INT    NOT NULL COMMENT '전체 작업 수',
+    not_started INT    NOT NULL COMMENT '시작 전 작업 수',
+    in_progress INT    NOT NULL COMMENT '진행 중 작업 수',
+    completed   INT    NOT NULL COMMENT '완료 작업 수',
+    postponed   INT    NOT NULL COMMENT '연기된 작업 수',
+    canceled    INT    NOT NULL COMMENT '취소된 작업 수',
+    PRIMARY KEY (task_id),
+    CONSTRAINT fk_task_progress_task FOREIGN KEY (task_id) REFERENCES task (id)
+);
+
+CREATE TABLE task_list_progress
+(
+    task_list_id BIGINT NOT NULL COMMENT '작업 목록 ID',
+    total        INT    NOT NULL COMMENT '전체 작업 수',
+    not_started  INT    NOT NULL COMMENT '시작 전 작업 수',
+    in_progress  INT    NOT NULL COMMENT '진행 중 작업 수',
+    completed    INT    NOT NULL COMMENT '완료 작업 수',
+    postponed    INT    NOT NULL COMMENT '연기된 작업 수',
+    canceled     INT    NOT NULL COMMENT '취소된 작업 수',
+    PRIMARY KEY (task_list_id),
+    CONSTRAINT fk_task_list_progress_task_list FOREIGN KEY (task_list_id) REFERENCES task_list (id)
+);
+
+-- 작업마다 closure table의 하위 작업(거리 1 이상) 상태별 수
+INSERT INTO task_progress (task_id, total, not_started, in_progress, completed, postponed, canceled)
+SELECT t.id,
+       COUNT(d.id),
+       COALESCE(SUM(d.status = 'NOT_STARTED'), 0),
+       COALESCE(SUM(d.status = 'IN_PROGRESS'), 0),
+       COALESCE(SUM(d.status = 'COMPLETED'), 0),
+       COALESCE(SUM(d.status = 'POSTPONED'), 0),
+       COALESCE(SUM(d.status = 'CANCELED'), 0)
+FROM task t
+         LEFT JOIN task_closure c ON c.ancestor_id = t.id AND c.depth > 0
+         LEFT JOIN task d ON d.id = c.descendant_id
+GROUP BY t.id;
+
+INSERT INTO task_list_progress (task_list_id, total, not_started, in_progress, completed, postponed, canceled)
+SELECT tl.id,
+       COUNT(t.id),
+       COALESCE(SUM(t.status = 'NOT_STARTED'), 0),
+       COALESCE(SUM(t.status = 'IN_PROGRESS'), 0),
+       COALESCE(SUM(t.status = 'COMPLETED'), 0),
+       COALESCE(SUM(t.status = 'POSTPONED'), 0),
+       COALESCE(SUM(t.status = 'CANCELED'), 0)
+FROM task_list tl
+         LEFT JOIN task t ON t.task_list_id = tl.id
+GROUP BY tl.id;
@@ -0,0 +1,12 @@
+-- 캘린더 조회 인덱스 교체 (MySQL 8.0)
+-- V1의 (user_id, start_date, end_date) 인덱스는 같은 start_date 안에서 end_date 순이므로 ORDER BY start_date, id에 filesort가 필요함
+-- 1. (user_id, start_date, id) 인덱스 추가
+--    -> user_id 동등 조건 + start_date 범위 스캔, ORDER BY start_date, id 를 filesort 없이 처리 (end_date 조건은 읽은 행에서 필터링)
+--    -> 페이지 조회(findEventPageByUserIdAndDateRangeAfter)는 조건을 만족하는 행을 limit개 읽으면 멈춤
+-- 2. 기존 인덱스 삭제 (새 인덱스 생성 후 삭제하여 교체 중에도 캘린더 조회가 인덱스를 사용하도록 함)
+
+CREATE INDEX idx_event_user_start ON event (user_id, start_date, id)
+    ALGORITHM = INPLACE LOCK = NONE;
+
+DROP INDEX idx_event_user_start_end ON event
+    ALGORITHM = INPLACE LOCK = NONE;
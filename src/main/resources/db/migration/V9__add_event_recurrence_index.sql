@@ -0,0 +1,10 @@
+-- 반복 일정 조회 인덱스 추가 (MySQL 8.0)
+-- findRecurringEventsByUserIdAndDateRange (user_id = ? AND recurrence_rule IS NOT NULL AND ... AND (recurrence_end_date IS NULL OR recurrence_end_date >= ?))
+-- 기존에는 idx_event_user_start로 user의 모든 일정(반복하지 않는 일정 포함)을 읽은 뒤 반복 여부를 확인함
+-- 1. (user_id, recurrence_rule, recurrence_end_date) 인덱스 추가
+--    -> user_id 동등 조건 + recurrence_rule IS NOT NULL 범위 스캔으로 반복 일정 항목만 읽음
+--    -> 반복 종료 날짜 조건은 인덱스 컨디션 푸시다운으로 확인하여 이미 끝난 반복 일정은 행을 읽지 않음
+--    (recurrence_rule VARCHAR(255) utf8mb4 1020 bytes + user_id 144 bytes + 8 bytes로 인덱스 키 길이 제한 3072 bytes 이내)
+
+CREATE INDEX idx_event_user_recurrence ON event (user_id, recurrence_rule, recurrence_end_date)
+    ALGORITHM = INPLACE LOCK = NONE;
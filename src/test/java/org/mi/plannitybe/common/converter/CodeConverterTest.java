@@ -0,0 +1,45 @@
+package org.mi.plannitybe.common.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.schedule.converter.TaskStatusConverter;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+import org.mi.plannitybe.user.converter.UserStatusConverter;
+import org.mi.plannitybe.user.type.UserStatusType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CodeConverter 테스트")
+class CodeConverterTest {
+
+    private final TaskStatusConverter taskStatusConverter = new TaskStatusConverter();
+
+    @Test
+    @DisplayName("모든 코드 값이 해당 enum으로 변환되고 다시 같은 코드 값으로 변환")
+    void convert_allCodes() {
+        for (TaskStatusType status : TaskStatusType.values()) {
+            String code = taskStatusConverter.convertToDatabaseColumn(status);
+            assertThat(taskStatusConverter.convertToEntityAttribute(code)).isSameAs(status);
+        }
+        UserStatusConverter userStatusConverter = new UserStatusConverter();
+        for (UserStatusType status : UserStatusType.values()) {
+            assertThat(userStatusConverter.convertToEntityAttribute(status.getCode())).isSameAs(status);
+        }
+    }
+
+    @Test
+    @DisplayName("알 수 없는 코드 값은 예외 발생")
+    void convertToEntityAttribute_unknownCode() {
+        assertThatThrownBy(() -> taskStatusConverter.convertToEntityAttribute("UNKNOWN"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown code value: UNKNOWN for enum TaskStatusType");
+    }
+
+    @Test
+    @DisplayName("nullable 컨버터는 null을 그대로 변환")
+    void convert_null() {
+        assertThat(taskStatusConverter.convertToEntityAttribute(null)).isNull();
+        assertThat(taskStatusConverter.convertToDatabaseColumn(null)).isNull();
+    }
+}
@@ -1,9 +1,13 @@
 package org.mi.plannitybe.config;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mi.plannitybe.common.JwtToken;
+import org.mi.plannitybe.exception.ExpiredTokenException;
 import org.mi.plannitybe.exception.InvalidTokenException;
 import org.mi.plannitybe.user.dto.CustomUserDetails;
 import org.mi.plannitybe.user.type.UserRoleType;
@@ -14,7 +18,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.time.Instant;
 import java.util.Base64;
+import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,13 +28,14 @@ import static org.junit.jupiter.api.Assertions.*;
 @ExtendWith(MockitoExtension.class)
 class JwtTokenProviderTest {
 
+    private String secretKey;
     private JwtTokenProvider jwtTokenProvider;
     private Authentication validAuthentication;
 
     @BeforeEach
     void setUp() {
         // 임의의 secret key (Base64로 인코딩된 256bit 이상)
-        String secretKey = Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-test-secret-key".getBytes());
+        secretKey = Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-test-secret-key".getBytes());
         jwtTokenProvider = new JwtTokenProvider(secretKey);
         
         // 테스트용 Authentication 객체 생성
@@ -113,6 +120,65 @@ class JwtTokenProviderTest {
         assertEquals(UserStatusType.ACTIVE, userDetails.getStatus());
     }
 
+    // ================ authenticate 테스트 ================
+
+    @Test
+    void authenticate_success() {
+        // GIVEN - 유효한 토큰 생성
+        JwtToken jwtToken = jwtTokenProvider.generateToken(validAuthentication);
+
+        // WHEN
+        Authentication authentication = jwtTokenProvider.authenticate(jwtToken.getAccessToken());
+
+        // THEN
+        assertEquals("test@test.com", authentication.getName());
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        assertEquals("user123", userDetails.getId());
+        assertEquals(UserRoleType.ROLE_USER, userDetails.getRole());
+        assertEquals(UserStatusType.ACTIVE, userDetails.getStatus());
+    }
+
+    @Test
+    void authenticate_fail_invalidToken() {
+        // WHEN & THEN
+        InvalidTokenException exception = assertThrows(InvalidTokenException.class,
+                () -> jwtTokenProvider.authenticate("invalid.jwt.token"));
+        assertEquals("유효하지 않은 토큰입니다.", exception.getMessage());
+    }
+
+    @Test
+    void authenticate_fail_expiredToken() {
+        // GIVEN - 같은 키로 서명된 만료된 토큰
+        String expiredToken = Jwts.builder()
+                .setSubject("test@test.com")
+                .claim("auth", "ROLE_USER")
+                .claim("userId", "user123")
+                .claim("status", "ACTIVE")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // WHEN & THEN
+        ExpiredTokenException exception = assertThrows(ExpiredTokenException.class,
+                () -> jwtTokenProvider.authenticate(expiredToken));
+        assertEquals("유효기간이 만료된 토큰입니다.", exception.getMessage());
+    }
+
+    @Test
+    void verify_success_returnsExpiration() {
+        // GIVEN - 유효한 토큰 생성
+        JwtToken jwtToken = jwtTokenProvider.generateToken(validAuthentication);
+
+        // WHEN
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(jwtToken.getAccessToken());
+
+        // THEN - 액세스 토큰 유효기간(15분) 이내의 만료 시각
+        assertEquals("test@test.com", verifiedToken.authentication().getName());
+        assertNotNull(verifiedToken.expiresAt());
+        assertTrue(verifiedToken.expiresAt().isAfter(Instant.now()));
+        assertTrue(verifiedToken.expiresAt().isBefore(Instant.now().plusSeconds(15 * 60 + 1)));
+    }
+
     // ================ validateToken 테스트 ================
 
     @Test
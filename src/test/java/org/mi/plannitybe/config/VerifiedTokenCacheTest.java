@@ -0,0 +1,176 @@
+package org.mi.plannitybe.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.exception.ExpiredTokenException;
+import org.mi.plannitybe.exception.InvalidTokenException;
+import org.mi.plannitybe.user.dto.CustomUserDetails;
+import org.mi.plannitybe.user.type.UserRoleType;
+import org.mi.plannitybe.user.type.UserStatusType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private MutableClock clock;
+    private VerifiedTokenCache verifiedTokenCache;
+    private Instant expiresAt;      // verifier가 반환할 토큰 만료 시각
+    private int verifyCount;        // verifier 호출 횟수
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-04-01T00:00:00Z"));
+        verifiedTokenCache = new VerifiedTokenCache(true, 100, Duration.ofMinutes(15), clock);
+        expiresAt = clock.instant().plus(Duration.ofMinutes(15));
+        verifyCount = 0;
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 인증하면 verifier를 호출하지 않고 캐시에서 반환")
+    void authenticate_hitAfterFirstVerify() {
+        // WHEN
+        Authentication first = verifiedTokenCache.authenticate(TOKEN, this::verify);
+        Authentication second = verifiedTokenCache.authenticate(TOKEN, this::verify);
+
+        // THEN
+        assertThat(verifyCount).isEqualTo(1);
+        assertThat(second.getName()).isEqualTo("test@test.com");
+        assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());
+        assertThat(second).isNotSameAs(first);  // 요청마다 별도 Authentication 객체
+        assertThat(verifiedTokenCache.getStats().hitCount()).isEqualTo(1);
+        assertThat(verifiedTokenCache.getStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 캐시된 인증 정보를 반환하지 않고 다시 검증")
+    void authenticate_neverServesExpiredToken() {
+        // GIVEN
+        verifiedTokenCache.authenticate(TOKEN, this::verify);
+
+        // WHEN - 만료 시각 경과 후 verifier는 만료 예외 발생
+        clock.advance(Duration.ofMinutes(15));
+
+        // THEN
+        assertThatThrownBy(() -> verifiedTokenCache.authenticate(TOKEN, token -> {
+            throw new ExpiredTokenException("유효기간이 만료된 토큰입니다.");
+        })).isInstanceOf(ExpiredTokenException.class);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시에 저장하지 않음")
+    void authenticate_doesNotCacheFailures() {
+        // GIVEN
+        assertThatThrownBy(() -> verifiedTokenCache.authenticate(TOKEN, token -> {
+            throw new InvalidTokenException("유효하지 않은 토큰입니다.");
+        })).isInstanceOf(InvalidTokenException.class);
+
+        // WHEN
+        verifiedTokenCache.authenticate(TOKEN, this::verify);
+
+        // THEN
+        assertThat(verifyCount).isEqualTo(1);
+        assertThat(verifiedTokenCache.getStats().hitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 없는 토큰은 캐시에 저장하지 않음")
+    void authenticate_doesNotCacheTokenWithoutExpiration() {
+        // GIVEN
+        expiresAt = null;
+
+        // WHEN
+        verifiedTokenCache.authenticate(TOKEN, this::verify);
+        verifiedTokenCache.authenticate(TOKEN, this::verify);
+
+        // THEN
+        assertThat(verifyCount).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 일부 토큰을 제거")
+    void authenticate_boundedBySize() {
+        // GIVEN
+        VerifiedTokenCache smallCache = new VerifiedTokenCache(true, 10, Duration.ofMinutes(15), clock);
+
+        // WHEN
+        for (int i = 0; i < 100; i++) {
+            smallCache.authenticate(TOKEN + i, this::verify);
+        }
+        smallCache.cleanUp();
+
+        // THEN
+        assertThat(smallCache.getEstimatedSize()).isLessThanOrEqualTo(10);
+        assertThat(smallCache.getStats().evictionCount()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("비활성화된 경우 항상 verifier로 검증")
+    void authenticate_disabled() {
+        // GIVEN
+        VerifiedTokenCache disabledCache = new VerifiedTokenCache(false, 100, Duration.ofMinutes(15), clock);
+
+        // WHEN
+        disabledCache.authenticate(TOKEN, this::verify);
+        disabledCache.authenticate(TOKEN, this::verify);
+
+        // THEN
+        assertThat(verifyCount).isEqualTo(2);
+    }
+
+    private VerifiedToken verify(String token) {
+        verifyCount++;
+        CustomUserDetails userDetails = CustomUserDetails.builder()
+                .id("user123")
+                .email("test@test.com")
+                .password("")
+                .role(UserRoleType.ROLE_USER)
+                .status(UserStatusType.ACTIVE)
+                .build();
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                userDetails, "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return new VerifiedToken(authentication, expiresAt);
+    }
+
+    // 테스트에서 시간을 진행시키기 위한 Clock
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package org.mi.plannitybe.integration;
 
+import org.mi.plannitybe.schedule.entity.EventList;
+import org.mi.plannitybe.schedule.entity.TaskList;
+import org.mi.plannitybe.schedule.repository.EventListRepository;
+import org.mi.plannitybe.schedule.repository.TaskListRepository;
 import org.mi.plannitybe.user.entity.User;
 import org.mi.plannitybe.user.repository.UserRepository;
 import org.mi.plannitybe.user.type.UserRoleType;
@@ -19,6 +23,12 @@ public class UserSetUp {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EventListRepository eventListRepository;
+
+    @Autowired
+    private TaskListRepository taskListRepository;
+
     public String saveUser(String email, String pwd) {
 
         User user = User.builder()
@@ -42,4 +52,26 @@ public class UserSetUp {
 
         return userRepository.save(user).getId();
     }
+
+    // 임의의 이메일로 활성 사용자를 저장하고 엔티티 반환
+    public User saveUser() {
+        String userId = saveUser(UUID.randomUUID() + "@email.com", "pwd123!");
+        return userRepository.findById(userId).orElseThrow();
+    }
+
+    public EventList saveEventList(User user) {
+        return eventListRepository.save(EventList.builder()
+                .user(user)
+                .name("test")
+                .isDefault(false)
+                .build());
+    }
+
+    public TaskList saveTaskList(User user) {
+        return taskListRepository.save(TaskList.builder()
+                .user(user)
+                .name("test")
+                .isDefault(false)
+                .build());
+    }
 }
@@ -0,0 +1,171 @@
+package org.mi.plannitybe.schedule.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CalendarEventCache 테스트")
+class CalendarEventCacheTest {
+
+    private static final String USER_ID = "user123";
+
+    private CalendarEventCache calendarEventCache;
+    private List<EventCalendarResponse> storedEvents;   // DB에 저장된 일정 역할
+    private int loadCount;                              // loader 호출 횟수
+    private List<String> loadedRanges;                  // loader 호출 범위 (from ~ to)
+
+    @BeforeEach
+    void setUp() {
+        calendarEventCache = new CalendarEventCache(true, 10_000, Duration.ofMinutes(10), 24);
+        storedEvents = new ArrayList<>();
+        loadCount = 0;
+        loadedRanges = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("같은 범위를 다시 조회하면 loader를 호출하지 않고 캐시에서 반환")
+    void getEvents_hitAfterFirstLoad() {
+        // GIVEN
+        storedEvents.add(event(1L, "2024-04-15T10:00", "2024-04-15T12:00"));
+
+        // WHEN
+        List<EventCalendarResponse> first = getEvents("2024-04-01T00:00", "2024-04-30T00:00");
+        List<EventCalendarResponse> second = getEvents("2024-04-01T00:00", "2024-04-30T00:00");
+
+        // THEN
+        assertThat(first).extracting(EventCalendarResponse::getEventId).containsExactly(1L);
+        assertThat(second).extracting(EventCalendarResponse::getEventId).containsExactly(1L);
+        assertThat(loadCount).isEqualTo(1);
+        assertThat(calendarEventCache.getStats().hitCount()).isEqualTo(1);
+        assertThat(calendarEventCache.getStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 달에 걸친 일정은 한 번만 반환되고 시작날짜, id 순으로 정렬")
+    void getEvents_stitchesBucketsWithoutDuplicates() {
+        // GIVEN - 3월~5월에 걸친 일정과 각 달의 일정
+        storedEvents.add(event(3L, "2024-05-10T10:00", "2024-05-10T12:00"));
+        storedEvents.add(event(1L, "2024-03-20T00:00", "2024-05-02T00:00"));
+        storedEvents.add(event(2L, "2024-04-15T10:00", "2024-04-15T12:00"));
+
+        // WHEN
+        List<EventCalendarResponse> events = getEvents("2024-03-01T00:00", "2024-05-31T00:00");
+
+        // THEN
+        assertThat(events).extracting(EventCalendarResponse::getEventId).containsExactly(1L, 2L, 3L);
+        assertThat(loadCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 범위 밖의 일정은 같은 버킷이어도 제외")
+    void getEvents_filtersByRequestedRange() {
+        // GIVEN
+        storedEvents.add(event(1L, "2024-04-02T10:00", "2024-04-02T12:00"));
+        storedEvents.add(event(2L, "2024-04-20T10:00", "2024-04-20T12:00"));
+
+        // WHEN
+        List<EventCalendarResponse> events = getEvents("2024-04-15T00:00", "2024-04-21T00:00");
+
+        // THEN
+        assertThat(events).extracting(EventCalendarResponse::getEventId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("일정 기간에 해당하는 버킷만 무효화")
+    void evict_onlyAffectedBuckets() {
+        // GIVEN - 3월, 4월 버킷 적재
+        storedEvents.add(event(1L, "2024-03-10T10:00", "2024-03-10T12:00"));
+        getEvents("2024-03-01T00:00", "2024-04-30T00:00");
+
+        // WHEN - 4월 일정 추가 후 4월 버킷만 무효화
+        storedEvents.add(event(2L, "2024-04-10T10:00", "2024-04-10T12:00"));
+        calendarEventCache.evict(USER_ID, LocalDateTime.parse("2024-04-10T10:00"), LocalDateTime.parse("2024-04-10T12:00"));
+
+        // THEN - 3월은 캐시에서, 4월은 다시 조회
+        assertThat(getEvents("2024-03-01T00:00", "2024-03-31T00:00"))
+                .extracting(EventCalendarResponse::getEventId).containsExactly(1L);
+        assertThat(loadCount).isEqualTo(1);
+        assertThat(getEvents("2024-04-01T00:00", "2024-04-30T00:00"))
+                .extracting(EventCalendarResponse::getEventId).containsExactly(2L);
+        assertThat(loadCount).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 월이 떨어져 있으면 연속된 월 구간마다 조회 (사이의 캐시된 월은 다시 조회하지 않음)")
+    void getEvents_loadsEachMissingRun() {
+        // GIVEN - 2월 ~ 11월 버킷 적재
+        storedEvents.add(event(1L, "2024-01-10T10:00", "2024-01-10T12:00"));
+        storedEvents.add(event(2L, "2024-06-10T10:00", "2024-06-10T12:00"));
+        storedEvents.add(event(3L, "2024-12-10T10:00", "2024-12-10T12:00"));
+        getEvents("2024-02-01T00:00", "2024-11-30T00:00");
+
+        // WHEN - 1월 ~ 12월 조회
+        List<EventCalendarResponse> events = getEvents("2024-01-01T00:00", "2024-12-31T00:00");
+
+        // THEN - 1월, 12월만 각각 조회
+        assertThat(events).extracting(EventCalendarResponse::getEventId).containsExactly(1L, 2L, 3L);
+        assertThat(loadedRanges.subList(1, loadedRanges.size())).containsExactlyInAnyOrder(
+                "2024-01-01T00:00 ~ 2024-02-01T00:00",
+                "2024-12-01T00:00 ~ 2025-01-01T00:00");
+    }
+
+    @Test
+    @DisplayName("다음 달 1일 자정에 시작하는 일정은 다음 달 버킷에만 저장")
+    void getEvents_monthBoundary() {
+        // GIVEN - 4월 버킷 적재 시 5월 1일 00:00 시작 일정도 조회됨
+        storedEvents.add(event(1L, "2024-05-01T00:00", "2024-05-01T01:00"));
+        getEvents("2024-04-01T00:00", "2024-04-30T00:00");
+
+        // WHEN - 5월 버킷만 무효화
+        calendarEventCache.evict(USER_ID, LocalDateTime.parse("2024-05-01T00:00"), LocalDateTime.parse("2024-05-01T01:00"));
+
+        // THEN - 4월 버킷에는 해당 일정이 없어야 함 (무효화 범위와 버킷 범위 일치)
+        assertThat(getEvents("2024-04-01T00:00", "2024-05-01T00:00"))
+                .extracting(EventCalendarResponse::getEventId).containsExactly(1L);
+        assertThat(loadCount).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 또는 최대 버킷 수 초과 시 항상 loader로 조회")
+    void getEvents_bypass() {
+        // GIVEN
+        CalendarEventCache disabledCache = new CalendarEventCache(false, 10_000, Duration.ofMinutes(10), 24);
+        CalendarEventCache smallCache = new CalendarEventCache(true, 10_000, Duration.ofMinutes(10), 2);
+
+        // WHEN
+        disabledCache.getEvents(USER_ID, LocalDateTime.parse("2024-04-01T00:00"), LocalDateTime.parse("2024-04-30T00:00"), this::load);
+        disabledCache.getEvents(USER_ID, LocalDateTime.parse("2024-04-01T00:00"), LocalDateTime.parse("2024-04-30T00:00"), this::load);
+        smallCache.getEvents(USER_ID, LocalDateTime.parse("2024-01-01T00:00"), LocalDateTime.parse("2024-12-31T00:00"), this::load);
+
+        // THEN
+        assertThat(loadCount).isEqualTo(3);
+        assertThat(smallCache.getEstimatedSize()).isZero();
+    }
+
+    private List<EventCalendarResponse> getEvents(String from, String to) {
+        return calendarEventCache.getEvents(USER_ID, LocalDateTime.parse(from), LocalDateTime.parse(to), this::load);
+    }
+
+    // findEventsByUserIdAndDateRange와 동일한 조건으로 저장된 일정 조회
+    private List<EventCalendarResponse> load(LocalDateTime from, LocalDateTime to) {
+        loadCount++;
+        loadedRanges.add(from + " ~ " + to);
+        return storedEvents.stream()
+                .filter(e -> !e.getEventDateTime().getStartDate().isAfter(to))
+                .filter(e -> !e.getEventDateTime().getEndDate().isBefore(from))
+                .toList();
+    }
+
+    private EventCalendarResponse event(Long eventId, String startDate, String endDate) {
+        return new EventCalendarResponse(eventId, 1L, "event" + eventId,
+                LocalDateTime.parse(startDate), LocalDateTime.parse(endDate), false);
+    }
+}
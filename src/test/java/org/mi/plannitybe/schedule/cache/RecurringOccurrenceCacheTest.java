@@ -0,0 +1,176 @@
+package org.mi.plannitybe.schedule.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.dto.RecurringEventRow;
+import org.mi.plannitybe.schedule.recurrence.RecurringEventExpander;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecurringOccurrenceCache 테스트")
+class RecurringOccurrenceCacheTest {
+
+    private static final String USER_ID = "user123";
+
+    private RecurringOccurrenceCache recurringOccurrenceCache;
+    private Map<Long, Set<LocalDateTime>> storedExceptionDates;  // DB에 저장된 제외 날짜 역할
+    private List<Collection<Long>> loadedEventIds;               // exceptionLoader 호출 시 전달된 반복 일정 id 목록
+
+    @BeforeEach
+    void setUp() {
+        recurringOccurrenceCache = new RecurringOccurrenceCache(true, 10_000, Duration.ofMinutes(30), 24);
+        storedExceptionDates = new HashMap<>();
+        loadedEventIds = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("캐시된 월은 다시 펼치지 않고, 새로 조회하는 월의 반복 일정만 펼침")
+    void getOccurrences_fillsMissingMonthsOnly() {
+        // GIVEN - 매주 월요일
+        RecurringEventRow weekly = series(1L, "2024-01-01T10:00", "2024-01-01T11:00", "FREQ=WEEKLY;BYDAY=MO");
+
+        // WHEN - 4월 조회 후 4월 재조회, 4월 ~ 5월 조회
+        List<EventCalendarResponse> april = getOccurrences("2024-04-01T00:00", "2024-04-30T23:59", weekly);
+        getOccurrences("2024-04-01T00:00", "2024-04-30T23:59", weekly);
+        List<EventCalendarResponse> aprilToMay = getOccurrences("2024-04-01T00:00", "2024-05-31T23:59", weekly);
+
+        // THEN - 제외 날짜는 4월, 5월을 처음 펼칠 때만 조회
+        assertThat(april).hasSize(5);
+        assertThat(aprilToMay).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(expected(weekly, "2024-04-01T00:00", "2024-05-31T23:59"));
+        assertThat(loadedEventIds).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("여러 달에 걸친 발생 일정은 한 번만 반환하고 요청 범위 밖의 발생 일정은 제외")
+    void getOccurrences_stitchesBucketsWithoutDuplicates() {
+        // GIVEN - 매월 마지막 날부터 3일간
+        RecurringEventRow monthly = series(1L, "2024-01-31T00:00", "2024-02-03T00:00", "FREQ=MONTHLY;BYMONTHDAY=-1");
+
+        // WHEN - 3월 버킷을 먼저 적재한 뒤 3월 중순 ~ 5월 초 조회
+        getOccurrences("2024-03-01T00:00", "2024-03-31T23:59", monthly);
+        List<EventCalendarResponse> occurrences = getOccurrences("2024-03-15T00:00", "2024-05-02T00:00", monthly);
+
+        // THEN
+        assertThat(occurrences).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(expected(monthly, "2024-03-15T00:00", "2024-05-02T00:00"));
+        assertThat(occurrences).extracting(e -> e.getEventDateTime().getStartDate()).containsExactly(
+                LocalDateTime.parse("2024-03-31T00:00"),
+                LocalDateTime.parse("2024-04-30T00:00"));
+    }
+
+    @Test
+    @DisplayName("반복 일정 무효화 시 해당 반복 일정만 다시 펼침")
+    void evictSeries_onlyAffectedSeries() {
+        // GIVEN - 두 반복 일정의 4월 적재
+        RecurringEventRow daily = series(1L, "2024-01-01T09:00", "2024-01-01T10:00", "FREQ=DAILY");
+        RecurringEventRow weekly = series(2L, "2024-01-01T10:00", "2024-01-01T11:00", "FREQ=WEEKLY");
+        getOccurrences("2024-04-01T00:00", "2024-04-30T23:59", daily, weekly);
+
+        // WHEN - 매일 반복 일정에 제외 날짜 추가 후 무효화
+        storedExceptionDates.put(1L, Set.of(LocalDateTime.parse("2024-04-10T09:00")));
+        recurringOccurrenceCache.evictSeries(USER_ID, 1L);
+        List<EventCalendarResponse> occurrences = getOccurrences("2024-04-01T00:00", "2024-04-30T23:59", daily, weekly);
+
+        // THEN
+        assertThat(loadedEventIds.get(1)).containsExactly(1L);
+        assertThat(occurrences).filteredOn(e -> e.getEventId().equals(1L)).hasSize(29);
+        assertThat(occurrences).filteredOn(e -> e.getEventId().equals(2L)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("조회한 반복 일정 행이 캐시된 행과 다르면 다시 펼침")
+    void getOccurrences_reexpandsChangedSeries() {
+        // GIVEN
+        getOccurrences("2024-04-01T00:00", "2024-04-30T23:59",
+                series(1L, "2024-01-01T09:00", "2024-01-01T10:00", "FREQ=DAILY"));
+
+        // WHEN - 다른 인스턴스에서 규칙이 변경된 경우
+        RecurringEventRow changed = series(1L, "2024-01-01T09:00", "2024-01-01T10:00", "FREQ=WEEKLY;BYDAY=MO");
+        List<EventCalendarResponse> occurrences = getOccurrences("2024-04-01T00:00", "2024-04-30T23:59", changed);
+
+        // THEN
+        assertThat(occurrences).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(expected(changed, "2024-04-01T00:00", "2024-04-30T23:59"));
+        assertThat(loadedEventIds).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("무효화 없이 제외 날짜만 바뀌어도 수정일시가 다르면 다시 펼침")
+    void getOccurrences_reexpandsWhenExceptionsChangedElsewhere() {
+        // GIVEN - 4월 적재
+        getOccurrences("2024-04-01T00:00", "2024-04-30T23:59",
+                series(1L, "2024-01-01T09:00", "2024-01-01T10:00", "FREQ=DAILY"));
+
+        // WHEN - 다른 인스턴스에서 발생 일정을 삭제한 경우 (evictSeries 호출 없음, 제외 날짜 추가로 수정일시만 갱신)
+        storedExceptionDates.put(1L, Set.of(LocalDateTime.parse("2024-04-10T09:00")));
+        RecurringEventRow touched = series(1L, "2024-01-01T09:00", "2024-01-01T10:00", "FREQ=DAILY", "2024-04-09T12:00");
+        List<EventCalendarResponse> occurrences = getOccurrences("2024-04-01T00:00", "2024-04-30T23:59", touched);
+
+        // THEN - 삭제한 발생 일정 제외
+        assertThat(occurrences).hasSize(29);
+        assertThat(occurrences).extracting(e -> e.getEventDateTime().getStartDate())
+                .doesNotContain(LocalDateTime.parse("2024-04-10T09:00"));
+        assertThat(loadedEventIds).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 또는 최대 버킷 수 초과 시 항상 발생 일정 계산")
+    void getOccurrences_bypass() {
+        // GIVEN
+        RecurringOccurrenceCache disabledCache = new RecurringOccurrenceCache(false, 10_000, Duration.ofMinutes(30), 24);
+        RecurringOccurrenceCache smallCache = new RecurringOccurrenceCache(true, 10_000, Duration.ofMinutes(30), 2);
+        RecurringEventRow daily = series(1L, "2024-01-01T09:00", "2024-01-01T10:00", "FREQ=DAILY");
+        LocalDateTime from = LocalDateTime.parse("2024-01-01T00:00");
+        LocalDateTime to = LocalDateTime.parse("2024-12-31T23:59");
+
+        // WHEN
+        disabledCache.getOccurrences(USER_ID, from, to, List.of(daily), this::loadExceptionDates);
+        disabledCache.getOccurrences(USER_ID, from, to, List.of(daily), this::loadExceptionDates);
+        List<EventCalendarResponse> occurrences = smallCache.getOccurrences(USER_ID, from, to, List.of(daily), this::loadExceptionDates);
+
+        // THEN
+        assertThat(occurrences).hasSize(366);
+        assertThat(loadedEventIds).hasSize(3);
+        assertThat(smallCache.getEstimatedSize()).isZero();
+    }
+
+    private List<EventCalendarResponse> getOccurrences(String from, String to, RecurringEventRow... series) {
+        return recurringOccurrenceCache.getOccurrences(USER_ID, LocalDateTime.parse(from), LocalDateTime.parse(to),
+                List.of(series), this::loadExceptionDates);
+    }
+
+    // findRecurrenceExceptionsByEventIdIn과 동일하게 요청한 반복 일정의 제외 날짜만 반환
+    private Map<Long, Set<LocalDateTime>> loadExceptionDates(Collection<Long> eventIds) {
+        loadedEventIds.add(eventIds);
+        Map<Long, Set<LocalDateTime>> result = new HashMap<>();
+        for (Long eventId : eventIds) {
+            if (storedExceptionDates.containsKey(eventId)) {
+                result.put(eventId, storedExceptionDates.get(eventId));
+            }
+        }
+        return result;
+    }
+
+    // 캐시를 거치지 않고 펼친 발생 일정
+    private List<EventCalendarResponse> expected(RecurringEventRow series, String from, String to) {
+        return RecurringEventExpander.expand(series, storedExceptionDates.getOrDefault(series.eventId(), Set.of()),
+                LocalDateTime.parse(from), LocalDateTime.parse(to));
+    }
+
+    private RecurringEventRow series(Long eventId, String startDate, String endDate, String recurrenceRule) {
+        return series(eventId, startDate, endDate, recurrenceRule, "2024-01-01T00:00");
+    }
+
+    private RecurringEventRow series(Long eventId, String startDate, String endDate, String recurrenceRule, String updatedAt) {
+        return new RecurringEventRow(eventId, 1L, "series" + eventId,
+                LocalDateTime.parse(startDate), LocalDateTime.parse(endDate), false, recurrenceRule,
+                LocalDateTime.parse(updatedAt));
+    }
+}
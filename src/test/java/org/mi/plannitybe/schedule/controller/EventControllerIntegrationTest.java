@@ -1,5 +1,6 @@
 package org.mi.plannitybe.schedule.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -18,13 +19,16 @@ import org.mi.plannitybe.user.repository.UserRepository;
 import org.mi.plannitybe.user.type.UserStatusType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,9 +36,11 @@ import org.mi.plannitybe.schedule.repository.TaskRepository;
 import org.mi.plannitybe.schedule.repository.TaskListRepository;
 import org.mi.plannitybe.schedule.entity.Task;
 import org.mi.plannitybe.schedule.entity.TaskList;
-import org.mi.plannitybe.schedule.entity.EventTask;
 import org.mi.plannitybe.schedule.type.TaskStatusType;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -659,6 +665,215 @@ class EventControllerIntegrationTest extends BaseIntegrationTest {
         return createEventRequestJson(eventListId, title, startDate, endDate, isAllDay, taskIds, DEFAULT_DESCRIPTION);
     }
 
+    // ================ createEvents (일괄 생성) 테스트 ================
+
+    @Test
+    @DisplayName("createEvents 성공 - 항목별 생성 결과 반환")
+    void createEvents_success() throws Exception {
+        // GIVEN - 사용자, EventList 생성
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+
+        String validJson = createEventRequestJson(eventList.getId(), DEFAULT_EVENT_TITLE,
+                TEST_START_DATE.format(DATE_TIME_FORMATTER), TEST_END_DATE.format(DATE_TIME_FORMATTER), false, null);
+        String notFoundJson = createEventRequestJson(getNonExistentEventListId(), DEFAULT_EVENT_TITLE,
+                TEST_START_DATE.format(DATE_TIME_FORMATTER), TEST_END_DATE.format(DATE_TIME_FORMATTER), false, null);
+        String requestJson = "{\"events\":[" + validJson + "," + notFoundJson + "]}";
+
+        // WHEN - POST /events/batch 호출
+        mockMvc.perform(post("/events/batch")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                // THEN - 성공 응답 및 항목별 결과 검증
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("일정 일괄 생성이 완료되었습니다."))
+                .andExpect(jsonPath("$.result.createdCount").value(1))
+                .andExpect(jsonPath("$.result.failedCount").value(1))
+                .andExpect(jsonPath("$.result.results[0].created").value(true))
+                .andExpect(jsonPath("$.result.results[0].eventId").exists())
+                .andExpect(jsonPath("$.result.results[1].created").value(false))
+                .andExpect(jsonPath("$.result.results[1].code").value("EVENT_LIST_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("createEvents 실패 - 빈 일정 목록")
+    void createEvents_fail_emptyEvents() throws Exception {
+        // GIVEN
+        User user = createTestUser();
+        String accessToken = createJwtToken(user);
+
+        // WHEN & THEN
+        mockMvc.perform(post("/events/batch")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"events\":[]}")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"));
+    }
+
+    // ================ importEvents 테스트 ================
+
+    @Test
+    @DisplayName("importEvents 성공 - 올바른 VEVENT만 생성하고 실패 항목 반환")
+    void importEvents_success() throws Exception {
+        // GIVEN - 사용자, EventList 생성
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+
+        String ics = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "UID:event-1",
+                "SUMMARY:회의",
+                "DTSTART:20240415T100000",
+                "DTEND:20240415T120000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:event-2",
+                "SUMMARY:날짜 없음",
+                "END:VEVENT",
+                "END:VCALENDAR");
+
+        // WHEN - POST /events/import 호출
+        mockMvc.perform(post("/events/import")
+                        .param("eventListId", eventList.getId().toString())
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType("text/calendar")
+                        .content(ics.getBytes(StandardCharsets.UTF_8))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                // THEN - 성공 응답 및 실패 항목 검증
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("일정 가져오기가 완료되었습니다."))
+                .andExpect(jsonPath("$.result.totalCount").value(2))
+                .andExpect(jsonPath("$.result.completed").value(true))
+                .andExpect(jsonPath("$.result.createdCount").value(1))
+                .andExpect(jsonPath("$.result.failedCount").value(1))
+                .andExpect(jsonPath("$.result.failures[0].index").value(1))
+                .andExpect(jsonPath("$.result.failures[0].uid").value("event-2"))
+                .andExpect(jsonPath("$.result.failures[0].code").value("INVALID_EVENT"));
+    }
+
+    @Test
+    @DisplayName("importEvents 중단 - 읽을 수 없는 줄 이전의 일정은 생성하고 읽지 못한 위치를 실패 항목으로 반환")
+    void importEvents_stopsAtUnreadableInput() throws Exception {
+        // GIVEN - 올바른 VEVENT 다음에 최대 줄 길이를 넘는 줄
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+
+        String ics = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "UID:event-1",
+                "SUMMARY:회의",
+                "DTSTART:20240415T100000",
+                "DTEND:20240415T120000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:event-2",
+                "DESCRIPTION:" + "x".repeat(70_000),
+                "END:VEVENT",
+                "END:VCALENDAR");
+
+        // WHEN - POST /events/import 호출
+        mockMvc.perform(post("/events/import")
+                        .param("eventListId", eventList.getId().toString())
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType("text/calendar")
+                        .content(ics.getBytes(StandardCharsets.UTF_8))
+                        .accept(MediaType.APPLICATION_JSON))
+                // THEN - 오류 응답이 아닌 부분 결과 (이미 생성된 일정 수, 읽지 못한 위치)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.completed").value(false))
+                .andExpect(jsonPath("$.result.createdCount").value(1))
+                .andExpect(jsonPath("$.result.failures[0].index").value(1))
+                .andExpect(jsonPath("$.result.failures[0].code").value("INVALID_ICS"));
+    }
+
+    @Test
+    @DisplayName("importEvents 반복 일정 - EXDATE는 제외 날짜로 가져오고 변경된 발생 일정(RECURRENCE-ID)이 있는 반복 일정은 실패 처리")
+    void importEvents_recurring() throws Exception {
+        // GIVEN - EXDATE가 있는 반복 일정, 발생 일정 하나가 변경된 반복 일정
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+
+        String ics = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "UID:series-1",
+                "SUMMARY:주간 회의",
+                "DTSTART:20240415T100000",
+                "DTEND:20240415T110000",
+                "RRULE:FREQ=WEEKLY",
+                "EXDATE:20240422T100000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:series-2",
+                "SUMMARY:매일 점검",
+                "DTSTART:20240415T090000",
+                "DTEND:20240415T093000",
+                "RRULE:FREQ=DAILY",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:series-2",
+                "RECURRENCE-ID:20240416T090000",
+                "SUMMARY:매일 점검 (변경)",
+                "DTSTART:20240416T140000",
+                "DTEND:20240416T143000",
+                "END:VEVENT",
+                "END:VCALENDAR");
+
+        // WHEN - POST /events/import 호출
+        mockMvc.perform(post("/events/import")
+                        .param("eventListId", eventList.getId().toString())
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType("text/calendar")
+                        .content(ics.getBytes(StandardCharsets.UTF_8))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                // THEN - 변경된 발생 일정과 그 반복 일정은 INVALID_EVENT
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.totalCount").value(3))
+                .andExpect(jsonPath("$.result.createdCount").value(1))
+                .andExpect(jsonPath("$.result.failedCount").value(2))
+                .andExpect(jsonPath("$.result.failures[*].index").value(containsInAnyOrder(1, 2)))
+                .andExpect(jsonPath("$.result.failures[*].uid").value(containsInAnyOrder("series-2", "series-2")))
+                .andExpect(jsonPath("$.result.failures[*].code").value(containsInAnyOrder("INVALID_EVENT", "INVALID_EVENT")));
+
+        List<Event> events = eventRepository.findAll();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getTitle()).isEqualTo("주간 회의");
+        assertThat(events.get(0).getRecurrenceExceptionDates()).containsExactly(LocalDateTime.of(2024, 4, 22, 10, 0));
+    }
+
+    @Test
+    @DisplayName("importEvents 실패 - 존재하지 않는 EventList")
+    void importEvents_fail_eventListNotFound() throws Exception {
+        // GIVEN
+        User user = createTestUser();
+        String accessToken = createJwtToken(user);
+
+        // WHEN & THEN
+        mockMvc.perform(post("/events/import")
+                        .param("eventListId", getNonExistentEventListId().toString())
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType("text/calendar")
+                        .content("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("EVENT_LIST_NOT_FOUND"));
+    }
+
     // ================ getEventsForCalendar 테스트 ================
 
     @ParameterizedTest(name = "{0}")
@@ -945,6 +1160,153 @@ class EventControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$[0].title").value("Event With Date"));
     }
 
+    // ================ getEventsForCalendarPage 테스트 ================
+
+    @Test
+    @DisplayName("getEventsForCalendarPage 성공 - 페이지를 이어 붙이면 전체 조회 결과와 같음 (반복 일정, 같은 시작날짜 포함)")
+    void getEventsForCalendarPage_success_pagesMatchFullResult() throws Exception {
+        // GIVEN - 반복 일정(매주 월요일 10:00)의 발생 일정과 시작날짜가 같은 일정 포함
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+
+        createEventWithDates(eventList, "Event A", LocalDateTime.of(2024, 4, 8, 10, 0), LocalDateTime.of(2024, 4, 8, 12, 0));
+        createEventWithDates(eventList, "Event B", LocalDateTime.of(2024, 4, 8, 10, 0), LocalDateTime.of(2024, 4, 8, 11, 0));
+        createEventWithDates(eventList, "Event C", LocalDateTime.of(2024, 4, 20, 14, 0), LocalDateTime.of(2024, 4, 20, 16, 0));
+        createRecurringEvent(eventList, "FREQ=WEEKLY;BYDAY=MO");
+
+        String fullResult = mockMvc.perform(get("/events")
+                        .param("from", DEFAULT_FROM_DATE)
+                        .param("to", DEFAULT_TO_DATE)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // WHEN - 3개씩 마지막 페이지까지 조회
+        List<JsonNode> pagedEvents = new ArrayList<>();
+        String cursor = null;
+        int pageCount = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/events/page")
+                    .param("from", DEFAULT_FROM_DATE)
+                    .param("to", DEFAULT_TO_DATE)
+                    .param("size", "3")
+                    .header("Authorization", "Bearer " + accessToken);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("events").forEach(pagedEvents::add);
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pageCount++;
+        } while (cursor != null);
+
+        // THEN - 일정 3개 + 4월 월요일 발생 일정 5개를 3, 3, 2개로 나누어 반환
+        List<JsonNode> expectedEvents = new ArrayList<>();
+        objectMapper.readTree(fullResult).forEach(expectedEvents::add);
+        assertThat(expectedEvents).hasSize(8);
+        assertThat(pageCount).isEqualTo(3);
+        assertThat(pagedEvents).containsExactlyElementsOf(expectedEvents);
+    }
+
+    @Test
+    @DisplayName("getEventsForCalendarPage 실패 - 잘못된 cursor")
+    void getEventsForCalendarPage_fail_invalidCursor() throws Exception {
+        // GIVEN
+        User user = createTestUser();
+        String accessToken = createJwtToken(user);
+
+        // WHEN & THEN
+        mockMvc.perform(get("/events/page")
+                        .param("from", DEFAULT_FROM_DATE)
+                        .param("to", DEFAULT_TO_DATE)
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+    }
+
+    // ================ getEventDensity 테스트 ================
+
+    @Test
+    @DisplayName("getEventDensity 성공 - 여러 날 일정과 종일 일정을 걸친 날짜마다 계산 (일별)")
+    void getEventDensity_success_day() throws Exception {
+        // GIVEN
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+
+        createEventWithDates(eventList, "Overnight", LocalDateTime.of(2024, 4, 1, 22, 0), LocalDateTime.of(2024, 4, 3, 1, 0));
+        createAllDayEvent(eventList, LocalDateTime.of(2024, 4, 2, 0, 0), LocalDateTime.of(2024, 4, 4, 0, 0));  // 4/2 ~ 4/3
+        createEventWithDates(eventList, "Out of range", LocalDateTime.of(2024, 3, 20, 10, 0), LocalDateTime.of(2024, 3, 20, 11, 0));
+        createRecurringEvent(eventList, "FREQ=WEEKLY;BYDAY=MO");  // 4/1 10:00
+
+        // WHEN & THEN
+        mockMvc.perform(get("/events/density")
+                        .param("from", "2024-04-01T00:00:00")
+                        .param("to", "2024-04-07T23:59:59")
+                        .param("granularity", "day")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.start").value("2024-04-01"))
+                .andExpect(jsonPath("$.granularity").value("DAY"))
+                .andExpect(jsonPath("$.counts", contains(2, 2, 2, 0, 0, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("getEventDensity 성공 - 한 주에 여러 날 걸친 일정은 한 번만 계산 (주별)")
+    void getEventDensity_success_week() throws Exception {
+        // GIVEN
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+
+        createEventWithDates(eventList, "Overnight", LocalDateTime.of(2024, 4, 1, 22, 0), LocalDateTime.of(2024, 4, 3, 1, 0));
+        createAllDayEvent(eventList, LocalDateTime.of(2024, 4, 7, 0, 0), LocalDateTime.of(2024, 4, 9, 0, 0));  // 4/7(일) ~ 4/8(월)
+        createRecurringEvent(eventList, "FREQ=WEEKLY;BYDAY=MO");  // 4/1, 4/8 10:00
+
+        // WHEN & THEN - 4/3(수)부터 조회해도 첫 구간은 해당 주 월요일부터 시작
+        mockMvc.perform(get("/events/density")
+                        .param("from", "2024-04-03T00:00:00")
+                        .param("to", "2024-04-14T23:59:59")
+                        .param("granularity", "WEEK")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.start").value("2024-04-01"))
+                .andExpect(jsonPath("$.counts", contains(2, 2)));
+    }
+
+    @Test
+    @DisplayName("getEventDensity 실패 - 지원하지 않는 granularity")
+    void getEventDensity_fail_invalidGranularity() throws Exception {
+        // GIVEN
+        User user = createTestUser();
+        String accessToken = createJwtToken(user);
+
+        // WHEN & THEN
+        mockMvc.perform(get("/events/density")
+                        .param("from", DEFAULT_FROM_DATE)
+                        .param("to", DEFAULT_TO_DATE)
+                        .param("granularity", "month")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"))
+                .andExpect(jsonPath("$.fieldErrors[*].field", hasItem("granularity")));
+    }
+
     // ================ updateEvent 테스트 ================
 
     @Test
@@ -1494,11 +1856,7 @@ class EventControllerIntegrationTest extends BaseIntegrationTest {
         // EventTask 연결 생성 (실제 서비스 로직처럼)
         for (Long taskId : taskIds) {
             Task task = taskRepository.findById(taskId).orElseThrow();
-            EventTask eventTask = EventTask.builder()
-                    .event(savedEvent)
-                    .task(task)
-                    .build();
-            savedEvent.getEventTasks().add(eventTask);
+            savedEvent.addTask(task);
         }
 
         return eventRepository.save(savedEvent);
@@ -1717,4 +2075,178 @@ class EventControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.code").value("EVENT_NOT_FOUND"))
                 .andExpect(jsonPath("$.message").value("일정이 존재하지 않습니다."));
     }
+
+    // ================ 반복 일정 테스트 ================
+
+    @Test
+    @DisplayName("getEventsForCalendar 성공 - 반복 일정은 조회 범위의 발생 일정으로 펼쳐서 시작날짜 순으로 반환")
+    void getEventsForCalendar_success_recurringEvent() throws Exception {
+        // GIVEN - 매주 월요일 반복 일정 (2024-03-04 시작), 반복하지 않는 일정
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+        Event series = createRecurringEvent(eventList, "FREQ=WEEKLY;BYDAY=MO");
+        Event single = createEventWithDates(eventList, "Single Event",
+                LocalDateTime.of(2024, 4, 10, 9, 0), LocalDateTime.of(2024, 4, 10, 10, 0));
+
+        // WHEN - GET /events 호출 (조회 범위 4/1 ~ 4/30 00:00 안의 월요일: 1, 8, 15, 22, 29일)
+        mockMvc.perform(get("/events")
+                        .param("from", DEFAULT_FROM_DATE)
+                        .param("to", DEFAULT_TO_DATE)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                // THEN
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(6))
+                .andExpect(jsonPath("$[0].eventId").value(series.getId()))
+                .andExpect(jsonPath("$[0].recurring").value(true))
+                .andExpect(jsonPath("$[0].eventDateTime.startDate").value("2024-04-01T10:00:00"))
+                .andExpect(jsonPath("$[2].eventId").value(single.getId()))
+                .andExpect(jsonPath("$[2].recurring").value(false))
+                .andExpect(jsonPath("$[5].eventDateTime.startDate").value("2024-04-29T10:00:00"));
+    }
+
+    @Test
+    @DisplayName("deleteOccurrence 성공 - 삭제한 발생 일정은 캘린더 조회에서 제외")
+    void deleteOccurrence_success() throws Exception {
+        // GIVEN
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+        Event series = createRecurringEvent(eventList, "FREQ=WEEKLY;BYDAY=MO");
+
+        // WHEN - 2024-04-08 발생 일정 삭제
+        mockMvc.perform(delete("/events/" + series.getId() + "/occurrences")
+                        .param("startDate", "2024-04-08T10:00:00")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("일정이 삭제되었습니다."));
+
+        // THEN - 삭제한 발생 일정을 제외한 4개
+        mockMvc.perform(get("/events")
+                        .param("from", DEFAULT_FROM_DATE)
+                        .param("to", DEFAULT_TO_DATE)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[*].eventDateTime.startDate", not(hasItem("2024-04-08T10:00:00"))));
+    }
+
+    @Test
+    @DisplayName("deleteOccurrence 실패 - 반복 규칙으로 발생하지 않는 시각")
+    void deleteOccurrence_fail_notOccurrence() throws Exception {
+        // GIVEN
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+        Event series = createRecurringEvent(eventList, "FREQ=WEEKLY;BYDAY=MO");
+
+        // WHEN & THEN - 화요일은 발생 일정이 아님
+        mockMvc.perform(delete("/events/" + series.getId() + "/occurrences")
+                        .param("startDate", "2024-04-09T10:00:00")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("EVENT_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("updateOccurrence 성공 - 변경한 발생 일정은 별도 일정으로 분리")
+    void updateOccurrence_success() throws Exception {
+        // GIVEN
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+        Event series = createRecurringEvent(eventList, "FREQ=WEEKLY;BYDAY=MO");
+
+        // WHEN - 2024-04-15 발생 일정의 제목 변경
+        mockMvc.perform(put("/events/" + series.getId() + "/occurrences")
+                        .param("startDate", "2024-04-15T10:00:00")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Changed Occurrence\"}")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                // THEN - 원본 반복 일정 ID를 가진 새 일정 반환
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.event.id").value(not(series.getId().intValue())))
+                .andExpect(jsonPath("$.event.title").value("Changed Occurrence"))
+                .andExpect(jsonPath("$.event.recurringEventId").value(series.getId()))
+                .andExpect(jsonPath("$.event.eventDateTime.startDate").value("2024-04-15T10:00:00"));
+
+        // 캘린더에서는 발생 일정 대신 분리된 일정으로 조회
+        mockMvc.perform(get("/events")
+                        .param("from", DEFAULT_FROM_DATE)
+                        .param("to", DEFAULT_TO_DATE)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[2].title").value("Changed Occurrence"))
+                .andExpect(jsonPath("$[2].recurring").value(false));
+    }
+
+    @Test
+    @DisplayName("updateEvent 성공 - 반복 규칙을 바꾸면 발생 일정을 변경하여 만든 일정도 함께 삭제")
+    void updateEvent_success_recurrenceRuleChangeDeletesOverrides() throws Exception {
+        // GIVEN - 2024-04-15 발생 일정을 별도 일정으로 변경한 매주 월요일 반복 일정
+        User user = createTestUser();
+        EventList eventList = createEventList(user, DEFAULT_EVENTLIST_NAME);
+        String accessToken = createJwtToken(user);
+        Event series = createRecurringEvent(eventList, "FREQ=WEEKLY;BYDAY=MO");
+        mockMvc.perform(put("/events/" + series.getId() + "/occurrences")
+                        .param("startDate", "2024-04-15T10:00:00")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Changed Occurrence\"}"))
+                .andExpect(status().isOk());
+
+        // WHEN - 반복 규칙을 매주 화요일로 변경
+        mockMvc.perform(put("/events/{id}", series.getId())
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"recurrenceRule\":\"FREQ=WEEKLY;BYDAY=TU\"}")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        // THEN - 화요일 발생 일정만 조회되고 (2, 9, 16, 23일), 변경했던 월요일 일정은 남지 않음
+        assertThat(eventRepository.findByRecurringEventId(series.getId())).isEmpty();
+        mockMvc.perform(get("/events")
+                        .param("from", DEFAULT_FROM_DATE)
+                        .param("to", DEFAULT_TO_DATE)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[*].title", not(hasItem("Changed Occurrence"))));
+    }
+
+    private Event createAllDayEvent(EventList eventList, LocalDateTime startDate, LocalDateTime endDate) {
+        Event event = Event.builder()
+                .eventList(eventList)
+                .title("All Day Event")
+                .startDate(startDate)
+                .endDate(endDate)
+                .isAllDay(true)
+                .description(DEFAULT_DESCRIPTION)
+                .build();
+        return eventRepository.save(event);
+    }
+
+    private Event createRecurringEvent(EventList eventList, String recurrenceRule) {
+        Event event = Event.builder()
+                .eventList(eventList)
+                .title("Recurring Event")
+                .startDate(LocalDateTime.of(2024, 3, 4, 10, 0))
+                .endDate(LocalDateTime.of(2024, 3, 4, 11, 0))
+                .isAllDay(false)
+                .description(DEFAULT_DESCRIPTION)
+                .recurrenceRule(recurrenceRule)
+                .build();
+        return eventRepository.save(event);
+    }
 }
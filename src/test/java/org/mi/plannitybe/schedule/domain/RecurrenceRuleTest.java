@@ -0,0 +1,165 @@
+package org.mi.plannitybe.schedule.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RecurrenceRule 테스트")
+class RecurrenceRuleTest {
+
+    private static final LocalDateTime SERIES_START = LocalDateTime.of(2024, 1, 31, 10, 0);
+
+    @Test
+    @DisplayName("RRULE 파싱 후 정규화된 형식으로 변환")
+    void parse_normalizes() {
+        // WHEN
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:freq=weekly;byday=FR,MO;interval=2;until=20241231");
+
+        // THEN
+        assertThat(rule.toString()).isEqualTo("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR;UNTIL=20241231T235959");
+        assertThat(RecurrenceRule.parse(rule.toString())).isEqualTo(rule);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "INTERVAL=2",                           // FREQ 누락
+            "FREQ=HOURLY",                          // 지원하지 않는 주기
+            "FREQ=DAILY;COUNT=3;UNTIL=20240101",    // COUNT와 UNTIL 동시 사용
+            "FREQ=DAILY;BYDAY=MO",                  // DAILY에 BYDAY
+            "FREQ=WEEKLY;BYDAY=2MO",                // WEEKLY에 순서 있는 BYDAY
+            "FREQ=MONTHLY;BYMONTHDAY=0",
+            "FREQ=DAILY;BYSETPOS=1",                // 지원하지 않는 항목
+            "FREQ=DAILY;INTERVAL=0",
+            "FREQ=DAILY;UNTIL=20240101T000000Z"     // 시간대 없이 UTC UNTIL (API 요청)
+    })
+    @DisplayName("형식이 올바르지 않거나 지원하지 않는 규칙은 IllegalArgumentException 발생")
+    void parse_fail(String rule) {
+        assertThatThrownBy(() -> RecurrenceRule.parse(rule)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(RecurrenceRule.isValid(rule)).isFalse();
+    }
+
+    @Test
+    @DisplayName("MONTHLY 반복은 해당 월에 없는 날짜를 건너뜀")
+    void occurrences_monthly_skipsInvalidDays() {
+        // GIVEN - 매월 31일
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;COUNT=4");
+
+        // WHEN
+        List<LocalDateTime> occurrences = take(rule.occurrences(SERIES_START, SERIES_START), 10);
+
+        // THEN
+        assertThat(occurrences).containsExactly(
+                LocalDateTime.of(2024, 1, 31, 10, 0),
+                LocalDateTime.of(2024, 3, 31, 10, 0),
+                LocalDateTime.of(2024, 5, 31, 10, 0),
+                LocalDateTime.of(2024, 7, 31, 10, 0));
+    }
+
+    @Test
+    @DisplayName("MONTHLY BYDAY는 n번째 요일, 마지막 요일 계산")
+    void occurrences_monthly_byDayOrdinal() {
+        // GIVEN - 매월 둘째 주 월요일, 마지막 금요일
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=2MO,-1FR");
+
+        // WHEN
+        List<LocalDateTime> occurrences = take(rule.occurrences(SERIES_START, SERIES_START), 4);
+
+        // THEN
+        assertThat(occurrences).containsExactly(
+                LocalDateTime.of(2024, 2, 12, 10, 0),
+                LocalDateTime.of(2024, 2, 23, 10, 0),
+                LocalDateTime.of(2024, 3, 11, 10, 0),
+                LocalDateTime.of(2024, 3, 29, 10, 0));
+    }
+
+    @Test
+    @DisplayName("COUNT는 lowerBound 이전 발생 일정도 포함하여 계산")
+    void occurrences_countIncludesEarlierOccurrences() {
+        // GIVEN - 이틀마다 5번
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=2;COUNT=5");
+
+        // WHEN - 네 번째 발생 일정부터 조회
+        List<LocalDateTime> occurrences = take(rule.occurrences(SERIES_START, LocalDateTime.of(2024, 2, 5, 0, 0)), 10);
+
+        // THEN
+        assertThat(occurrences).containsExactly(
+                LocalDateTime.of(2024, 2, 6, 10, 0),
+                LocalDateTime.of(2024, 2, 8, 10, 0));
+        assertThat(rule.lastStartBound(SERIES_START)).isEqualTo(LocalDateTime.of(2024, 2, 8, 10, 0));
+    }
+
+    @Test
+    @DisplayName("종료 조건이 없으면 lowerBound가 포함된 주기부터 계산한 결과가 처음부터 계산한 결과와 같음")
+    void occurrences_skipAheadMatchesFullIteration() {
+        String[] rules = {
+                "FREQ=DAILY;INTERVAL=3",
+                "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE,SU",
+                "FREQ=MONTHLY;BYMONTHDAY=1,-1",
+                "FREQ=MONTHLY;INTERVAL=5;BYDAY=TU",
+                "FREQ=YEARLY"
+        };
+        LocalDateTime lowerBound = LocalDateTime.of(2031, 7, 17, 0, 0);
+
+        for (String value : rules) {
+            RecurrenceRule rule = RecurrenceRule.parse(value);
+
+            // 처음부터 계산하여 lowerBound 이후 발생 일정 5개
+            List<LocalDateTime> expected = new ArrayList<>();
+            Iterator<LocalDateTime> all = rule.occurrences(SERIES_START, SERIES_START);
+            while (expected.size() < 5) {
+                LocalDateTime occurrence = all.next();
+                if (!occurrence.isBefore(lowerBound)) {
+                    expected.add(occurrence);
+                }
+            }
+
+            assertThat(take(rule.occurrences(SERIES_START, lowerBound), 5)).as(value).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("UNTIL 이후에는 발생 일정이 없고, 발생 시각 여부 확인")
+    void occurrences_untilAndIsOccurrence() {
+        // GIVEN - 매주 수요일, 2024-02-14까지
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;UNTIL=20240214T100000");
+
+        // THEN
+        assertThat(take(rule.occurrences(SERIES_START, SERIES_START), 10)).containsExactly(
+                LocalDateTime.of(2024, 1, 31, 10, 0),
+                LocalDateTime.of(2024, 2, 7, 10, 0),
+                LocalDateTime.of(2024, 2, 14, 10, 0));
+        assertThat(rule.isOccurrence(SERIES_START, LocalDateTime.of(2024, 2, 7, 10, 0))).isTrue();
+        assertThat(rule.isOccurrence(SERIES_START, LocalDateTime.of(2024, 2, 8, 10, 0))).isFalse();
+        assertThat(rule.isOccurrence(SERIES_START, LocalDateTime.of(2024, 2, 21, 10, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("UTC UNTIL은 일정 시작 시각의 시간대로 변환해 비교")
+    void parse_utcUntil() {
+        // GIVEN - 2024-02-14T10:00 (Asia/Seoul) = 2024-02-14T01:00Z
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;UNTIL=20240214T010000Z", ZoneId.of("Asia/Seoul"));
+
+        // THEN
+        assertThat(rule.getUntil()).isEqualTo(LocalDateTime.of(2024, 2, 14, 10, 0));
+        assertThat(rule.toString()).isEqualTo("FREQ=WEEKLY;UNTIL=20240214T100000");
+        assertThat(rule.isOccurrence(SERIES_START, LocalDateTime.of(2024, 2, 14, 10, 0))).isTrue();
+    }
+
+    private List<LocalDateTime> take(Iterator<LocalDateTime> iterator, int limit) {
+        List<LocalDateTime> result = new ArrayList<>();
+        while (iterator.hasNext() && result.size() < limit) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+}
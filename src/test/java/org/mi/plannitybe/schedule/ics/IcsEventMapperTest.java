@@ -0,0 +1,143 @@
+package org.mi.plannitybe.schedule.ics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.schedule.dto.CreateEventRequest;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IcsEventMapper 테스트")
+class IcsEventMapperTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("UTC 시각(반복 규칙 UNTIL 포함)은 요청 시간대로 변환하고 TEXT 이스케이프 처리")
+    void toCreateEventRequest_utc() throws IOException {
+        // GIVEN
+        IcsEvent event = event(
+                "SUMMARY:회의\\, 점검",
+                "DESCRIPTION:첫째 줄\\n둘째 줄",
+                "DTSTART:20240415T010000Z",
+                "DTEND:20240415T030000Z",
+                "RRULE:FREQ=DAILY;UNTIL=20240417T010000Z");
+
+        // WHEN
+        CreateEventRequest request = IcsEventMapper.toCreateEventRequest(event, 1L, SEOUL);
+
+        // THEN
+        assertThat(request.eventListId()).isEqualTo(1L);
+        assertThat(request.title()).isEqualTo("회의, 점검");
+        assertThat(request.description()).isEqualTo("첫째 줄\n둘째 줄");
+        assertThat(request.eventDateTime().getStartDate()).isEqualTo(LocalDateTime.of(2024, 4, 15, 10, 0));
+        assertThat(request.eventDateTime().getEndDate()).isEqualTo(LocalDateTime.of(2024, 4, 15, 12, 0));
+        assertThat(request.eventDateTime().getIsAllDay()).isFalse();
+        assertThat(request.recurrenceRule()).isEqualTo("FREQ=DAILY;UNTIL=20240417T100000");  // 마지막 발생 시각과 같은 기준
+    }
+
+    @Test
+    @DisplayName("TZID 시각은 요청 시간대로 변환하고 DTEND가 없으면 DURATION 사용")
+    void toCreateEventRequest_tzidWithDuration() throws IOException {
+        // GIVEN
+        IcsEvent event = event(
+                "SUMMARY:회의",
+                "DTSTART;TZID=UTC:20240415T010000",
+                "DURATION:PT1H30M");
+
+        // WHEN
+        CreateEventRequest request = IcsEventMapper.toCreateEventRequest(event, 1L, SEOUL);
+
+        // THEN
+        assertThat(request.eventDateTime().getStartDate()).isEqualTo(LocalDateTime.of(2024, 4, 15, 10, 0));
+        assertThat(request.eventDateTime().getEndDate()).isEqualTo(LocalDateTime.of(2024, 4, 15, 11, 30));
+    }
+
+    @Test
+    @DisplayName("날짜만 있는 일정은 종일일정, 종료 날짜가 없으면 하루")
+    void toCreateEventRequest_allDay() throws IOException {
+        // GIVEN
+        IcsEvent event = event("DTSTART;VALUE=DATE:20240415");
+
+        // WHEN
+        CreateEventRequest request = IcsEventMapper.toCreateEventRequest(event, 1L, SEOUL);
+
+        // THEN
+        assertThat(request.title()).isEqualTo("(제목 없음)");
+        assertThat(request.eventDateTime().getIsAllDay()).isTrue();
+        assertThat(request.eventDateTime().getStartDate()).isEqualTo(LocalDateTime.of(2024, 4, 15, 0, 0));
+        assertThat(request.eventDateTime().getEndDate()).isEqualTo(LocalDateTime.of(2024, 4, 16, 0, 0));
+    }
+
+    @Test
+    @DisplayName("DTSTART가 없거나 종료 날짜가 시작 날짜보다 과거이면 IllegalArgumentException 발생")
+    void toCreateEventRequest_fail_invalidDates() throws IOException {
+        // GIVEN
+        IcsEvent noStart = event("SUMMARY:회의");
+        IcsEvent endBeforeStart = event("DTSTART:20240415T100000", "DTEND:20240415T090000");
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> IcsEventMapper.toCreateEventRequest(noStart, 1L, SEOUL))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IcsEventMapper.toCreateEventRequest(endBeforeStart, 1L, SEOUL))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("반복 일정의 EXDATE(여러 줄, ',' 구분 값)는 시작 날짜와 같은 기준의 제외 날짜로 변환")
+    void toCreateEventRequest_exceptionDates() throws IOException {
+        // GIVEN
+        IcsEvent event = event(
+                "DTSTART;TZID=Asia/Seoul:20240415T100000",
+                "RRULE:FREQ=DAILY",
+                "EXDATE:20240416T010000Z,20240417T010000Z",
+                "EXDATE;TZID=UTC:20240418T010000");
+
+        // WHEN
+        CreateEventRequest request = IcsEventMapper.toCreateEventRequest(event, 1L, SEOUL);
+
+        // THEN
+        assertThat(request.recurrenceExceptionDates()).containsExactly(
+                LocalDateTime.of(2024, 4, 16, 10, 0),
+                LocalDateTime.of(2024, 4, 17, 10, 0),
+                LocalDateTime.of(2024, 4, 18, 10, 0));
+    }
+
+    @Test
+    @DisplayName("종일 반복 일정의 날짜 EXDATE는 그 날짜의 시작 시각, 반복하지 않는 일정의 EXDATE는 무시")
+    void toCreateEventRequest_allDayExceptionDates() throws IOException {
+        // GIVEN
+        IcsEvent recurring = event("DTSTART;VALUE=DATE:20240415", "RRULE:FREQ=WEEKLY", "EXDATE;VALUE=DATE:20240422");
+        IcsEvent single = event("DTSTART;VALUE=DATE:20240415", "EXDATE;VALUE=DATE:20240422");
+
+        // WHEN & THEN
+        assertThat(IcsEventMapper.toCreateEventRequest(recurring, 1L, SEOUL).recurrenceExceptionDates())
+                .containsExactly(LocalDateTime.of(2024, 4, 22, 0, 0));
+        assertThat(IcsEventMapper.toCreateEventRequest(single, 1L, SEOUL).recurrenceExceptionDates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경된 발생 일정(RECURRENCE-ID), 시작 날짜와 형식이 다른 EXDATE는 IllegalArgumentException 발생")
+    void toCreateEventRequest_fail_unsupportedRecurrence() throws IOException {
+        // GIVEN
+        IcsEvent override = event("UID:series-1", "RECURRENCE-ID:20240416T100000", "DTSTART:20240416T150000");
+        IcsEvent dateExdate = event("DTSTART:20240415T100000", "RRULE:FREQ=DAILY", "EXDATE;VALUE=DATE:20240416");
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> IcsEventMapper.toCreateEventRequest(override, 1L, SEOUL))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(IcsEventMapper.RECURRENCE_OVERRIDE_MESSAGE);
+        assertThatThrownBy(() -> IcsEventMapper.toCreateEventRequest(dateExdate, 1L, SEOUL))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private IcsEvent event(String... lines) throws IOException {
+        String ics = "BEGIN:VEVENT\r\n" + String.join("\r\n", lines) + "\r\nEND:VEVENT\r\n";
+        return new IcsEventReader(new StringReader(ics), 1_000).next();
+    }
+}
@@ -0,0 +1,114 @@
+package org.mi.plannitybe.schedule.ics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IcsEventReader 테스트")
+class IcsEventReaderTest {
+
+    @Test
+    @DisplayName("VEVENT를 순서대로 읽고 접힌 줄을 이어 붙임")
+    void next_unfoldsLines() throws IOException {
+        // GIVEN
+        IcsEventReader reader = reader(String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "PRODID:-//test//EN",
+                "BEGIN:VEVENT",
+                "UID:event-1",
+                "SUMMARY:긴 제",
+                " 목",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:event-2",
+                "END:VEVENT",
+                "END:VCALENDAR"));
+
+        // WHEN
+        IcsEvent first = reader.next();
+        IcsEvent second = reader.next();
+        IcsEvent end = reader.next();
+
+        // THEN
+        assertThat(first.index()).isEqualTo(0);
+        assertThat(first.value("UID")).isEqualTo("event-1");
+        assertThat(first.value("SUMMARY")).isEqualTo("긴 제목");
+        assertThat(first.value("PRODID")).isNull();
+        assertThat(second.index()).isEqualTo(1);
+        assertThat(second.value("UID")).isEqualTo("event-2");
+        assertThat(end).isNull();
+    }
+
+    @Test
+    @DisplayName("VALARM 등 하위 컴포넌트의 속성은 무시")
+    void next_ignoresNestedComponents() throws IOException {
+        // GIVEN
+        IcsEventReader reader = reader(String.join("\n",
+                "BEGIN:VEVENT",
+                "BEGIN:VALARM",
+                "DESCRIPTION:알림",
+                "END:VALARM",
+                "DESCRIPTION:일정 설명",
+                "END:VEVENT"));
+
+        // WHEN
+        IcsEvent event = reader.next();
+
+        // THEN
+        assertThat(event.value("DESCRIPTION")).isEqualTo("일정 설명");
+    }
+
+    @Test
+    @DisplayName("같은 이름의 속성은 첫 번째 속성만 보관하고 EXDATE는 모두 보관")
+    void next_keepsRepeatedExdates() throws IOException {
+        // GIVEN
+        IcsEventReader reader = reader(String.join("\r\n",
+                "BEGIN:VEVENT",
+                "SUMMARY:첫 번째",
+                "SUMMARY:두 번째",
+                "EXDATE:20240416T100000",
+                "EXDATE:20240417T100000,20240418T100000",
+                "END:VEVENT"));
+
+        // WHEN
+        IcsEvent event = reader.next();
+
+        // THEN
+        assertThat(event.value("SUMMARY")).isEqualTo("첫 번째");
+        assertThat(event.properties("EXDATE")).extracting(IcsProperty::value)
+                .containsExactly("20240416T100000", "20240417T100000,20240418T100000");
+        assertThat(event.properties("RRULE")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("따옴표로 감싼 파라미터 값의 ':', ';'는 구분자로 보지 않음")
+    void parse_quotedParameter() {
+        // WHEN
+        IcsProperty property = IcsEventReader.parse("DTSTART;TZID=\"Asia/Seoul;x:y\";VALUE=DATE-TIME:20240415T100000");
+
+        // THEN
+        assertThat(property.name()).isEqualTo("DTSTART");
+        assertThat(property.parameter("TZID")).isEqualTo("Asia/Seoul;x:y");
+        assertThat(property.parameter("VALUE")).isEqualTo("DATE-TIME");
+        assertThat(property.value()).isEqualTo("20240415T100000");
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 줄은 IcsParseException 발생")
+    void next_fail_lineTooLong() {
+        // GIVEN
+        IcsEventReader reader = new IcsEventReader(new StringReader("BEGIN:VEVENT\nSUMMARY:" + "a".repeat(100)), 50);
+
+        // WHEN & THEN
+        assertThatThrownBy(reader::next).isInstanceOf(IcsParseException.class);
+    }
+
+    private IcsEventReader reader(String ics) {
+        return new IcsEventReader(new StringReader(ics), 1_000);
+    }
+}
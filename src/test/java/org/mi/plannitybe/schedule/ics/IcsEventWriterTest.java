@@ -0,0 +1,91 @@
+package org.mi.plannitybe.schedule.ics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.schedule.dto.EventExportRow;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IcsEventWriter 테스트")
+class IcsEventWriterTest {
+
+    @Test
+    @DisplayName("75바이트를 넘는 줄은 접어서 출력하고 IcsEventReader로 다시 읽으면 원래 값")
+    void write_foldsLongLines() throws IOException {
+        // GIVEN - 한글(3바이트)과 이스케이프 대상 문자가 섞인 긴 설명
+        String description = "첫째 줄; 둘째, 셋째\\넷째\n" + "가나다라마바사아자차카타파하".repeat(10);
+        EventExportRow row = new EventExportRow(1L, "회의", LocalDateTime.of(2024, 4, 15, 10, 0),
+                LocalDateTime.of(2024, 4, 15, 12, 0), false, description, null, null);
+
+        // WHEN
+        StringWriter output = new StringWriter();
+        IcsEventWriter writer = new IcsEventWriter(output, Instant.parse("2024-04-01T00:00:00Z"));
+        writer.writeHeader();
+        writer.write(row);
+        writer.writeFooter();
+
+        // THEN - 모든 줄이 75바이트 이하
+        for (String line : output.toString().split("\r\n")) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        IcsEvent event = new IcsEventReader(new StringReader(output.toString()), 10_000).next();
+        assertThat(event.value("DTSTAMP")).isEqualTo("20240401T000000Z");
+        assertThat(IcsEventMapper.unescape(event.value("DESCRIPTION"))).isEqualTo(description);
+        assertThat(IcsEventMapper.toCreateEventRequest(event, 1L, ZoneId.of("Asia/Seoul")).eventDateTime().getStartDate())
+                .isEqualTo(row.startDate());
+    }
+
+    @Test
+    @DisplayName("반복 일정은 RRULE, EXDATE를 출력하고 종일일정은 UNTIL, EXDATE를 날짜로 출력")
+    void write_recurringEvent() throws IOException {
+        // GIVEN
+        EventExportRow series = new EventExportRow(1L, "회의", LocalDateTime.of(2024, 3, 4, 10, 0),
+                LocalDateTime.of(2024, 3, 4, 11, 0), false, null, "FREQ=WEEKLY;BYDAY=MO", null)
+                .withRecurrenceExceptionDates(List.of(LocalDateTime.of(2024, 3, 11, 10, 0), LocalDateTime.of(2024, 3, 18, 10, 0)));
+        EventExportRow allDaySeries = new EventExportRow(2L, "휴가", LocalDateTime.of(2024, 3, 4, 0, 0),
+                LocalDateTime.of(2024, 3, 5, 0, 0), true, null, "FREQ=MONTHLY;UNTIL=20241231T235959", null)
+                .withRecurrenceExceptionDates(List.of(LocalDateTime.of(2024, 4, 4, 0, 0)));
+
+        // WHEN
+        StringWriter output = new StringWriter();
+        IcsEventWriter writer = new IcsEventWriter(output, Instant.parse("2024-04-01T00:00:00Z"));
+        writer.write(series);
+        writer.write(allDaySeries);
+
+        // THEN
+        assertThat(output.toString()).contains(
+                "RRULE:FREQ=WEEKLY;BYDAY=MO\r\n",
+                "EXDATE:20240311T100000,20240318T100000\r\n",
+                "RRULE:FREQ=MONTHLY;UNTIL=20241231\r\n",
+                "EXDATE;VALUE=DATE:20240404\r\n");
+        IcsEventReader reader = new IcsEventReader(new StringReader(output.toString()), 10_000);
+        assertThat(IcsEventMapper.toCreateEventRequest(reader.next(), 1L, ZoneId.of("Asia/Seoul")).recurrenceRule())
+                .isEqualTo("FREQ=WEEKLY;BYDAY=MO");
+        assertThat(IcsEventMapper.toCreateEventRequest(reader.next(), 1L, ZoneId.of("Asia/Seoul")).recurrenceRule())
+                .isEqualTo("FREQ=MONTHLY;UNTIL=20241231T235959");
+    }
+
+    @Test
+    @DisplayName("LAST-MODIFIED는 서버 시간대의 수정일시를 UTC로 변환하여 출력")
+    void write_lastModifiedInUtc() throws IOException {
+        // GIVEN - Asia/Seoul 2024-04-15 10:00 = 2024-04-15T01:00Z
+        EventExportRow row = new EventExportRow(1L, "회의", LocalDateTime.of(2024, 4, 15, 10, 0),
+                LocalDateTime.of(2024, 4, 15, 12, 0), false, null, null, LocalDateTime.of(2024, 4, 15, 10, 0));
+
+        // WHEN
+        StringWriter output = new StringWriter();
+        new IcsEventWriter(output, Instant.parse("2024-04-16T00:00:00Z"), ZoneId.of("Asia/Seoul")).write(row);
+
+        // THEN
+        assertThat(output.toString()).contains("DTSTAMP:20240416T000000Z\r\n", "LAST-MODIFIED:20240415T010000Z\r\n");
+    }
+}
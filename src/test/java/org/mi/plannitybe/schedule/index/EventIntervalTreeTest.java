@@ -0,0 +1,137 @@
+package org.mi.plannitybe.schedule.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EventIntervalTree 테스트")
+class EventIntervalTreeTest {
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("기간 조회 결과는 전체 탐색 결과와 같고 시작날짜, id 순으로 정렬")
+    void query_matchesBruteForce() {
+        // GIVEN - 짧은 일정과 여러 달에 걸친 일정이 섞인 일정 목록
+        Random random = new Random(42);
+        List<EventCalendarResponse> events = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            LocalDateTime startDate = BASE_DATE.plusHours(random.nextInt(24 * 365));
+            long durationHours = id % 50 == 0 ? random.nextInt(24 * 120) : random.nextInt(4);
+            events.add(event(id, startDate, startDate.plusHours(durationHours)));
+        }
+        EventIntervalTree tree = EventIntervalTree.of(events);
+
+        // WHEN & THEN - 임의의 범위 조회 결과 비교
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime from = BASE_DATE.plusHours(random.nextInt(24 * 365));
+            LocalDateTime to = from.plusHours(random.nextInt(24 * 40));
+            assertThat(ids(tree.query(from, to))).containsExactlyElementsOf(ids(bruteForce(events, from, to)));
+        }
+    }
+
+    @Test
+    @DisplayName("경계값 - 시작날짜가 to와 같거나 종료날짜가 from과 같은 일정 포함")
+    void query_inclusiveBoundaries() {
+        // GIVEN
+        LocalDateTime from = BASE_DATE.plusDays(10);
+        LocalDateTime to = BASE_DATE.plusDays(20);
+        EventIntervalTree tree = EventIntervalTree.of(List.of(
+                event(1L, from.minusDays(1), from),
+                event(2L, to, to.plusDays(1)),
+                event(3L, from.minusDays(2), from.minusSeconds(1)),
+                event(4L, to.plusSeconds(1), to.plusDays(1))));
+
+        // WHEN & THEN
+        assertThat(ids(tree.query(from, to))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("upsert는 같은 eventId의 일정을 교체하고 remove는 제거한 새 트리 반환")
+    void upsertAndRemove() {
+        // GIVEN
+        EventIntervalTree tree = EventIntervalTree.of(List.of(
+                event(1L, BASE_DATE.plusDays(1), BASE_DATE.plusDays(2)),
+                event(2L, BASE_DATE.plusDays(3), BASE_DATE.plusDays(4))));
+
+        // WHEN - 1번 일정을 뒤로 이동, 3번 일정 추가, 2번 일정 삭제
+        EventIntervalTree updated = tree
+                .upsert(event(1L, BASE_DATE.plusDays(5), BASE_DATE.plusDays(6)))
+                .upsert(event(3L, BASE_DATE, BASE_DATE.plusDays(1)))
+                .remove(2L);
+
+        // THEN - 기존 트리는 변경되지 않음
+        assertThat(ids(updated.query(BASE_DATE, BASE_DATE.plusDays(10)))).containsExactly(3L, 1L);
+        assertThat(ids(tree.query(BASE_DATE, BASE_DATE.plusDays(10)))).containsExactly(1L, 2L);
+        assertThat(updated.remove(99L)).isSameAs(updated);
+    }
+
+    @Test
+    @DisplayName("임의의 upsert(앞/뒤로 이동, 제자리 교체, 추가), remove 이후에도 전체 탐색 결과와 같음")
+    void upsertAndRemove_matchesBruteForce() {
+        // GIVEN
+        Random random = new Random(7);
+        Map<Long, EventCalendarResponse> events = new HashMap<>();
+        for (long id = 1; id <= 200; id++) {
+            LocalDateTime startDate = BASE_DATE.plusHours(random.nextInt(24 * 30));
+            events.put(id, event(id, startDate, startDate.plusHours(random.nextInt(48))));
+        }
+        EventIntervalTree tree = EventIntervalTree.of(events.values());
+
+        // WHEN - 시작날짜가 같은 일정이 생기도록 좁은 범위에서 변경
+        for (int i = 0; i < 1_000; i++) {
+            long id = 1 + random.nextInt(250);
+            if (random.nextInt(4) == 0) {
+                events.remove(id);
+                tree = tree.remove(id);
+            } else {
+                LocalDateTime startDate = BASE_DATE.plusHours(random.nextInt(24 * 30));
+                EventCalendarResponse event = event(id, startDate, startDate.plusHours(random.nextInt(48)));
+                events.put(id, event);
+                tree = tree.upsert(event);
+            }
+        }
+
+        // THEN
+        assertThat(tree.size()).isEqualTo(events.size());
+        List<EventCalendarResponse> all = new ArrayList<>(events.values());
+        for (int i = 0; i < 50; i++) {
+            LocalDateTime from = BASE_DATE.plusHours(random.nextInt(24 * 30));
+            LocalDateTime to = from.plusHours(random.nextInt(24 * 5));
+            assertThat(ids(tree.query(from, to))).containsExactlyElementsOf(ids(bruteForce(all, from, to)));
+        }
+    }
+
+    @Test
+    @DisplayName("빈 트리 조회 시 빈 목록 반환")
+    void query_empty() {
+        assertThat(EventIntervalTree.empty().query(BASE_DATE, BASE_DATE.plusDays(1))).isEmpty();
+    }
+
+    private List<EventCalendarResponse> bruteForce(List<EventCalendarResponse> events, LocalDateTime from, LocalDateTime to) {
+        return events.stream()
+                .filter(e -> !e.getEventDateTime().getStartDate().isAfter(to))
+                .filter(e -> !e.getEventDateTime().getEndDate().isBefore(from))
+                .sorted(Comparator.comparing((EventCalendarResponse e) -> e.getEventDateTime().getStartDate())
+                        .thenComparing(EventCalendarResponse::getEventId))
+                .toList();
+    }
+
+    private List<Long> ids(List<EventCalendarResponse> events) {
+        return events.stream().map(EventCalendarResponse::getEventId).toList();
+    }
+
+    private EventCalendarResponse event(Long eventId, LocalDateTime startDate, LocalDateTime endDate) {
+        return new EventCalendarResponse(eventId, 1L, "event" + eventId, startDate, endDate, false);
+    }
+}
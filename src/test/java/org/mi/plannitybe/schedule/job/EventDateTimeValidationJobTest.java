@@ -0,0 +1,141 @@
+package org.mi.plannitybe.schedule.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.entity.Event;
+import org.mi.plannitybe.schedule.entity.EventList;
+import org.mi.plannitybe.schedule.job.EventDateTimeValidationJob.InvalidEvent;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.schedule.service.EventService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class EventDateTimeValidationJobTest {
+
+    @Autowired
+    private EventDateTimeValidationJob eventDateTimeValidationJob;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserSetUp userSetUp;
+
+    @Test
+    @DisplayName("잘못 저장된 일정이 있어도 캘린더 조회는 검증 없이 응답")
+    void getEventsForCalendar_trustsStoredValues() {
+        // GIVEN - 시각이 자정이 아닌 종일일정
+        EventList eventList = userSetUp.saveEventList(userSetUp.saveUser());
+        Event invalid = saveEvent(eventList, LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 15, 12, 0), true);
+
+        // WHEN
+        List<EventCalendarResponse> events = eventService.getEventsForCalendar(
+                LocalDateTime.of(2024, 4, 1, 0, 0), LocalDateTime.of(2024, 4, 30, 0, 0), eventList.getUser().getId());
+
+        // THEN
+        assertThat(events).extracting(EventCalendarResponse::getEventId).containsExactly(invalid.getId());
+    }
+
+    @Test
+    @DisplayName("점검 모드는 잘못된 일정을 찾기만 하고 수정하지 않음")
+    void run_reportOnly() {
+        // GIVEN
+        EventList eventList = userSetUp.saveEventList(userSetUp.saveUser());
+        Event valid = saveEvent(eventList, LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 15, 12, 0), false);
+        Event undated = saveEvent(eventList, null, null, false);
+        Event endBeforeStart = saveEvent(eventList, LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 14, 10, 0), false);
+        Event startOnly = saveEvent(eventList, LocalDateTime.of(2024, 4, 15, 10, 0), null, false);
+
+        // WHEN
+        ConsistencyReport<InvalidEvent> report = eventDateTimeValidationJob.run(false);
+
+        // THEN
+        assertThat(report.samples()).extracting(InvalidEvent::eventId)
+                .contains(endBeforeStart.getId(), startOnly.getId())
+                .doesNotContain(valid.getId(), undated.getId());
+        assertThat(report.repairedCount()).isZero();
+        assertThat(eventRepository.findById(endBeforeStart.getId()).orElseThrow().getEndDate())
+                .isEqualTo(LocalDateTime.of(2024, 4, 14, 10, 0));
+    }
+
+    @Test
+    @DisplayName("복구 모드는 잘못된 일정을 가장 가까운 올바른 값으로 수정")
+    void run_repair() {
+        // GIVEN
+        EventList eventList = userSetUp.saveEventList(userSetUp.saveUser());
+        Event endBeforeStart = saveEvent(eventList, LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 14, 10, 0), false);
+        Event endOnly = saveEvent(eventList, null, LocalDateTime.of(2024, 4, 15, 10, 0), false);
+        Event allDay = saveEvent(eventList, LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 16, 9, 0), true);
+        Event allDaySameDay = saveEvent(eventList, LocalDateTime.of(2024, 4, 15, 0, 0), LocalDateTime.of(2024, 4, 15, 0, 0), true);
+
+        // WHEN
+        ConsistencyReport<InvalidEvent> report = eventDateTimeValidationJob.run(true);
+
+        // THEN
+        assertThat(report.repairedCount()).isGreaterThanOrEqualTo(4);
+        assertDates(endBeforeStart, LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 15, 10, 0));
+        assertDates(endOnly, LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 15, 10, 0));
+        assertDates(allDay, LocalDateTime.of(2024, 4, 15, 0, 0), LocalDateTime.of(2024, 4, 17, 0, 0));
+        assertDates(allDaySameDay, LocalDateTime.of(2024, 4, 15, 0, 0), LocalDateTime.of(2024, 4, 16, 0, 0));
+        assertThat(eventDateTimeValidationJob.run(false).samples()).extracting(InvalidEvent::eventId)
+                .doesNotContain(endBeforeStart.getId(), endOnly.getId(), allDay.getId(), allDaySameDay.getId());
+    }
+
+    @Test
+    @DisplayName("반복 일정을 복구하면 제외 날짜도 발생 시각과 같은 만큼 이동")
+    void run_repair_keepsRecurrenceExceptions() {
+        // GIVEN - 시각이 자정이 아닌 매주 월요일 종일 반복 일정, 4/8 발생 일정 제외
+        EventList eventList = userSetUp.saveEventList(userSetUp.saveUser());
+        Event series = eventRepository.save(Event.builder()
+                .eventList(eventList)
+                .title("series")
+                .startDate(LocalDateTime.of(2024, 4, 1, 10, 0))
+                .endDate(LocalDateTime.of(2024, 4, 1, 12, 0))
+                .isAllDay(true)
+                .recurrenceRule("FREQ=WEEKLY;BYDAY=MO")
+                .build());
+        series.addRecurrenceException(LocalDateTime.of(2024, 4, 8, 10, 0));
+        eventRepository.saveAndFlush(series);
+
+        // WHEN
+        eventDateTimeValidationJob.run(true);
+
+        // THEN - 4/8 발생 일정은 계속 제외됨
+        assertDates(series, LocalDateTime.of(2024, 4, 1, 0, 0), LocalDateTime.of(2024, 4, 2, 0, 0));
+        assertThat(eventRepository.findById(series.getId()).orElseThrow().getRecurrenceExceptionDates())
+                .containsExactly(LocalDateTime.of(2024, 4, 8, 0, 0));
+        assertThat(eventService.getEventsForCalendar(LocalDateTime.of(2024, 4, 1, 0, 0),
+                LocalDateTime.of(2024, 4, 14, 0, 0), eventList.getUser().getId()))
+                .extracting(e -> e.getEventDateTime().getStartDate())
+                .containsExactly(LocalDateTime.of(2024, 4, 1, 0, 0));
+    }
+
+    private void assertDates(Event event, LocalDateTime startDate, LocalDateTime endDate) {
+        Event repaired = eventRepository.findById(event.getId()).orElseThrow();
+        assertThat(repaired.getStartDate()).isEqualTo(startDate);
+        assertThat(repaired.getEndDate()).isEqualTo(endDate);
+    }
+
+    private Event saveEvent(EventList eventList, LocalDateTime startDate, LocalDateTime endDate, boolean isAllDay) {
+        return eventRepository.save(Event.builder()
+                .eventList(eventList)
+                .title("event")
+                .startDate(startDate)
+                .endDate(endDate)
+                .isAllDay(isAllDay)
+                .build());
+    }
+}
@@ -0,0 +1,102 @@
+package org.mi.plannitybe.schedule.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.dto.CreateTaskRequest;
+import org.mi.plannitybe.schedule.dto.TaskResponse;
+import org.mi.plannitybe.schedule.entity.Task;
+import org.mi.plannitybe.schedule.entity.TaskClosure;
+import org.mi.plannitybe.schedule.entity.TaskList;
+import org.mi.plannitybe.schedule.repository.TaskClosureRepository;
+import org.mi.plannitybe.schedule.repository.TaskRepository;
+import org.mi.plannitybe.schedule.service.TaskService;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+import org.mi.plannitybe.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class TaskClosureConsistencyJobTest {
+
+    @Autowired
+    private TaskClosureConsistencyJob taskClosureConsistencyJob;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskClosureRepository taskClosureRepository;
+
+    @Autowired
+    private UserSetUp userSetUp;
+
+    @Test
+    @DisplayName("서비스로 만든 계층은 closure 행이 일치")
+    void run_consistent() {
+        // GIVEN - root > child > grandChild
+        User user = userSetUp.saveUser();
+        TaskList taskList = userSetUp.saveTaskList(user);
+        TaskResponse root = createTask(taskList, user, null);
+        TaskResponse child = createTask(taskList, user, root.id());
+        createTask(taskList, user, child.id());
+
+        // WHEN
+        ConsistencyReport<Long> report = taskClosureConsistencyJob.run(false);
+
+        // THEN
+        assertThat(report.samples()).doesNotContain(taskList.getId());
+    }
+
+    @Test
+    @DisplayName("closure 행이 없거나 남아 있는 할일리스트를 찾고, 복구 모드에서는 mainTask 기준으로 다시 만듦")
+    void run_repair() {
+        // GIVEN - root > child > grandChild, 서비스를 거치지 않고 저장한 작업(closure 행 없음)과 잘못된 행
+        User user = userSetUp.saveUser();
+        TaskList taskList = userSetUp.saveTaskList(user);
+        TaskResponse root = createTask(taskList, user, null);
+        TaskResponse child = createTask(taskList, user, root.id());
+        TaskResponse grandChild = createTask(taskList, user, child.id());
+        Task unmanaged = taskRepository.save(Task.builder()
+                .taskList(taskList)
+                .title("unmanaged")
+                .mainTask(taskRepository.getReferenceById(root.id()))
+                .status(TaskStatusType.NOT_STARTED)
+                .isAllDay(false)
+                .build());
+        taskClosureRepository.deleteById(new TaskClosure.Key(root.id(), grandChild.id()));
+        taskClosureRepository.insertAll(List.of(new TaskClosure(grandChild.id(), root.id(), 2, taskList.getId())));
+
+        // WHEN - 점검만 수행
+        ConsistencyReport<Long> checkReport = taskClosureConsistencyJob.run(false);
+
+        // THEN - 없는 행 3개((root, grandChild), (unmanaged, unmanaged), (root, unmanaged)) + 남은 행 1개, 변경 없음
+        assertThat(checkReport.samples()).contains(taskList.getId());
+        assertThat(checkReport.differenceCount()).isGreaterThanOrEqualTo(4);
+        assertThat(taskClosureRepository.existsByAncestorIdAndDescendantId(root.id(), grandChild.id())).isFalse();
+
+        // WHEN - 복구
+        ConsistencyReport<Long> repairReport = taskClosureConsistencyJob.run(true);
+
+        // THEN
+        assertThat(repairReport.repairedCount()).isGreaterThanOrEqualTo(1);
+        assertThat(taskClosureConsistencyJob.run(false).samples()).doesNotContain(taskList.getId());
+        assertThat(taskClosureRepository.findSubtreeIds(root.id()))
+                .containsExactlyInAnyOrder(root.id(), child.id(), grandChild.id(), unmanaged.getId());
+        assertThat(taskClosureRepository.findAncestorIds(root.id())).isEmpty();
+    }
+
+    private TaskResponse createTask(TaskList taskList, User user, Long mainTaskId) {
+        return taskService.createTask(new CreateTaskRequest(taskList.getId(), "task", mainTaskId,
+                null, null, TaskStatusType.NOT_STARTED, null, false, null), user.getId());
+    }
+}
@@ -0,0 +1,115 @@
+package org.mi.plannitybe.schedule.job;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.dto.CreateTaskRequest;
+import org.mi.plannitybe.schedule.dto.TaskResponse;
+import org.mi.plannitybe.schedule.entity.Task;
+import org.mi.plannitybe.schedule.entity.TaskList;
+import org.mi.plannitybe.schedule.entity.TaskStatusCounts;
+import org.mi.plannitybe.schedule.repository.TaskListProgressRepository;
+import org.mi.plannitybe.schedule.repository.TaskProgressRepository;
+import org.mi.plannitybe.schedule.repository.TaskRepository;
+import org.mi.plannitybe.schedule.service.TaskService;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+import org.mi.plannitybe.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class TaskProgressRebuildJobTest {
+
+    @Autowired
+    private TaskProgressRebuildJob taskProgressRebuildJob;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskProgressRepository taskProgressRepository;
+
+    @Autowired
+    private TaskListProgressRepository taskListProgressRepository;
+
+    @Autowired
+    private UserSetUp userSetUp;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("서비스로 갱신한 진행 현황은 작업 상태/계층과 일치")
+    void run_consistent() {
+        // GIVEN - root > child > grandChild
+        User user = userSetUp.saveUser();
+        TaskList taskList = userSetUp.saveTaskList(user);
+        TaskResponse root = createTask(taskList, user, null, TaskStatusType.NOT_STARTED);
+        TaskResponse child = createTask(taskList, user, root.id(), TaskStatusType.IN_PROGRESS);
+        createTask(taskList, user, child.id(), TaskStatusType.COMPLETED);
+        entityManager.flush();
+        entityManager.clear();  // bulk 증감 이전 값의 엔티티가 남지 않도록 비움
+
+        // WHEN
+        ConsistencyReport<Long> report = taskProgressRebuildJob.run(false);
+
+        // THEN
+        assertThat(report.samples()).doesNotContain(taskList.getId());
+    }
+
+    @Test
+    @DisplayName("서비스를 거치지 않은 변경으로 달라진 진행 현황을 찾고, 복구 모드에서는 mainTask 기준으로 다시 계산")
+    void run_rebuild() {
+        // GIVEN - root > child, 서비스를 거치지 않고 저장한 완료 작업(진행 현황 미반영)과 상태 변경
+        User user = userSetUp.saveUser();
+        TaskList taskList = userSetUp.saveTaskList(user);
+        TaskResponse root = createTask(taskList, user, null, TaskStatusType.NOT_STARTED);
+        TaskResponse child = createTask(taskList, user, root.id(), TaskStatusType.NOT_STARTED);
+        Task unmanaged = taskRepository.save(Task.builder()
+                .taskList(taskList)
+                .title("unmanaged")
+                .mainTask(taskRepository.getReferenceById(child.id()))
+                .status(TaskStatusType.COMPLETED)
+                .isAllDay(false)
+                .build());
+        taskRepository.findById(child.id()).orElseThrow().setStatus(TaskStatusType.CANCELED);
+        entityManager.flush();
+        entityManager.clear();
+
+        // WHEN - 점검만 수행
+        ConsistencyReport<Long> checkReport = taskProgressRebuildJob.run(false);
+
+        // THEN - root, child, unmanaged(행 없음), 할일리스트 행이 다르고 변경 없음
+        assertThat(checkReport.samples()).contains(taskList.getId());
+        assertThat(checkReport.differenceCount()).isGreaterThanOrEqualTo(4);
+        assertThat(taskProgressRepository.findCountsByTaskId(root.id()).orElseThrow().getTotal()).isEqualTo(1);
+
+        // WHEN - 재계산
+        ConsistencyReport<Long> rebuildReport = taskProgressRebuildJob.run(true);
+        entityManager.flush();
+        entityManager.clear();
+
+        // THEN
+        assertThat(rebuildReport.repairedCount()).isGreaterThanOrEqualTo(1);
+        assertThat(taskProgressRebuildJob.run(false).samples()).doesNotContain(taskList.getId());
+        assertThat(taskProgressRepository.findCountsByTaskId(root.id()))
+                .contains(new TaskStatusCounts(2, 0, 0, 1, 0, 1));
+        assertThat(taskProgressRepository.findCountsByTaskId(unmanaged.getId()))
+                .contains(TaskStatusCounts.empty());
+        assertThat(taskListProgressRepository.findCountsByTaskListId(taskList.getId()))
+                .contains(new TaskStatusCounts(3, 1, 0, 1, 0, 1));
+    }
+
+    private TaskResponse createTask(TaskList taskList, User user, Long mainTaskId, TaskStatusType status) {
+        return taskService.createTask(new CreateTaskRequest(taskList.getId(), "task", mainTaskId,
+                null, null, status, null, false, null), user.getId());
+    }
+}
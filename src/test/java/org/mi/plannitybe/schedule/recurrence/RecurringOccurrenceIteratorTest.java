@@ -0,0 +1,76 @@
+package org.mi.plannitybe.schedule.recurrence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.dto.RecurringEventRow;
+import org.mi.plannitybe.schedule.pagination.CalendarCursor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecurringOccurrenceIterator 테스트")
+class RecurringOccurrenceIteratorTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 4, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 4, 30, 0, 0);
+
+    // 매일 10:00 (id 2), 매주 월요일 10:00 (id 1) - 월요일에는 시작날짜가 같아 id 순
+    private static final List<RecurringEventRow> SERIES = List.of(
+            series(2L, "FREQ=DAILY"),
+            series(1L, "FREQ=WEEKLY;BYDAY=MO"));
+
+    @Test
+    @DisplayName("반복 일정들의 발생 일정을 시작날짜, id 순으로 병합하고 제외 날짜는 건너뜀")
+    void next_mergesInCalendarOrder() {
+        // GIVEN - 매일 반복 일정의 4/2 발생 일정 제외
+        Iterator<EventCalendarResponse> iterator = new RecurringOccurrenceIterator(SERIES,
+                Map.of(2L, Set.of(LocalDateTime.of(2024, 4, 2, 10, 0))), FROM, TO, null);
+
+        // THEN - 4/1(월) id 1, id 2, 4/3 id 2 ...
+        List<EventCalendarResponse> occurrences = take(iterator, 100);
+        assertThat(occurrences).hasSize(5 + 28);  // 월요일 5개 + 4/1 ~ 4/29 중 4/2 제외
+        assertThat(occurrences.subList(0, 3)).extracting(EventCalendarResponse::getEventId).containsExactly(1L, 2L, 2L);
+        assertThat(occurrences.get(2).getEventDateTime().getStartDate()).isEqualTo(LocalDateTime.of(2024, 4, 3, 10, 0));
+        assertThat(occurrences).isSortedAccordingTo((a, b) -> {
+            int compare = a.getEventDateTime().getStartDate().compareTo(b.getEventDateTime().getStartDate());
+            return compare != 0 ? compare : a.getEventId().compareTo(b.getEventId());
+        });
+    }
+
+    @Test
+    @DisplayName("커서를 지정하면 커서 이후의 발생 일정부터 반환 (시작날짜가 같으면 id로 비교)")
+    void next_afterCursor() {
+        // GIVEN - 4/8(월) 10:00 id 1까지 조회한 커서
+        CalendarCursor cursor = new CalendarCursor(LocalDateTime.of(2024, 4, 8, 10, 0), 1L);
+
+        // WHEN
+        List<EventCalendarResponse> occurrences = take(new RecurringOccurrenceIterator(SERIES, Map.of(), FROM, TO, cursor), 3);
+
+        // THEN
+        assertThat(occurrences).extracting(EventCalendarResponse::getEventId).containsExactly(2L, 2L, 2L);
+        assertThat(occurrences).extracting(e -> e.getEventDateTime().getStartDate()).containsExactly(
+                LocalDateTime.of(2024, 4, 8, 10, 0),
+                LocalDateTime.of(2024, 4, 9, 10, 0),
+                LocalDateTime.of(2024, 4, 10, 10, 0));
+    }
+
+    private static RecurringEventRow series(Long eventId, String recurrenceRule) {
+        return new RecurringEventRow(eventId, 1L, "반복", LocalDateTime.of(2024, 3, 4, 10, 0),
+                LocalDateTime.of(2024, 3, 4, 11, 0), false, recurrenceRule, LocalDateTime.of(2024, 3, 1, 0, 0));
+    }
+
+    private List<EventCalendarResponse> take(Iterator<EventCalendarResponse> iterator, int limit) {
+        List<EventCalendarResponse> result = new ArrayList<>();
+        while (iterator.hasNext() && result.size() < limit) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+}
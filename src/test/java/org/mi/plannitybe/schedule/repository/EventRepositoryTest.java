@@ -0,0 +1,237 @@
+package org.mi.plannitybe.schedule.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.dto.EventCalendarResponse;
+import org.mi.plannitybe.schedule.dto.EventResponse;
+import org.mi.plannitybe.schedule.entity.*;
+import org.mi.plannitybe.schedule.mapper.EventMapper;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+import org.mi.plannitybe.user.entity.User;
+import org.mi.plannitybe.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.mi.plannitybe.schedule.repository.RecordingStatementInspector"
+})
+@Transactional
+class EventRepositoryTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventListRepository eventListRepository;
+
+    @Autowired
+    private TaskListRepository taskListRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSetUp userSetUp;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("eventId로 event, 소유자 userId, 연결된 taskId를 한 번의 쿼리로 조회")
+    void findWithEventListAndEventTasksByIdTest() {
+        // GIVEN - user 소유의 eventList, task 3개가 연결된 event
+        String userId = userSetUp.saveUser(UUID.randomUUID() + "@email.com", "pwd123!");
+        User user = userRepository.findById(userId).orElseThrow();
+        EventList eventList = eventListRepository.save(EventList.builder()
+                .user(user)
+                .name("test")
+                .isDefault(false)
+                .build());
+        TaskList taskList = taskListRepository.save(TaskList.builder()
+                .user(user)
+                .name("test")
+                .isDefault(false)
+                .build());
+
+        Event event = Event.builder()
+                .eventList(eventList)
+                .title("test")
+                .startDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .endDate(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .isAllDay(false)
+                .build();
+        for (int i = 0; i < 3; i++) {
+            event.addTask(taskRepository.save(Task.builder()
+                    .taskList(taskList)
+                    .title("task" + i)
+                    .status(TaskStatusType.NOT_STARTED)
+                    .isAllDay(false)
+                    .build()));
+        }
+        Long eventId = eventRepository.save(event).getId();
+
+        // 영속성 컨텍스트를 비워 실제 조회 쿼리가 실행되도록 설정
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // WHEN - event 조회 후 소유자 확인 및 응답 객체 변환
+        Event found = eventRepository.findWithEventListAndEventTasksById(eventId).orElseThrow();
+        String ownerId = found.getEventList().getUser().getId();
+        EventResponse eventResponse = EventMapper.toResponse(found);
+
+        // THEN - 소유자와 연결된 task가 모두 조회되고, 실행된 쿼리는 1개여야 한다.
+        assertEquals(userId, ownerId);
+        assertEquals(eventList.getId(), eventResponse.eventListId());
+        assertThat(eventResponse.taskIds()).hasSize(3);
+        assertEquals(1L, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("task 20개가 연결된 event 저장 시 event_task insert는 JDBC 배치로 실행")
+    void saveEventWithTasks_batchesEventTaskInserts() {
+        // GIVEN - user 소유의 eventList, task 20개
+        String userId = userSetUp.saveUser(UUID.randomUUID() + "@email.com", "pwd123!");
+        User user = userRepository.findById(userId).orElseThrow();
+        EventList eventList = eventListRepository.save(EventList.builder()
+                .user(user)
+                .name("test")
+                .isDefault(false)
+                .build());
+        TaskList taskList = taskListRepository.save(TaskList.builder()
+                .user(user)
+                .name("test")
+                .isDefault(false)
+                .build());
+
+        Event event = Event.builder()
+                .eventList(eventList)
+                .title("test")
+                .startDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .endDate(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .isAllDay(false)
+                .build();
+        for (int i = 0; i < 20; i++) {
+            event.addTask(taskRepository.save(Task.builder()
+                    .taskList(taskList)
+                    .title("task" + i)
+                    .status(TaskStatusType.NOT_STARTED)
+                    .isAllDay(false)
+                    .build()));
+        }
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // WHEN - event 저장 (영속성 전이로 eventTask 20개 함께 저장)
+        eventRepository.save(event);
+        entityManager.flush();
+
+        // THEN - 21개 row가 저장되지만 insert 구문은 event, event_task 각각 한 번씩만 준비됨
+        //        (나머지는 시퀀스 조회 - pooled 방식으로 50개 단위 할당이므로 테이블당 최대 2회)
+        assertEquals(21L, statistics.getEntityInsertCount());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("캘린더 조회 시 event_list 조인 없이 user_id로 조회하고 결과는 시작날짜, id 순으로 정렬")
+    void findEventsByUserIdAndDateRangeTest() {
+        // GIVEN - user 소유의 eventList와 범위 안팎의 event들
+        String userId = userSetUp.saveUser(UUID.randomUUID() + "@email.com", "pwd123!");
+        User user = userRepository.findById(userId).orElseThrow();
+        EventList eventList = eventListRepository.save(EventList.builder()
+                .user(user)
+                .name("test")
+                .isDefault(false)
+                .build());
+        Long secondId = saveEvent(eventList, LocalDateTime.of(2024, 4, 20, 10, 0), LocalDateTime.of(2024, 4, 20, 12, 0));
+        Long firstId = saveEvent(eventList, LocalDateTime.of(2024, 3, 25, 0, 0), LocalDateTime.of(2024, 4, 2, 0, 0));
+        saveEvent(eventList, LocalDateTime.of(2024, 5, 2, 10, 0), LocalDateTime.of(2024, 5, 2, 12, 0));
+        entityManager.flush();
+        entityManager.clear();
+
+        // WHEN
+        List<EventCalendarResponse> events = eventRepository.findEventsByUserIdAndDateRange(userId,
+                LocalDateTime.of(2024, 4, 1, 0, 0), LocalDateTime.of(2024, 4, 30, 0, 0));
+
+        // THEN - 저장 시 eventList의 소유자 userId가 event에 비정규화되어 조회됨
+        assertThat(events).extracting(EventCalendarResponse::getEventId).containsExactly(firstId, secondId);
+        assertThat(events).extracting(EventCalendarResponse::getEventListId).containsOnly(eventList.getId());
+    }
+
+    @Test
+    @DisplayName("캘린더 조회/페이지 조회가 생성하는 SQL의 실행 계획은 idx_event_user_start 인덱스를 사용하고 정렬에 filesort가 없음")
+    void findEventsByUserIdAndDateRange_usesIndex() {
+        LocalDateTime from = LocalDateTime.of(2024, 4, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 4, 30, 0, 0);
+
+        // WHEN - 리포지토리 메소드가 실행한 SQL에 같은 값을 SQL 순서대로 바인딩하여 실행 계획 조회
+        RecordingStatementInspector.clear();
+        eventRepository.findEventsByUserIdAndDateRange("user-id", from, to);
+        String calendarPlan = explain(RecordingStatementInspector.lastStatement(), "user-id", to, from);
+
+        eventRepository.findEventPageByUserIdAndDateRangeAfter("user-id", from, to, from, 0L, Limit.of(10));
+        String pagePlan = explain(RecordingStatementInspector.lastStatement(), "user-id", to, from, from, from, 0L, 10);
+
+        // THEN
+        for (String plan : List.of(calendarPlan, pagePlan)) {
+            assertThat(plan).containsIgnoringCase("idx_event_user_start");
+            assertThat(plan).doesNotContainIgnoringCase("filesort");  // MySQL: 정렬을 인덱스 순서로 처리 (Extra에 Using filesort 없음)
+        }
+    }
+
+    // sql 앞에 EXPLAIN을 붙여 실행 (H2: PLAN 컬럼 하나, MySQL: 여러 컬럼)
+    private String explain(String sql, Object... parameters) {
+        assertThat(sql.chars().filter(c -> c == '?').count()).isEqualTo(parameters.length);
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    int columnCount = resultSet.getMetaData().getColumnCount();
+                    while (resultSet.next()) {
+                        for (int i = 1; i <= columnCount; i++) {
+                            plan.append(resultSet.getString(i)).append(' ');
+                        }
+                        plan.append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private Long saveEvent(EventList eventList, LocalDateTime startDate, LocalDateTime endDate) {
+        return eventRepository.save(Event.builder()
+                .eventList(eventList)
+                .title("test")
+                .startDate(startDate)
+                .endDate(endDate)
+                .isAllDay(false)
+                .build()).getId();
+    }
+}
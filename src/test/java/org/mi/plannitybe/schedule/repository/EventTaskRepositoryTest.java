@@ -0,0 +1,138 @@
+package org.mi.plannitybe.schedule.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.entity.*;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+import org.mi.plannitybe.user.entity.User;
+import org.mi.plannitybe.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class EventTaskRepositoryTest {
+
+    @Autowired
+    private EventTaskRepository eventTaskRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventListRepository eventListRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskListRepository taskListRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSetUp userSetUp;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest(name = "연결 개수 = {0}")
+    @ValueSource(ints = {1, 10, 30})
+    @DisplayName("task 연결 일괄 삭제 시 연결 개수와 관계없이 delete는 한 번만 실행되고 요청한 연결만 삭제")
+    void deleteByEventIdAndTaskIdIn_singleStatement(int linkCount) {
+        // GIVEN - task linkCount * 2개가 연결된 event
+        String userId = userSetUp.saveUser(UUID.randomUUID() + "@email.com", "pwd123!");
+        User user = userRepository.findById(userId).orElseThrow();
+        Event event = saveEvent(user);
+        List<Task> tasks = saveTasks(user, linkCount * 2);
+        eventTaskRepository.insertAll(event.addTaskLinks(tasks));
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // WHEN - 앞쪽 절반의 연결 삭제
+        List<Long> removedTaskIds = tasks.subList(0, linkCount).stream().map(Task::getId).toList();
+        int deletedCount = eventTaskRepository.deleteByEventIdAndTaskIdIn(event.getId(), removedTaskIds);
+
+        // THEN - 실행된 쿼리는 1개, 남은 연결은 뒤쪽 절반
+        assertEquals(1L, statistics.getPrepareStatementCount());
+        assertEquals(linkCount, deletedCount);
+        Event reloaded = eventRepository.findWithEventListAndEventTasksById(event.getId()).orElseThrow();
+        assertEquals(tasks.subList(linkCount, linkCount * 2).stream().map(Task::getId).toList(),
+                reloaded.getEventTasks().stream().map(EventTask::getTaskId).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("이미 연결된 task는 다시 연결하지 않고, 같은 연결을 직접 저장하면 unique 제약으로 실패")
+    void addTaskLinks_skipsDuplicates() {
+        // GIVEN - task 2개가 연결된 event
+        String userId = userSetUp.saveUser(UUID.randomUUID() + "@email.com", "pwd123!");
+        User user = userRepository.findById(userId).orElseThrow();
+        Event event = saveEvent(user);
+        List<Task> tasks = saveTasks(user, 3);
+        eventTaskRepository.insertAll(event.addTaskLinks(tasks.subList(0, 2)));
+
+        // WHEN - 기존 연결 2개와 새 task 1개를 다시 연결
+        List<EventTask> added = event.addTaskLinks(tasks);
+
+        // THEN - 새 task만 추가, 같은 연결을 직접 저장하면 실패
+        assertEquals(List.of(tasks.get(2).getId()), added.stream().map(EventTask::getTaskId).toList());
+        assertTrue(event.hasTask(tasks.get(0).getId()));
+        assertEquals(3, event.getTaskIds().size());
+        assertThrows(DataIntegrityViolationException.class, () -> eventTaskRepository.saveAndFlush(EventTask.builder()
+                .event(event)
+                .task(tasks.get(0))
+                .build()));
+    }
+
+    private Event saveEvent(User user) {
+        EventList eventList = eventListRepository.save(EventList.builder()
+                .user(user)
+                .name("test")
+                .isDefault(false)
+                .build());
+        return eventRepository.save(Event.builder()
+                .eventList(eventList)
+                .title("event")
+                .startDate(LocalDateTime.of(2024, 4, 1, 10, 0))
+                .endDate(LocalDateTime.of(2024, 4, 1, 11, 0))
+                .isAllDay(false)
+                .build());
+    }
+
+    private List<Task> saveTasks(User user, int taskCount) {
+        TaskList taskList = taskListRepository.save(TaskList.builder()
+                .user(user)
+                .name("test")
+                .isDefault(false)
+                .build());
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(taskRepository.save(Task.builder()
+                    .taskList(taskList)
+                    .title("task" + i)
+                    .status(TaskStatusType.NOT_STARTED)
+                    .isAllDay(false)
+                    .build()));
+        }
+        return tasks;
+    }
+}
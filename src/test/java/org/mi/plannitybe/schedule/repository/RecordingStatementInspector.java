@@ -0,0 +1,28 @@
+package org.mi.plannitybe.schedule.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Hibernate가 실행하는 SQL을 기록 - 리포지토리 메소드가 실제로 생성하는 SQL의 실행 계획 확인용
+// (spring.jpa.properties.hibernate.session_factory.statement_inspector로 등록)
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    // 마지막으로 실행된 SQL
+    public static String lastStatement() {
+        return STATEMENTS.get(STATEMENTS.size() - 1);
+    }
+}
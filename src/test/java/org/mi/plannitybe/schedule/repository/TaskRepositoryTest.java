@@ -0,0 +1,82 @@
+package org.mi.plannitybe.schedule.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.entity.Task;
+import org.mi.plannitybe.schedule.entity.TaskList;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+import org.mi.plannitybe.user.entity.User;
+import org.mi.plannitybe.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class TaskRepositoryTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskListRepository taskListRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSetUp userSetUp;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest(name = "task 개수 = {0}")
+    @ValueSource(ints = {1, 10, 30})
+    @DisplayName("taskId 목록으로 task와 소유자 userId 조회 시 task 개수와 관계없이 쿼리는 한 번만 실행")
+    void findAllWithTaskListByIdIn_statementCountConstant(int taskCount) {
+        // GIVEN - user와 해당 user 소유의 taskList, taskCount개의 task
+        String userId = userSetUp.saveUser(UUID.randomUUID() + "@email.com", "pwd123!");
+        User user = userRepository.findById(userId).orElseThrow();
+        TaskList taskList = taskListRepository.save(TaskList.builder()
+                .user(user)
+                .name("test")
+                .isDefault(false)
+                .build());
+
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            Task task = taskRepository.save(Task.builder()
+                    .taskList(taskList)
+                    .title("task" + i)
+                    .status(TaskStatusType.NOT_STARTED)
+                    .isAllDay(false)
+                    .build());
+            taskIds.add(task.getId());
+        }
+
+        // 영속성 컨텍스트를 비워 실제 조회 쿼리가 실행되도록 설정
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // WHEN - taskId 목록으로 task 조회 후 각 task의 소유자 userId 확인
+        List<Task> tasks = taskRepository.findAllWithTaskListByIdIn(taskIds);
+        tasks.forEach(task -> assertEquals(userId, task.getTaskList().getUser().getId()));
+
+        // THEN - 모든 task가 조회되고, 실행된 쿼리는 1개여야 한다.
+        assertEquals(taskCount, tasks.size());
+        assertEquals(1L, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,130 @@
+package org.mi.plannitybe.schedule.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.domain.EventDateTime;
+import org.mi.plannitybe.schedule.dto.CreateEventRequest;
+import org.mi.plannitybe.schedule.dto.EventBatchCreateResponse;
+import org.mi.plannitybe.schedule.dto.EventBatchItemResult;
+import org.mi.plannitybe.schedule.entity.Event;
+import org.mi.plannitybe.schedule.entity.EventList;
+import org.mi.plannitybe.schedule.entity.EventTask;
+import org.mi.plannitybe.schedule.entity.Task;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.schedule.repository.TaskRepository;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+import org.mi.plannitybe.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// chunk 단위 저장 확인을 위해 chunk 크기를 작게 설정
+@SpringBootTest(properties = "event.batch.chunk-size=2")
+@Transactional
+class EventBatchServiceTest {
+
+    private static final LocalDateTime START_DATE = LocalDateTime.of(2024, 4, 15, 10, 0);
+    private static final LocalDateTime END_DATE = LocalDateTime.of(2024, 4, 15, 12, 0);
+
+    @Autowired
+    private EventBatchService eventBatchService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserSetUp userSetUp;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("여러 chunk에 걸친 일정이 모두 생성되고 task가 연결됨")
+    void createEvents_success() {
+        // GIVEN - user 소유의 eventList, task와 일정 5개 (chunk 크기 2)
+        User user = userSetUp.saveUser();
+        EventList eventList = userSetUp.saveEventList(user);
+        Task task = saveTask(user);
+
+        List<CreateEventRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(request(eventList.getId(), "event" + i, List.of(task.getId())));
+        }
+
+        // WHEN
+        EventBatchCreateResponse response = eventBatchService.createEvents(requests, user.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // THEN - 요청 순서대로 결과 반환, 저장된 일정에 userId와 task 연결
+        assertThat(response.createdCount()).isEqualTo(5);
+        assertThat(response.failedCount()).isZero();
+        assertThat(response.results()).extracting(EventBatchItemResult::index).containsExactly(0, 1, 2, 3, 4);
+
+        for (EventBatchItemResult result : response.results()) {
+            Event event = eventRepository.findWithEventListAndEventTasksById(result.eventId()).orElseThrow();
+            assertThat(event.getUserId()).isEqualTo(user.getId());
+            assertThat(event.getEventList().getId()).isEqualTo(eventList.getId());
+            assertThat(event.getEventTasks()).extracting(EventTask::getTask).extracting(Task::getId)
+                    .containsExactly(task.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 일정만 항목별 실패 결과를 반환하고 나머지 일정은 생성")
+    void createEvents_partialFailure() {
+        // GIVEN - 본인 eventList/task, 다른 사용자의 eventList/task
+        User user = userSetUp.saveUser();
+        User otherUser = userSetUp.saveUser();
+        EventList eventList = userSetUp.saveEventList(user);
+        EventList otherEventList = userSetUp.saveEventList(otherUser);
+        Task task = saveTask(user);
+        Task otherTask = saveTask(otherUser);
+
+        List<CreateEventRequest> requests = new ArrayList<>();
+        requests.add(request(eventList.getId(), "valid", List.of(task.getId())));
+        requests.add(request(otherEventList.getId(), "foreign eventList", List.of()));
+        requests.add(request(eventList.getId(), "foreign task", List.of(task.getId(), otherTask.getId())));
+        requests.add(request(eventList.getId(), "missing task", List.of(Long.MAX_VALUE)));
+        requests.add(new CreateEventRequest(eventList.getId(), "invalid date",
+                EventDateTime.fromJson(END_DATE, START_DATE, false), null, List.of()));
+        requests.add(null);
+        requests.add(request(eventList.getId(), "valid", List.of()));
+
+        // WHEN
+        EventBatchCreateResponse response = eventBatchService.createEvents(requests, user.getId());
+
+        // THEN
+        assertThat(response.createdCount()).isEqualTo(2);
+        assertThat(response.failedCount()).isEqualTo(5);
+        assertThat(response.results()).extracting(EventBatchItemResult::code).containsExactly(
+                null, "EVENT_LIST_NOT_FOUND", "TASK_NOT_FOUND", "TASK_NOT_FOUND",
+                "VALIDATION_FAILED", "VALIDATION_FAILED", null);
+        assertThat(response.results().get(4).message()).isEqualTo("종료 날짜는 시작 날짜보다 과거일 수 없습니다.");
+        assertThat(eventRepository.findById(response.results().get(6).eventId())).isPresent();
+    }
+
+    private CreateEventRequest request(Long eventListId, String title, List<Long> taskIds) {
+        return new CreateEventRequest(eventListId, title, EventDateTime.of(START_DATE, END_DATE, false), null, taskIds);
+    }
+
+    private Task saveTask(User user) {
+        return taskRepository.save(Task.builder()
+                .taskList(userSetUp.saveTaskList(user))
+                .title("task")
+                .status(TaskStatusType.NOT_STARTED)
+                .isAllDay(false)
+                .build());
+    }
+}
@@ -0,0 +1,150 @@
+package org.mi.plannitybe.schedule.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.exception.EventListAccessDeniedException;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.dto.EventExportRequest;
+import org.mi.plannitybe.schedule.entity.Event;
+import org.mi.plannitybe.schedule.entity.EventList;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class EventExportServiceTest {
+
+    @Autowired
+    private EventExportService eventExportService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserSetUp userSetUp;
+
+    @Test
+    @DisplayName("user의 날짜가 있는 일정만 id 순으로 VEVENT 출력")
+    void exportIcs_success() throws IOException {
+        // GIVEN - user 일정 2개, 날짜 없는 일정 1개, 다른 user 일정 1개
+        User user = userSetUp.saveUser();
+        User otherUser = userSetUp.saveUser();
+        EventList eventList = userSetUp.saveEventList(user);
+        Event first = saveEvent(eventList, "회의, 점검", LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 15, 12, 0), false);
+        Event second = saveEvent(eventList, "휴가", LocalDateTime.of(2024, 5, 1, 0, 0), LocalDateTime.of(2024, 5, 3, 0, 0), true);
+        saveEvent(eventList, "날짜 없음", null, null, false);
+        saveEvent(userSetUp.saveEventList(otherUser), "다른 사용자", LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 15, 12, 0), false);
+
+        // WHEN
+        String ics = export(new EventExportRequest(), user.getId());
+
+        // THEN
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(ics.split("BEGIN:VEVENT", -1)).hasSize(3);
+        assertThat(ics.indexOf("UID:event-" + first.getId() + "@plannity"))
+                .isLessThan(ics.indexOf("UID:event-" + second.getId() + "@plannity"));
+        assertThat(ics).contains(
+                "SUMMARY:회의\\, 점검\r\n",
+                "DTSTART:20240415T100000\r\n",
+                "DTEND:20240415T120000\r\n",
+                "DTSTART;VALUE=DATE:20240501\r\n",
+                "DTEND;VALUE=DATE:20240503\r\n");
+        assertThat(ics).doesNotContain("날짜 없음", "다른 사용자");
+    }
+
+    @Test
+    @DisplayName("eventList와 기간 조건에 해당하는 일정만 출력")
+    void exportIcs_filter() throws IOException {
+        // GIVEN
+        User user = userSetUp.saveUser();
+        EventList eventList = userSetUp.saveEventList(user);
+        EventList otherEventList = userSetUp.saveEventList(user);
+        Event inRange = saveEvent(eventList, "4월", LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 15, 12, 0), false);
+        Event outOfRange = saveEvent(eventList, "6월", LocalDateTime.of(2024, 6, 15, 10, 0), LocalDateTime.of(2024, 6, 15, 12, 0), false);
+        Event otherList = saveEvent(otherEventList, "다른 목록", LocalDateTime.of(2024, 4, 15, 10, 0), LocalDateTime.of(2024, 4, 15, 12, 0), false);
+
+        // WHEN
+        String ics = export(new EventExportRequest(eventList.getId(),
+                LocalDateTime.of(2024, 4, 1, 0, 0), LocalDateTime.of(2024, 4, 30, 23, 59)), user.getId());
+
+        // THEN
+        assertThat(ics).contains("UID:event-" + inRange.getId() + "@plannity");
+        assertThat(ics).doesNotContain("UID:event-" + outOfRange.getId() + "@", "UID:event-" + otherList.getId() + "@");
+    }
+
+    @Test
+    @DisplayName("반복 일정은 반복 기간으로 기간 조건을 확인하고 RRULE, EXDATE 출력")
+    void exportIcs_recurringEvent() throws IOException {
+        // GIVEN - 조회 기간 이전에 시작한 매주 월요일 반복 일정(4/8 발생 일정 제외), 조회 기간 이전에 끝난 반복 일정
+        User user = userSetUp.saveUser();
+        EventList eventList = userSetUp.saveEventList(user);
+        Event series = saveRecurringEvent(eventList, "FREQ=WEEKLY;BYDAY=MO");
+        series.addRecurrenceException(LocalDateTime.of(2024, 4, 8, 10, 0));
+        eventRepository.saveAndFlush(series);
+        Event ended = saveRecurringEvent(eventList, "FREQ=WEEKLY;BYDAY=MO;UNTIL=20240320T100000");
+
+        // WHEN
+        String ics = export(new EventExportRequest(null,
+                LocalDateTime.of(2024, 4, 1, 0, 0), LocalDateTime.of(2024, 4, 30, 23, 59)), user.getId());
+
+        // THEN
+        assertThat(ics).contains(
+                "UID:event-" + series.getId() + "@plannity",
+                "DTSTART:20240304T100000\r\n",
+                "RRULE:FREQ=WEEKLY;BYDAY=MO\r\n",
+                "EXDATE:20240408T100000\r\n");
+        assertThat(ics).doesNotContain("UID:event-" + ended.getId() + "@");
+    }
+
+    @Test
+    @DisplayName("다른 user의 eventList는 내보낼 수 없음")
+    void validateEventList_fail_accessDenied() {
+        // GIVEN
+        User user = userSetUp.saveUser();
+        EventList otherEventList = userSetUp.saveEventList(userSetUp.saveUser());
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> eventExportService.validateEventList(otherEventList.getId(), user.getId()))
+                .isInstanceOf(EventListAccessDeniedException.class);
+    }
+
+    private String export(EventExportRequest request, String userId) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        eventExportService.exportIcs(request, userId, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private Event saveEvent(EventList eventList, String title, LocalDateTime startDate, LocalDateTime endDate, boolean isAllDay) {
+        return eventRepository.save(Event.builder()
+                .eventList(eventList)
+                .userId(eventList.getUser().getId())
+                .title(title)
+                .startDate(startDate)
+                .endDate(endDate)
+                .isAllDay(isAllDay)
+                .build());
+    }
+
+    private Event saveRecurringEvent(EventList eventList, String recurrenceRule) {
+        return eventRepository.save(Event.builder()
+                .eventList(eventList)
+                .userId(eventList.getUser().getId())
+                .title("반복")
+                .startDate(LocalDateTime.of(2024, 3, 4, 10, 0))
+                .endDate(LocalDateTime.of(2024, 3, 4, 11, 0))
+                .isAllDay(false)
+                .recurrenceRule(recurrenceRule)
+                .build());
+    }
+}
@@ -7,12 +7,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
 import org.mi.plannitybe.exception.*;
+import org.mi.plannitybe.schedule.cache.CalendarEventCache;
+import org.mi.plannitybe.schedule.cache.RecurringOccurrenceCache;
 import org.mi.plannitybe.schedule.domain.EventDateTime;
 import org.mi.plannitybe.schedule.dto.CreateEventRequest;
 import org.mi.plannitybe.schedule.dto.EventResponse;
+import org.mi.plannitybe.schedule.dto.UpdateEventRequest;
 import org.mi.plannitybe.schedule.entity.*;
+import org.mi.plannitybe.schedule.index.CalendarEventIntervalIndex;
 import org.mi.plannitybe.schedule.repository.EventListRepository;
 import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.schedule.repository.EventTaskRepository;
+import org.mi.plannitybe.schedule.repository.EventTombstoneRepository;
 import org.mi.plannitybe.schedule.repository.TaskRepository;
 import org.mi.plannitybe.user.entity.User;
 import org.mockito.ArgumentCaptor;
@@ -30,7 +36,9 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,12 +50,27 @@ class EventServiceTest {
     @InjectMocks
     private EventService eventService;
 
+    @Mock
+    private EventTombstoneRepository eventTombstoneRepository;
+
+    @Mock
+    private EventTaskRepository eventTaskRepository;
+
     @Mock
     private EventListRepository eventListRepository;
 
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private CalendarEventCache calendarEventCache;
+
+    @Mock
+    private CalendarEventIntervalIndex calendarEventIntervalIndex;
+
+    @Mock
+    private RecurringOccurrenceCache recurringOccurrenceCache;
+
     // 테스트 상수
     private static final String DEFAULT_TITLE = "new event title";
     private static final String DEFAULT_DESCRIPTION = "new event description";
@@ -147,6 +170,37 @@ class EventServiceTest {
         assertThrows(TaskNotFoundException.class, () -> eventService.createEvent(createEventRequest, userId));
     }
 
+    @Test
+    @DisplayName("createEvent 실패 - Task 소유자가 다름")
+    void createEvent_fail_taskAccessDenied() {
+        // GIVEN
+        List<Long> taskIds = List.of(1L, 2L);
+        CreateEventRequest createEventRequest = createEventRequest(DEFAULT_START_DATE, DEFAULT_END_DATE, false, taskIds);
+        setupExistingEventList(DEFAULT_EVENT_LIST_ID, userId);
+        setupExistingTasks(taskIds, "different" + userId);
+
+        // WHEN & THEN
+        assertThrows(TaskAccessDeniedException.class, () -> eventService.createEvent(createEventRequest, userId));
+    }
+
+    @Test
+    @DisplayName("createEvent 실패 - 존재하지 않는 Task와 다른 사용자의 Task가 섞여 있으면 요청 순서상 첫 번째 실패 기준으로 예외 발생")
+    void createEvent_fail_missingAndForeignTasks() {
+        // GIVEN - 1L: 본인 소유, 2L: 존재하지 않음, 3L: 다른 사용자 소유
+        List<Long> taskIds = List.of(1L, 2L, 3L);
+        CreateEventRequest createEventRequest = createEventRequest(DEFAULT_START_DATE, DEFAULT_END_DATE, false, taskIds);
+        setupExistingEventList(DEFAULT_EVENT_LIST_ID, userId);
+        List<Task> foundTasks = new ArrayList<>(createMockTasks(List.of(1L), userId));
+        foundTasks.addAll(createMockTasks(List.of(3L), "different" + userId));
+        given(taskRepository.findAllWithTaskListByIdIn(anyCollection())).willReturn(foundTasks);
+
+        // WHEN & THEN
+        TaskNotFoundException exception = assertThrows(TaskNotFoundException.class,
+                () -> eventService.createEvent(createEventRequest, userId));
+        assertThat(exception.getResourceId()).isEqualTo(2L);
+        verify(taskRepository, times(1)).findAllWithTaskListByIdIn(anyCollection());
+    }
+
     // ================ 헬퍼 메서드 ================
     
     private CreateEventRequest createEventRequest(LocalDateTime startDate, LocalDateTime endDate, Boolean isAllDay, List<Long> taskIds) {
@@ -178,19 +232,15 @@ class EventServiceTest {
         return eventList;
     }
 
-    // taskId로 저장된 Task 조회 시 유효한 task 객체 반환하도록 설정
+    // taskId 목록으로 저장된 Task 조회 시 유효한 task 객체 목록 반환하도록 설정
     private void setupExistingTasks(List<Long> taskIds, String userId) {
         List<Task> mockTasks = createMockTasks(taskIds, userId);
-        for (int i = 0; i < taskIds.size(); i++) {
-            given(taskRepository.findById(taskIds.get(i))).willReturn(Optional.of(mockTasks.get(i)));
-        }
+        given(taskRepository.findAllWithTaskListByIdIn(anyCollection())).willReturn(mockTasks);
     }
 
-    // taskId로 저장된 Task 조회 시 Optional.null 반환하도록 설정 (존재하지 않는 Task)
+    // taskId 목록으로 저장된 Task 조회 시 빈 목록 반환하도록 설정 (존재하지 않는 Task)
     private void setupNotExistingTasks(List<Long> taskIds) {
-        for (Long taskId : taskIds) {
-            given(taskRepository.findById(taskId)).willReturn(Optional.empty());
-        }
+        given(taskRepository.findAllWithTaskListByIdIn(anyCollection())).willReturn(List.of());
     }
 
     // mockTasks 리스트 객체 생성하여 반환하는 메소드
@@ -215,7 +265,7 @@ class EventServiceTest {
         assertThat(savedEvent.getIsAllDay()).isEqualTo(createEventRequest.eventDateTime().getIsAllDay());
 
         // savedEvent의 EventTask 객체의 task id와 createEventRequest에 저장된 taskIds의 각 taskId가 동일한지 확인
-        List<EventTask> savedEventTasks = savedEvent.getEventTasks();
+        List<EventTask> savedEventTasks = List.copyOf(savedEvent.getEventTasks());
         for (int i = 0; i < savedEventTasks.size(); i++) {
             assertThat(savedEventTasks.get(i).getTask().getId()).isEqualTo(createEventRequest.taskIds().get(i));
         }
@@ -237,7 +287,7 @@ class EventServiceTest {
         // GIVEN
         Long eventId = 1L;
         Event mockEvent = createMockEvent(eventId, userId);
-        given(eventRepository.findById(eventId)).willReturn(Optional.of(mockEvent));
+        given(eventRepository.findWithEventListAndEventTasksById(eventId)).willReturn(Optional.of(mockEvent));
 
         // WHEN
         EventResponse event = eventService.getEvent(eventId, userId);
@@ -251,7 +301,7 @@ class EventServiceTest {
     @DisplayName("getEvent 실패 - Event가 존재하지 않음")
     void getEvent_fail_eventNotFound() {
         Long eventId = 1L;
-        given(eventRepository.findById(eventId)).willReturn(Optional.empty());
+        given(eventRepository.findWithEventListAndEventTasksById(eventId)).willReturn(Optional.empty());
 
         assertThrows(EventNotFoundException.class, () -> eventService.getEvent(eventId, userId));
     }
@@ -261,11 +311,25 @@ class EventServiceTest {
     void getEvent_fail_accessDenied() {
         Long eventId = 1L;
         Event mockEvent = createMockEvent(eventId, "different" + userId);
-        given(eventRepository.findById(eventId)).willReturn(Optional.of(mockEvent));
+        given(eventRepository.findWithEventListAndEventTasksById(eventId)).willReturn(Optional.of(mockEvent));
 
         assertThrows(EventAccessDeniedException.class, () -> eventService.getEvent(eventId, userId));
     }
 
+    @Test
+    @DisplayName("updateEvent 실패 - 다른 사용자의 Event는 소유자 조건으로 잠그므로 잠기지 않고 접근 거부")
+    void updateEvent_fail_accessDenied_lockedByOwner() {
+        // GIVEN
+        Long eventId = 1L;
+        Event mockEvent = createMockEvent(eventId, "different" + userId);
+        given(eventRepository.findWithEventListAndEventTasksById(eventId)).willReturn(Optional.of(mockEvent));
+        UpdateEventRequest request = new UpdateEventRequest(null, "title", null, null, List.of());
+
+        // WHEN & THEN
+        assertThrows(EventAccessDeniedException.class, () -> eventService.updateEvent(eventId, request, userId));
+        verify(eventRepository).findForUpdateByIdAndUserId(eventId, userId);
+    }
+
     private Event createMockEvent(Long eventId, String userId) {
         return Event.builder()
                 .id(eventId)
@@ -0,0 +1,92 @@
+package org.mi.plannitybe.schedule.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.entity.Event;
+import org.mi.plannitybe.schedule.entity.EventList;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class EventStreamServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 4, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 4, 30, 23, 59);
+
+    @Autowired
+    private EventStreamService eventStreamService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserSetUp userSetUp;
+
+    @Test
+    @DisplayName("반복 일정의 발생 일정을 포함하여 GET /events 응답과 같은 JSON 배열 출력")
+    void writeEventsForCalendar_sameAsList() throws IOException {
+        // GIVEN - 범위 안 일정 2개, 범위 밖 일정 1개, 매주 월요일 반복 일정, 다른 user 일정
+        User user = userSetUp.saveUser();
+        EventList eventList = userSetUp.saveEventList(user);
+        saveEvent(eventList, "회의", LocalDateTime.of(2024, 4, 8, 10, 0), LocalDateTime.of(2024, 4, 8, 12, 0), null);
+        saveEvent(eventList, "휴가", LocalDateTime.of(2024, 3, 30, 0, 0), LocalDateTime.of(2024, 4, 2, 0, 0), null);
+        saveEvent(eventList, "5월", LocalDateTime.of(2024, 5, 15, 10, 0), LocalDateTime.of(2024, 5, 15, 12, 0), null);
+        saveEvent(eventList, "주간 회의", LocalDateTime.of(2024, 3, 4, 9, 0), LocalDateTime.of(2024, 3, 4, 10, 0), "FREQ=WEEKLY;BYDAY=MO");
+        saveEvent(userSetUp.saveEventList(userSetUp.saveUser()), "다른 사용자", LocalDateTime.of(2024, 4, 8, 10, 0), LocalDateTime.of(2024, 4, 8, 12, 0), null);
+
+        // WHEN
+        String json = write(user.getId());
+
+        // THEN - 일정 2개 + 4월 월요일 발생 일정 5개
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(eventService.getEventsForCalendar(FROM, TO, user.getId())));
+        assertThat(objectMapper.readTree(json)).hasSize(7);
+    }
+
+    @Test
+    @DisplayName("일정이 없으면 빈 배열 출력")
+    void writeEventsForCalendar_empty() throws IOException {
+        // GIVEN
+        User user = userSetUp.saveUser();
+
+        // WHEN & THEN
+        assertThat(write(user.getId())).isEqualTo("[]");
+    }
+
+    private String write(String userId) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        eventStreamService.writeEventsForCalendar(FROM, TO, userId, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private Event saveEvent(EventList eventList, String title, LocalDateTime startDate, LocalDateTime endDate,
+                            String recurrenceRule) {
+        return eventRepository.save(Event.builder()
+                .eventList(eventList)
+                .userId(eventList.getUser().getId())
+                .title(title)
+                .startDate(startDate)
+                .endDate(endDate)
+                .isAllDay(false)
+                .recurrenceRule(recurrenceRule)
+                .build());
+    }
+}
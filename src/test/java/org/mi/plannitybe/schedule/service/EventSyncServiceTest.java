@@ -0,0 +1,128 @@
+package org.mi.plannitybe.schedule.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.dto.EventSyncEvent;
+import org.mi.plannitybe.schedule.dto.EventSyncResponse;
+import org.mi.plannitybe.schedule.entity.Event;
+import org.mi.plannitybe.schedule.entity.EventList;
+import org.mi.plannitybe.schedule.pagination.EventSyncToken;
+import org.mi.plannitybe.schedule.pagination.SyncTokenExpiredException;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 테스트 안에서 저장한 변경 사항을 바로 조회하도록 commit-lag 0
+@SpringBootTest(properties = "event.sync.commit-lag=0s")
+@Transactional
+class EventSyncServiceTest {
+
+    @Autowired
+    private EventSyncService eventSyncService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserSetUp userSetUp;
+
+    @Test
+    @DisplayName("첫 동기화는 size 단위로 나누어 전체 일정을 전달하고, 다른 user의 일정은 제외")
+    void getChanges_initialSyncInPages() {
+        // GIVEN
+        User user = userSetUp.saveUser();
+        EventList eventList = userSetUp.saveEventList(user);
+        Event first = saveEvent(eventList, "회의", null);
+        Event second = saveEvent(eventList, "휴가", null);
+        Event third = saveEvent(eventList, "주간 회의", "FREQ=WEEKLY;BYDAY=MO");
+        saveEvent(userSetUp.saveEventList(userSetUp.saveUser()), "다른 사용자", null);
+        eventRepository.flush();
+
+        // WHEN - 2개씩 마지막까지 조회
+        List<Long> changedIds = new ArrayList<>();
+        String syncToken = null;
+        int requestCount = 0;
+        EventSyncResponse response;
+        do {
+            response = eventSyncService.getChanges(syncToken, 2, user.getId());
+            response.changed().forEach(event -> changedIds.add(event.eventId()));
+            syncToken = response.syncToken();
+            requestCount++;
+        } while (response.hasMore());
+
+        // THEN
+        assertThat(requestCount).isEqualTo(2);
+        assertThat(changedIds).containsExactlyInAnyOrder(first.getId(), second.getId(), third.getId());
+        assertThat(eventSyncService.getChanges(syncToken, 2, user.getId()).changed()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("syncToken 이후 수정된 일정, 발생 일정이 삭제된 반복 일정, 삭제된 일정만 전달")
+    void getChanges_afterToken() throws InterruptedException {
+        // GIVEN - 첫 동기화 완료
+        User user = userSetUp.saveUser();
+        EventList eventList = userSetUp.saveEventList(user);
+        Event unchanged = saveEvent(eventList, "변경 없음", null);
+        Event updated = saveEvent(eventList, "수정 전", null);
+        Event deleted = saveEvent(eventList, "삭제", null);
+        Event series = saveEvent(eventList, "주간 회의", "FREQ=WEEKLY;BYDAY=MO");
+        eventRepository.flush();
+        String syncToken = eventSyncService.getChanges(null, null, user.getId()).syncToken();
+        Thread.sleep(5);  // 이후 변경의 수정일시가 token 위치보다 뒤가 되도록 대기
+
+        // WHEN
+        updated.updateTitle("수정 후");
+        LocalDateTime occurrenceStartDate = series.getStartDate().plusWeeks(1);
+        eventService.deleteOccurrence(series.getId(), occurrenceStartDate, user.getId());
+        eventService.deleteEvent(deleted.getId(), user.getId());
+        eventRepository.flush();
+        EventSyncResponse response = eventSyncService.getChanges(syncToken, null, user.getId());
+
+        // THEN
+        assertThat(response.changed()).extracting(EventSyncEvent::eventId)
+                .containsExactlyInAnyOrder(updated.getId(), series.getId())
+                .doesNotContain(unchanged.getId());
+        assertThat(response.changed()).filteredOn(event -> event.eventId().equals(series.getId()))
+                .singleElement()
+                .satisfies(event -> assertThat(event.recurrenceExceptionDates()).containsExactly(occurrenceStartDate));
+        assertThat(response.deleted()).containsExactly(deleted.getId());
+        assertThat(response.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제 기록 보관 기간보다 오래된 syncToken은 SyncTokenExpiredException 발생")
+    void getChanges_fail_expiredToken() {
+        // GIVEN
+        User user = userSetUp.saveUser();
+        String expiredToken = EventSyncToken.initial(LocalDateTime.now().minusDays(31)).encode();
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> eventSyncService.getChanges(expiredToken, null, user.getId()))
+                .isInstanceOf(SyncTokenExpiredException.class);
+    }
+
+    private Event saveEvent(EventList eventList, String title, String recurrenceRule) {
+        return eventRepository.save(Event.builder()
+                .eventList(eventList)
+                .userId(eventList.getUser().getId())
+                .title(title)
+                .startDate(LocalDateTime.of(2024, 3, 4, 9, 0))
+                .endDate(LocalDateTime.of(2024, 3, 4, 10, 0))
+                .isAllDay(false)
+                .recurrenceRule(recurrenceRule)
+                .build());
+    }
+}
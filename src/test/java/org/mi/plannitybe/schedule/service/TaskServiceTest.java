@@ -0,0 +1,280 @@
+package org.mi.plannitybe.schedule.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mi.plannitybe.exception.*;
+import org.mi.plannitybe.integration.UserSetUp;
+import org.mi.plannitybe.schedule.dto.*;
+import org.mi.plannitybe.schedule.entity.Event;
+import org.mi.plannitybe.schedule.entity.TaskList;
+import org.mi.plannitybe.schedule.repository.EventRepository;
+import org.mi.plannitybe.schedule.repository.TaskRepository;
+import org.mi.plannitybe.schedule.type.TaskStatusType;
+import org.mi.plannitybe.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class TaskServiceTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserSetUp userSetUp;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest(name = "깊이 = {0}")
+    @ValueSource(ints = {1, 3, 6})
+    @DisplayName("할일리스트 계층 조회 시 깊이와 관계없이 쿼리는 taskList 조회, task 조회 2번만 실행")
+    void getTaskTree_statementCountConstant(int depth) {
+        // GIVEN - 작업마다 하위 작업 2개씩, depth 단계의 계층
+        User user = userSetUp.saveUser();
+        TaskList taskList = userSetUp.saveTaskList(user);
+        Long rootId = createTask(taskList, "root", null).id();
+        saveChildren(taskList, rootId, depth - 1);
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // WHEN
+        TaskListTreeResponse tree = taskService.getTaskTree(taskList.getId(), user.getId());
+
+        // THEN - 최상위 작업 1개, 전체 작업 수 2^depth - 1, 가장 깊은 작업까지 조립
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertThat(tree.tasks()).hasSize(1);
+        assertThat(count(tree.tasks())).isEqualTo((1 << depth) - 1);
+        TaskTreeNode node = tree.tasks().get(0);
+        for (int i = 1; i < depth; i++) {
+            assertThat(node.subTasks()).hasSize(2);
+            node = node.subTasks().get(0);
+        }
+        assertThat(node.subTasks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 user의 할일리스트는 조회할 수 없음")
+    void getTaskTree_otherUser() {
+        TaskList taskList = userSetUp.saveTaskList(userSetUp.saveUser());
+        String otherUserId = userSetUp.saveUser().getId();
+
+        assertThatThrownBy(() -> taskService.getTaskTree(taskList.getId(), otherUserId))
+                .isInstanceOf(TaskListAccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("다른 user의 할일리스트/작업은 잠그거나 생성, 수정, 삭제할 수 없음")
+    void lock_otherUserOrMissing() {
+        User user = userSetUp.saveUser();
+        TaskList taskList = userSetUp.saveTaskList(user);
+        TaskResponse task = createTask(taskList, "task", null);
+        User otherUser = userSetUp.saveUser();
+
+        assertThatThrownBy(() -> taskService.createTask(new CreateTaskRequest(taskList.getId(), "task", null,
+                null, null, TaskStatusType.NOT_STARTED, null, false, null), otherUser.getId()))
+                .isInstanceOf(TaskListAccessDeniedException.class);
+        assertThatThrownBy(() -> taskService.createTask(new CreateTaskRequest(Long.MAX_VALUE, "task", null,
+                null, null, TaskStatusType.NOT_STARTED, null, false, null), user.getId()))
+                .isInstanceOf(TaskListNotFoundException.class);
+        assertThatThrownBy(() -> updateMainTask(task, null, otherUser))
+                .isInstanceOf(TaskAccessDeniedException.class);
+        assertThatThrownBy(() -> taskService.deleteTask(task.id(), otherUser.getId()))
+                .isInstanceOf(TaskAccessDeniedException.class);
+        assertThatThrownBy(() -> taskService.deleteTask(Long.MAX_VALUE, user.getId()))
+                .isInstanceOf(TaskNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("자기 자신, 하위 작업, 다른 할일리스트의 작업은 상위 작업으로 지정할 수 없음")
+    void updateTask_invalidMainTask() {
+        // GIVEN - root > child > grandChild, 다른 할일리스트의 task
+        User user = userSetUp.saveUser();
+        TaskList taskList = userSetUp.saveTaskList(user);
+        TaskResponse root = createTask(taskList, "root", null);
+        TaskResponse child = createTask(taskList, "child", root.id());
+        TaskResponse grandChild = createTask(taskList, "grandChild", child.id());
+        TaskResponse other = createTask(userSetUp.saveTaskList(user), "other", null);
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> updateMainTask(root, root.id(), user))
+                .isInstanceOf(InvalidTaskHierarchyException.class);
+        assertThatThrownBy(() -> updateMainTask(root, grandChild.id(), user))
+                .isInstanceOf(InvalidTaskHierarchyException.class);
+        assertThatThrownBy(() -> updateMainTask(child, other.id(), user))
+                .isInstanceOf(InvalidTaskHierarchyException.class);
+
+        // 하위 작업을 다른 작업 아래로 이동하거나 최상위 작업으로 변경하는 것은 가능
+        assertThat(updateMainTask(grandChild, root.id(), user).mainTaskId()).isEqualTo(root.id());
+        assertThat(updateMainTask(child, null, user).mainTaskId()).isNull();
+    }
+
+    @Test
+    @DisplayName("하위 작업을 다른 작업 아래로 이동하면 하위 작업, 상위 작업, 하위 작업 수 조회에 반영")
+    void updateTask_movesSubtree() {
+        // GIVEN - root1 > child > grandChild, root2
+        User user = userSetUp.saveUser();
+        TaskList taskList = userSetUp.saveTaskList(user);
+        TaskResponse root1 = createTask(taskList, "root1", null);
+        TaskResponse child = createTask(taskList, "child", root1.id());
+        TaskResponse grandChild = createTask(taskList, "grandChild", child.id());
+        TaskResponse root2 = createTask(taskList, "root2", null);
+        assertThat(taskService.countDescendants(root1.id(), user.getId())).isEqualTo(2);
+
+        // WHEN - child를 root2 아래로 이동
+        updateMainTask(child, root2.id(), user);
+
+        // THEN
+        assertThat(taskService.countDescendants(root1.id(), user.getId())).isZero();
+        assertThat(taskService.getDescendants(root2.id(), user.getId()))
+                .extracting(TaskResponse::id).containsExactly(child.id(), grandChild.id());
+        assertThat(taskService.getAncestors(grandChild.id(), user.getId()))
+                .extracting(TaskResponse::id).containsExactly(root2.id(), child.id());
+
+        // WHEN - child를 최상위 작업으로 변경
+        updateMainTask(child, null, user);
+
+        // THEN
+        assertThat(taskService.countDescendants(root2.id(), user.getId())).isZero();
+        assertThat(taskService.getAncestors(grandChild.id(), user.getId()))
+                .extracting(TaskResponse::id).containsExactly(child.id());
+    }
+
+    @Test
+    @DisplayName("task 삭제 시 하위 작업과 일정 연결도 함께 삭제되고 일정은 유지")
+    void deleteTask_deletesSubtree() {
+        // GIVEN - root > child > grandChild, sibling / grandChild가 연결된 일정
+        User user = userSetUp.saveUser();
+        TaskList taskList = userSetUp.saveTaskList(user);
+        TaskResponse root = createTask(taskList, "root", null);
+        TaskResponse child = createTask(taskList, "child", root.id());
+        TaskResponse grandChild = createTask(taskList, "grandChild", child.id());
+        TaskResponse sibling = createTask(taskList, "sibling", root.id());
+        Event event = saveEvent(user);
+        event.addTask(taskRepository.getReferenceById(grandChild.id()));
+        event.addTask(taskRepository.getReferenceById(sibling.id()));
+        eventRepository.flush();
+        entityManager.clear();
+
+        // WHEN
+        taskService.deleteTask(child.id(), user.getId());
+        entityManager.clear();
+
+        // THEN
+        assertThat(taskRepository.findAllById(List.of(child.id(), grandChild.id()))).isEmpty();
+        TaskListTreeResponse tree = taskService.getTaskTree(taskList.getId(), user.getId());
+        assertThat(tree.tasks()).extracting(TaskTreeNode::id).containsExactly(root.id());
+        assertThat(tree.tasks().get(0).subTasks()).extracting(TaskTreeNode::id).containsExactly(sibling.id());
+        assertThat(eventRepository.findWithEventListAndEventTasksById(event.getId()).orElseThrow().getTaskIds())
+                .containsExactly(sibling.id());
+    }
+
+    @Test
+    @DisplayName("작업 생성, 상태 변경, 이동, 삭제 시 상위 작업과 할일리스트의 진행 현황에 반영")
+    void progress_maintainedIncrementally() {
+        // GIVEN - root1 > child > grandChild, root2
+        User user = userSetUp.saveUser();
+        TaskList taskList = userSetUp.saveTaskList(user);
+        TaskResponse root1 = createTask(taskList, "root1", null);
+        TaskResponse child = createTask(taskList, "child", root1.id());
+        TaskResponse grandChild = createTask(taskList, "grandChild", child.id());
+        TaskResponse root2 = createTask(taskList, "root2", null);
+        assertThat(taskService.getTaskProgress(root1.id(), user.getId()).total()).isEqualTo(2);
+        assertThat(taskService.getTaskListProgress(taskList.getId(), user.getId()).notStarted()).isEqualTo(4);
+
+        // WHEN - grandChild 완료 (같은 상태로 다시 변경하면 증감 없음)
+        grandChild = updateStatus(grandChild, TaskStatusType.COMPLETED, user);
+        updateStatus(grandChild, TaskStatusType.COMPLETED, user);
+
+        // THEN - 모든 상위 작업과 할일리스트에 반영
+        TaskProgressResponse root1Progress = taskService.getTaskProgress(root1.id(), user.getId());
+        assertThat(root1Progress.completed()).isEqualTo(1);
+        assertThat(root1Progress.notStarted()).isEqualTo(1);
+        assertThat(root1Progress.completionRate()).isEqualTo(50);
+        assertThat(taskService.getTaskProgress(child.id(), user.getId()).completionRate()).isEqualTo(100);
+        assertThat(taskService.getTaskListProgress(taskList.getId(), user.getId()).completionRate()).isEqualTo(25);
+
+        // WHEN - child를 root2 아래로 이동
+        updateMainTask(child, root2.id(), user);
+
+        // THEN - subtree 전체가 기존 상위 작업에서 빠지고 새 상위 작업에 더해짐
+        assertThat(taskService.getTaskProgress(root1.id(), user.getId()).total()).isZero();
+        TaskProgressResponse root2Progress = taskService.getTaskProgress(root2.id(), user.getId());
+        assertThat(root2Progress.total()).isEqualTo(2);
+        assertThat(root2Progress.completed()).isEqualTo(1);
+
+        // WHEN - child 삭제
+        taskService.deleteTask(child.id(), user.getId());
+
+        // THEN
+        assertThat(taskService.getTaskProgress(root2.id(), user.getId()).total()).isZero();
+        TaskProgressResponse taskListProgress = taskService.getTaskListProgress(taskList.getId(), user.getId());
+        assertThat(taskListProgress.total()).isEqualTo(2);
+        assertThat(taskListProgress.completed()).isZero();
+    }
+
+    private int count(List<TaskTreeNode> nodes) {
+        int count = nodes.size();
+        for (TaskTreeNode node : nodes) {
+            count += count(node.subTasks());
+        }
+        return count;
+    }
+
+    private void saveChildren(TaskList taskList, Long mainTaskId, int remainingDepth) {
+        if (remainingDepth == 0) {
+            return;
+        }
+        for (int i = 0; i < 2; i++) {
+            Long childId = createTask(taskList, "task", mainTaskId).id();
+            saveChildren(taskList, childId, remainingDepth - 1);
+        }
+    }
+
+    private TaskResponse createTask(TaskList taskList, String title, Long mainTaskId) {
+        return taskService.createTask(new CreateTaskRequest(taskList.getId(), title, mainTaskId,
+                null, null, TaskStatusType.NOT_STARTED, null, false, null), taskList.getUser().getId());
+    }
+
+    private TaskResponse updateMainTask(TaskResponse task, Long mainTaskId, User user) {
+        return taskService.updateTask(task.id(), new UpdateTaskRequest(task.title(), mainTaskId,
+                null, null, task.status(), null, false, null), user.getId());
+    }
+
+    private TaskResponse updateStatus(TaskResponse task, TaskStatusType status, User user) {
+        return taskService.updateTask(task.id(), new UpdateTaskRequest(task.title(), task.mainTaskId(),
+                null, null, status, null, false, null), user.getId());
+    }
+
+    private Event saveEvent(User user) {
+        return eventRepository.save(Event.builder()
+                .eventList(userSetUp.saveEventList(user))
+                .title("event")
+                .startDate(LocalDateTime.of(2024, 4, 1, 10, 0))
+                .endDate(LocalDateTime.of(2024, 4, 1, 11, 0))
+                .isAllDay(false)
+                .build());
+    }
+}